@@ -0,0 +1,55 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch of a composed parser to the parser of each kind of value, compared to
+ * calling that parser directly.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 21:05
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@DefaultQualifier(NonNull.class)
+public class ComposableJsonParserBenchmark {
+
+  public enum Kind {
+    OBJECT("{}", JsonParsers.object(JsonParsers.string(), JsonParsers.string())),
+    ARRAY("[]", JsonParsers.stringArray()),
+    STRING("\"value\"", JsonParsers.string()),
+    NUMBER("-12.5e3", JsonParsers.number()),
+    BOOLEAN("true", JsonParsers.bool()),
+    NULL("null", JsonParsers.nil());
+
+    final String json;
+    final JsonParser<?> parser;
+
+    Kind(String json, JsonParser<?> parser) {
+      this.json = json;
+      this.parser = parser;
+    }
+  }
+
+  @Param
+  public Kind kind;
+
+  @Benchmark
+  public @Nullable Object composed() {
+    return JsonParser.parse(JsonParsers.value(), this.kind.json);
+  }
+
+  @Benchmark
+  public @Nullable Object direct() {
+    return JsonParser.parse(this.kind.parser, this.kind.json);
+  }
+}
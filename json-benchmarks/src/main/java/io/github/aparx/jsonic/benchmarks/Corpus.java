@@ -0,0 +1,121 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+/**
+ * Documents parsed by the benchmarks, each generated deterministically from a fixed seed, such
+ * that results of different runs and versions are comparable.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 20:40
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public enum Corpus {
+
+  /** Small object, as commonly exchanged by APIs */
+  SMALL_MESSAGE {
+    @Override
+    void write(StringBuilder builder, Random random) {
+      builder.append("{\"id\":").append(random.nextInt(1_000_000))
+          .append(",\"name\":\"").append(word(random, 12)).append('"')
+          .append(",\"active\":").append(random.nextBoolean())
+          .append(",\"score\":").append(random.nextInt(10_000) / 100.0)
+          .append(",\"tags\":[\"").append(word(random, 5)).append("\",\"")
+          .append(word(random, 7)).append("\"]")
+          .append(",\"parent\":null")
+          .append(",\"address\":{\"street\":\"").append(word(random, 16))
+          .append("\",\"zip\":\"").append(random.nextInt(100_000)).append("\"}}");
+    }
+  },
+
+  /** Single flat object with thousands of members */
+  WIDE_OBJECT {
+    @Override
+    void write(StringBuilder builder, Random random) {
+      builder.append('{');
+      for (int i = 0; i < 5_000; ++i) {
+        if (i != 0) builder.append(',');
+        builder.append("\"key").append(i).append("\":");
+        if ((i & 1) == 0) builder.append('"').append(word(random, 10)).append('"');
+        else builder.append(random.nextInt());
+      }
+      builder.append('}');
+    }
+  },
+
+  /** Objects and arrays nested alternately, hundreds of levels deep */
+  DEEP_NESTING {
+    @Override
+    void write(StringBuilder builder, Random random) {
+      int depth = 256;
+      for (int i = 0; i < depth; ++i)
+        builder.append((i & 1) == 0 ? "{\"child\":" : "[");
+      builder.append('"').append(word(random, 8)).append('"');
+      for (int i = depth - 1; i >= 0; --i)
+        builder.append((i & 1) == 0 ? '}' : ']');
+    }
+  },
+
+  /** Large array of integral and floating-point numbers */
+  NUMERIC_ARRAY {
+    @Override
+    void write(StringBuilder builder, Random random) {
+      builder.append('[');
+      for (int i = 0; i < 50_000; ++i) {
+        if (i != 0) builder.append(',');
+        if ((i & 1) == 0) builder.append(random.nextLong());
+        else builder.append(random.nextDouble() * 1e6);
+      }
+      builder.append(']');
+    }
+  },
+
+  /** Array of records with mixed shapes, as written by the {@code CorpusGenerator} */
+  GENERATED {
+    @Override
+    void write(StringBuilder builder, Random random) {
+      StringWriter writer = new StringWriter();
+      try {
+        new CorpusGenerator(random.nextLong()).setTargetSize(1 << 20).write(writer);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      builder.append(writer.getBuffer());
+    }
+  };
+
+  private static final long SEED = 0x6a736f6e6963L;
+
+  private volatile String document;
+
+  /**
+   * Returns the document of this corpus, which is generated once.
+   *
+   * @return the JSON document
+   */
+  public String document() {
+    String document = this.document;
+    if (document == null) {
+      StringBuilder builder = new StringBuilder();
+      this.write(builder, new Random(SEED));
+      this.document = document = builder.toString();
+    }
+    return document;
+  }
+
+  abstract void write(StringBuilder builder, Random random);
+
+  private static String word(Random random, int length) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; ++i)
+      chars[i] = (char) ('a' + random.nextInt(26));
+    return new String(chars);
+  }
+}
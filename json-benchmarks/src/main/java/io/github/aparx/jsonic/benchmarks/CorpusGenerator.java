@@ -0,0 +1,309 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of JSON documents with a controlled shape, streamed to a writer such
+ * that documents of any size are generated with constant memory.
+ * <p>The generated document is a top-level array of records, which are objects whose values are
+ * nested containers or scalars, until the document reaches its target size. Only ASCII
+ * characters are written, since other characters are written as unicode escapes, thus the size
+ * in characters equals the size in UTF-8 encoded bytes. The same seed and configuration always
+ * result in the same document.
+ * <p>Example: {@code java -cp benchmarks.jar io.github.aparx.jsonic.benchmarks.CorpusGenerator
+ * corpus.json 10G 42}
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 14:15
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class CorpusGenerator {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  private static final char[] ESCAPES = {'"', '\\', '/', 'b', 'f', 'n', 'r', 't'};
+
+  private final long seed;
+
+  private long targetSize = 1 << 20;
+  private int maxDepth = 4;
+  private int maxFanOut = 8;
+  private int keyCardinality = 64;
+  private int minStringLength = 0;
+  private int maxStringLength = 24;
+  private double escapeDensity = 0.01;
+  private double numericRatio = 0.4;
+  private double containerRatio = 0.25;
+
+  public CorpusGenerator(long seed) {
+    this.seed = seed;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2 || args.length > 3) {
+      System.err.println("Usage: CorpusGenerator <path> <size[K|M|G]> [seed]");
+      System.exit(1);
+    }
+    long seed = args.length == 3 ? Long.parseLong(args[2]) : 0;
+    new CorpusGenerator(seed).setTargetSize(parseSize(args[1])).write(Path.of(args[0]));
+  }
+
+  /**
+   * Sets the size in bytes, after which no more records are appended, thus the document exceeds
+   * it by at most one record. Since only ASCII is written, characters and bytes are equal.
+   */
+  @CanIgnoreReturnValue
+  public CorpusGenerator setTargetSize(long targetSize) {
+    Preconditions.checkArgument(targetSize >= 0, "Target size must not be negative");
+    this.targetSize = targetSize;
+    return this;
+  }
+
+  /**
+   * Sets the max depth of containers nested within a record, where zero results in records,
+   * which are still objects, whose values are scalars only.
+   */
+  @CanIgnoreReturnValue
+  public CorpusGenerator setMaxDepth(int maxDepth) {
+    Preconditions.checkArgument(maxDepth >= 0, "Max depth must not be negative");
+    this.maxDepth = maxDepth;
+    return this;
+  }
+
+  /**
+   * Sets the max amount of members or elements, uniformly distributed from one, where members of
+   * objects are further limited by the key cardinality.
+   */
+  @CanIgnoreReturnValue
+  public CorpusGenerator setMaxFanOut(int maxFanOut) {
+    Preconditions.checkArgument(maxFanOut >= 1, "Max fan-out must be greater than zero");
+    this.maxFanOut = maxFanOut;
+    return this;
+  }
+
+  /**
+   * Sets the amount of distinct keys, from which the keys of each object are drawn without
+   * repetition, thus objects never contain duplicate keys.
+   */
+  @CanIgnoreReturnValue
+  public CorpusGenerator setKeyCardinality(int keyCardinality) {
+    Preconditions.checkArgument(keyCardinality >= 1, "Key cardinality must be greater than zero");
+    this.keyCardinality = keyCardinality;
+    return this;
+  }
+
+  /** Sets the bounds of string lengths, which are uniformly distributed */
+  @CanIgnoreReturnValue
+  public CorpusGenerator setStringLength(int minStringLength, int maxStringLength) {
+    Preconditions.checkArgument(minStringLength >= 0, "Min length must not be negative");
+    Preconditions.checkArgument(maxStringLength >= minStringLength, "Max length must be >= min");
+    this.minStringLength = minStringLength;
+    this.maxStringLength = maxStringLength;
+    return this;
+  }
+
+  /** Sets the probability of each string character being written as an escape sequence */
+  @CanIgnoreReturnValue
+  public CorpusGenerator setEscapeDensity(double escapeDensity) {
+    this.escapeDensity = checkProbability(escapeDensity);
+    return this;
+  }
+
+  /** Sets the probability of a scalar being a number, rather than a string or literal */
+  @CanIgnoreReturnValue
+  public CorpusGenerator setNumericRatio(double numericRatio) {
+    this.numericRatio = checkProbability(numericRatio);
+    return this;
+  }
+
+  /** Sets the probability of a value being a container, as long as the max depth allows it */
+  @CanIgnoreReturnValue
+  public CorpusGenerator setContainerRatio(double containerRatio) {
+    this.containerRatio = checkProbability(containerRatio);
+    return this;
+  }
+
+  /**
+   * Writes the UTF-8 encoded document to {@code path}, replacing any existing file.
+   *
+   * @param path the path of the file to write
+   * @throws IOException if the file could not be written
+   */
+  public void write(Path path) throws IOException {
+    try (Writer writer = new OutputStreamWriter(Files.newOutputStream(path),
+        StandardCharsets.UTF_8)) {
+      this.write(writer);
+    }
+  }
+
+  /**
+   * Writes the document to {@code writer}, which is flushed but not closed.
+   *
+   * @param writer the writer to write to
+   * @return the amount of characters written, which equals the amount of UTF-8 encoded bytes
+   * @throws IOException if the writer failed
+   */
+  @CanIgnoreReturnValue
+  public long write(Writer writer) throws IOException {
+    Preconditions.checkNotNull(writer, "Writer must not be null");
+    Output output = new Output(writer);
+    SplittableRandom random = new SplittableRandom(this.seed);
+    int[] keys = new int[this.keyCardinality];
+    for (int i = 0; i < keys.length; ++i) keys[i] = i;
+    output.append('[');
+    for (boolean first = true; output.written < this.targetSize; first = false) {
+      if (!first) output.append(',');
+      output.append('\n');
+      this.writeObject(output, random, keys, this.maxDepth);
+    }
+    output.append("\n]\n");
+    output.flush();
+    return output.written;
+  }
+
+  private void writeValue(Output output, SplittableRandom random, int[] keys, int depth)
+      throws IOException {
+    if (depth > 0 && random.nextDouble() < this.containerRatio) {
+      if (random.nextBoolean()) this.writeObject(output, random, keys, depth - 1);
+      else this.writeArray(output, random, keys, depth - 1);
+    } else if (random.nextDouble() < this.numericRatio) {
+      this.writeNumber(output, random);
+    } else if (random.nextInt(10) != 0) {
+      this.writeString(output, random);
+    } else {
+      output.append(switch (random.nextInt(3)) {
+        case 0 -> "true";
+        case 1 -> "false";
+        default -> "null";
+      });
+    }
+  }
+
+  /**
+   * Writes an object, whose keys are drawn by a partial Fisher-Yates shuffle of {@code keys}, which
+   * stays a permutation of all keys, and are copied, since nested objects shuffle it again.
+   */
+  private void writeObject(Output output, SplittableRandom random, int[] keys, int depth)
+      throws IOException {
+    int members = 1 + random.nextInt(Math.min(this.maxFanOut, keys.length));
+    for (int i = 0; i < members; ++i) {
+      int j = random.nextInt(i, keys.length);
+      int key = keys[j];
+      keys[j] = keys[i];
+      keys[i] = key;
+    }
+    int[] drawn = Arrays.copyOf(keys, members);
+    output.append('{');
+    for (int i = 0; i < members; ++i) {
+      if (i != 0) output.append(',');
+      output.append("\"k");
+      output.append(Integer.toString(drawn[i], 36));
+      output.append("\":");
+      this.writeValue(output, random, keys, depth);
+    }
+    output.append('}');
+  }
+
+  private void writeArray(Output output, SplittableRandom random, int[] keys, int depth)
+      throws IOException {
+    output.append('[');
+    for (int i = 0, n = 1 + random.nextInt(this.maxFanOut); i < n; ++i) {
+      if (i != 0) output.append(',');
+      this.writeValue(output, random, keys, depth);
+    }
+    output.append(']');
+  }
+
+  private void writeNumber(Output output, SplittableRandom random) throws IOException {
+    switch (random.nextInt(3)) {
+      case 0 -> output.append(Integer.toString(random.nextInt(1000)));
+      case 1 -> output.append(Long.toString(random.nextLong()));
+      default -> output.append(Double.toString((random.nextDouble() - 0.5) * 1e6));
+    }
+  }
+
+  private void writeString(Output output, SplittableRandom random) throws IOException {
+    int length = this.minStringLength == this.maxStringLength ? this.minStringLength
+        : random.nextInt(this.minStringLength, this.maxStringLength + 1);
+    output.append('"');
+    for (int i = 0; i < length; ++i) {
+      if (random.nextDouble() >= this.escapeDensity) {
+        output.append((char) ('a' + random.nextInt(26)));
+      } else if (random.nextBoolean()) {
+        output.append('\\');
+        output.append(ESCAPES[random.nextInt(ESCAPES.length)]);
+      } else {
+        int codePoint = random.nextInt(0x20, 0xd800);
+        output.append("\\u");
+        for (int shift = 12; shift >= 0; shift -= 4)
+          output.append(HEX[codePoint >>> shift & 0xf]);
+      }
+    }
+    output.append('"');
+  }
+
+  private static double checkProbability(double probability) {
+    Preconditions.checkArgument(probability >= 0 && probability <= 1,
+        "Probability must be within [0, 1]");
+    return probability;
+  }
+
+  private static long parseSize(String size) {
+    char unit = Character.toUpperCase(size.charAt(size.length() - 1));
+    int shift = switch (unit) {
+      case 'K' -> 10;
+      case 'M' -> 20;
+      case 'G' -> 30;
+      default -> 0;
+    };
+    String digits = shift == 0 ? size : size.substring(0, size.length() - 1);
+    return Long.parseLong(digits) << shift;
+  }
+
+  /** Buffered output counting the characters written */
+  private static final class Output {
+
+    private final Writer writer;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    long written;
+
+    Output(Writer writer) {
+      this.writer = writer;
+    }
+
+    void append(char ch) throws IOException {
+      if (this.position == this.buffer.length) this.flushBuffer();
+      this.buffer[this.position++] = ch;
+      ++this.written;
+    }
+
+    void append(String string) throws IOException {
+      for (int i = 0, n = string.length(); i < n; ++i)
+        this.append(string.charAt(i));
+    }
+
+    void flush() throws IOException {
+      this.flushBuffer();
+      this.writer.flush();
+    }
+
+    private void flushBuffer() throws IOException {
+      this.writer.write(this.buffer, 0, this.position);
+      this.position = 0;
+    }
+  }
+}
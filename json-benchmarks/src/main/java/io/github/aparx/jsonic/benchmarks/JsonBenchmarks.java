@@ -0,0 +1,34 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}, running the benchmarks selected by the JMH command line
+ * options, always with the GC profiler to report allocation rates.
+ * <p>Example: {@code java -jar json-benchmarks/target/benchmarks.jar JsonDocumentBenchmark -f 1}
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 21:15
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonBenchmarks {
+
+  private JsonBenchmarks() {
+    throw new AssertionError();
+  }
+
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    new Runner(new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+}
@@ -0,0 +1,51 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.binary.JsonBinaryParsers;
+import io.github.aparx.jsonic.core.parser.binary.JsonBinaryWriter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing the binary encoding of documents, compared to parsing their UTF-8 text.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 07:00
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@DefaultQualifier(NonNull.class)
+public class JsonBinaryBenchmark {
+
+  @Param({"SMALL_MESSAGE", "WIDE_OBJECT", "NUMERIC_ARRAY"})
+  public Corpus corpus;
+
+  private byte[] text;
+  private byte[] binary;
+
+  @Setup
+  public void setup() {
+    String document = this.corpus.document();
+    this.text = document.getBytes(StandardCharsets.UTF_8);
+    this.binary = JsonBinaryWriter.toBytes(JsonParser.parse(JsonParsers.value(), document));
+  }
+
+  @Benchmark
+  public @Nullable Object parseText() {
+    return JsonParser.parse(JsonParsers.value(), new ByteArrayInputStream(this.text));
+  }
+
+  @Benchmark
+  public @Nullable Object parseBinary() {
+    return JsonBinaryParsers.parse(JsonBinaryParsers.value(), this.binary);
+  }
+}
@@ -0,0 +1,57 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.bind.JsonBindingParser;
+import io.github.aparx.jsonic.core.parser.tokens.JsonAdaptiveObjectParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding a DTO straight from JSON, compared to parsing it into maps and lists, either
+ * generically or through a parser learning the shape of the document.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 02:05
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@DefaultQualifier(NonNull.class)
+public class JsonBindingBenchmark {
+
+  private static final String DOCUMENT = """
+      {"id": 4711, "name": "jsonic", "score": 0.75, "active": true,
+       "tags": ["json", "parser", "java"], "owner": {"id": 1, "name": "aparx"}}""";
+
+  public record Owner(long id, String name) {}
+
+  public record Project(long id, String name, double score, boolean active, List<String> tags,
+                        Owner owner) {}
+
+  private final JsonBindingParser<Project> bindingParser = JsonParsers.bind(Project.class);
+
+  private final JsonAdaptiveObjectParser<?> adaptiveParser =
+      JsonParsers.adaptiveObject(JsonParsers.value());
+
+  @Benchmark
+  public @Nullable Project bind() {
+    return JsonParser.parse(this.bindingParser, DOCUMENT);
+  }
+
+  @Benchmark
+  public @Nullable Object map() {
+    return JsonParser.parse(JsonParsers.value(), DOCUMENT);
+  }
+
+  @Benchmark
+  public @Nullable Object adaptiveMap() {
+    return JsonParser.parse(this.adaptiveParser, DOCUMENT);
+  }
+}
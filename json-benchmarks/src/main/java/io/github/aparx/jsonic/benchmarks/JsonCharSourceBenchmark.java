@@ -0,0 +1,69 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.parser.source.JsonCharSource;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures the iteration of every character of a document through each source variant.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 20:50
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@DefaultQualifier(NonNull.class)
+public class JsonCharSourceBenchmark {
+
+  public enum Variant {
+    SEQUENCE, INPUT_STREAM, READ_AHEAD, GZIP
+  }
+
+  @Param({"SMALL_MESSAGE", "WIDE_OBJECT", "NUMERIC_ARRAY"})
+  public Corpus corpus;
+
+  @Param
+  public Variant variant;
+
+  private String document;
+  private byte[] bytes, gzipped;
+
+  @Setup
+  public void setup() throws IOException {
+    this.document = this.corpus.document();
+    this.bytes = this.document.getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(stream)) {
+      gzip.write(this.bytes);
+    }
+    this.gzipped = stream.toByteArray();
+  }
+
+  @Benchmark
+  public int iterate() {
+    return switch (this.variant) {
+      case SEQUENCE -> checksum(JsonCharSources.of(this.document));
+      case INPUT_STREAM -> checksum(JsonCharSources.of(new ByteArrayInputStream(this.bytes)));
+      case READ_AHEAD -> checksum(JsonCharSources.readAhead(new ByteArrayInputStream(this.bytes)));
+      case GZIP -> checksum(JsonCharSources.gzip(new ByteArrayInputStream(this.gzipped)));
+    };
+  }
+
+  private static int checksum(JsonCharSource source) {
+    int checksum = 0;
+    while (source.hasNext())
+      checksum = 31 * checksum + source.next();
+    return checksum;
+  }
+}
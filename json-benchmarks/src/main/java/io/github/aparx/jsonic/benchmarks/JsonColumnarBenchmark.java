@@ -0,0 +1,53 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.column.JsonColumnBatch;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing an array of flat records into columns, compared to parsing it into a list of
+ * maps.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 05:00
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@DefaultQualifier(NonNull.class)
+public class JsonColumnarBenchmark {
+
+  private static final String[] HOSTS = {"web-1", "web-2", "db-1", "cache-1"};
+
+  @Param("1000")
+  private int rows;
+
+  private String document = "";
+
+  @Setup
+  public void setup() {
+    StringJoiner joiner = new StringJoiner(",", "[", "]");
+    for (int i = 0; i < this.rows; ++i)
+      joiner.add("{\"ts\":" + (1_700_000_000L + i) + ",\"v\":" + (i % 100) / 4.0
+          + ",\"host\":\"" + HOSTS[i % HOSTS.length] + "\",\"up\":" + (i % 7 != 0) + "}");
+    this.document = joiner.toString();
+  }
+
+  @Benchmark
+  public @Nullable JsonColumnBatch columnar() {
+    return JsonParser.parse(JsonParsers.columnar(), this.document);
+  }
+
+  @Benchmark
+  public @Nullable Object maps() {
+    return JsonParser.parse(JsonParsers.value(), this.document);
+  }
+}
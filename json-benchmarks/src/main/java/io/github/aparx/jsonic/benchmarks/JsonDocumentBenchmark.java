@@ -0,0 +1,56 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.validator.JsonValidationResult;
+import io.github.aparx.jsonic.core.validator.JsonValidator;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing and validating whole documents of each corpus.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 21:10
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@DefaultQualifier(NonNull.class)
+public class JsonDocumentBenchmark {
+
+  @Param
+  public Corpus corpus;
+
+  private String document;
+
+  @Setup
+  public void setup() {
+    this.document = this.corpus.document();
+  }
+
+  @Benchmark
+  public @Nullable Object parse() {
+    return JsonParser.parse(JsonParsers.value(), this.document);
+  }
+
+  @Benchmark
+  public @Nullable Object parseLazyNumbers() {
+    return JsonParser.parse(JsonParsers.lazyValue(), this.document);
+  }
+
+  @Benchmark
+  public @Nullable Object parseIterative() {
+    return JsonParser.parse(JsonParsers.iterativeValue(), this.document);
+  }
+
+  @Benchmark
+  public JsonValidationResult validate() {
+    return JsonValidator.validate(this.document);
+  }
+}
@@ -0,0 +1,45 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.parser.index.JsonStructuralIndex;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command line tool writing the structural index of a JSON file into a side file.
+ * <p>Usage: {@code JsonIndexTool <file> [depth] [index]}, where the index is written next to the
+ * file, suffixed with {@link JsonStructuralIndex#FILE_EXTENSION}, unless given.
+ * <p>Example: {@code java -cp benchmarks.jar io.github.aparx.jsonic.benchmarks.JsonIndexTool
+ * corpus.json 2}
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 09:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonIndexTool {
+
+  private JsonIndexTool() {
+    throw new AssertionError();
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1 || args.length > 3) {
+      System.err.println("Usage: JsonIndexTool <file> [depth] [index]");
+      System.exit(2);
+    }
+    Path source = Path.of(args[0]);
+    int depth = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+    Path target = args.length > 2 ? Path.of(args[2])
+        : source.resolveSibling(source.getFileName() + JsonStructuralIndex.FILE_EXTENSION);
+    long start = System.nanoTime();
+    JsonStructuralIndex index = JsonStructuralIndex.build(source, depth);
+    index.write(target);
+    System.out.printf("Indexed %d children of %s (%d bytes) into %s (%d bytes) in %d ms%n",
+        Math.max(0, index.size()), source, index.sourceSize(), target, Files.size(target),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.snapshot.JsonSnapshot;
+import io.github.aparx.jsonic.core.parser.snapshot.JsonSnapshotNode;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a document from a mapped snapshot, compared to parsing the document.
+ * <p>The snapshot is mapped once per trial, since mapping it per invocation would measure the
+ * operating system rather than the snapshot.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:00
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@DefaultQualifier(NonNull.class)
+public class JsonSnapshotBenchmark {
+
+  @Param({"WIDE_OBJECT", "NUMERIC_ARRAY"})
+  public Corpus corpus;
+
+  private String document;
+  private Path path;
+  private JsonSnapshot snapshot;
+
+  @Setup
+  public void setup() throws IOException {
+    this.document = this.corpus.document();
+    this.path = Files.createTempFile("jsonic", JsonSnapshot.FILE_EXTENSION);
+    JsonSnapshot.write(JsonParser.parse(JsonParsers.value(), this.document), this.path);
+    this.snapshot = JsonSnapshot.map(this.path);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    this.snapshot.close();
+    Files.deleteIfExists(this.path);
+  }
+
+  @Benchmark
+  public @Nullable Object parse() {
+    return JsonParser.parse(JsonParsers.value(), this.document);
+  }
+
+  /** Navigates to the middle child of the root */
+  @Benchmark
+  public JsonSnapshotNode lookup() {
+    JsonSnapshotNode root = this.snapshot.root();
+    int middle = root.size() / 2;
+    return root.type() == JsonSnapshotNode.Type.OBJECT
+        ? root.get(root.key(middle)) : root.get(middle);
+  }
+
+  @Benchmark
+  public @Nullable Object materialize() {
+    return this.snapshot.root().toValue();
+  }
+}
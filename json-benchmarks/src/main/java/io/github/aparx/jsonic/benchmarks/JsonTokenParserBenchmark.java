@@ -0,0 +1,73 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.tokens.JsonArrayParser;
+import io.github.aparx.jsonic.core.parser.tokens.JsonObjectParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each token parser on its own, including the creation of the traverser.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 07:15
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@DefaultQualifier(NonNull.class)
+public class JsonTokenParserBenchmark {
+
+  private static final String STRING = "\"The quick brown fox \\\"jumps\\\" over the lazy dog\\n\"";
+  private static final String PLAIN_STRING = "\"The quick brown fox jumps over the lazy dog\"";
+  private static final String ARRAY = "[\"alpha\", \"beta\", \"gamma\", \"delta\", \"epsilon\"]";
+  private static final String OBJECT =
+      "{\"id\": \"4711\", \"name\": \"jsonic\", \"kind\": \"library\", \"state\": \"stable\"}";
+
+  private final JsonArrayParser<String, List<String>> arrayParser = JsonParsers.stringArray();
+  private final JsonObjectParser<String, String> objectParser =
+      JsonParsers.object(JsonParsers.string(), JsonParsers.string());
+
+  @Benchmark
+  public @Nullable String string() {
+    return JsonParser.parse(JsonParsers.string(), STRING);
+  }
+
+  @Benchmark
+  public @Nullable String plainString() {
+    return JsonParser.parse(JsonParsers.string(), PLAIN_STRING);
+  }
+
+  @Benchmark
+  public @Nullable CharSequence plainStringView() {
+    return JsonParser.parse(JsonParsers.stringView(), PLAIN_STRING);
+  }
+
+  @Benchmark
+  public @Nullable Boolean bool() {
+    return JsonParser.parse(JsonParsers.bool(), "false");
+  }
+
+  @Benchmark
+  public @Nullable Object nil() {
+    return JsonParser.parse(JsonParsers.nil(), "null");
+  }
+
+  @Benchmark
+  public @Nullable List<String> array() {
+    return JsonParser.parse(this.arrayParser, ARRAY);
+  }
+
+  @Benchmark
+  public @Nullable Map<String, String> object() {
+    return JsonParser.parse(this.objectParser, OBJECT);
+  }
+}
@@ -0,0 +1,91 @@
+package io.github.aparx.jsonic.benchmarks;
+
+import io.github.aparx.jsonic.core.validator.JsonValidator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 14:15
+ * @since 1.0
+ */
+public class TestCorpusGenerator {
+
+  @Test
+  public void testWrite_IsDeterministic() throws IOException {
+    Assert.assertEquals(generate(new CorpusGenerator(7)), generate(new CorpusGenerator(7)));
+    Assert.assertNotEquals(generate(new CorpusGenerator(7)), generate(new CorpusGenerator(8)));
+  }
+
+  @Test
+  public void testWrite_ProducesValidJsonOfTargetSize() throws IOException {
+    CorpusGenerator generator = new CorpusGenerator(42)
+        .setTargetSize(64 << 10)
+        .setMaxDepth(6)
+        .setMaxFanOut(12)
+        .setKeyCardinality(5)
+        .setStringLength(0, 80)
+        .setEscapeDensity(0.2)
+        .setNumericRatio(0.5);
+    String document = generate(generator);
+    Assert.assertTrue(JsonValidator.validate(document).isValid());
+    Assert.assertTrue(document.length() >= 64 << 10);
+    Assert.assertTrue(document.length() < 80 << 10);
+    assertUniqueKeys(document);
+  }
+
+  @Test
+  public void testWrite_RecordsOfScalarsWithoutDepth() throws IOException {
+    String document = generate(new CorpusGenerator(1).setTargetSize(4096).setMaxDepth(0));
+    Assert.assertTrue(JsonValidator.validate(document).isValid());
+    // Records are the only objects and the top-level array the only array
+    Assert.assertEquals(1, document.chars().filter((ch) -> ch == '[').count());
+    for (int i = document.indexOf('{'); i >= 0; i = document.indexOf('{', i + 1))
+      Assert.assertEquals('\n', document.charAt(i - 1));
+  }
+
+  @Test
+  public void testWrite_TargetSizeIsInBytes() throws IOException {
+    String document = generate(new CorpusGenerator(3).setTargetSize(16 << 10)
+        .setEscapeDensity(1));
+    byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals(document.length(), bytes.length);
+    Assert.assertTrue(bytes.length >= 16 << 10);
+  }
+
+  /** Asserts that no object of {@code document} contains a key more than once */
+  private static void assertUniqueKeys(String document) {
+    Deque<Set<String>> objects = new ArrayDeque<>();
+    for (int i = 0, n = document.length(); i < n; ++i) {
+      char ch = document.charAt(i);
+      if (ch == '{') objects.push(new HashSet<>());
+      else if (ch == '}') objects.pop();
+      else if (ch == '"') {
+        int start = i + 1;
+        for (i = start; document.charAt(i) != '"'; ++i)
+          if (document.charAt(i) == '\\') ++i;
+        // Keys are the only strings directly followed by a colon
+        if (document.charAt(i + 1) == ':') {
+          String key = document.substring(start, i);
+          Assert.assertTrue("Duplicate key: " + key, objects.element().add(key));
+        }
+      }
+    }
+  }
+
+  private static String generate(CorpusGenerator generator) throws IOException {
+    StringWriter writer = new StringWriter();
+    long written = generator.write(writer);
+    Assert.assertEquals(written, writer.getBuffer().length());
+    return writer.toString();
+  }
+
+}
@@ -19,4 +19,12 @@ public interface JsonProcessContext {
   @NonNegative
   int getPositionInLine();
 
+  /**
+   * Returns the total amount of characters appended to this context, regardless of lines.
+   *
+   * @return the amount of characters processed so far
+   */
+  @NonNegative
+  long getOffset();
+
 }
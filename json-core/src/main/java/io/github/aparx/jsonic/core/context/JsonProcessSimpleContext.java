@@ -13,6 +13,7 @@ public class JsonProcessSimpleContext implements JsonProcessContext {
 
   protected int lineIndex;
   protected int charPosInLine;
+  protected long offset;
 
   @Override
   public void newline() {
@@ -23,6 +24,7 @@ public class JsonProcessSimpleContext implements JsonProcessContext {
   @Override
   public void append(char ch) {
     ++this.charPosInLine;
+    ++this.offset;
   }
 
   @Override
@@ -34,4 +36,9 @@ public class JsonProcessSimpleContext implements JsonProcessContext {
   public int getPositionInLine() {
     return this.charPosInLine;
   }
+
+  @Override
+  public long getOffset() {
+    return this.offset;
+  }
 }
@@ -10,7 +10,7 @@ import org.checkerframework.org.apache.commons.lang3.StringUtils;
 
 /**
  * @author aparx (Vinzent Z.)
- * @version 2024-11-19 01:32
+ * @version 2026-10-20 11:00
  * @since 1.0
  */
 @DefaultQualifier(NonNull.class)
@@ -28,12 +28,31 @@ public final class JsonicErrorMessageFactory {
   }
 
   public static String create(JsonProcessContext context, @Nullable String details) {
+    return create(context.getLineIndex(), context.getPositionInLine(),
+        context instanceof JsonProcessHistoryContext history
+            ? createInlineBacktrace(history) : null,
+        details);
+  }
+
+  /**
+   * Creates the message from the state of a context captured beforehand, such that the message
+   * does not depend on the context being processed any further.
+   *
+   * @param lineIndex      the zero-based line index of the context
+   * @param positionInLine the position within the line of the context
+   * @param backtrace      the inline backtrace of the context, or null if it has no history
+   * @param details        the details appended to the message
+   * @return the message
+   * @see #createInlineBacktrace(JsonProcessHistoryContext)
+   */
+  public static String create(int lineIndex, int positionInLine, @Nullable String backtrace,
+                              @Nullable String details) {
     StringBuilder builder = new StringBuilder("Error at line ");
-    builder.append(1 + context.getLineIndex()).append(':')
-        .append(context.getPositionInLine())
+    builder.append(1 + lineIndex).append(':')
+        .append(positionInLine)
         .append('\n');
-    if (context instanceof JsonProcessHistoryContext history)
-      insertBacktrace(builder, history);
+    if (backtrace != null)
+      insertBacktrace(builder, backtrace);
     if (StringUtils.isNotEmpty(details))
       builder.append(details);
     return builder.toString();
@@ -43,11 +62,12 @@ public final class JsonicErrorMessageFactory {
   public static String createInlineBacktrace(JsonProcessHistoryContext context) {
     int pos = context.getPositionInLine() - 1;
     if (pos < 0) return StringUtils.EMPTY;
-    return context.getHistory(Math.min(pos, INLINE_HISTORY_LENGTH_CAP));
+    int cap = Math.min(INLINE_HISTORY_LENGTH_CAP, context.getBufferLength());
+    return context.getHistory(Math.min(pos, cap));
   }
 
-  private static void insertBacktrace(StringBuilder builder, JsonProcessHistoryContext context) {
-    String backtrace = createInlineBacktrace(context).trim();
+  private static void insertBacktrace(StringBuilder builder, String inlineBacktrace) {
+    String backtrace = inlineBacktrace.trim();
     if (backtrace.isEmpty()) return;
     builder.append(BACKTRACE_ERROR_PREFIX)
         .append(backtrace).append('\n')
@@ -75,10 +75,9 @@ public interface ComposableJsonParser<T> extends JsonParser<T> {
         return (parsers.stream()
             .filter((x) -> x.couldParse(traverser.current(), traverser.peek()))
             .findFirst()
-            .orElseThrow(() -> {
-              String message = String.format("Unexpected token: %s", traverser.current());
-              return reader.errorFactory().create(reader, traverser, message);
-            })).parse(traverser, reader);
+            .orElseThrow(() -> reader.errorFactory().create(reader, traverser,
+                "Unexpected token: %s", traverser.current())))
+            .parse(traverser, reader);
       }
     };
   }
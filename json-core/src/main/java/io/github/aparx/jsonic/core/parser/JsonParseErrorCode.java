@@ -0,0 +1,47 @@
+package io.github.aparx.jsonic.core.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Stable codes of the reasons a non-throwing parse failed, which, unlike the messages of the
+ * errors, may be relied upon by callers.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 11:00
+ * @see JsonParseResult#errorCode()
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public enum JsonParseErrorCode {
+
+  /** The input did not contain any characters */
+  EMPTY_INPUT("Unexpected end of input"),
+  /**
+   * Parsing failed at the end of the input, since the parser either requested a character beyond
+   * it or rejected its last character, thus the input may merely be truncated
+   */
+  UNEXPECTED_END("Unexpected end of input"),
+  /**
+   * Parsing failed before the end of the input, thus the input does not conform to the syntax
+   * expected by the parser, regardless of any characters that could follow it
+   */
+  INVALID_SYNTAX("Invalid syntax");
+
+  private final String message;
+
+  JsonParseErrorCode(String message) {
+    this.message = message;
+  }
+
+  /**
+   * Returns the message details of the errors of this code, that are created by the parse
+   * rather than by the parser.
+   *
+   * @return the message details
+   */
+  public String message() {
+    return this.message;
+  }
+
+}
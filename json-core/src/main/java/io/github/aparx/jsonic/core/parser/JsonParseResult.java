@@ -0,0 +1,104 @@
+package io.github.aparx.jsonic.core.parser;
+
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Result of a non-throwing parse, either holding the parsed value or the error, its code and the
+ * offset at which parsing failed.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 11:00
+ * @see JsonParser#tryParse(JsonParser, CharSequence)
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonParseResult<T> {
+
+  private final @Nullable T value;
+  private final @Nullable JsonParseError error;
+  private final @Nullable JsonParseErrorCode errorCode;
+  private final long errorOffset;
+
+  private JsonParseResult(@Nullable T value, @Nullable JsonParseError error,
+                          @Nullable JsonParseErrorCode errorCode, long errorOffset) {
+    this.value = value;
+    this.error = error;
+    this.errorCode = errorCode;
+    this.errorOffset = errorOffset;
+  }
+
+  public static <T> JsonParseResult<T> success(@Nullable T value) {
+    return new JsonParseResult<>(value, null, null, -1);
+  }
+
+  public static <T> JsonParseResult<T> failure(JsonParseErrorCode errorCode, JsonParseError error,
+                                               long errorOffset) {
+    Preconditions.checkNotNull(errorCode, "Code must not be null");
+    Preconditions.checkNotNull(error, "Error must not be null");
+    Preconditions.checkArgument(errorOffset >= 0, "Offset must not be negative");
+    return new JsonParseResult<>(null, error, errorCode, errorOffset);
+  }
+
+  public boolean isSuccess() {
+    return this.error == null;
+  }
+
+  /**
+   * Returns the parsed value, or null if parsing failed (or the value parsed is null).
+   *
+   * @return the parsed value
+   */
+  public @Nullable T value() {
+    return this.value;
+  }
+
+  /**
+   * Returns the code of the reason parsing failed, which, unlike the error's message, is stable.
+   *
+   * @return the error code, or null if parsing succeeded
+   */
+  public @Nullable JsonParseErrorCode errorCode() {
+    return this.errorCode;
+  }
+
+  /**
+   * Returns the error that caused parsing to fail. The error's message is commonly only created
+   * when it is requested, from the state captured when parsing failed.
+   *
+   * @return the error, or null if parsing succeeded
+   */
+  public @Nullable JsonParseError error() {
+    return this.error;
+  }
+
+  /**
+   * Returns the zero-based offset of the character at which parsing failed.
+   *
+   * @return the error offset, or {@code -1} if parsing succeeded
+   */
+  public long errorOffset() {
+    return this.errorOffset;
+  }
+
+  /**
+   * Returns the parsed value, or throws the error if parsing failed.
+   *
+   * @return the parsed value
+   * @throws JsonParseError if parsing failed
+   */
+  public @Nullable T orElseThrow() {
+    if (this.error != null) throw this.error;
+    return this.value;
+  }
+
+  @Override
+  public String toString() {
+    if (this.error == null) return "JsonParseResult{value=" + this.value + '}';
+    return "JsonParseResult{errorCode=" + this.errorCode
+        + ", errorOffset=" + this.errorOffset + '}';
+  }
+}
@@ -1,8 +1,14 @@
 package io.github.aparx.jsonic.core.parser;
 
+import io.github.aparx.jsonic.core.context.JsonProcessContext;
+import io.github.aparx.jsonic.core.context.JsonProcessSimpleContext;
 import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.jfr.JsonParseRecorder;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSource;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraversers;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
 import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
 import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -18,7 +24,7 @@ import java.util.NoSuchElementException;
 
 /**
  * @author aparx (Vinzent Z.)
- * @version 2024-11-15 14:21
+ * @version 2026-10-20 11:00
  * @since 1.0
  */
 @FunctionalInterface
@@ -52,14 +58,18 @@ public interface JsonParser<T> {
   @Nullable T parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader);
 
   static <@Nullable T> @Nullable T parse(JsonParser<T> parser, JsonCharSourceTraverser traverser) {
-    Preconditions.checkState(traverser.hasRead(), "Traverser has not been read");
-    return parser.parse(traverser, DefaultJsonSyntaxReader.DEFAULT);
+    return parse(parser, traverser, DefaultJsonSyntaxReader.DEFAULT);
   }
 
   static <@Nullable T> @Nullable T parse(JsonParser<T> parser, JsonCharSourceTraverser traverser,
                                          JsonSyntaxReader syntaxReader) {
     Preconditions.checkState(traverser.hasRead(), "Traverser has not been read");
-    return parser.parse(traverser, syntaxReader);
+    if (JsonParseRecorder.isRecording())
+      return JsonParseRecorder.record(parser, traverser, syntaxReader);
+    JsonParseListener listener = syntaxReader.listener();
+    if (listener == JsonParseListener.NONE)
+      return parser.parse(traverser, syntaxReader);
+    return observe(parser, traverser, syntaxReader, listener);
   }
 
   static <@Nullable T> @Nullable T parse(JsonParser<T> parser, CharSequence sequence) {
@@ -92,4 +102,88 @@ public interface JsonParser<T> {
     return parse(parser, JsonCharSourceTraversers.read(file), syntaxReader);
   }
 
+  /**
+   * Parses {@code traverser} like {@link #parse(JsonParser, JsonCharSourceTraverser)}, but
+   * returns the error within the result instead of throwing it.
+   * <p>The {@link DefaultJsonSyntaxReader#STACKLESS} syntax reader is used, thus errors are
+   * created without stack trace and their message is only formatted when requested.
+   *
+   * @param parser    the parser to parse the traverser with
+   * @param traverser the traverser, supplying the data necessary to parse
+   * @return the result holding either the parsed value or the error, its code and offset
+   * @see JsonParseErrorCode
+   */
+  static <@Nullable T> JsonParseResult<T> tryParse(JsonParser<T> parser,
+                                                  JsonCharSourceTraverser traverser) {
+    return tryParse(parser, traverser, DefaultJsonSyntaxReader.STACKLESS);
+  }
+
+  static <@Nullable T> JsonParseResult<T> tryParse(JsonParser<T> parser,
+                                                  JsonCharSourceTraverser traverser,
+                                                  JsonSyntaxReader syntaxReader) {
+    Preconditions.checkState(traverser.hasRead(), "Traverser has not been read");
+    JsonProcessContext context = traverser.context();
+    try {
+      return JsonParseResult.success(parse(parser, traverser, syntaxReader));
+    } catch (JsonParseError e) {
+      // Rejecting the last character means further input could still have completed the value
+      JsonParseErrorCode code = traverser.hasNext()
+          ? JsonParseErrorCode.INVALID_SYNTAX : JsonParseErrorCode.UNEXPECTED_END;
+      // The offset is the index of the traverser's current character
+      return JsonParseResult.failure(code, e, Math.max(0, context.getOffset() - 1));
+    } catch (NoSuchElementException e) {
+      JsonParseErrorCode code = JsonParseErrorCode.UNEXPECTED_END;
+      JsonParseError error = syntaxReader.errorFactory().create(syntaxReader, traverser,
+          code.message());
+      return JsonParseResult.failure(code, error, context.getOffset());
+    }
+  }
+
+  static <@Nullable T> JsonParseResult<T> tryParse(JsonParser<T> parser, CharSequence sequence) {
+    if (sequence.isEmpty())
+      return emptyInputFailure();
+    return tryParse(parser, JsonCharSourceTraversers.read(sequence));
+  }
+
+  static <@Nullable T> JsonParseResult<T> tryParse(
+      JsonParser<T> parser, CharSequence sequence, JsonSyntaxReader syntaxReader) {
+    if (sequence.isEmpty())
+      return emptyInputFailure();
+    return tryParse(parser, JsonCharSourceTraversers.read(sequence), syntaxReader);
+  }
+
+  static <@Nullable T> JsonParseResult<T> tryParse(JsonParser<T> parser, InputStream inputStream) {
+    JsonCharSource source = JsonCharSources.of(inputStream);
+    if (!source.hasNext())
+      return emptyInputFailure();
+    return tryParse(parser, JsonCharSourceTraversers.read(source));
+  }
+
+  /** Parses {@code traverser}, notifying {@code listener} about the duration and consumption */
+  private static <@Nullable T> @Nullable T observe(JsonParser<T> parser,
+                                                   JsonCharSourceTraverser traverser,
+                                                   JsonSyntaxReader syntaxReader,
+                                                   JsonParseListener listener) {
+    JsonProcessContext context = traverser.context();
+    // The current character has already been read, but is consumed by this parse
+    long offset = context.getOffset() - 1;
+    listener.onParseStart();
+    long start = System.nanoTime();
+    try {
+      @Nullable T value = parser.parse(traverser, syntaxReader);
+      listener.onParseEnd(context.getOffset() - offset, System.nanoTime() - start, null);
+      return value;
+    } catch (RuntimeException e) {
+      listener.onParseEnd(context.getOffset() - offset, System.nanoTime() - start, e);
+      throw e;
+    }
+  }
+
+  private static <@Nullable T> JsonParseResult<T> emptyInputFailure() {
+    JsonProcessContext context = new JsonProcessSimpleContext();
+    JsonParseErrorCode code = JsonParseErrorCode.EMPTY_INPUT;
+    return JsonParseResult.failure(code,
+        new JsonParseError(context, code.message(), null, false), 0);
+  }
+
 }
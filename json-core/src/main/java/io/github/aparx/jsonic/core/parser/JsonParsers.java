@@ -1,5 +1,7 @@
 package io.github.aparx.jsonic.core.parser;
 
+import io.github.aparx.jsonic.core.parser.bind.JsonBindingParser;
+import io.github.aparx.jsonic.core.parser.column.JsonColumnarParser;
 import io.github.aparx.jsonic.core.parser.tokens.*;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -11,7 +13,7 @@ import java.util.function.Supplier;
 
 /**
  * @author aparx (Vinzent Z.)
- * @version 2024-11-15 16:42
+ * @version 2026-10-20 13:30
  * @since 1.0
  */
 @DefaultQualifier(NonNull.class)
@@ -23,6 +25,24 @@ public final class JsonParsers {
   private static final Supplier<List<?>> ARRAY_DEFAULT_LIST = ArrayList::new;
   private static final Supplier<Set<?>> ARRAY_SET_LIST = HashSet::new;
 
+  /** Parser for any JSON value, resulting in maps, lists, strings, numbers, booleans or null */
+  private static final JsonParser<?> VALUE = ComposableJsonParser.compose((self) -> List.of(
+      object(JsonStringParser.DEFAULT, self),
+      array(self),
+      JsonStringParser.DEFAULT,
+      JsonNumberParser.DEFAULT,
+      JsonBooleanParser.DEFAULT,
+      JsonNullParser.DEFAULT));
+
+  /** Parser for any JSON value like {@link #VALUE}, resulting in lazily converted numbers */
+  private static final JsonParser<?> LAZY_VALUE = ComposableJsonParser.compose((self) -> List.of(
+      object(JsonStringParser.DEFAULT, self),
+      array(self),
+      JsonStringParser.DEFAULT,
+      JsonNumberParser.LAZY,
+      JsonBooleanParser.DEFAULT,
+      JsonNullParser.DEFAULT));
+
   private JsonParsers() {
     throw new AssertionError();
   }
@@ -41,6 +61,90 @@ public final class JsonParsers {
     return JsonStringParser.DEFAULT;
   }
 
+  /**
+   * Returns a parser of strings resulting in {@link JsonStringView} instances, which refer to the
+   * input instead of copying it, if the input is a {@code CharSequence} or {@code char[]}.
+   *
+   * @return parser of zero-copy strings, which must not outlive their input
+   * @see JsonStringView
+   */
+  public static JsonStringViewParser stringView() {
+    return JsonStringViewParser.DEFAULT;
+  }
+
+  public static JsonNumberParser number() {
+    return JsonNumberParser.DEFAULT;
+  }
+
+  /** Returns a parser of numbers resulting in lazily converted {@link JsonNumber} instances */
+  public static JsonNumberParser lazyNumber() {
+    return JsonNumberParser.LAZY;
+  }
+
+  /**
+   * Returns a parser that parses any JSON value, using unordered maps for objects and lists for
+   * arrays.
+   *
+   * @return parser for any JSON value
+   */
+  public static JsonParser<?> value() {
+    return VALUE;
+  }
+
+  /**
+   * Returns a parser that parses any JSON value like {@link #value()}, but results in lazily
+   * converted {@link JsonNumber} instances for numbers, which keep their original digits.
+   *
+   * @return parser for any JSON value with lazy numbers
+   */
+  public static JsonParser<?> lazyValue() {
+    return LAZY_VALUE;
+  }
+
+  /**
+   * Returns a parser that parses any JSON value like {@link #value()}, but iteratively, failing
+   * documents nested deeper than {@link JsonValueParser#DEFAULT_MAX_DEPTH}.
+   *
+   * @return non-recursive parser for any JSON value
+   */
+  public static JsonValueParser iterativeValue() {
+    return JsonValueParser.DEFAULT;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static JsonValueParser iterativeValue(int maxDepth) {
+    return new JsonValueParser(
+        (Supplier) RECORD_UNORDERED_MAP, (Supplier) ARRAY_DEFAULT_LIST, maxDepth);
+  }
+
+  // <====================> BINDING <====================>
+
+  /**
+   * Returns a parser that binds JSON objects to instances of {@code type}, which is either a
+   * record or a class with a no-arg constructor and setters.
+   *
+   * @param type the class to bind to
+   * @return the cached parser binding to {@code type}
+   * @throws IllegalArgumentException if {@code type} or one of its properties cannot be bound
+   * @see JsonBindingParser
+   */
+  public static <T> JsonBindingParser<T> bind(Class<T> type) {
+    return JsonBindingParser.of(type);
+  }
+
+  // <====================> COLUMNAR <====================>
+
+  /**
+   * Returns a parser that parses arrays of flat objects column by column, storing the values of
+   * each key in a primitive or dictionary-encoded column.
+   *
+   * @return parser of arrays of flat objects into column batches
+   * @see JsonColumnarParser
+   */
+  public static JsonColumnarParser columnar() {
+    return JsonColumnarParser.DEFAULT;
+  }
+
   // <====================> ARRAY/SET <====================>
 
   public static <E, T extends Collection<@Nullable E>> JsonArrayParser<E, T>
@@ -93,5 +197,30 @@ public final class JsonParsers {
     return new JsonObjectParser<>((Supplier) RECORD_ORDERED_MAP, keyParser, valueParser);
   }
 
+  /**
+   * Returns a parser of objects with string keys, which learns the order of their keys and
+   * speculates on it for subsequent objects, using unordered maps pre-sized by the learned shape.
+   *
+   * @param valueParser the parser of the values
+   * @return new adaptive object parser, which is meant to be used by a single site
+   * @see JsonAdaptiveObjectParser
+   */
+  @CheckReturnValue
+  public static <@Nullable V> JsonAdaptiveObjectParser<V> adaptiveObject(
+      JsonParser<@Nullable ? extends V> valueParser) {
+    return new JsonAdaptiveObjectParser<>((size) -> new HashMap<>(mapCapacity(size)), valueParser);
+  }
+
+  @CheckReturnValue
+  public static <@Nullable V> JsonAdaptiveObjectParser<V> adaptiveOrderedObject(
+      JsonParser<@Nullable ? extends V> valueParser) {
+    return new JsonAdaptiveObjectParser<>(
+        (size) -> new LinkedHashMap<>(mapCapacity(size)), valueParser);
+  }
+
+  /** Returns the capacity of hash maps to hold {@code size} entries without resizing */
+  private static int mapCapacity(int size) {
+    return (int) Math.ceil(size / 0.75);
+  }
 
 }
@@ -0,0 +1,55 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonBinaryArrayParser<E, T extends Collection<@Nullable E>>
+    implements ComposableJsonParser<T> {
+
+  private final Supplier<? extends T> collectionFactory;
+  private final JsonParser<? extends E> elementParser;
+
+  public JsonBinaryArrayParser(Supplier<? extends T> collectionFactory,
+                               JsonParser<? extends E> elementParser) {
+    Preconditions.checkNotNull(collectionFactory, "Collection factory must not be null");
+    Preconditions.checkNotNull(elementParser, "Element parser must not be null");
+    this.collectionFactory = collectionFactory;
+    this.elementParser = elementParser;
+  }
+
+  @Override
+  public T parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    JsonBinaryFormat.expectMarker(traverser, syntaxReader, JsonBinaryFormat.ARRAY, "array");
+    T col = this.collectionFactory.get();
+    JsonParseListener listener = syntaxReader.listener();
+    listener.onArrayStart();
+    int size = JsonBinaryFormat.readLength(traverser, syntaxReader);
+    for (int i = 0; i < size; ++i) {
+      JsonBinaryFormat.next(traverser, syntaxReader);
+      col.add(this.elementParser.parse(traverser, syntaxReader));
+    }
+    listener.onArrayEnd(col.size());
+    return col;
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return currentChar == JsonBinaryFormat.ARRAY;
+  }
+}
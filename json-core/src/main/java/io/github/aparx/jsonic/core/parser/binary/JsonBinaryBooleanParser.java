@@ -0,0 +1,32 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 06:45
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonBinaryBooleanParser implements ComposableJsonParser<Boolean> {
+
+  public static final JsonBinaryBooleanParser DEFAULT = new JsonBinaryBooleanParser();
+
+  @Override
+  public Boolean parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    return switch (traverser.current()) {
+      case JsonBinaryFormat.TRUE -> true;
+      case JsonBinaryFormat.FALSE -> false;
+      default -> throw JsonBinaryFormat.unexpectedMarker(traverser, syntaxReader, "boolean");
+    };
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return currentChar == JsonBinaryFormat.TRUE || currentChar == JsonBinaryFormat.FALSE;
+  }
+}
@@ -0,0 +1,124 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.JsonParseErrorCode;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Arrays;
+
+/**
+ * Markers and primitives of the binary encoding of JSON values.
+ * <p>Each value is a record starting with its marker, which is followed by its payload:
+ * <ul>
+ *   <li>{@link #NULL}, {@link #FALSE} and {@link #TRUE} have no payload.</li>
+ *   <li>{@link #INTEGER} is followed by the zigzag-encoded varint of a long.</li>
+ *   <li>{@link #DOUBLE} is followed by the eight big-endian bytes of a double.</li>
+ *   <li>{@link #DECIMAL} is followed by the varint length and the ASCII bytes of a number
+ *   literal, keeping numbers that do not fit into a long or double.</li>
+ *   <li>{@link #STRING} is followed by the varint length and the UTF-8 bytes of a string.</li>
+ *   <li>{@link #ARRAY} is followed by the varint amount and the records of its elements.</li>
+ *   <li>{@link #OBJECT} is followed by the varint amount of its members and, for each, the
+ *   string record of its key and the record of its value.</li>
+ * </ul>
+ * <p>Markers are control characters, none of which can start a textual JSON value.
+ * <p>Input is untrusted, thus payloads are not allocated by their declared length up front, but
+ * grow with the bytes actually read, and truncated records fail with a {@link JsonParseError}.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 11:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class JsonBinaryFormat {
+
+  static final char NULL = 0x00;
+  static final char FALSE = 0x01;
+  static final char TRUE = 0x02;
+  static final char INTEGER = 0x03;
+  static final char DOUBLE = 0x04;
+  static final char DECIMAL = 0x05;
+  static final char STRING = 0x06;
+  static final char ARRAY = 0x07;
+  static final char OBJECT = 0x08;
+
+  private static final String ERROR_UNEXPECTED_MARKER = "Unexpected marker: 0x%02X expected: %s";
+  private static final String ERROR_MALFORMED_LENGTH = "Malformed length: %s";
+  private static final String ERROR_MALFORMED_VARINT = "Malformed varint";
+  private static final String ERROR_UNEXPECTED_END = JsonParseErrorCode.UNEXPECTED_END.message();
+
+  /** Capacity payloads are allocated with at first, regardless of their declared length */
+  private static final int INITIAL_PAYLOAD_CAPACITY = 1 << 10;
+
+  private JsonBinaryFormat() {
+    throw new AssertionError();
+  }
+
+  static void expectMarker(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                           char marker, String expected) {
+    if (traverser.current() != marker)
+      throw unexpectedMarker(traverser, syntaxReader, expected);
+  }
+
+  static JsonParseError unexpectedMarker(JsonCharSourceTraverser traverser,
+                                         JsonSyntaxReader syntaxReader, String expected) {
+    return syntaxReader.errorFactory().create(syntaxReader, traverser,
+        ERROR_UNEXPECTED_MARKER, (int) traverser.current(), expected);
+  }
+
+  /**
+   * Reads the next byte of {@code traverser}.
+   *
+   * @throws JsonParseError if the end of input is reached
+   */
+  static char next(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    if (!traverser.hasNext())
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser, ERROR_UNEXPECTED_END);
+    return traverser.next();
+  }
+
+  /** Reads the next bytes of {@code traverser} as an unsigned varint */
+  static long readVarLong(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    long value = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      char b = next(traverser, syntaxReader);
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw syntaxReader.errorFactory().create(syntaxReader, traverser, ERROR_MALFORMED_VARINT);
+  }
+
+  /** Reads the next bytes of {@code traverser} as the varint length of a payload or container */
+  static int readLength(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    long length = readVarLong(traverser, syntaxReader);
+    if (length > Integer.MAX_VALUE)
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+          ERROR_MALFORMED_LENGTH, length);
+    return (int) length;
+  }
+
+  /**
+   * Reads the next {@code length} bytes of {@code traverser}, into an array growing with the
+   * bytes read, such that a forged length cannot allocate more than the input contains.
+   */
+  static byte[] readBytes(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                          int length) {
+    byte[] bytes = new byte[Math.min(length, INITIAL_PAYLOAD_CAPACITY)];
+    for (int i = 0; i < length; ++i) {
+      if (i == bytes.length)
+        bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+      bytes[i] = (byte) next(traverser, syntaxReader);
+    }
+    return bytes;
+  }
+
+  /** Reads the next eight bytes of {@code traverser} as big-endian long */
+  static long readLong(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    long bits = 0;
+    for (int i = 0; i < Long.BYTES; ++i)
+      bits = bits << 8 | next(traverser, syntaxReader);
+    return bits;
+  }
+}
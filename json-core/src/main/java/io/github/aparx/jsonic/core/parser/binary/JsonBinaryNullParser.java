@@ -0,0 +1,30 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 06:45
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonBinaryNullParser implements ComposableJsonParser<Object> {
+
+  public static final JsonBinaryNullParser DEFAULT = new JsonBinaryNullParser();
+
+  @Override
+  public @Nullable Object parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    JsonBinaryFormat.expectMarker(traverser, syntaxReader, JsonBinaryFormat.NULL, "null");
+    return null;
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return currentChar == JsonBinaryFormat.NULL;
+  }
+}
@@ -0,0 +1,80 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonGrammar;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumber;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumberParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parser of binary numbers, which are read as {@code Long} or {@code Double} without any
+ * conversion from text, except for decimal literals.
+ * <p>Decimal literals are converted like textual numbers by {@link JsonNumberParser}, thus into
+ * a {@code Long} or {@code Double}, or kept as {@link JsonNumber} if this parser is lazy.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonBinaryNumberParser implements ComposableJsonParser<Number> {
+
+  public static final JsonBinaryNumberParser DEFAULT = new JsonBinaryNumberParser();
+
+  /** Parser resulting in {@link JsonNumber} instances for decimal literals */
+  public static final JsonBinaryNumberParser LAZY = new JsonBinaryNumberParser(true);
+
+  private static final String ERROR_MALFORMED_NUMBER = "Malformed number: %s";
+
+  private final boolean lazy;
+
+  public JsonBinaryNumberParser() {
+    this(false);
+  }
+
+  public JsonBinaryNumberParser(boolean lazy) {
+    this.lazy = lazy;
+  }
+
+  @Override
+  public Number parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    return switch (traverser.current()) {
+      case JsonBinaryFormat.INTEGER -> readInteger(traverser, syntaxReader);
+      case JsonBinaryFormat.DOUBLE ->
+          Double.longBitsToDouble(JsonBinaryFormat.readLong(traverser, syntaxReader));
+      case JsonBinaryFormat.DECIMAL -> this.readDecimal(traverser, syntaxReader);
+      default -> throw JsonBinaryFormat.unexpectedMarker(traverser, syntaxReader, "number");
+    };
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return currentChar == JsonBinaryFormat.INTEGER || currentChar == JsonBinaryFormat.DOUBLE
+        || currentChar == JsonBinaryFormat.DECIMAL;
+  }
+
+  public boolean lazy() {
+    return this.lazy;
+  }
+
+  private Number readDecimal(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    int length = JsonBinaryFormat.readLength(traverser, syntaxReader);
+    String literal = new String(
+        JsonBinaryFormat.readBytes(traverser, syntaxReader, length), StandardCharsets.US_ASCII);
+    if (!JsonGrammar.isNumber(literal))
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+          ERROR_MALFORMED_NUMBER, literal);
+    return this.lazy ? JsonNumber.of(literal) : JsonNumberParser.valueOf(literal);
+  }
+
+  private static Long readInteger(JsonCharSourceTraverser traverser,
+                                  JsonSyntaxReader syntaxReader) {
+    long zigzag = JsonBinaryFormat.readVarLong(traverser, syntaxReader);
+    return (zigzag >>> 1) ^ -(zigzag & 1);
+  }
+}
@@ -0,0 +1,73 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonBinaryObjectParser<K, V>
+    implements ComposableJsonParser<Map<@Nullable K, @Nullable V>> {
+
+  private final Supplier<Map<@Nullable K, @Nullable V>> mapFactory;
+  private final JsonParser<? extends K> keyParser;
+  private final JsonParser<? extends V> valueParser;
+
+  public JsonBinaryObjectParser(Supplier<Map<K, V>> mapFactory,
+                                JsonParser<? extends K> keyParser,
+                                JsonParser<? extends V> valueParser) {
+    Preconditions.checkNotNull(mapFactory, "Map factory must not be null");
+    Preconditions.checkNotNull(keyParser, "Key parser must not be null");
+    Preconditions.checkNotNull(valueParser, "Value parser must not be null");
+    this.mapFactory = mapFactory;
+    this.keyParser = keyParser;
+    this.valueParser = valueParser;
+  }
+
+  @Override
+  public Map<@Nullable K, @Nullable V> parse(
+      JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    JsonBinaryFormat.expectMarker(traverser, syntaxReader, JsonBinaryFormat.OBJECT, "object");
+    Map<@Nullable K, @Nullable V> map = this.mapFactory.get();
+    JsonParseListener listener = syntaxReader.listener();
+    listener.onObjectStart();
+    int size = JsonBinaryFormat.readLength(traverser, syntaxReader);
+    for (int i = 0; i < size; ++i) {
+      JsonBinaryFormat.next(traverser, syntaxReader);
+      @Nullable K key = this.keyParser.parse(traverser, syntaxReader);
+      listener.onKey();
+      JsonBinaryFormat.next(traverser, syntaxReader);
+      map.put(key, this.valueParser(key).parse(traverser, syntaxReader));
+    }
+    listener.onObjectEnd(map.size());
+    return map;
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return currentChar == JsonBinaryFormat.OBJECT;
+  }
+
+  /**
+   * Returns the parser used to parse the value associated with {@code key}.
+   *
+   * @param key the key that was parsed right before the value
+   * @return the parser to parse the value of {@code key} with
+   */
+  protected JsonParser<? extends V> valueParser(@Nullable K key) {
+    return this.valueParser;
+  }
+}
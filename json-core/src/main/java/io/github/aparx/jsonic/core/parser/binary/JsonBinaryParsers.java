@@ -0,0 +1,126 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraversers;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.errorprone.annotations.CheckReturnValue;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Parsers of values in the binary encoding written by {@link JsonBinaryWriter}, counterparts of
+ * the textual parsers of {@code JsonParsers}.
+ * <p>Binary parsers are read from binary sources, such as {@link JsonCharSources#binary(byte[])},
+ * and compose like textual parsers, thus parser graphs are built the same way for either
+ * encoding, only exchanging the token parsers.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 06:50
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonBinaryParsers {
+
+  private static final Supplier<Map<?, ?>> RECORD_UNORDERED_MAP = HashMap::new;
+  private static final Supplier<Map<?, ?>> RECORD_ORDERED_MAP = LinkedHashMap::new;
+
+  private static final Supplier<List<?>> ARRAY_DEFAULT_LIST = ArrayList::new;
+
+  /** Parser for any binary value, resulting in maps, lists, strings, numbers, booleans or null */
+  private static final JsonParser<?> VALUE = ComposableJsonParser.compose((self) -> List.of(
+      object(JsonBinaryStringParser.DEFAULT, self),
+      array(self),
+      JsonBinaryStringParser.DEFAULT,
+      JsonBinaryNumberParser.DEFAULT,
+      JsonBinaryBooleanParser.DEFAULT,
+      JsonBinaryNullParser.DEFAULT));
+
+  /** Parser for any binary value like {@link #VALUE}, resulting in lazy decimal numbers */
+  private static final JsonParser<?> LAZY_VALUE = ComposableJsonParser.compose((self) -> List.of(
+      object(JsonBinaryStringParser.DEFAULT, self),
+      array(self),
+      JsonBinaryStringParser.DEFAULT,
+      JsonBinaryNumberParser.LAZY,
+      JsonBinaryBooleanParser.DEFAULT,
+      JsonBinaryNullParser.DEFAULT));
+
+  private JsonBinaryParsers() {
+    throw new AssertionError();
+  }
+
+  /** Parses the binary value of {@code bytes} with {@code parser} */
+  public static <@Nullable T> @Nullable T parse(JsonParser<T> parser, byte[] bytes) {
+    return JsonParser.parse(parser, JsonCharSourceTraversers.read(JsonCharSources.binary(bytes)));
+  }
+
+  /** Parses the binary value of {@code inputStream} with {@code parser} */
+  public static <@Nullable T> @Nullable T parse(JsonParser<T> parser, InputStream inputStream) {
+    return JsonParser.parse(parser,
+        JsonCharSourceTraversers.read(JsonCharSources.binary(inputStream)));
+  }
+
+  /**
+   * Returns a parser that parses any binary value, using unordered maps for objects and lists
+   * for arrays.
+   *
+   * @return parser for any binary value
+   */
+  public static JsonParser<?> value() {
+    return VALUE;
+  }
+
+  /**
+   * Returns a parser that parses any binary value like {@link #value()}, but results in
+   * {@code JsonNumber} instances for decimal literals, which keep their original digits.
+   *
+   * @return parser for any binary value with lazy decimal numbers
+   */
+  public static JsonParser<?> lazyValue() {
+    return LAZY_VALUE;
+  }
+
+  public static JsonBinaryNullParser nil() {
+    return JsonBinaryNullParser.DEFAULT;
+  }
+
+  public static JsonBinaryBooleanParser bool() {
+    return JsonBinaryBooleanParser.DEFAULT;
+  }
+
+  public static JsonBinaryStringParser string() {
+    return JsonBinaryStringParser.DEFAULT;
+  }
+
+  public static JsonBinaryNumberParser number() {
+    return JsonBinaryNumberParser.DEFAULT;
+  }
+
+  @CheckReturnValue
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public static <E> JsonBinaryArrayParser<E, List<@Nullable E>> array(
+      JsonParser<? extends E> elementParser) {
+    return new JsonBinaryArrayParser<>((Supplier) ARRAY_DEFAULT_LIST, elementParser);
+  }
+
+  @CheckReturnValue
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public static <@Nullable K, @Nullable V> JsonBinaryObjectParser<K, V> object(
+      JsonParser<@Nullable ? extends K> keyParser,
+      JsonParser<@Nullable ? extends V> valueParser) {
+    return new JsonBinaryObjectParser<>((Supplier) RECORD_UNORDERED_MAP, keyParser, valueParser);
+  }
+
+  @CheckReturnValue
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public static <@Nullable K, @Nullable V> JsonBinaryObjectParser<K, V> orderedObject(
+      JsonParser<@Nullable ? extends K> keyParser,
+      JsonParser<@Nullable ? extends V> valueParser) {
+    return new JsonBinaryObjectParser<>((Supplier) RECORD_ORDERED_MAP, keyParser, valueParser);
+  }
+}
@@ -0,0 +1,35 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonBinaryStringParser implements ComposableJsonParser<String> {
+
+  public static final JsonBinaryStringParser DEFAULT = new JsonBinaryStringParser();
+
+  @Override
+  public String parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    JsonBinaryFormat.expectMarker(traverser, syntaxReader, JsonBinaryFormat.STRING, "string");
+    int length = JsonBinaryFormat.readLength(traverser, syntaxReader);
+    String string = new String(
+        JsonBinaryFormat.readBytes(traverser, syntaxReader, length), StandardCharsets.UTF_8);
+    syntaxReader.listener().onString(string.length());
+    return string;
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return currentChar == JsonBinaryFormat.STRING;
+  }
+}
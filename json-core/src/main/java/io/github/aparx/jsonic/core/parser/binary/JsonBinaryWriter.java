@@ -0,0 +1,133 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Writer of values in the binary encoding read by the parsers of {@link JsonBinaryParsers}.
+ * <p>Supported are the values parsers result in, which are maps with string keys, collections,
+ * strings, booleans, numbers and null. Integral numbers are written as varints and other
+ * primitive numbers as doubles, while {@link JsonNumber}, {@code BigInteger} and
+ * {@code BigDecimal} instances are written by their literal.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 06:50
+ * @see JsonBinaryFormat
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonBinaryWriter {
+
+  private JsonBinaryWriter() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns the binary encoding of {@code value}.
+   *
+   * @throws IllegalArgumentException if {@code value} contains an unsupported value
+   */
+  public static byte[] toBytes(@Nullable Object value) {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try {
+      write(value, stream);
+    } catch (IOException e) {
+      // Byte array streams do not throw
+      throw new UncheckedIOException(e);
+    }
+    return stream.toByteArray();
+  }
+
+  /**
+   * Writes the binary encoding of {@code value} into {@code stream}.
+   *
+   * @param value  the value to write
+   * @param stream the stream to write to, which is neither buffered nor closed
+   * @throws IllegalArgumentException if {@code value} contains an unsupported value
+   * @throws IOException              if {@code stream} could not be written to
+   */
+  public static void write(@Nullable Object value, OutputStream stream) throws IOException {
+    DataOutputStream out = new DataOutputStream(stream);
+    writeValue(out, value);
+    out.flush();
+  }
+
+  private static void writeValue(DataOutputStream out, @Nullable Object value)
+      throws IOException {
+    if (value == null) {
+      out.writeByte(JsonBinaryFormat.NULL);
+    } else if (value instanceof Boolean) {
+      out.writeByte((Boolean) value ? JsonBinaryFormat.TRUE : JsonBinaryFormat.FALSE);
+    } else if (value instanceof String) {
+      writeString(out, JsonBinaryFormat.STRING, (String) value);
+    } else if (value instanceof Number) {
+      writeNumber(out, (Number) value);
+    } else if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      out.writeByte(JsonBinaryFormat.OBJECT);
+      writeVarLong(out, map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        if (!(entry.getKey() instanceof String key))
+          throw new IllegalArgumentException("Unsupported key: " + entry.getKey());
+        writeString(out, JsonBinaryFormat.STRING, key);
+        writeValue(out, entry.getValue());
+      }
+    } else if (value instanceof Collection) {
+      Collection<?> collection = (Collection<?>) value;
+      out.writeByte(JsonBinaryFormat.ARRAY);
+      writeVarLong(out, collection.size());
+      for (@Nullable Object element : collection)
+        writeValue(out, element);
+    } else {
+      throw new IllegalArgumentException(
+          "Unsupported value type: " + value.getClass().getName());
+    }
+  }
+
+  private static void writeNumber(DataOutputStream out, Number number) throws IOException {
+    if (number instanceof Long || number instanceof Integer
+        || number instanceof Short || number instanceof Byte) {
+      long value = number.longValue();
+      out.writeByte(JsonBinaryFormat.INTEGER);
+      writeVarLong(out, (value << 1) ^ (value >> 63));
+    } else if (number instanceof Double || number instanceof Float) {
+      out.writeByte(JsonBinaryFormat.DOUBLE);
+      out.writeDouble(number.doubleValue());
+    } else if (number instanceof JsonNumber || number instanceof BigInteger
+        || number instanceof BigDecimal) {
+      writeString(out, JsonBinaryFormat.DECIMAL, number.toString());
+    } else {
+      throw new IllegalArgumentException(
+          "Unsupported number type: " + number.getClass().getName());
+    }
+  }
+
+  private static void writeString(DataOutputStream out, char marker, String string)
+      throws IOException {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    out.writeByte(marker);
+    writeVarLong(out, bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+}
@@ -0,0 +1,96 @@
+package io.github.aparx.jsonic.core.parser.bind;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumberParser;
+import io.github.aparx.jsonic.core.parser.tokens.JsonStringParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Resolves the parser of values bound to a property of a certain type.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 01:25
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class BindingParsers {
+
+  private BindingParsers() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns the parser of values of {@code type}, which also accepts {@code null} literals, even
+   * if {@code type} is primitive.
+   *
+   * @param type the generic type of the bound property or element
+   * @return the parser of values of {@code type}
+   * @throws IllegalArgumentException if {@code type} cannot be bound
+   */
+  static JsonParser<?> of(Type type) {
+    return JsonBindings.nullable(ofNonNull(type, rawType(type)));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static JsonParser<?> ofNonNull(Type type, Class<?> rawType) {
+    if (rawType == String.class || rawType == CharSequence.class)
+      return JsonStringParser.DEFAULT;
+    if (rawType == boolean.class || rawType == Boolean.class)
+      return JsonParsers.bool();
+    if (rawType == Object.class)
+      return JsonParsers.value();
+    if (rawType == long.class || rawType == Long.class)
+      return JsonBindings::parseLong;
+    if (rawType == int.class || rawType == Integer.class)
+      return JsonBindings::parseInt;
+    if (rawType == short.class || rawType == Short.class)
+      return JsonBindings::parseShort;
+    if (rawType == byte.class || rawType == Byte.class)
+      return JsonBindings::parseByte;
+    if (rawType == double.class || rawType == Double.class)
+      return JsonBindings::parseDouble;
+    if (rawType == float.class || rawType == Float.class)
+      return JsonBindings::parseFloat;
+    if (rawType == Number.class)
+      return JsonNumberParser.DEFAULT;
+    if (rawType.isEnum())
+      return (traverser, syntaxReader) ->
+          JsonBindings.parseEnum((Class) rawType, traverser, syntaxReader);
+    if (rawType == Set.class)
+      return JsonParsers.array(LinkedHashSet::new, of(typeArgument(type, 0)));
+    if (rawType == List.class || rawType == Collection.class || rawType == Iterable.class)
+      return JsonParsers.array(of(typeArgument(type, 0)));
+    if (rawType == Map.class) {
+      if (rawType(typeArgument(type, 0)) != String.class)
+        throw new IllegalArgumentException("Map keys must be strings: " + type);
+      return JsonParsers.orderedObject(JsonStringParser.DEFAULT, of(typeArgument(type, 1)));
+    }
+    if (JsonBindingParser.isBindable(rawType))
+      // Resolved lazily, since bound types may refer to themselves
+      return (traverser, syntaxReader) ->
+          JsonBindingParser.of(rawType).parse(traverser, syntaxReader);
+    throw new IllegalArgumentException("Type cannot be bound: " + type);
+  }
+
+  static Class<?> rawType(Type type) {
+    if (type instanceof Class<?> rawType) return rawType;
+    if (type instanceof ParameterizedType parameterized)
+      return (Class<?>) parameterized.getRawType();
+    if (type instanceof WildcardType wildcard)
+      return rawType(wildcard.getUpperBounds()[0]);
+    if (type instanceof TypeVariable<?> variable)
+      return rawType(variable.getBounds()[0]);
+    throw new IllegalArgumentException("Type cannot be bound: " + type);
+  }
+
+  private static Type typeArgument(Type type, int index) {
+    // Raw collections and maps contain any values
+    if (!(type instanceof ParameterizedType parameterized)) return Object.class;
+    return parameterized.getActualTypeArguments()[index];
+  }
+}
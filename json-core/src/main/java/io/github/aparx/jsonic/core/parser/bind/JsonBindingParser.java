@@ -0,0 +1,303 @@
+package io.github.aparx.jsonic.core.parser.bind;
+
+import io.github.aparx.jsonic.core.JsonSymbol;
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.tokens.JsonKeyMatcher;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Parser binding JSON objects to instances of a record or bean class.
+ * <p>Records are bound to their canonical constructor, whose arguments are parsed straight into
+ * an argument array, by the names of their components. Beans are instantiated through their
+ * no-arg constructor and bound through their public single-argument {@code set} methods, by the
+ * decapitalized name following {@code set}. Members without a property are skipped, and missing
+ * properties remain {@code null}, zero or false. Setters of types that cannot be bound are not
+ * properties, whereas every record component must be bindable. Of overloaded setters, the one
+ * accepting a string is preferred, then one accepting a primitive or its box, whereas overloads of
+ * equal preference are ambiguous. Exceptions thrown by constructors and setters, such as by
+ * validating their arguments, are rethrown as parse errors caused by them.
+ * <p>The properties of each class are resolved once and cached, together with invokers of the
+ * constructors and setters, which are spun through {@link LambdaMetafactory} where possible,
+ * thus binding uses no reflection per parse. Keys are matched against the property names through
+ * a {@link JsonKeyMatcher}, without materializing them as strings. Properties may be strings,
+ * numbers, booleans, enums, lists, sets, maps with string keys, other bindable classes or
+ * {@code Object}, which is parsed as any JSON value.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 16:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonBindingParser<T> implements ComposableJsonParser<T> {
+
+  private static final ClassValue<JsonBindingParser<?>> CACHE = new ClassValue<>() {
+    @Override
+    protected JsonBindingParser<?> computeValue(Class<?> type) {
+      return new JsonBindingParser<>(type);
+    }
+  };
+
+  private final Class<T> type;
+  /** Matcher of the property names, whose slots are the indices into {@link #properties} */
+  private final JsonKeyMatcher keys;
+  private final Property[] properties;
+
+  /** Canonical constructor of records, accepting an argument array, or null for beans */
+  private final @Nullable MethodHandle constructor;
+  /** Default arguments of the canonical constructor, or null for beans */
+  private final @Nullable Object @Nullable [] defaults;
+  /** Factory of beans, or null for records */
+  private final @Nullable Supplier<?> factory;
+
+  private JsonBindingParser(Class<T> type) {
+    Preconditions.checkArgument(isBindable(type), "Type cannot be bound: %s", type);
+    this.type = type;
+    Map<String, Property> properties = new LinkedHashMap<>();
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+      if (type.isRecord()) {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        this.defaults = new Object[components.length];
+        for (int i = 0; i < components.length; ++i) {
+          parameterTypes[i] = components[i].getType();
+          this.defaults[i] = defaultValue(parameterTypes[i]);
+          properties.put(components[i].getName(), new Property(
+              i, parameterTypes[i], BindingParsers.of(components[i].getGenericType()), null));
+        }
+        this.constructor = lookup
+            .findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+            .asSpreader(Object[].class, components.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+        this.factory = null;
+      } else {
+        Map<String, Method> setters = new LinkedHashMap<>();
+        Map<String, JsonParser<?>> parsers = new HashMap<>();
+        // Properties, whose most preferred setters are overloads of equal preference
+        Set<String> ambiguous = new TreeSet<>();
+        for (Method method : type.getMethods()) {
+          String name = propertyName(method);
+          if (name == null) continue;
+          JsonParser<?> parser;
+          try {
+            parser = BindingParsers.of(method.getGenericParameterTypes()[0]);
+          } catch (IllegalArgumentException e) {
+            // Setters of unsupported types are no properties, thus their members are skipped
+            continue;
+          }
+          @Nullable Method other = setters.get(name);
+          int order = other == null ? -1 : Integer.compare(
+              setterRank(method.getParameterTypes()[0]), setterRank(other.getParameterTypes()[0]));
+          if (order == 0) ambiguous.add(name);
+          if (order >= 0) continue;
+          setters.put(name, method);
+          parsers.put(name, parser);
+          ambiguous.remove(name);
+        }
+        if (!ambiguous.isEmpty())
+          throw new IllegalArgumentException("Setters of " + ambiguous + " are ambiguous: " + type);
+        for (Map.Entry<String, Method> entry : setters.entrySet()) {
+          Method method = entry.getValue();
+          properties.put(entry.getKey(), new Property(-1, method.getParameterTypes()[0],
+              parsers.get(entry.getKey()), setter(lookup, type, method)));
+        }
+        this.factory = factory(lookup, type);
+        this.constructor = null;
+        this.defaults = null;
+      }
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Type cannot be bound: " + type, e);
+    }
+    this.keys = JsonKeyMatcher.of(properties.keySet());
+    this.properties = properties.values().toArray(Property[]::new);
+  }
+
+  /**
+   * Returns the cached parser binding JSON objects to {@code type}.
+   *
+   * @param type the record or bean class to bind to
+   * @return the parser binding to {@code type}
+   * @throws IllegalArgumentException if {@code type} or one of its properties cannot be bound
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> JsonBindingParser<T> of(Class<T> type) {
+    Preconditions.checkNotNull(type, "Type must not be null");
+    return (JsonBindingParser<T>) CACHE.get(type);
+  }
+
+  /** Returns true if {@code type} is a record, or a concrete class with a no-arg constructor */
+  static boolean isBindable(Class<?> type) {
+    if (type.isRecord()) return true;
+    if (type.isInterface() || type.isPrimitive() || type.isArray() || type.isEnum()
+        || Modifier.isAbstract(type.getModifiers()))
+      return false;
+    try {
+      type.getDeclaredConstructor();
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public T parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    JsonParseListener listener = syntaxReader.listener();
+    syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_OPEN);
+    listener.onObjectStart();
+    @Nullable Object target = null;
+    if (this.factory != null) {
+      try {
+        target = this.factory.get();
+      } catch (RuntimeException e) {
+        throw JsonBindings.bindingError(traverser, syntaxReader, this.type, e);
+      }
+    }
+    @Nullable Object[] arguments = this.defaults != null ? this.defaults.clone() : null;
+    int members = 0;
+    while (traverser.hasNext()) {
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      if (JsonSymbol.CURLY_CLOSE.matches(traverser.current())) break;
+      if (members != 0) {
+        syntaxReader.expectSymbol(traverser, JsonSymbol.COMMA);
+        syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      }
+      int slot = this.keys.match(traverser, syntaxReader);
+      listener.onKey();
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      syntaxReader.expectSymbol(traverser, JsonSymbol.COLON);
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      ++members;
+      if (slot == JsonKeyMatcher.UNKNOWN) {
+        JsonBindings.skipValue(traverser, syntaxReader);
+        continue;
+      }
+      Property property = this.properties[slot];
+      @Nullable Object value = property.parser.parse(traverser, syntaxReader);
+      // Null literals of primitive properties keep their default value
+      if (value == null && property.type.isPrimitive()) continue;
+      if (arguments != null) {
+        arguments[property.index] = value;
+      } else if (property.setter != null) {
+        try {
+          property.setter.accept(target, value);
+        } catch (RuntimeException e) {
+          // Beans may validate their properties within their setters
+          throw JsonBindings.bindingError(traverser, syntaxReader, this.type, e);
+        }
+      }
+    }
+    syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_CLOSE);
+    listener.onObjectEnd(members);
+    if (arguments != null && this.constructor != null) {
+      try {
+        target = (Object) this.constructor.invokeExact(arguments);
+      } catch (RuntimeException e) {
+        // Records may validate their components within their constructor
+        throw JsonBindings.bindingError(traverser, syntaxReader, this.type, e);
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return this.type.cast(target);
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return currentChar == JsonSymbol.CURLY_OPEN.literal();
+  }
+
+  public Class<T> type() {
+    return this.type;
+  }
+
+  private static @Nullable String propertyName(Method method) {
+    String name = method.getName();
+    if (name.length() <= 3 || !name.startsWith("set") || method.getParameterCount() != 1
+        || Modifier.isStatic(method.getModifiers()) || method.isBridge())
+      return null;
+    return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+  }
+
+  /** Returns the preference of a setter accepting {@code type}, where lower ones are preferred */
+  private static int setterRank(Class<?> type) {
+    if (type == String.class) return 0;
+    // Unwrapping turns boxes into their primitive
+    return MethodType.methodType(type).unwrap().returnType().isPrimitive() ? 1 : 2;
+  }
+
+  private static @Nullable Object defaultValue(Class<?> type) {
+    // Reading the element of a new array results in the boxed default of primitive types
+    return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Supplier<?> factory(MethodHandles.Lookup lookup, Class<?> type)
+      throws ReflectiveOperationException {
+    MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+    try {
+      return (Supplier<?>) LambdaMetafactory.metafactory(lookup, "get",
+          MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+          constructor, MethodType.methodType(type)).getTarget().invokeExact();
+    } catch (Throwable e) {
+      // The lookup may lack the access to spin a class for types of other modules, thus the
+      // handle is adapted once, such that it is invoked exactly without boxing the arguments
+      MethodHandle handle = constructor.asType(MethodType.methodType(Object.class));
+      return () -> {
+        try {
+          return (Object) handle.invokeExact();
+        } catch (RuntimeException | Error t) {
+          throw t;
+        } catch (Throwable t) {
+          throw new IllegalStateException(t);
+        }
+      };
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BiConsumer<Object, @Nullable Object> setter(
+      MethodHandles.Lookup lookup, Class<?> type, Method method)
+      throws ReflectiveOperationException {
+    MethodHandle setter = lookup.unreflect(method);
+    Class<?> parameterType = MethodType.methodType(method.getParameterTypes()[0]).wrap()
+        .returnType();
+    try {
+      return (BiConsumer<Object, @Nullable Object>) LambdaMetafactory.metafactory(lookup,
+          "accept", MethodType.methodType(BiConsumer.class),
+          MethodType.methodType(void.class, Object.class, Object.class), setter,
+          MethodType.methodType(void.class, type, parameterType)).getTarget().invokeExact();
+    } catch (Throwable e) {
+      MethodHandle handle = setter.asType(
+          MethodType.methodType(void.class, Object.class, Object.class));
+      return (target, value) -> {
+        try {
+          handle.invokeExact(target, value);
+        } catch (RuntimeException | Error t) {
+          throw t;
+        } catch (Throwable t) {
+          throw new IllegalStateException(t);
+        }
+      };
+    }
+  }
+
+  private record Property(int index, Class<?> type, JsonParser<?> parser,
+                          @Nullable BiConsumer<Object, @Nullable Object> setter) {}
+}
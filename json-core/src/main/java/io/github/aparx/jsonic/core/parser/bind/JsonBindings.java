@@ -0,0 +1,119 @@
+package io.github.aparx.jsonic.core.parser.bind;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNullParser;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumberParser;
+import io.github.aparx.jsonic.core.parser.tokens.JsonStringParser;
+import io.github.aparx.jsonic.core.parser.tokens.JsonValueParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Parsing routines shared by bound properties, which are used by {@link JsonBindingParser} and by
+ * the parsers generated for {@link JsonicModel} types.
+ * <p>Each routine parses the value at the current character of the traverser, leaving the
+ * traverser at its last character, as any parser does.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 16:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonBindings {
+
+  private static final String NUMBER_RANGE_ERROR = "Number %s is not a valid %s";
+  private static final String ENUM_CONSTANT_ERROR = "Constant %s is not a valid %s";
+  private static final String BINDING_ERROR = "Could not bind %s: %s";
+
+  private JsonBindings() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Parses a {@code null} literal, if the current value is one.
+   *
+   * @return true if a {@code null} literal was parsed, false if the traverser is unchanged
+   */
+  public static boolean parseNull(JsonCharSourceTraverser traverser,
+                                  JsonSyntaxReader syntaxReader) {
+    if (!JsonNullParser.DEFAULT.couldParse(traverser.current(), traverser.peek())) return false;
+    JsonNullParser.DEFAULT.parse(traverser, syntaxReader);
+    return true;
+  }
+
+  /** Returns a parser that accepts a {@code null} literal, or a value parsed by {@code parser} */
+  public static <T> JsonParser<@Nullable T> nullable(JsonParser<T> parser) {
+    return (traverser, syntaxReader) ->
+        parseNull(traverser, syntaxReader) ? null : parser.parse(traverser, syntaxReader);
+  }
+
+  /** Parses and discards any value, used for members without a bound property */
+  public static void skipValue(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    JsonValueParser.DEFAULT.parse(traverser, syntaxReader);
+  }
+
+  public static long parseLong(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    return parseIntegral(traverser, syntaxReader, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+  }
+
+  public static int parseInt(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    return (int) parseIntegral(traverser, syntaxReader, Integer.MIN_VALUE, Integer.MAX_VALUE,
+        "int");
+  }
+
+  public static short parseShort(JsonCharSourceTraverser traverser,
+                                 JsonSyntaxReader syntaxReader) {
+    return (short) parseIntegral(traverser, syntaxReader, Short.MIN_VALUE, Short.MAX_VALUE,
+        "short");
+  }
+
+  public static byte parseByte(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    return (byte) parseIntegral(traverser, syntaxReader, Byte.MIN_VALUE, Byte.MAX_VALUE, "byte");
+  }
+
+  public static double parseDouble(JsonCharSourceTraverser traverser,
+                                   JsonSyntaxReader syntaxReader) {
+    return JsonNumberParser.DEFAULT.parse(traverser, syntaxReader).doubleValue();
+  }
+
+  public static float parseFloat(JsonCharSourceTraverser traverser,
+                                 JsonSyntaxReader syntaxReader) {
+    return JsonNumberParser.DEFAULT.parse(traverser, syntaxReader).floatValue();
+  }
+
+  public static <E extends Enum<E>> E parseEnum(Class<E> type, JsonCharSourceTraverser traverser,
+                                                JsonSyntaxReader syntaxReader) {
+    String name = JsonStringParser.DEFAULT.parse(traverser, syntaxReader);
+    try {
+      return Enum.valueOf(type, name);
+    } catch (IllegalArgumentException e) {
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+          ENUM_CONSTANT_ERROR, name, type.getSimpleName());
+    }
+  }
+
+  /**
+   * Returns the error of {@code cause}, thrown by the constructor or a setter of {@code type},
+   * such as records validating their components, whose cause is {@code cause}.
+   */
+  public static JsonParseError bindingError(JsonCharSourceTraverser traverser,
+                                            JsonSyntaxReader syntaxReader, Class<?> type,
+                                            RuntimeException cause) {
+    return syntaxReader.errorFactory().create(syntaxReader, traverser, cause,
+        BINDING_ERROR, type.getSimpleName(), cause.getMessage());
+  }
+
+  private static long parseIntegral(JsonCharSourceTraverser traverser,
+                                    JsonSyntaxReader syntaxReader,
+                                    long min, long max, String typeName) {
+    Number number = JsonNumberParser.DEFAULT.parse(traverser, syntaxReader);
+    if (!(number instanceof Long) || number.longValue() < min || number.longValue() > max)
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+          NUMBER_RANGE_ERROR, number, typeName);
+    return number.longValue();
+  }
+}
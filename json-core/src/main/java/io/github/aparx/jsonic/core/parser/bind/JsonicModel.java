@@ -0,0 +1,21 @@
+package io.github.aparx.jsonic.core.parser.bind;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a record or class, for which the {@code json-processor} annotation processor generates a
+ * dedicated parser at compile time.
+ * <p>The generated parser is named after the annotated type, suffixed with {@code JsonParser}
+ * (with nested types joined by underscores), and placed into the same package. It binds JSON
+ * objects like {@link JsonBindingParser}, but dispatches keys through a switch on their
+ * characters and calls the token parsers directly, thus it needs neither reflection nor class
+ * generation at runtime. Properties of other types must be annotated as well.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 02:30
+ * @since 1.0
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface JsonicModel {}
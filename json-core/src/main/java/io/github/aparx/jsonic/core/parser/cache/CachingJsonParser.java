@@ -0,0 +1,240 @@
+package io.github.aparx.jsonic.core.parser.cache;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Parser caching the results of another parser by the content of their input, such that
+ * identical documents are only parsed once.
+ * <p>Inputs are hashed with XXH64 and compared entirely on a hit, thus hash collisions never
+ * return a wrong result. Results are made immutable once, before they are cached, and the same
+ * instance is returned on every hit. By default, maps, lists and sets are deeply wrapped into
+ * unmodifiable views, thus parsers resulting in other mutable types should supply a freezer.
+ * <p>The cache is split into up to 16 segments, each an LRU map guarded by its own lock, which
+ * evict their least recently used entries once either their share of the max entries or of the
+ * max weight is exceeded. Fewer segments are used for small limits, such that each segment holds
+ * at least one entry and the segments together never exceed the max entries. The weight of an
+ * entry is the number of bytes of the input it retains, being twice the length of the input,
+ * whereas the result is not weighed, since its size cannot be estimated in general. Results of
+ * inputs outweighing the share of a single segment are not cached at all, thus the weight of all
+ * entries never exceeds the max weight.
+ * <p>Only the {@code CharSequence} methods are cached, since traversers are consumed by parsing.
+ * Parsing a traverser through {@link #parse(JsonCharSourceTraverser, JsonSyntaxReader)} is
+ * delegated uncached.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 14:45
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class CachingJsonParser<T> implements JsonParser<T> {
+
+  private static final int MAX_SEGMENT_COUNT = 16;
+
+  private final JsonParser<T> parser;
+  private final UnaryOperator<@Nullable T> freezer;
+  private final Segment<T>[] segments;
+  /** Mask selecting a segment by hash, as the segment count is a power of two */
+  private final int segmentMask;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a cache freezing results with {@link #freeze(Object)}.
+   *
+   * @param parser     the parser whose results are cached
+   * @param maxEntries the maximum number of cached results
+   * @param maxWeight  the maximum number of bytes retained by the inputs of cached results,
+   *                   being twice the sum of their lengths
+   */
+  public CachingJsonParser(JsonParser<T> parser, int maxEntries, long maxWeight) {
+    this(parser, maxEntries, maxWeight, CachingJsonParser::freeze);
+  }
+
+  /**
+   * Creates a cache freezing results with {@code freezer}, which must return a result that can
+   * be shared by all callers, such as an immutable copy.
+   *
+   * @param parser     the parser whose results are cached
+   * @param maxEntries the maximum number of cached results
+   * @param maxWeight  the maximum number of bytes retained by the inputs of cached results,
+   *                   being twice the sum of their lengths
+   * @param freezer    the function making results immutable, before they are cached
+   */
+  @SuppressWarnings("unchecked")
+  public CachingJsonParser(JsonParser<T> parser, int maxEntries, long maxWeight,
+                           UnaryOperator<@Nullable T> freezer) {
+    Preconditions.checkNotNull(parser, "Parser must not be null");
+    Preconditions.checkNotNull(freezer, "Freezer must not be null");
+    Preconditions.checkArgument(maxEntries > 0, "Max entries must be greater than zero");
+    Preconditions.checkArgument(maxWeight > 0, "Max weight must be greater than zero");
+    this.parser = parser;
+    this.freezer = freezer;
+    // Each segment must hold at least one entry, thus small limits are split into fewer segments
+    int segmentCount = Integer.highestOneBit(
+        (int) Math.min(Math.min(MAX_SEGMENT_COUNT, maxEntries), maxWeight));
+    this.segmentMask = segmentCount - 1;
+    this.segments = (Segment<T>[]) new Segment<?>[segmentCount];
+    for (int i = 0; i < segmentCount; ++i)
+      this.segments[i] = new Segment<>(maxEntries / segmentCount, maxWeight / segmentCount);
+  }
+
+  /**
+   * Returns a deeply unmodifiable view of {@code value}, if it is a map, list or set, whose
+   * values are converted equally, otherwise {@code value} itself.
+   * <p>The results of the default parsers are thus frozen entirely, whereas other mutable
+   * results, such as arrays or beans, are returned as is and must be frozen by a freezer
+   * supplied by the caller.
+   *
+   * @param value the value to freeze
+   * @return the unmodifiable value
+   */
+  @SuppressWarnings("unchecked")
+  public static <@Nullable T> @Nullable T freeze(@Nullable T value) {
+    if (value instanceof Map<?, ?> map) {
+      Map<Object, Object> copy = new LinkedHashMap<>(map);
+      copy.replaceAll((key, element) -> freeze(element));
+      return (T) Collections.unmodifiableMap(copy);
+    }
+    if (value instanceof List<?> list) {
+      List<Object> copy = new ArrayList<>(list);
+      copy.replaceAll(CachingJsonParser::freeze);
+      return (T) Collections.unmodifiableList(copy);
+    }
+    if (value instanceof Set<?> set) {
+      Set<Object> copy = new LinkedHashSet<>();
+      for (Object element : set) copy.add(freeze(element));
+      return (T) Collections.unmodifiableSet(copy);
+    }
+    return value;
+  }
+
+  public @Nullable T parse(CharSequence input) {
+    return this.parse(input, DefaultJsonSyntaxReader.DEFAULT);
+  }
+
+  /**
+   * Returns the cached result of {@code input}, or parses and caches it on a miss.
+   *
+   * @param input        the document to parse
+   * @param syntaxReader the syntax reader used on a miss
+   * @return the shared immutable result
+   */
+  public @Nullable T parse(CharSequence input, JsonSyntaxReader syntaxReader) {
+    Preconditions.checkNotNull(input, "Input must not be null");
+    String content = input.toString();
+    long hash = ContentHash.hash(content);
+    Segment<T> segment = this.segments[(int) (hash ^ hash >>> 32) & this.segmentMask];
+    Key key = new Key(hash, content);
+    Entry<T> entry;
+    synchronized (segment) {
+      entry = segment.entries.get(key);
+    }
+    if (entry != null) {
+      this.hits.increment();
+      return entry.value;
+    }
+    this.misses.increment();
+    // Parse outside the lock, thus concurrent misses of the same input may both parse
+    @Nullable T value = this.freezer.apply(
+        JsonParser.parse(this.parser, content, syntaxReader));
+    synchronized (segment) {
+      segment.add(key, new Entry<>(value, 2L * content.length()));
+    }
+    return value;
+  }
+
+  @Override
+  public @Nullable T parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    return this.parser.parse(traverser, syntaxReader);
+  }
+
+  public long hits() {
+    return this.hits.sum();
+  }
+
+  public long misses() {
+    return this.misses.sum();
+  }
+
+  public int size() {
+    int size = 0;
+    for (Segment<T> segment : this.segments)
+      synchronized (segment) {
+        size += segment.entries.size();
+      }
+    return size;
+  }
+
+  /** Returns the estimated weight of all cached entries */
+  public long weight() {
+    long weight = 0;
+    for (Segment<T> segment : this.segments)
+      synchronized (segment) {
+        weight += segment.weight;
+      }
+    return weight;
+  }
+
+  public void invalidateAll() {
+    for (Segment<T> segment : this.segments)
+      synchronized (segment) {
+        segment.entries.clear();
+        segment.weight = 0;
+      }
+  }
+
+  private record Key(long hash, String content) {
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      return obj instanceof Key key && this.hash == key.hash && this.content.equals(key.content);
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(this.hash);
+    }
+  }
+
+  private record Entry<T>(@Nullable T value, long weight) {}
+
+  /** LRU map, whose access is synchronized on the segment */
+  private static final class Segment<T> {
+
+    final LinkedHashMap<Key, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxWeight;
+    private long weight;
+
+    Segment(int maxEntries, long maxWeight) {
+      this.maxEntries = maxEntries;
+      this.maxWeight = maxWeight;
+    }
+
+    void add(Key key, Entry<T> entry) {
+      if (entry.weight > this.maxWeight) return;
+      LinkedHashMap<Key, Entry<T>> entries = this.entries;
+      Entry<T> previous = entries.put(key, entry);
+      if (previous != null) this.weight -= previous.weight;
+      this.weight += entry.weight;
+      Iterator<Entry<T>> iterator = entries.values().iterator();
+      // Evict the least recently used entries, which never evicts the newest entry, since it fits
+      while (entries.size() > this.maxEntries || this.weight > this.maxWeight) {
+        this.weight -= iterator.next().weight;
+        iterator.remove();
+      }
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.aparx.jsonic.core.parser.cache;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * XXH64 hash function over the UTF-16LE encoding of character sequences, computed on the
+ * characters directly, without encoding them first.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 00:05
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class ContentHash {
+
+  private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME_3 = 0x165667B19E3779F9L;
+  private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+  private ContentHash() {
+    throw new AssertionError();
+  }
+
+  static long hash(CharSequence sequence) {
+    int length = sequence.length(), i = 0;
+    long hash;
+    if (length >= 16) {
+      long v1 = PRIME_1 + PRIME_2, v2 = PRIME_2, v3 = 0, v4 = -PRIME_1;
+      do {
+        v1 = round(v1, lane(sequence, i));
+        v2 = round(v2, lane(sequence, i + 4));
+        v3 = round(v3, lane(sequence, i + 8));
+        v4 = round(v4, lane(sequence, i + 12));
+        i += 16;
+      } while (i <= length - 16);
+      hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+          + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      hash = merge(hash, v1);
+      hash = merge(hash, v2);
+      hash = merge(hash, v3);
+      hash = merge(hash, v4);
+    } else {
+      hash = PRIME_5;
+    }
+    hash += (long) length << 1;
+    for (; i + 4 <= length; i += 4) {
+      hash ^= round(0, lane(sequence, i));
+      hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+    }
+    if (i + 2 <= length) {
+      long word = sequence.charAt(i) | (long) sequence.charAt(i + 1) << 16;
+      hash ^= word * PRIME_1;
+      hash = Long.rotateLeft(hash, 23) * PRIME_2 + PRIME_3;
+      i += 2;
+    }
+    if (i < length) {
+      char ch = sequence.charAt(i);
+      hash ^= (ch & 0xff) * PRIME_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME_1;
+      hash ^= (ch >>> 8) * PRIME_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME_1;
+    }
+    hash ^= hash >>> 33;
+    hash *= PRIME_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME_3;
+    return hash ^ hash >>> 32;
+  }
+
+  /** Returns four characters as little-endian 64-bit lane */
+  private static long lane(CharSequence sequence, int index) {
+    return sequence.charAt(index)
+        | (long) sequence.charAt(index + 1) << 16
+        | (long) sequence.charAt(index + 2) << 32
+        | (long) sequence.charAt(index + 3) << 48;
+  }
+
+  private static long round(long accumulator, long lane) {
+    return Long.rotateLeft(accumulator + lane * PRIME_2, 31) * PRIME_1;
+  }
+
+  private static long merge(long hash, long accumulator) {
+    return (hash ^ round(0, accumulator)) * PRIME_1 + PRIME_4;
+  }
+}
@@ -0,0 +1,244 @@
+package io.github.aparx.jsonic.core.parser.column;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+
+/**
+ * Column of a {@link JsonColumnBatch}, holding the values of one key of all rows.
+ * <p>The values are stored in a primitive array depending on the {@link Type} of the column,
+ * while strings are dictionary-encoded, thus stored as codes into a dictionary of the distinct
+ * strings. Null values, including the values of rows missing the key, are marked in a bitmap and
+ * stored as zero, false or code {@code -1}.
+ * <p>The arrays returned by the accessors are the storage of the column itself, such that they
+ * can be aggregated without copying, and must not be modified.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 04:20
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonColumn {
+
+  /** Type of the values of a column, determined by its first non-null value */
+  public enum Type {
+    /** Column of only null values */
+    NULL,
+    LONG,
+    /** Column of numbers, of which at least one is not integral */
+    DOUBLE,
+    BOOLEAN,
+    STRING
+  }
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final String name;
+  private Type type = Type.NULL;
+  private int size;
+
+  private long @Nullable [] longs;
+  private double @Nullable [] doubles;
+  private boolean @Nullable [] booleans;
+  private int @Nullable [] codes;
+  private final List<String> dictionary = new ArrayList<>();
+  private @Nullable Map<String, Integer> dictionaryCodes;
+  private final BitSet nulls = new BitSet();
+
+  /** Last appended string, allowing repeated strings to be appended without a lookup */
+  private @Nullable String lastString;
+  private int lastCode = -1;
+
+  JsonColumn(String name) {
+    this.name = name;
+  }
+
+  public String name() {
+    return this.name;
+  }
+
+  public Type type() {
+    return this.type;
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public boolean isNull(int row) {
+    Preconditions.checkElementIndex(row, this.size);
+    return this.nulls.get(row);
+  }
+
+  /** Returns the bitmap of rows whose value is null, which must not be modified */
+  public BitSet nulls() {
+    return this.nulls;
+  }
+
+  /** Returns the values of this {@link Type#LONG} column, which must not be modified */
+  public long[] longs() {
+    return this.storage(Type.LONG, this.longs);
+  }
+
+  /** Returns the values of this {@link Type#DOUBLE} column, which must not be modified */
+  public double[] doubles() {
+    return this.storage(Type.DOUBLE, this.doubles);
+  }
+
+  /** Returns the values of this {@link Type#BOOLEAN} column, which must not be modified */
+  public boolean[] booleans() {
+    return this.storage(Type.BOOLEAN, this.booleans);
+  }
+
+  /**
+   * Returns the codes of this {@link Type#STRING} column, which are the indices of the values
+   * in the {@link #dictionary()}, and must not be modified.
+   */
+  public int[] codes() {
+    return this.storage(Type.STRING, this.codes);
+  }
+
+  /** Returns the distinct strings of this column, in the order they first occurred */
+  public List<String> dictionary() {
+    return Collections.unmodifiableList(this.dictionary);
+  }
+
+  /** Returns the value of {@code row}, boxed, or null */
+  public @Nullable Object get(int row) {
+    if (this.isNull(row)) return null;
+    return switch (this.type) {
+      case LONG -> Objects.requireNonNull(this.longs)[row];
+      case DOUBLE -> Objects.requireNonNull(this.doubles)[row];
+      case BOOLEAN -> Objects.requireNonNull(this.booleans)[row];
+      case STRING -> this.dictionary.get(Objects.requireNonNull(this.codes)[row]);
+      case NULL -> null;
+    };
+  }
+
+  /**
+   * Appends null values up to {@code size} rows.
+   *
+   * @param size the size of the column afterward
+   */
+  void fill(int size) {
+    if (size <= this.size) return;
+    this.ensureCapacity(size);
+    if (this.codes != null) Arrays.fill(this.codes, this.size, size, -1);
+    this.nulls.set(this.size, size);
+    this.size = size;
+  }
+
+  /** Appends {@code value}, returning false if the column holds values of another type */
+  boolean appendNumber(Number value) {
+    if (value instanceof Long && this.type != Type.DOUBLE) {
+      if (!this.accept(Type.LONG)) return false;
+      this.ensureCapacity(this.size + 1);
+      Objects.requireNonNull(this.longs)[this.size++] = value.longValue();
+      return true;
+    }
+    if (this.type == Type.LONG) {
+      // Promote the integral values, since not all values of the column are integral
+      long[] longs = Objects.requireNonNull(this.longs);
+      double[] doubles = new double[longs.length];
+      for (int i = 0; i < this.size; ++i)
+        doubles[i] = longs[i];
+      this.doubles = doubles;
+      this.longs = null;
+      this.type = Type.DOUBLE;
+    }
+    if (!this.accept(Type.DOUBLE)) return false;
+    this.ensureCapacity(this.size + 1);
+    Objects.requireNonNull(this.doubles)[this.size++] = value.doubleValue();
+    return true;
+  }
+
+  /** Appends {@code value}, returning false if the column holds values of another type */
+  boolean appendBoolean(boolean value) {
+    if (!this.accept(Type.BOOLEAN)) return false;
+    this.ensureCapacity(this.size + 1);
+    Objects.requireNonNull(this.booleans)[this.size++] = value;
+    return true;
+  }
+
+  /** Appends {@code value}, returning false if the column holds values of another type */
+  boolean appendString(String value) {
+    if (!this.accept(Type.STRING)) return false;
+    if (value != this.lastString) {
+      Map<String, Integer> dictionaryCodes = Objects.requireNonNull(this.dictionaryCodes);
+      @Nullable Integer code = dictionaryCodes.get(value);
+      if (code == null) {
+        code = this.dictionary.size();
+        this.dictionary.add(value);
+        dictionaryCodes.put(value, code);
+      }
+      this.lastString = value;
+      this.lastCode = code;
+    }
+    this.ensureCapacity(this.size + 1);
+    Objects.requireNonNull(this.codes)[this.size++] = this.lastCode;
+    return true;
+  }
+
+  /** Returns the last appended string, which the next string is likely to equal */
+  @Nullable String lastString() {
+    return this.lastString;
+  }
+
+  /** Trims the storage to the size of this column and releases the dictionary lookup */
+  void trim() {
+    if (this.longs != null) this.longs = Arrays.copyOf(this.longs, this.size);
+    if (this.doubles != null) this.doubles = Arrays.copyOf(this.doubles, this.size);
+    if (this.booleans != null) this.booleans = Arrays.copyOf(this.booleans, this.size);
+    if (this.codes != null) this.codes = Arrays.copyOf(this.codes, this.size);
+    this.dictionaryCodes = null;
+    this.lastString = null;
+  }
+
+  private boolean accept(Type type) {
+    if (this.type == type) return true;
+    if (this.type != Type.NULL) return false;
+    // The preceding null values are stored as zero, false or code -1 in the new storage
+    int capacity = Math.max(INITIAL_CAPACITY, this.size);
+    switch (type) {
+      case LONG -> this.longs = new long[capacity];
+      case DOUBLE -> this.doubles = new double[capacity];
+      case BOOLEAN -> this.booleans = new boolean[capacity];
+      case STRING -> {
+        this.codes = new int[capacity];
+        Arrays.fill(this.codes, 0, this.size, -1);
+        this.dictionaryCodes = new HashMap<>();
+      }
+      default -> throw new IllegalArgumentException();
+    }
+    this.type = type;
+    return true;
+  }
+
+  private void ensureCapacity(int size) {
+    if (this.longs != null && this.longs.length < size)
+      this.longs = Arrays.copyOf(this.longs, grow(this.longs.length, size));
+    else if (this.doubles != null && this.doubles.length < size)
+      this.doubles = Arrays.copyOf(this.doubles, grow(this.doubles.length, size));
+    else if (this.booleans != null && this.booleans.length < size)
+      this.booleans = Arrays.copyOf(this.booleans, grow(this.booleans.length, size));
+    else if (this.codes != null && this.codes.length < size)
+      this.codes = Arrays.copyOf(this.codes, grow(this.codes.length, size));
+  }
+
+  private static int grow(int capacity, int size) {
+    return Math.max(capacity + (capacity >> 1), size);
+  }
+
+  private <A> A storage(Type type, @Nullable A storage) {
+    Preconditions.checkState(this.type == type, "Column %s is of type %s", this.name, this.type);
+    return Objects.requireNonNull(storage);
+  }
+
+  @Override
+  public String toString() {
+    return "JsonColumn{name=" + this.name + ", type=" + this.type + ", size=" + this.size + '}';
+  }
+}
@@ -0,0 +1,62 @@
+package io.github.aparx.jsonic.core.parser.column;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+
+/**
+ * Array of flat JSON objects stored column by column, as parsed by {@link JsonColumnarParser}.
+ * <p>Each key occurring in any object of the array is a column, in the order the keys first
+ * occurred, and each object is a row, in which keys the object is missing are null.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 04:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonColumnBatch {
+
+  private final int rowCount;
+  private final List<JsonColumn> columns;
+  private final Map<String, JsonColumn> columnsByName;
+
+  JsonColumnBatch(int rowCount, List<JsonColumn> columns) {
+    this.rowCount = rowCount;
+    this.columns = Collections.unmodifiableList(columns);
+    this.columnsByName = new HashMap<>();
+    for (JsonColumn column : columns)
+      this.columnsByName.put(column.name(), column);
+  }
+
+  public int rowCount() {
+    return this.rowCount;
+  }
+
+  public List<JsonColumn> columns() {
+    return this.columns;
+  }
+
+  /** Returns the column of {@code name}, or null if no row has that key */
+  public @Nullable JsonColumn column(String name) {
+    return this.columnsByName.get(name);
+  }
+
+  /** Returns the object of {@code row} as map, containing the non-null values of the row */
+  public Map<String, Object> row(int row) {
+    Preconditions.checkElementIndex(row, this.rowCount);
+    Map<String, Object> map = new LinkedHashMap<>();
+    for (JsonColumn column : this.columns) {
+      @Nullable Object value = column.get(row);
+      if (value != null) map.put(column.name(), value);
+    }
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return "JsonColumnBatch{rowCount=" + this.rowCount + ", columns=" + this.columns + '}';
+  }
+}
@@ -0,0 +1,168 @@
+package io.github.aparx.jsonic.core.parser.column;
+
+import io.github.aparx.jsonic.core.JsonSymbol;
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.tokens.*;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+
+/**
+ * Parser of arrays of flat objects into a {@link JsonColumnBatch}, storing the values of each key
+ * in a column rather than each object in a map.
+ * <p>Arrays and objects follow the grammar of {@link JsonArrayParser} and
+ * {@link JsonObjectParser}, while values must be strings, numbers, booleans or null, and all
+ * non-null values of a key must be of the same type, except for integral numbers, which are
+ * promoted if any number of their column is not integral.
+ * <p>Like {@link JsonAdaptiveObjectParser}, each key is speculated to equal the key at the same
+ * position of the previous row, and each string value to equal the previous string of its
+ * column, such that regular arrays are parsed mostly without building strings or looking them
+ * up.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 04:40
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonColumnarParser implements ComposableJsonParser<JsonColumnBatch> {
+
+  public static final JsonColumnarParser DEFAULT = new JsonColumnarParser();
+
+  private static final String ROW_ERROR = "Rows must be objects";
+  private static final String NESTED_VALUE_ERROR = "Value of column %s must not be nested";
+  private static final String TYPE_ERROR = "Column %s of %s values cannot hold %s values";
+  private static final String DUPLICATE_KEY_ERROR = "Key %s is a duplicate";
+
+  @Override
+  public JsonColumnBatch parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    List<JsonColumn> columns = new ArrayList<>();
+    Map<String, JsonColumn> columnsByName = new HashMap<>();
+    // Columns of the previous row in the order of its keys
+    JsonColumn[] shape = new JsonColumn[0];
+    JsonParseListener listener = syntaxReader.listener();
+    syntaxReader.expectSymbol(traverser, JsonSymbol.SQUARE_OPEN);
+    listener.onArrayStart();
+    int rows = 0;
+    while (true) {
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      if (JsonSymbol.SQUARE_CLOSE.matches(traverser.current()))
+        break;
+      if (rows != 0) {
+        syntaxReader.expectSymbol(traverser, JsonSymbol.COMMA);
+        syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      }
+      if (!JsonSymbol.CURLY_OPEN.matches(traverser.current()))
+        throw syntaxReader.errorFactory().create(syntaxReader, traverser, ROW_ERROR);
+      shape = this.parseRow(traverser, syntaxReader, rows, shape, columns, columnsByName);
+      for (JsonColumn column : columns)
+        column.fill(rows + 1);
+      ++rows;
+    }
+    syntaxReader.expectSymbol(traverser, JsonSymbol.SQUARE_CLOSE);
+    listener.onArrayEnd(rows);
+    for (JsonColumn column : columns)
+      column.trim();
+    return new JsonColumnBatch(rows, columns);
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return currentChar == JsonSymbol.SQUARE_OPEN.literal();
+  }
+
+  /** Parses the object of {@code row} into the columns and returns the columns of its keys */
+  private JsonColumn[] parseRow(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                                int row, JsonColumn[] shape, List<JsonColumn> columns,
+                                Map<String, JsonColumn> columnsByName) {
+    JsonParseListener listener = syntaxReader.listener();
+    syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_OPEN);
+    listener.onObjectStart();
+    JsonColumn @Nullable [] observed = null;
+    int members = 0;
+    while (traverser.hasNext()) {
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      if (JsonSymbol.CURLY_CLOSE.matches(traverser.current())) break;
+      if (members != 0) {
+        syntaxReader.expectSymbol(traverser, JsonSymbol.COMMA);
+        syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      }
+      @Nullable JsonColumn expected = members < shape.length ? shape[members] : null;
+      String key = JsonStringParser.DEFAULT.parse(
+          traverser, syntaxReader, expected != null ? expected.name() : null);
+      listener.onKey();
+      JsonColumn column;
+      if (expected != null && key == expected.name()) {
+        column = expected;
+      } else {
+        @Nullable JsonColumn known = columnsByName.get(key);
+        if (known == null) {
+          known = new JsonColumn(key);
+          columnsByName.put(key, known);
+          columns.add(known);
+        }
+        column = known;
+        if (observed == null)
+          observed = Arrays.copyOf(shape, Math.max(shape.length, members + 8));
+      }
+      if (observed != null) {
+        if (members == observed.length)
+          observed = Arrays.copyOf(observed, members << 1);
+        observed[members] = column;
+      }
+      ++members;
+      if (column.size() > row)
+        throw syntaxReader.errorFactory().create(
+            syntaxReader, traverser, DUPLICATE_KEY_ERROR, key);
+      column.fill(row);
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      syntaxReader.expectSymbol(traverser, JsonSymbol.COLON);
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      this.parseValue(traverser, syntaxReader, column);
+    }
+    syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_CLOSE);
+    listener.onObjectEnd(members);
+    if (observed != null || members != shape.length)
+      return Arrays.copyOf(observed != null ? observed : shape, members);
+    return shape;
+  }
+
+  private void parseValue(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                          JsonColumn column) {
+    char current = traverser.current();
+    int next = traverser.peek();
+    boolean appended;
+    JsonColumn.Type type;
+    if (JsonNullParser.DEFAULT.couldParse(current, next)) {
+      JsonNullParser.DEFAULT.parse(traverser, syntaxReader);
+      column.fill(column.size() + 1);
+      return;
+    }
+    if (JsonStringParser.DEFAULT.couldParse(current, next)) {
+      type = JsonColumn.Type.STRING;
+      appended = column.appendString(
+          JsonStringParser.DEFAULT.parse(traverser, syntaxReader, column.lastString()));
+    } else if (JsonBooleanParser.DEFAULT.couldParse(current, next)) {
+      type = JsonColumn.Type.BOOLEAN;
+      appended = column.appendBoolean(JsonBooleanParser.DEFAULT.parse(traverser, syntaxReader));
+    } else if (JsonSymbol.CURLY_OPEN.matches(current) || JsonSymbol.SQUARE_OPEN.matches(current)) {
+      throw syntaxReader.errorFactory().create(
+          syntaxReader, traverser, NESTED_VALUE_ERROR, column.name());
+    } else {
+      Number number = JsonNumberParser.DEFAULT.parse(traverser, syntaxReader);
+      type = number instanceof Long ? JsonColumn.Type.LONG : JsonColumn.Type.DOUBLE;
+      appended = column.appendNumber(number);
+    }
+    if (!appended)
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser, TYPE_ERROR,
+          column.name(), typeName(column.type()), typeName(type));
+  }
+
+  private static String typeName(JsonColumn.Type type) {
+    return type.name().toLowerCase(Locale.ROOT);
+  }
+}
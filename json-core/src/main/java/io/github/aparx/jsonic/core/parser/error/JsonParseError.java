@@ -1,6 +1,8 @@
 package io.github.aparx.jsonic.core.parser.error;
 
 import io.github.aparx.jsonic.core.context.JsonProcessContext;
+import io.github.aparx.jsonic.core.context.JsonProcessHistoryContext;
+import io.github.aparx.jsonic.core.error.JsonicErrorMessageFactory;
 import io.github.aparx.jsonic.core.error.JsonicProcessError;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -8,12 +10,24 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 
 /**
  * @author aparx (Vinzent Z.)
- * @version 2024-11-18 01:25
+ * @version 2026-10-20 16:00
  * @since 1.0
  */
 @DefaultQualifier(NonNull.class)
 public class JsonParseError extends JsonicProcessError {
 
+  /** The details of the message, or null if the error was not created with a context */
+  private @Nullable String details;
+
+  /** The format of a lazily created message, or null if the message was given eagerly */
+  private @Nullable String lazyFormat;
+  private @Nullable Object @Nullable [] lazyArguments;
+  /** The state of the context captured when the lazily created error occurred */
+  private int lazyLineIndex, lazyPositionInLine;
+  private @Nullable String lazyBacktrace;
+
+  private @Nullable String lazyMessage;
+
   public JsonParseError() {}
 
   public JsonParseError(@Nullable String message) {
@@ -22,6 +36,7 @@ public class JsonParseError extends JsonicProcessError {
 
   public JsonParseError(@Nullable String message, JsonProcessContext context) {
     super(message, context);
+    this.details = message;
   }
 
   public JsonParseError(@Nullable String message, @Nullable Throwable cause) {
@@ -38,4 +53,69 @@ public class JsonParseError extends JsonicProcessError {
     super(message, cause, enableSuppression, writableStackTrace);
   }
 
+  /**
+   * Creates an error, whose message is only formatted once it is requested for the first time.
+   * <p>The message is created using {@code JsonicErrorMessageFactory} with the state
+   * {@code context} has when this error is created, which is captured cheaply, thus the context
+   * may be processed any further. Arguments, that are character sequences other than strings,
+   * are copied, since they are commonly reused buffers.
+   *
+   * @param context            the context the error occurred in
+   * @param format             the format of the details, as used by {@code String.format}
+   * @param arguments          the arguments of {@code format}, or null if it has no arguments
+   * @param writableStackTrace false if no stack trace should be filled in, making the
+   *                           construction significantly cheaper
+   * @see JsonicErrorMessageFactory#create(JsonProcessContext, String)
+   */
+  public JsonParseError(JsonProcessContext context, String format,
+                        @Nullable Object @Nullable [] arguments,
+                        boolean writableStackTrace) {
+    this(context, format, arguments, null, writableStackTrace);
+  }
+
+  /**
+   * Creates an error like {@link #JsonParseError(JsonProcessContext, String, Object[], boolean)},
+   * which is caused by {@code cause}. The cause is fixed once constructed, since errors without a
+   * writable stack trace cannot initialize it later.
+   */
+  public JsonParseError(JsonProcessContext context, String format,
+                        @Nullable Object @Nullable [] arguments, @Nullable Throwable cause,
+                        boolean writableStackTrace) {
+    super(null, cause, false, writableStackTrace);
+    if (arguments != null)
+      for (int i = 0; i < arguments.length; ++i)
+        if (arguments[i] instanceof CharSequence sequence && !(sequence instanceof String))
+          arguments[i] = sequence.toString();
+    this.lazyFormat = format;
+    this.lazyArguments = arguments;
+    this.lazyLineIndex = context.getLineIndex();
+    this.lazyPositionInLine = context.getPositionInLine();
+    if (context instanceof JsonProcessHistoryContext history)
+      this.lazyBacktrace = JsonicErrorMessageFactory.createInlineBacktrace(history);
+  }
+
+  /**
+   * Returns the details of this error, being the message without the position and backtrace of
+   * the context the error occurred in.
+   *
+   * @return the details, or null if this error was not created with a context
+   */
+  public @Nullable String getDetails() {
+    if (this.details == null && this.lazyFormat != null)
+      this.details = this.lazyArguments == null || this.lazyArguments.length == 0
+          ? this.lazyFormat
+          : String.format(this.lazyFormat, this.lazyArguments);
+    return this.details;
+  }
+
+  @Override
+  public @Nullable String getMessage() {
+    if (this.lazyFormat == null)
+      return super.getMessage();
+    if (this.lazyMessage == null)
+      this.lazyMessage = JsonicErrorMessageFactory.create(this.lazyLineIndex,
+          this.lazyPositionInLine, this.lazyBacktrace, this.getDetails());
+    return this.lazyMessage;
+  }
+
 }
@@ -4,11 +4,12 @@ import io.github.aparx.jsonic.core.error.JsonicErrorMessageFactory;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
 import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 
 /**
  * @author aparx (Vinzent Z.)
- * @version 2024-11-15 15:30
+ * @version 2026-10-20 16:00
  * @since 1.0
  */
 @FunctionalInterface
@@ -28,8 +29,82 @@ public interface ParseErrorFactory {
     return new JsonParseError(msg, traverser.context());
   };
 
+  /**
+   * Error factory allocating a {@code JsonParseError} without a stack trace, whose message is
+   * only formatted when it is requested. This factory is meant for callers, that mostly only
+   * need to know whether parsing failed, such as when parsing untrusted input at high rates.
+   *
+   * @see JsonParseError#JsonParseError(io.github.aparx.jsonic.core.context.JsonProcessContext,
+   * String, Object[], boolean)
+   */
+  ParseErrorFactory STACKLESS = new ParseErrorFactory() {
+    @Override
+    public JsonParseError create(JsonSyntaxReader syntaxReader,
+                                 JsonCharSourceTraverser traverser,
+                                 String message) {
+      return new JsonParseError(traverser.context(), message, null, false);
+    }
+
+    @Override
+    public JsonParseError create(JsonSyntaxReader syntaxReader,
+                                 JsonCharSourceTraverser traverser,
+                                 String format, @Nullable Object... arguments) {
+      return new JsonParseError(traverser.context(), format, arguments, false);
+    }
+
+    @Override
+    public JsonParseError create(JsonSyntaxReader syntaxReader,
+                                 JsonCharSourceTraverser traverser, Throwable cause,
+                                 String format, @Nullable Object... arguments) {
+      return new JsonParseError(traverser.context(), format, arguments, cause, false);
+    }
+  };
+
   JsonParseError create(JsonSyntaxReader syntaxReader,
                         JsonCharSourceTraverser traverser,
                         String message);
 
+  /**
+   * Creates an error, whose message details are {@code format} formatted with
+   * {@code arguments}.
+   * <p>Callers should prefer this method over formatting the message themselves, since
+   * factories may defer the formatting until the message is actually requested.
+   *
+   * @param syntaxReader the syntax reader, in which the error occurred
+   * @param traverser    the traverser, in which the error occurred
+   * @param format       the format of the message, as used by {@code String.format}
+   * @param arguments    the arguments referenced by {@code format}
+   * @return the created error
+   * @implSpec The default implementation formats the message eagerly and delegates to
+   * {@link #create(JsonSyntaxReader, JsonCharSourceTraverser, String)}.
+   */
+  default JsonParseError create(JsonSyntaxReader syntaxReader,
+                                JsonCharSourceTraverser traverser,
+                                String format, @Nullable Object... arguments) {
+    return this.create(syntaxReader, traverser, String.format(format, arguments));
+  }
+
+  /**
+   * Creates an error like
+   * {@link #create(JsonSyntaxReader, JsonCharSourceTraverser, String, Object...)}, which is
+   * caused by {@code cause}, such as an exception thrown by user code while parsing.
+   *
+   * @param syntaxReader the syntax reader, in which the error occurred
+   * @param traverser    the traverser, in which the error occurred
+   * @param cause        the cause of the error
+   * @param format       the format of the message, as used by {@code String.format}
+   * @param arguments    the arguments referenced by {@code format}
+   * @return the created error
+   * @implSpec The default implementation initializes the cause of the error created by
+   * {@link #create(JsonSyntaxReader, JsonCharSourceTraverser, String, Object...)} through
+   * {@link Throwable#initCause(Throwable)}, thus that error must not have a cause yet.
+   */
+  default JsonParseError create(JsonSyntaxReader syntaxReader,
+                                JsonCharSourceTraverser traverser, Throwable cause,
+                                String format, @Nullable Object... arguments) {
+    JsonParseError error = this.create(syntaxReader, traverser, format, arguments);
+    error.initCause(cause);
+    return error;
+  }
+
 }
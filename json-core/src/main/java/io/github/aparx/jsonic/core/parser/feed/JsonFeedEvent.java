@@ -0,0 +1,31 @@
+package io.github.aparx.jsonic.core.parser.feed;
+
+/**
+ * Event reported by a {@code JsonFeedParser}.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 16:52
+ * @see JsonFeedParser#nextEvent()
+ * @since 1.0
+ */
+public enum JsonFeedEvent {
+
+  START_OBJECT,
+  END_OBJECT,
+  START_ARRAY,
+  END_ARRAY,
+  /** A key of an object, accessible through {@code JsonFeedParser#stringValue()} */
+  KEY,
+  /** A string value, accessible through {@code JsonFeedParser#stringValue()} */
+  STRING,
+  /** A number value, accessible through {@code JsonFeedParser#numberValue()} */
+  NUMBER,
+  TRUE,
+  FALSE,
+  NULL,
+  /** All fed input has been consumed, and more input is required to continue */
+  NEED_MORE_INPUT,
+  /** The end of input was signalled and every top-level value has been completed */
+  END_OF_INPUT
+
+}
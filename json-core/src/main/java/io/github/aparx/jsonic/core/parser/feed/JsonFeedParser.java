@@ -0,0 +1,438 @@
+package io.github.aparx.jsonic.core.parser.feed;
+
+import io.github.aparx.jsonic.core.context.JsonProcessContext;
+import io.github.aparx.jsonic.core.context.JsonProcessSimpleContext;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.syntax.JsonGrammar;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumberParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Non-blocking, resumable JSON tokenizer, that is fed with chunks of UTF-8 encoded bytes as they
+ * arrive, instead of pulling characters from a blocking {@code JsonCharSource}.
+ * <p>The nesting stack, the grammar state and any partially read token are kept between calls,
+ * thus a chunk may end anywhere, even within a multibyte character or an escape sequence. Once
+ * all fed input has been consumed, {@link #nextEvent()} returns
+ * {@link JsonFeedEvent#NEED_MORE_INPUT}, allowing the caller to return to its event loop.
+ * <p>Multiple top-level values may follow each other, separated by whitespace, which makes this
+ * parser suitable for newline delimited JSON streams as well. Top-level values, that are not
+ * separated by whitespace, such as {@code 12true} or <code>{}{}</code>, are rejected.
+ * <p>Example usage:
+ * <pre><code>
+ *   void onRead(ByteBuffer chunk) {
+ *     parser.feed(chunk);
+ *     for (JsonFeedEvent event; (event = parser.nextEvent()) != NEED_MORE_INPUT; )
+ *       handle(event);
+ *   }
+ * </code></pre>
+ * <p>Instances are not thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 12:30
+ * @see JsonFeedValueReader
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonFeedParser {
+
+  public static final int DEFAULT_MAX_DEPTH = 512;
+
+  private static final String UNEXPECTED_TOKEN_ERROR = "Unexpected token: %s";
+  private static final String UNEXPECTED_END_ERROR = "Unexpected end of input";
+  private static final String INVALID_ESCAPE_ERROR = "Invalid escape sequence: %s";
+  private static final String CONTROL_CHARACTER_ERROR = "Unescaped control character in string";
+  private static final String MALFORMED_NUMBER_ERROR = "Malformed number: %s";
+  private static final String MALFORMED_INPUT_ERROR = "Malformed UTF-8 input";
+  private static final String DEPTH_EXCEEDED_ERROR = "Max depth of %s exceeded";
+
+  private static final ByteBuffer NO_BYTES = ByteBuffer.allocate(0);
+
+  // Grammar states, describing what is expected next outside of tokens
+  private static final int EXPECT_VALUE = 0;
+  private static final int EXPECT_FIRST_ELEMENT = 1;
+  private static final int EXPECT_FIRST_KEY = 2;
+  private static final int EXPECT_KEY = 3;
+  private static final int EXPECT_COLON = 4;
+  private static final int EXPECT_SEPARATOR = 5;
+  /** Expects whitespace separating a completed top-level value from the next one */
+  private static final int EXPECT_ROOT_SEPARATOR = 6;
+
+  // Token states, describing which token is currently (partially) read
+  private static final int TOKEN_NONE = 0;
+  private static final int TOKEN_STRING = 1;
+  private static final int TOKEN_NUMBER = 2;
+  private static final int TOKEN_LITERAL = 3;
+
+  private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+  private final JsonProcessContext context = new JsonProcessSimpleContext();
+  private final StringBuilder token = new StringBuilder();
+  private final int maxDepth;
+
+  /** Whether the container at a depth is an object (true) or an array (false) */
+  private boolean[] objects = new boolean[16];
+  private int depth;
+
+  /** Trailing bytes of an incomplete multibyte sequence, decoded once the next chunk arrives */
+  private ByteBuffer undecoded = NO_BYTES;
+  private char[] chars = new char[256];
+  private int position, limit;
+  private boolean ended;
+
+  private int state = EXPECT_VALUE;
+  private int tokenState = TOKEN_NONE;
+  private boolean tokenIsKey;
+
+  /** Zero if not escaping, one after a backslash, and two to five while reading hex digits */
+  private int escape;
+  private int unicode;
+
+  private String literal = "";
+  private int literalIndex;
+  private JsonFeedEvent literalEvent = JsonFeedEvent.NULL;
+
+  private @Nullable JsonFeedEvent event;
+  private @Nullable String stringValue;
+
+  private @Nullable StringBuilder capture;
+
+  public JsonFeedParser() {
+    this(DEFAULT_MAX_DEPTH);
+  }
+
+  public JsonFeedParser(int maxDepth) {
+    Preconditions.checkArgument(maxDepth >= 1, "Max depth must be greater than zero");
+    this.maxDepth = maxDepth;
+  }
+
+  /**
+   * Feeds the remaining bytes of {@code chunk} into this parser. The chunk is consumed entirely
+   * and may be reused by the caller after invocation.
+   *
+   * @param chunk the next UTF-8 encoded bytes of the input
+   * @throws JsonParseError        if the bytes are not valid UTF-8
+   * @throws IllegalStateException if {@link #endOfInput()} has already been called
+   */
+  public void feed(ByteBuffer chunk) {
+    Preconditions.checkNotNull(chunk, "Chunk must not be null");
+    Preconditions.checkState(!this.ended, "Input has already ended");
+    // Drop the consumed characters, since tokens keep their own copy
+    int remaining = this.limit - this.position;
+    if (this.position != 0) {
+      System.arraycopy(this.chars, this.position, this.chars, 0, remaining);
+      this.position = 0;
+      this.limit = remaining;
+    }
+    ByteBuffer input = chunk;
+    if (this.undecoded.hasRemaining()) {
+      input = ByteBuffer.allocate(this.undecoded.remaining() + chunk.remaining());
+      input.put(this.undecoded).put(chunk).flip();
+    }
+    // UTF-8 never decodes into more characters than it has bytes
+    int required = this.limit + input.remaining();
+    if (required > this.chars.length)
+      this.chars = Arrays.copyOf(this.chars, Math.max(required, this.chars.length << 1));
+    CharBuffer out = CharBuffer.wrap(this.chars, this.limit, this.chars.length - this.limit);
+    CoderResult result = this.decoder.decode(input, out, false);
+    if (result.isError())
+      throw this.error(MALFORMED_INPUT_ERROR);
+    this.limit = out.position();
+    this.undecoded = NO_BYTES;
+    if (input.hasRemaining())
+      this.undecoded = ByteBuffer.allocate(input.remaining()).put(input).flip();
+  }
+
+  /**
+   * Signals that no more input follows, allowing the last pending token to complete.
+   *
+   * @throws JsonParseError if the input ends within a multibyte character
+   */
+  public void endOfInput() {
+    this.ended = true;
+    if (this.undecoded.hasRemaining())
+      throw this.error(MALFORMED_INPUT_ERROR);
+  }
+
+  /**
+   * Reads the fed input until the next event is complete.
+   *
+   * @return the next event, or {@link JsonFeedEvent#NEED_MORE_INPUT} if all fed input has been
+   * consumed, or {@link JsonFeedEvent#END_OF_INPUT} once the input ended and all values completed
+   * @throws JsonParseError if the input is malformed
+   */
+  public JsonFeedEvent nextEvent() {
+    this.stringValue = null;
+    return (this.event = this.readEvent());
+  }
+
+  /**
+   * Returns the key or string of the last {@link JsonFeedEvent#KEY} or
+   * {@link JsonFeedEvent#STRING} event.
+   *
+   * @return the unescaped key or string
+   */
+  public String stringValue() {
+    Preconditions.checkState(this.event == JsonFeedEvent.KEY
+        || this.event == JsonFeedEvent.STRING, "Last event is not a string");
+    if (this.stringValue == null)
+      this.stringValue = this.token.toString();
+    return this.stringValue;
+  }
+
+  /**
+   * Returns the number of the last {@link JsonFeedEvent#NUMBER} event.
+   *
+   * @return the number, as converted by {@link JsonNumberParser#valueOf(String)}
+   */
+  public Number numberValue() {
+    Preconditions.checkState(this.event == JsonFeedEvent.NUMBER, "Last event is not a number");
+    return JsonNumberParser.valueOf(this.token.toString());
+  }
+
+  /**
+   * Returns the current nesting depth, which is zero outside any object or array.
+   *
+   * @return the current depth
+   */
+  public int depth() {
+    return this.depth;
+  }
+
+  /**
+   * Sets the builder, to which every consumed character is appended, including whitespace and
+   * separators, allowing callers to extract the raw text of values as they are read.
+   *
+   * @param capture the builder to append to, or null to stop capturing
+   */
+  public void capture(@Nullable StringBuilder capture) {
+    this.capture = capture;
+  }
+
+  private JsonFeedEvent readEvent() {
+    if (this.tokenState != TOKEN_NONE)
+      return this.continueToken();
+    char[] chars = this.chars;
+    while (this.position < this.limit) {
+      char ch = chars[this.position];
+      if (JsonGrammar.isWhitespace(ch)) {
+        this.consume(ch);
+        if (this.state == EXPECT_ROOT_SEPARATOR) this.state = EXPECT_VALUE;
+        continue;
+      }
+      switch (this.state) {
+        case EXPECT_ROOT_SEPARATOR -> throw this.unexpected(ch);
+        case EXPECT_COLON -> {
+          if (ch != ':') throw this.unexpected(ch);
+          this.consume(ch);
+          this.state = EXPECT_VALUE;
+        }
+        case EXPECT_SEPARATOR -> {
+          boolean isObject = this.objects[this.depth - 1];
+          if (ch == ',') {
+            this.consume(ch);
+            this.state = isObject ? EXPECT_KEY : EXPECT_VALUE;
+          } else if (ch == (isObject ? '}' : ']')) {
+            this.consume(ch);
+            return this.endContainer(isObject);
+          } else {
+            throw this.unexpected(ch);
+          }
+        }
+        case EXPECT_FIRST_KEY, EXPECT_KEY -> {
+          if (ch == '}' && this.state == EXPECT_FIRST_KEY) {
+            this.consume(ch);
+            return this.endContainer(true);
+          }
+          if (ch != '"') throw this.unexpected(ch);
+          this.consume(ch);
+          return this.startString(true);
+        }
+        case EXPECT_FIRST_ELEMENT -> {
+          if (ch != ']') return this.startValue(ch);
+          this.consume(ch);
+          return this.endContainer(false);
+        }
+        default -> {
+          return this.startValue(ch);
+        }
+      }
+    }
+    if (!this.ended)
+      return JsonFeedEvent.NEED_MORE_INPUT;
+    if (this.depth != 0 || (this.state != EXPECT_VALUE && this.state != EXPECT_ROOT_SEPARATOR))
+      throw this.error(UNEXPECTED_END_ERROR);
+    return JsonFeedEvent.END_OF_INPUT;
+  }
+
+  private JsonFeedEvent startValue(char ch) {
+    switch (ch) {
+      case '{', '[' -> {
+        boolean isObject = ch == '{';
+        if (this.depth == this.maxDepth)
+          throw this.error(DEPTH_EXCEEDED_ERROR, this.maxDepth);
+        if (this.depth == this.objects.length)
+          this.objects = Arrays.copyOf(this.objects, this.depth << 1);
+        this.objects[this.depth++] = isObject;
+        this.consume(ch);
+        this.state = isObject ? EXPECT_FIRST_KEY : EXPECT_FIRST_ELEMENT;
+        return isObject ? JsonFeedEvent.START_OBJECT : JsonFeedEvent.START_ARRAY;
+      }
+      case '"' -> {
+        this.consume(ch);
+        return this.startString(false);
+      }
+      case 't' -> {
+        return this.startLiteral("true", JsonFeedEvent.TRUE);
+      }
+      case 'f' -> {
+        return this.startLiteral("false", JsonFeedEvent.FALSE);
+      }
+      case 'n' -> {
+        return this.startLiteral("null", JsonFeedEvent.NULL);
+      }
+      default -> {
+        if (!JsonGrammar.isNumberStart(ch)) throw this.unexpected(ch);
+        this.token.setLength(0);
+        this.tokenState = TOKEN_NUMBER;
+        return this.continueToken();
+      }
+    }
+  }
+
+  private JsonFeedEvent startString(boolean isKey) {
+    this.token.setLength(0);
+    this.tokenState = TOKEN_STRING;
+    this.tokenIsKey = isKey;
+    this.escape = 0;
+    return this.continueToken();
+  }
+
+  private JsonFeedEvent startLiteral(String literal, JsonFeedEvent event) {
+    this.literal = literal;
+    this.literalIndex = 0;
+    this.literalEvent = event;
+    this.tokenState = TOKEN_LITERAL;
+    return this.continueToken();
+  }
+
+  private JsonFeedEvent continueToken() {
+    return switch (this.tokenState) {
+      case TOKEN_STRING -> this.continueString();
+      case TOKEN_NUMBER -> this.continueNumber();
+      default -> this.continueLiteral();
+    };
+  }
+
+  private JsonFeedEvent continueString() {
+    char[] chars = this.chars;
+    StringBuilder token = this.token;
+    while (this.position < this.limit) {
+      char ch = chars[this.position];
+      // Errors are thrown before consuming, thus they report the offending character's position
+      if (this.escape == 0) {
+        if (ch == '"') {
+          this.consume(ch);
+          this.tokenState = TOKEN_NONE;
+          if (!this.tokenIsKey) return this.endValue(JsonFeedEvent.STRING);
+          this.state = EXPECT_COLON;
+          return JsonFeedEvent.KEY;
+        }
+        if (ch == '\\') this.escape = 1;
+        else if (ch < 0x20) throw this.error(CONTROL_CHARACTER_ERROR);
+        else token.append(ch);
+      } else if (this.escape == 1) {
+        this.escape = 0;
+        switch (ch) {
+          case '"', '\\', '/' -> token.append(ch);
+          case 'b' -> token.append('\b');
+          case 'f' -> token.append('\f');
+          case 'n' -> token.append('\n');
+          case 'r' -> token.append('\r');
+          case 't' -> token.append('\t');
+          case 'u' -> {
+            this.escape = 2;
+            this.unicode = 0;
+          }
+          default -> throw this.error(INVALID_ESCAPE_ERROR, ch);
+        }
+      } else {
+        int digit = Character.digit(ch, 16);
+        if (digit < 0) throw this.error(INVALID_ESCAPE_ERROR, ch);
+        this.unicode = this.unicode << 4 | digit;
+        if (++this.escape == 6) {
+          token.append((char) this.unicode);
+          this.escape = 0;
+        }
+      }
+      this.consume(ch);
+    }
+    if (this.ended) throw this.error(UNEXPECTED_END_ERROR);
+    return JsonFeedEvent.NEED_MORE_INPUT;
+  }
+
+  private JsonFeedEvent continueNumber() {
+    char[] chars = this.chars;
+    while (this.position < this.limit) {
+      char ch = chars[this.position];
+      if (!JsonGrammar.isNumberPart(ch)) break;
+      this.consume(ch);
+      this.token.append(ch);
+    }
+    // A number only ends with a following character, or with the end of input
+    if (this.position == this.limit && !this.ended)
+      return JsonFeedEvent.NEED_MORE_INPUT;
+    this.tokenState = TOKEN_NONE;
+    if (!JsonGrammar.isNumber(this.token))
+      throw this.error(MALFORMED_NUMBER_ERROR, this.token);
+    return this.endValue(JsonFeedEvent.NUMBER);
+  }
+
+  private JsonFeedEvent continueLiteral() {
+    String literal = this.literal;
+    for (int length = literal.length(); this.literalIndex < length; ++this.literalIndex) {
+      if (this.position == this.limit) {
+        if (this.ended) throw this.error(UNEXPECTED_END_ERROR);
+        return JsonFeedEvent.NEED_MORE_INPUT;
+      }
+      char ch = this.chars[this.position];
+      if (ch != literal.charAt(this.literalIndex)) throw this.unexpected(ch);
+      this.consume(ch);
+    }
+    this.tokenState = TOKEN_NONE;
+    return this.endValue(this.literalEvent);
+  }
+
+  private JsonFeedEvent endContainer(boolean isObject) {
+    --this.depth;
+    return this.endValue(isObject ? JsonFeedEvent.END_OBJECT : JsonFeedEvent.END_ARRAY);
+  }
+
+  private JsonFeedEvent endValue(JsonFeedEvent event) {
+    this.state = this.depth == 0 ? EXPECT_ROOT_SEPARATOR : EXPECT_SEPARATOR;
+    return event;
+  }
+
+  private void consume(char ch) {
+    ++this.position;
+    if (this.capture != null) this.capture.append(ch);
+    this.context.append(ch);
+    if (ch == '\n') this.context.newline();
+  }
+
+  private JsonParseError unexpected(char ch) {
+    return this.error(UNEXPECTED_TOKEN_ERROR, ch);
+  }
+
+  private JsonParseError error(String format, @Nullable Object... arguments) {
+    return new JsonParseError(this.context, format, arguments, true);
+  }
+}
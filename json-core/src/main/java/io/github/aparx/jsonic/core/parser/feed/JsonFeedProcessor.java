@@ -0,0 +1,286 @@
+package io.github.aparx.jsonic.core.parser.feed;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.syntax.JsonGrammar;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Processor turning a reactive stream of UTF-8 encoded byte chunks into a reactive stream of
+ * elements, which are either the elements of a single top-level array, or the top-level values
+ * of a newline delimited JSON stream.
+ * <p>Chunks are tokenized by a {@code JsonFeedParser}, while the raw text of each element is
+ * parsed by the given element parser. Chunks are requested from upstream one at a time and only
+ * while the subscriber has outstanding demand and no parsed elements are pending, thus memory is
+ * bounded by the size of a chunk and of the largest element, and no thread is ever blocked.
+ * <p>Since reactive streams forbid null signals, elements parsed to null are dropped. Only a
+ * single subscriber is supported.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 18:30
+ * @see JsonFeedParser
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonFeedProcessor<T> implements Flow.Processor<ByteBuffer, T> {
+
+  private static final String NOT_AN_ARRAY_ERROR = "Expected a top-level array";
+  private static final String TRAILING_VALUE_ERROR = "Unexpected value after the top-level array";
+
+  /** Determines which values of the stream are published as elements */
+  public enum Framing {
+    /** The elements of a single top-level array are published */
+    ARRAY,
+    /** Every top-level value is published, as in newline delimited JSON */
+    LINES
+  }
+
+  private final JsonParser<? extends T> elementParser;
+  private final JsonSyntaxReader syntaxReader;
+  private final Framing framing;
+
+  private final JsonFeedParser parser = new JsonFeedParser();
+  private final StringBuilder capture = new StringBuilder();
+
+  /** Parsed elements not yet requested by the subscriber, only accessed while draining */
+  private final Queue<T> elements = new ArrayDeque<>();
+  private final Queue<ByteBuffer> chunks = new ConcurrentLinkedQueue<>();
+  private final AtomicLong demand = new AtomicLong();
+  private final AtomicInteger wip = new AtomicInteger();
+
+  private volatile Flow.@Nullable Subscription upstream;
+  private volatile Flow.@Nullable Subscriber<? super T> subscriber;
+  private volatile @Nullable Throwable upstreamError;
+  private volatile boolean upstreamDone;
+  private volatile boolean cancelled;
+
+  /* state only accessed while draining */
+  private boolean awaitingChunk;
+  private boolean rootOpened, rootClosed;
+  private boolean inputEnded;
+  private boolean terminated;
+
+  public JsonFeedProcessor(JsonParser<? extends T> elementParser, Framing framing) {
+    this(elementParser, DefaultJsonSyntaxReader.DEFAULT, framing);
+  }
+
+  public JsonFeedProcessor(JsonParser<? extends T> elementParser,
+                           JsonSyntaxReader syntaxReader, Framing framing) {
+    Preconditions.checkNotNull(elementParser, "Parser must not be null");
+    Preconditions.checkNotNull(syntaxReader, "Syntax reader must not be null");
+    Preconditions.checkNotNull(framing, "Framing must not be null");
+    this.elementParser = elementParser;
+    this.syntaxReader = syntaxReader;
+    this.framing = framing;
+    this.parser.capture(this.capture);
+  }
+
+  public static <T> JsonFeedProcessor<T> array(JsonParser<? extends T> elementParser) {
+    return new JsonFeedProcessor<>(elementParser, Framing.ARRAY);
+  }
+
+  public static <T> JsonFeedProcessor<T> lines(JsonParser<? extends T> elementParser) {
+    return new JsonFeedProcessor<>(elementParser, Framing.LINES);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    Preconditions.checkNotNull(subscriber, "Subscriber must not be null");
+    synchronized (this) {
+      if (this.subscriber != null) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+          @Override public void request(long n) {}
+          @Override public void cancel() {}
+        });
+        subscriber.onError(new IllegalStateException("Processor is already subscribed to"));
+        return;
+      }
+      this.subscriber = subscriber;
+    }
+    subscriber.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(long n) {
+        if (n <= 0) {
+          upstreamError = new IllegalArgumentException("Requested non-positive amount: " + n);
+          upstreamDone = true;
+        } else {
+          demand.getAndAccumulate(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+        }
+        drain();
+      }
+
+      @Override
+      public void cancel() {
+        cancelled = true;
+        cancelUpstream();
+        drain();
+      }
+    });
+    this.drain();
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    Preconditions.checkNotNull(subscription, "Subscription must not be null");
+    synchronized (this) {
+      if (this.upstream != null) {
+        subscription.cancel();
+        return;
+      }
+      this.upstream = subscription;
+    }
+    if (this.cancelled) subscription.cancel();
+    else this.drain();
+  }
+
+  @Override
+  public void onNext(ByteBuffer item) {
+    this.chunks.add(item);
+    this.drain();
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    this.upstreamError = throwable;
+    this.upstreamDone = true;
+    this.drain();
+  }
+
+  @Override
+  public void onComplete() {
+    this.upstreamDone = true;
+    this.drain();
+  }
+
+  /** Serializes all state changes and signals, so that only one thread drains at a time */
+  private void drain() {
+    if (this.wip.getAndIncrement() != 0) return;
+    int missed = 1;
+    do {
+      Flow.Subscriber<? super T> subscriber = this.subscriber;
+      if (subscriber != null && !this.terminated)
+        this.drainLoop(subscriber);
+      missed = this.wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void drainLoop(Flow.Subscriber<? super T> subscriber) {
+    while (true) {
+      if (this.cancelled) {
+        this.terminate();
+        return;
+      }
+      Throwable error = this.upstreamError;
+      if (error != null) {
+        this.cancelUpstream();
+        this.terminate();
+        subscriber.onError(error);
+        return;
+      }
+      while (!this.elements.isEmpty() && this.demand.get() != 0) {
+        this.demand.decrementAndGet();
+        subscriber.onNext(this.elements.poll());
+        if (this.cancelled) break;
+      }
+      if (!this.elements.isEmpty() || this.cancelled) return;
+      // All parsed elements have been published, thus continue with the next chunk
+      try {
+        ByteBuffer chunk = this.chunks.poll();
+        if (chunk != null) {
+          this.awaitingChunk = false;
+          this.parser.feed(chunk);
+          this.readElements();
+          continue;
+        }
+        if (this.upstreamDone && !this.inputEnded) {
+          this.inputEnded = true;
+          this.parser.endOfInput();
+          this.readElements();
+          if (this.framing == Framing.ARRAY && !this.rootOpened)
+            throw new JsonParseError(NOT_AN_ARRAY_ERROR);
+          continue;
+        }
+      } catch (RuntimeException e) {
+        this.cancelUpstream();
+        this.terminate();
+        subscriber.onError(e);
+        return;
+      }
+      if (this.inputEnded) {
+        this.terminate();
+        subscriber.onComplete();
+        return;
+      }
+      Flow.Subscription upstream = this.upstream;
+      if (upstream != null && !this.awaitingChunk && this.demand.get() != 0) {
+        this.awaitingChunk = true;
+        upstream.request(1);
+      }
+      return;
+    }
+  }
+
+  /** Reads the events of the consumed chunk, parsing every completed element */
+  private void readElements() {
+    for (JsonFeedEvent event; (event = this.parser.nextEvent()) != JsonFeedEvent.NEED_MORE_INPUT
+        && event != JsonFeedEvent.END_OF_INPUT; ) {
+      int depth = this.parser.depth();
+      if (this.framing == Framing.ARRAY && !this.rootOpened) {
+        if (event != JsonFeedEvent.START_ARRAY)
+          throw new JsonParseError(NOT_AN_ARRAY_ERROR);
+        this.rootOpened = true;
+        this.capture.setLength(0);
+      } else if (this.framing == Framing.ARRAY && this.rootClosed) {
+        throw new JsonParseError(TRAILING_VALUE_ERROR);
+      } else if (this.framing == Framing.ARRAY && depth == 0) {
+        this.rootClosed = true; // this event closed the root array
+        this.capture.setLength(0);
+      } else if (isValueEnd(event) && depth == (this.framing == Framing.ARRAY ? 1 : 0)) {
+        this.parseElement();
+      }
+    }
+  }
+
+  private void parseElement() {
+    StringBuilder capture = this.capture;
+    // The capture starts with the whitespace and separator preceding the element
+    int start = 0, length = capture.length();
+    while (start < length && (capture.charAt(start) == ','
+        || JsonGrammar.isWhitespace(capture.charAt(start))))
+      ++start;
+    @Nullable T element = JsonParser.parse(
+        this.elementParser, capture.substring(start), this.syntaxReader);
+    capture.setLength(0);
+    if (element != null) this.elements.add(element);
+  }
+
+  private void terminate() {
+    this.terminated = true;
+    this.elements.clear();
+    this.chunks.clear();
+  }
+
+  private void cancelUpstream() {
+    Flow.Subscription upstream = this.upstream;
+    if (upstream != null) upstream.cancel();
+  }
+
+  private static boolean isValueEnd(JsonFeedEvent event) {
+    return event != JsonFeedEvent.START_OBJECT
+        && event != JsonFeedEvent.START_ARRAY
+        && event != JsonFeedEvent.KEY;
+  }
+}
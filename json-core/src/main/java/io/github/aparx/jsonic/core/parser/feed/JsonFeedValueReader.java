@@ -0,0 +1,106 @@
+package io.github.aparx.jsonic.core.parser.feed;
+
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+
+/**
+ * Assembles the events of a {@code JsonFeedParser} into completed top-level values, using maps
+ * for objects and lists for arrays, just like {@code JsonParsers#value()}.
+ * <p>Partially assembled containers are kept between calls, thus values may span any number of
+ * fed chunks.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 17:40
+ * @see JsonFeedParser
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonFeedValueReader {
+
+  private final JsonFeedParser parser;
+
+  private final Deque<Object> containers = new ArrayDeque<>();
+  private final Deque<String> keys = new ArrayDeque<>();
+
+  private @Nullable Object value;
+  private boolean ended;
+
+  public JsonFeedValueReader(JsonFeedParser parser) {
+    Preconditions.checkNotNull(parser, "Parser must not be null");
+    this.parser = parser;
+  }
+
+  /**
+   * Consumes events of the parser until the next top-level value is complete.
+   *
+   * @return true if a value has been completed and is accessible through {@link #value()}, false
+   * if the parser needs more input or the input has ended
+   * @throws JsonParseError if the input is malformed
+   */
+  @SuppressWarnings("unchecked")
+  public boolean advance() {
+    while (true) {
+      JsonFeedEvent event = this.parser.nextEvent();
+      @Nullable Object completed;
+      switch (event) {
+        case NEED_MORE_INPUT -> {
+          return false;
+        }
+        case END_OF_INPUT -> {
+          this.ended = true;
+          return false;
+        }
+        case START_OBJECT -> {
+          this.containers.push(new HashMap<>());
+          continue;
+        }
+        case START_ARRAY -> {
+          this.containers.push(new ArrayList<>());
+          continue;
+        }
+        case KEY -> {
+          this.keys.push(this.parser.stringValue());
+          continue;
+        }
+        case END_OBJECT, END_ARRAY -> completed = this.containers.pop();
+        case STRING -> completed = this.parser.stringValue();
+        case NUMBER -> completed = this.parser.numberValue();
+        case TRUE -> completed = Boolean.TRUE;
+        case FALSE -> completed = Boolean.FALSE;
+        default -> completed = null;
+      }
+      Object parent = this.containers.peek();
+      if (parent == null) {
+        this.value = completed;
+        return true;
+      }
+      if (parent instanceof Map<?, ?> map)
+        ((Map<String, @Nullable Object>) map).put(this.keys.pop(), completed);
+      else
+        ((List<@Nullable Object>) parent).add(completed);
+    }
+  }
+
+  /**
+   * Returns the last value completed by {@link #advance()}.
+   *
+   * @return the last completed value
+   */
+  public @Nullable Object value() {
+    return this.value;
+  }
+
+  /**
+   * Returns true if the parser reported the end of input, thus no more values will follow.
+   *
+   * @return true if the input has ended
+   */
+  public boolean isEnded() {
+    return this.ended;
+  }
+}
@@ -0,0 +1,291 @@
+package io.github.aparx.jsonic.core.parser.index;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Scanner building a {@link JsonStructuralIndex} in one pass over the bytes of a JSON file.
+ * <p>Structural characters are ASCII, which never occur within multibyte UTF-8 sequences, thus
+ * the bytes are scanned without decoding them, except for the keys of indexed objects. Strings
+ * are skipped by their quotes and escapes, and containers deeper than the indexed depth are
+ * skipped by counting their brackets.
+ * <p>Only the open containers are held as frames. Once a container is closed, its children are
+ * appended to the flat arrays of the index, such that the children of each container are
+ * contiguous and containers are numbered in the order they are closed.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 09:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class JsonIndexScanner {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  private final int depth;
+
+  /** Indexed containers, which are currently open, with the innermost at the top */
+  private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+  private final ByteArrayOutputStream key = new ByteArrayOutputStream();
+  /** Identifiers of the keys, which are shared by all objects of the index */
+  private final Map<String, Integer> keyIds = new LinkedHashMap<>();
+
+  private byte[] nodeTypes = new byte[16];
+  private int[] nodeStarts = new int[16], nodeSizes = new int[16];
+  private int[] nodeKeyStarts = new int[16], nodeChildStarts = new int[16];
+  private int nodeCount;
+
+  private long[] offsets = new long[64];
+  private int offsetCount;
+  private int[] keys = new int[64];
+  private int keyCount;
+  private int[] children = new int[16];
+  private int childCount;
+
+  private int root = -1;
+  private long rootOffset = JsonStructuralIndex.NOT_FOUND;
+  private boolean inString, escaped, inKey;
+  /** Nesting of the containers skipped, since they are deeper than the indexed depth */
+  private int skipped;
+
+  JsonIndexScanner(int depth) {
+    this.depth = depth;
+  }
+
+  JsonStructuralIndex scan(InputStream stream) throws IOException {
+    byte[] buffer = new byte[BUFFER_SIZE];
+    // A leading byte order mark precedes the root, which is thus not recorded at offset zero
+    byte[] head = stream.readNBytes(BYTE_ORDER_MARK.length);
+    long position = 0;
+    if (Arrays.equals(head, BYTE_ORDER_MARK))
+      position = head.length;
+    else
+      for (; position < head.length; ++position)
+        this.accept(head[(int) position], position);
+    for (int read; (read = stream.read(buffer)) >= 0; position += read)
+      for (int i = 0; i < read; ++i)
+        this.accept(buffer[i], position + i);
+    // Containers left open by a truncated file are indexed with the children read so far
+    while (!this.frames.isEmpty())
+      this.close();
+    return new JsonStructuralIndex(position, this.rootOffset, this.depth,
+        this.keyIds.keySet().toArray(String[]::new), this.root,
+        Arrays.copyOf(this.nodeTypes, this.nodeCount),
+        Arrays.copyOf(this.nodeStarts, this.nodeCount),
+        Arrays.copyOf(this.nodeSizes, this.nodeCount),
+        Arrays.copyOf(this.nodeKeyStarts, this.nodeCount),
+        Arrays.copyOf(this.nodeChildStarts, this.nodeCount),
+        Arrays.copyOf(this.offsets, this.offsetCount),
+        Arrays.copyOf(this.keys, this.keyCount),
+        Arrays.copyOf(this.children, this.childCount));
+  }
+
+  private void accept(byte b, long position) {
+    if (this.inString) {
+      if (this.escaped) {
+        this.escaped = false;
+      } else if (b == '\\') {
+        this.escaped = true;
+      } else if (b == '"') {
+        this.inString = false;
+        if (this.inKey) this.endKey();
+        return;
+      }
+      if (this.inKey) this.key.write(b);
+      return;
+    }
+    if (this.skipped != 0) {
+      if (b == '"') this.inString = true;
+      else if (b == '{' || b == '[') ++this.skipped;
+      else if (b == '}' || b == ']') --this.skipped;
+      return;
+    }
+    @Nullable Frame frame = this.frames.peek();
+    switch (b) {
+      case ' ', '\t', '\n', '\r' -> {}
+      case '"' -> {
+        this.inString = true;
+        if (frame != null && frame.expectKey) {
+          frame.expectKey = false;
+          this.inKey = true;
+          this.key.reset();
+        } else {
+          this.value(frame, position);
+        }
+      }
+      case '{', '[' -> {
+        // Only the first root value is indexed, thus containers following it are skipped
+        boolean rootFollower = frame == null && this.rootOffset != JsonStructuralIndex.NOT_FOUND;
+        int index = this.value(frame, position);
+        if (!rootFollower && this.frames.size() < this.depth)
+          this.frames.push(new Frame(b == '{', index));
+        else
+          this.skipped = 1;
+      }
+      case '}', ']' -> {
+        if (frame != null) this.close();
+      }
+      case ':' -> {
+        if (frame != null) frame.expectValue = true;
+      }
+      case ',' -> {
+        if (frame == null) return;
+        if (frame.object) frame.expectKey = true;
+        else frame.expectValue = true;
+      }
+      default -> this.value(frame, position);
+    }
+  }
+
+  /** Records the value starting at {@code position}, returning its index within its container */
+  private int value(@Nullable Frame frame, long position) {
+    if (frame == null) {
+      if (this.rootOffset == JsonStructuralIndex.NOT_FOUND) this.rootOffset = position;
+      return -1;
+    }
+    // Only the first character of a literal is the start of a value
+    if (!frame.expectValue) return -1;
+    frame.expectValue = false;
+    return frame.add(position, frame.pendingKey >= 0 ? frame.pendingKey : this.keyId(""));
+  }
+
+  private void endKey() {
+    this.inKey = false;
+    // Unescape quotes the same way the string parser does
+    String key = this.key.toString(StandardCharsets.UTF_8).replace("\\\"", "\"");
+    this.frames.element().pendingKey = this.keyId(key);
+  }
+
+  private int keyId(String key) {
+    return this.keyIds.computeIfAbsent(key, (k) -> this.keyIds.size());
+  }
+
+  /** Closes the innermost frame, appending its children to the arrays of the index */
+  private void close() {
+    Frame frame = this.frames.pop();
+    int size = frame.size;
+    if (frame.object && size >= JsonStructuralIndex.SORTED_KEYS_THRESHOLD)
+      frame.sortByKey();
+    int node = this.nodeCount++;
+    if (node == this.nodeTypes.length) {
+      int capacity = node << 1;
+      this.nodeTypes = Arrays.copyOf(this.nodeTypes, capacity);
+      this.nodeStarts = Arrays.copyOf(this.nodeStarts, capacity);
+      this.nodeSizes = Arrays.copyOf(this.nodeSizes, capacity);
+      this.nodeKeyStarts = Arrays.copyOf(this.nodeKeyStarts, capacity);
+      this.nodeChildStarts = Arrays.copyOf(this.nodeChildStarts, capacity);
+    }
+    this.nodeTypes[node] = frame.object ? JsonStructuralIndex.NODE_OBJECT
+        : JsonStructuralIndex.NODE_ARRAY;
+    this.nodeSizes[node] = size;
+    this.nodeStarts[node] = this.offsetCount;
+    this.offsets = ensureCapacity(this.offsets, this.offsetCount + size);
+    System.arraycopy(frame.offsets, 0, this.offsets, this.offsetCount, size);
+    this.offsetCount += size;
+    this.nodeKeyStarts[node] = -1;
+    if (frame.object) {
+      this.nodeKeyStarts[node] = this.keyCount;
+      this.keys = ensureCapacity(this.keys, this.keyCount + size);
+      System.arraycopy(frame.keys, 0, this.keys, this.keyCount, size);
+      this.keyCount += size;
+    }
+    this.nodeChildStarts[node] = -1;
+    if (frame.children != null) {
+      this.nodeChildStarts[node] = this.childCount;
+      this.children = ensureCapacity(this.children, this.childCount + size);
+      System.arraycopy(frame.children, 0, this.children, this.childCount, size);
+      this.childCount += size;
+    }
+    @Nullable Frame parent = this.frames.peek();
+    if (parent == null) {
+      this.root = node;
+    } else if (frame.index >= 0) {
+      parent.child(frame.index, node);
+    }
+  }
+
+  private static long[] ensureCapacity(long[] array, int capacity) {
+    return capacity <= array.length ? array
+        : Arrays.copyOf(array, Math.max(capacity, array.length << 1));
+  }
+
+  private static int[] ensureCapacity(int[] array, int capacity) {
+    return capacity <= array.length ? array
+        : Arrays.copyOf(array, Math.max(capacity, array.length << 1));
+  }
+
+  private static final class Frame {
+
+    final boolean object;
+    /** Index of this container within its parent, or {@code -1} if it is not recorded */
+    final int index;
+    boolean expectKey, expectValue;
+    int pendingKey = -1;
+
+    long[] offsets = new long[8];
+    /** Key identifiers of the children of objects, parallel to their offsets */
+    int[] keys;
+    /** Indexed containers among the children, or null if no child is an indexed container */
+    int @Nullable [] children;
+    int size;
+
+    Frame(boolean object, int index) {
+      this.object = object;
+      this.index = index;
+      this.expectKey = object;
+      this.expectValue = !object;
+      this.keys = object ? new int[8] : new int[0];
+    }
+
+    int add(long offset, int key) {
+      if (this.size == this.offsets.length) {
+        this.offsets = Arrays.copyOf(this.offsets, this.size << 1);
+        if (this.object) this.keys = Arrays.copyOf(this.keys, this.size << 1);
+        if (this.children != null) this.children = Arrays.copyOf(this.children, this.size << 1);
+      }
+      this.offsets[this.size] = offset;
+      if (this.object) this.keys[this.size] = key;
+      if (this.children != null) this.children[this.size] = -1;
+      return this.size++;
+    }
+
+    void child(int index, int node) {
+      if (this.children == null) {
+        this.children = new int[this.offsets.length];
+        Arrays.fill(this.children, -1);
+      }
+      this.children[index] = node;
+    }
+
+    /**
+     * Sorts the children by their key identifiers, such that keys are found by binary search.
+     * Duplicate keys remain in their order, such that the last of them is found.
+     */
+    void sortByKey() {
+      int size = this.size;
+      long[] order = new long[size];
+      for (int i = 0; i < size; ++i)
+        order[i] = (long) this.keys[i] << Integer.SIZE | i;
+      Arrays.sort(order);
+      long[] offsets = new long[size];
+      int @Nullable [] children = this.children != null ? new int[size] : null;
+      for (int i = 0; i < size; ++i) {
+        int from = (int) order[i];
+        offsets[i] = this.offsets[from];
+        this.keys[i] = (int) (order[i] >>> Integer.SIZE);
+        if (children != null) children[i] = this.children[from];
+      }
+      this.offsets = offsets;
+      this.children = children;
+    }
+  }
+}
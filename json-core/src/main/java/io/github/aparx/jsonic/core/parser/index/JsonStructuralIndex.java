@@ -0,0 +1,410 @@
+package io.github.aparx.jsonic.core.parser.index;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraversers;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import io.github.aparx.jsonic.core.parser.source.MappedJsonCharSource;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Index of the byte offsets of the values of a JSON file, allowing single values to be parsed
+ * without reading the file up to them.
+ * <p>The index is built by scanning the file once, recording the offset of each element of the
+ * root array, or of the value of each key of the root object. With a greater depth, the
+ * elements and keys of the containers within are recorded as well, down to that depth. Values
+ * are addressed by their path, which consists of element indices and keys, such as
+ * {@code (42, "name")} for the name of the 43rd element of the root array.
+ * <p>Containers are held in flat arrays rather than as objects, in which the children of each
+ * container are contiguous, and children of objects with many keys are sorted by key, such
+ * that they are found by binary search. Indices are written into a compact side file, in which
+ * offsets are delta-encoded and keys are stored once, and remember the size of their source,
+ * such that they are not used for a file that changed.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 09:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonStructuralIndex {
+
+  /** Extension of side files, which are conventionally placed next to their source */
+  public static final String FILE_EXTENSION = ".jsix";
+
+  public static final long NOT_FOUND = -1;
+
+  /** Minimum amount of keys, from which on the children of objects are sorted by key */
+  static final int SORTED_KEYS_THRESHOLD = 8;
+
+  static final byte NODE_ARRAY = 1, NODE_OBJECT = 2;
+
+  private static final int MAGIC = 0x4A534958;
+  private static final byte VERSION = 2;
+
+  private final long sourceSize;
+  private final long rootOffset;
+  private final int depth;
+
+  private final String[] keyTable;
+  private final Map<String, Integer> keyIds;
+
+  /** Indexed container of the root, or {@code -1} if the root is no container */
+  private final int root;
+
+  /** Types of the containers, which are numbered in the order they were closed in */
+  private final byte[] nodeTypes;
+  /** Indices of the first child of each container within {@link #offsets} */
+  private final int[] nodeStarts;
+  private final int[] nodeSizes;
+  /** Indices of the first key of each object within {@link #keys}, or {@code -1} for arrays */
+  private final int[] nodeKeyStarts;
+  /**
+   * Indices of the first child of each container within {@link #children}, or {@code -1} if
+   * none of its children is an indexed container
+   */
+  private final int[] nodeChildStarts;
+
+  private final long[] offsets;
+  /** Key identifiers of the children of objects, indexing {@link #keyTable} */
+  private final int[] keys;
+  /** Indexed containers of the children of containers, or {@code -1} for other children */
+  private final int[] children;
+
+  JsonStructuralIndex(long sourceSize, long rootOffset, int depth, String[] keyTable, int root,
+                      byte[] nodeTypes, int[] nodeStarts, int[] nodeSizes, int[] nodeKeyStarts,
+                      int[] nodeChildStarts, long[] offsets, int[] keys, int[] children) {
+    this.sourceSize = sourceSize;
+    this.rootOffset = rootOffset;
+    this.depth = depth;
+    this.keyTable = keyTable;
+    this.root = root;
+    this.nodeTypes = nodeTypes;
+    this.nodeStarts = nodeStarts;
+    this.nodeSizes = nodeSizes;
+    this.nodeKeyStarts = nodeKeyStarts;
+    this.nodeChildStarts = nodeChildStarts;
+    this.offsets = offsets;
+    this.keys = keys;
+    this.children = children;
+    this.keyIds = new HashMap<>((int) Math.ceil(keyTable.length / 0.75));
+    for (int i = 0; i < keyTable.length; ++i)
+      this.keyIds.put(keyTable[i], i);
+  }
+
+  /**
+   * Scans the JSON file at {@code source} and indexes the children of its root container.
+   *
+   * @see #build(Path, int)
+   */
+  public static JsonStructuralIndex build(Path source) throws IOException {
+    return build(source, 1);
+  }
+
+  /**
+   * Scans the JSON file at {@code source} and indexes its containers down to {@code depth}.
+   * <p>The structure is scanned byte by byte without parsing values, thus the file is assumed to
+   * be valid. Malformed files result in an index of undefined offsets. A leading byte order mark
+   * is skipped.
+   *
+   * @param source the JSON file encoded as UTF-8
+   * @param depth  the depth of the containers whose children are recorded, starting at one for
+   *               the root container
+   * @return the index of {@code source}
+   * @throws IOException if {@code source} could not be read
+   */
+  public static JsonStructuralIndex build(Path source, int depth) throws IOException {
+    Preconditions.checkArgument(depth > 0, "Depth must be greater than zero");
+    try (InputStream stream = Files.newInputStream(source)) {
+      return new JsonIndexScanner(depth).scan(stream);
+    }
+  }
+
+  /**
+   * Reads the index from the side file at {@code path}.
+   *
+   * @param path the side file written by {@link #write(Path)}
+   * @return the index
+   * @throws IOException if the file could not be read or is not an index
+   */
+  public static JsonStructuralIndex read(Path path) throws IOException {
+    ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(path));
+    try {
+      if (in.getInt() != MAGIC || in.get() != VERSION)
+        throw new IOException("Not a structural index: " + path);
+      long sourceSize = in.getLong();
+      long rootOffset = in.getLong();
+      int depth = in.getInt();
+      String[] keyTable = new String[readCount(in)];
+      for (int i = 0; i < keyTable.length; ++i) {
+        byte[] bytes = new byte[readCount(in)];
+        in.get(bytes);
+        keyTable[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+      int nodeCount = readCount(in);
+      int root = readIndex(in) - 1;
+      Preconditions.checkPositionIndex(root + 1, nodeCount);
+      long[] offsets = new long[readCount(in)];
+      int[] keys = new int[readCount(in)];
+      int[] children = new int[readCount(in)];
+      byte[] nodeTypes = new byte[nodeCount];
+      int[] nodeStarts = new int[nodeCount], nodeSizes = new int[nodeCount];
+      int[] nodeKeyStarts = new int[nodeCount], nodeChildStarts = new int[nodeCount];
+      for (int node = 0, offsetCount = 0, keyCount = 0, childCount = 0; node < nodeCount; ++node) {
+        byte type = in.get();
+        if (type != NODE_ARRAY && type != NODE_OBJECT)
+          throw new IOException("Corrupt structural index: " + path);
+        int size = readCount(in);
+        Preconditions.checkPositionIndexes(offsetCount, offsetCount + size, offsets.length);
+        nodeTypes[node] = type;
+        nodeStarts[node] = offsetCount;
+        nodeSizes[node] = size;
+        boolean sorted = isSorted(type, size);
+        long previous = 0;
+        for (int i = 0; i < size; ++i) {
+          long delta = readVarLong(in);
+          offsets[offsetCount++] = previous += sorted ? zigzagDecode(delta) : delta;
+        }
+        nodeKeyStarts[node] = -1;
+        if (type == NODE_OBJECT) {
+          Preconditions.checkPositionIndexes(keyCount, keyCount + size, keys.length);
+          nodeKeyStarts[node] = keyCount;
+          for (int i = 0; i < size; ++i) {
+            int key = readIndex(in);
+            Preconditions.checkElementIndex(key, keyTable.length);
+            keys[keyCount++] = key;
+          }
+        }
+        nodeChildStarts[node] = -1;
+        if (in.get() != 0) {
+          Preconditions.checkPositionIndexes(childCount, childCount + size, children.length);
+          nodeChildStarts[node] = childCount;
+          for (int i = 0, previousChild = -1; i < size; ++i) {
+            // Containers are closed before their parent, thus children precede their parent
+            int child = previousChild += Math.toIntExact(zigzagDecode(readVarLong(in)));
+            Preconditions.checkElementIndex(child + 1, node + 1);
+            children[childCount++] = child;
+          }
+        }
+      }
+      return new JsonStructuralIndex(sourceSize, rootOffset, depth, keyTable, root, nodeTypes,
+          nodeStarts, nodeSizes, nodeKeyStarts, nodeChildStarts, offsets, keys, children);
+    } catch (BufferUnderflowException | ArithmeticException | IndexOutOfBoundsException e) {
+      throw new IOException("Corrupt structural index: " + path, e);
+    }
+  }
+
+  /** Writes this index into the side file at {@code path}, replacing an existing one */
+  public void write(Path path) throws IOException {
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(path)))) {
+      out.writeInt(MAGIC);
+      out.writeByte(VERSION);
+      out.writeLong(this.sourceSize);
+      out.writeLong(this.rootOffset);
+      out.writeInt(this.depth);
+      writeVarLong(out, this.keyTable.length);
+      for (String key : this.keyTable) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+      }
+      writeVarLong(out, this.nodeTypes.length);
+      writeVarLong(out, this.root + 1);
+      writeVarLong(out, this.offsets.length);
+      writeVarLong(out, this.keys.length);
+      writeVarLong(out, this.children.length);
+      for (int node = 0; node < this.nodeTypes.length; ++node) {
+        int start = this.nodeStarts[node], size = this.nodeSizes[node];
+        out.writeByte(this.nodeTypes[node]);
+        writeVarLong(out, size);
+        // Children of sorted objects are not in the order of their offsets
+        boolean sorted = isSorted(this.nodeTypes[node], size);
+        long previous = 0;
+        for (int i = start; i < start + size; ++i) {
+          long delta = this.offsets[i] - previous;
+          writeVarLong(out, sorted ? zigzagEncode(delta) : delta);
+          previous = this.offsets[i];
+        }
+        int keyStart = this.nodeKeyStarts[node];
+        if (keyStart >= 0)
+          for (int i = keyStart; i < keyStart + size; ++i)
+            writeVarLong(out, this.keys[i]);
+        int childStart = this.nodeChildStarts[node];
+        out.writeBoolean(childStart >= 0);
+        // Children are mostly closed right after each other, thus their deltas are small
+        if (childStart >= 0)
+          for (int i = childStart, previousChild = -1; i < childStart + size; ++i) {
+            writeVarLong(out, zigzagEncode(this.children[i] - previousChild));
+            previousChild = this.children[i];
+          }
+      }
+    }
+  }
+
+  /**
+   * Returns the byte offset of the value at {@code path}.
+   *
+   * @param path the element indices and keys leading to the value, which is the root if empty
+   * @return the offset of the value, or {@link #NOT_FOUND} if it is not indexed or not present
+   * @throws IllegalArgumentException if a segment of {@code path} is neither an {@code Integer},
+   *                                  a {@code Long} nor a {@code String}
+   */
+  public long offset(Object... path) {
+    if (path.length == 0) return this.rootOffset;
+    int node = this.node(path, path.length - 1);
+    if (node < 0) return NOT_FOUND;
+    int index = this.indexOf(node, path[path.length - 1]);
+    return index >= 0 ? this.offsets[this.nodeStarts[node] + index] : NOT_FOUND;
+  }
+
+  /**
+   * Returns the number of children of the container at {@code path}.
+   *
+   * @param path the element indices and keys leading to the container
+   * @return the number of elements or keys, or {@code -1} if the container is not indexed
+   * @throws IllegalArgumentException if a segment of {@code path} is neither an {@code Integer},
+   *                                  a {@code Long} nor a {@code String}
+   */
+  public int size(Object... path) {
+    int node = this.node(path, path.length);
+    return node >= 0 ? this.nodeSizes[node] : -1;
+  }
+
+  /**
+   * Parses the value at {@code path} of {@code source} with {@code parser}, reading the file
+   * memory-mapped from the offset of the value on. The mapping is released once the value is
+   * parsed.
+   *
+   * @param parser the parser to parse the value with
+   * @param source the file this index was built of
+   * @param path   the element indices and keys leading to the value
+   * @return the parsed value
+   * @throws NoSuchElementException if the value is not indexed or not present
+   * @throws IllegalStateException  if the size of {@code source} changed since it was indexed
+   * @throws IOException            if {@code source} could not be read
+   */
+  public <T> @Nullable T parse(JsonParser<T> parser, Path source, Object... path)
+      throws IOException {
+    Preconditions.checkState(Files.size(source) == this.sourceSize,
+        "Index does not match the source: %s", source);
+    long offset = this.offset(path);
+    if (offset == NOT_FOUND)
+      throw new NoSuchElementException("No value indexed at " + Arrays.toString(path));
+    try (MappedJsonCharSource mapped = JsonCharSources.map(source, offset)) {
+      return JsonParser.parse(parser, JsonCharSourceTraversers.read(mapped));
+    }
+  }
+
+  /** Returns the size of the file in bytes, this index was built of */
+  public long sourceSize() {
+    return this.sourceSize;
+  }
+
+  public int depth() {
+    return this.depth;
+  }
+
+  /** Returns the indexed container at {@code path}, or {@code -1} if it is not indexed */
+  private int node(Object[] path, int length) {
+    int node = this.root;
+    for (int i = 0; i < length && node >= 0; ++i) {
+      int index = this.indexOf(node, path[i]);
+      int childStart = this.nodeChildStarts[node];
+      if (index < 0 || childStart < 0) return -1;
+      node = this.children[childStart + index];
+    }
+    return node;
+  }
+
+  /** Returns the index of the child of {@code node} at {@code segment}, or {@code -1} */
+  private int indexOf(int node, Object segment) {
+    int size = this.nodeSizes[node];
+    if (segment instanceof String key) {
+      int keyStart = this.nodeKeyStarts[node];
+      @Nullable Integer id = this.keyIds.get(key);
+      if (keyStart < 0 || id == null) return -1;
+      return size < SORTED_KEYS_THRESHOLD
+          ? this.lastIndexOfKey(keyStart, size, id)
+          : this.searchKey(keyStart, size, id);
+    }
+    long index;
+    if (segment instanceof Integer integer) index = integer;
+    else if (segment instanceof Long value) index = value;
+    else throw new IllegalArgumentException("Path segment must be an index or a key: " + segment);
+    return this.nodeKeyStarts[node] < 0 && index >= 0 && index < size ? (int) index : -1;
+  }
+
+  /** Searches {@code key} among unsorted keys, preferring later duplicates like maps do */
+  private int lastIndexOfKey(int keyStart, int size, int key) {
+    for (int i = size - 1; i >= 0; --i)
+      if (this.keys[keyStart + i] == key) return i;
+    return -1;
+  }
+
+  /** Searches the last occurrence of {@code key} among keys sorted by their identifier */
+  private int searchKey(int keyStart, int size, int key) {
+    int low = 0, high = size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (this.keys[keyStart + middle] <= key) low = middle + 1;
+      else high = middle;
+    }
+    return low > 0 && this.keys[keyStart + low - 1] == key ? low - 1 : -1;
+  }
+
+  /** Returns true if the children of containers of {@code type} and {@code size} are sorted */
+  private static boolean isSorted(byte type, int size) {
+    return type == NODE_OBJECT && size >= SORTED_KEYS_THRESHOLD;
+  }
+
+  private static long zigzagEncode(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long zigzagDecode(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  /** Reads a varint count, which cannot exceed the remaining bytes, since each takes one */
+  private static int readCount(ByteBuffer in) throws IOException {
+    long count = readVarLong(in);
+    if (count > in.remaining())
+      throw new IOException("Corrupt structural index");
+    return (int) count;
+  }
+
+  private static int readIndex(ByteBuffer in) throws IOException {
+    return Math.toIntExact(readVarLong(in));
+  }
+
+  private static long readVarLong(ByteBuffer in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) return value;
+    }
+    throw new IOException("Corrupt structural index");
+  }
+}
@@ -0,0 +1,40 @@
+package io.github.aparx.jsonic.core.parser.jfr;
+
+import jdk.jfr.*;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Flight recorder event of a string allocated during a recorded parse, whose length is at least
+ * the {@code minLength} setting, {@code 65536} by default.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 23:10
+ * @see JsonParseRecorder
+ * @since 1.0
+ */
+@Name(JsonLargeStringEvent.NAME)
+@Label("JSON Large String")
+@Category("jsonic")
+@Description("String of a JSON document exceeding the minimum length")
+@StackTrace(false)
+@DefaultQualifier(NonNull.class)
+public final class JsonLargeStringEvent extends Event {
+
+  public static final String NAME = "jsonic.LargeString";
+
+  @Label("Parser")
+  @Nullable Class<?> parser;
+
+  @Label("Length")
+  int length;
+
+  @Name("minLength")
+  @Label("Minimum Length")
+  @SettingDefinition
+  boolean minLength(MinLengthSetting setting) {
+    return setting.accepts(this.length);
+  }
+
+}
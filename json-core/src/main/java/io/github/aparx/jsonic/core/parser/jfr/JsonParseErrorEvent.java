@@ -0,0 +1,44 @@
+package io.github.aparx.jsonic.core.parser.jfr;
+
+import jdk.jfr.*;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Flight recorder event of a top-level parse that failed, recorded once the error leaves the
+ * {@code JsonParser} entry point.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 23:05
+ * @see JsonParseRecorder
+ * @since 1.0
+ */
+@Name(JsonParseErrorEvent.NAME)
+@Label("JSON Parse Error")
+@Category("jsonic")
+@Description("Failed top-level parse of a JSON document")
+@StackTrace(false)
+@DefaultQualifier(NonNull.class)
+public final class JsonParseErrorEvent extends Event {
+
+  public static final String NAME = "jsonic.ParseError";
+
+  @Label("Parser")
+  @Nullable Class<?> parser;
+
+  @Label("Source Type")
+  @Description("Simple name of the class of the character source")
+  @Nullable String sourceType;
+
+  @Label("Error")
+  @Nullable Class<?> error;
+
+  @Label("Message")
+  @Nullable String message;
+
+  @Label("Offset")
+  @Description("Offset of the character, at which the error occurred")
+  long offset;
+
+}
@@ -0,0 +1,46 @@
+package io.github.aparx.jsonic.core.parser.jfr;
+
+import jdk.jfr.*;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Flight recorder event of a top-level parse through a {@code JsonParser} entry point, which is
+ * only recorded if the parse takes longer than the threshold, {@code 20 ms} by default.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 23:00
+ * @see JsonParseRecorder
+ * @since 1.0
+ */
+@Name(JsonParseEvent.NAME)
+@Label("JSON Parse")
+@Category("jsonic")
+@Description("Top-level parse of a JSON document")
+@StackTrace(false)
+@Threshold("20 ms")
+@DefaultQualifier(NonNull.class)
+public final class JsonParseEvent extends Event {
+
+  public static final String NAME = "jsonic.Parse";
+
+  @Label("Parser")
+  @Nullable Class<?> parser;
+
+  @Label("Source Type")
+  @Description("Simple name of the class of the character source")
+  @Nullable String sourceType;
+
+  @Label("Characters")
+  @Description("Amount of characters consumed by the parse")
+  long chars;
+
+  @Label("Depth")
+  @Description("Deepest nesting of objects and arrays")
+  int depth;
+
+  @Label("Succeeded")
+  boolean succeeded;
+
+}
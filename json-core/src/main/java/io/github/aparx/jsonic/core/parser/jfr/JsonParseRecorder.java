@@ -0,0 +1,169 @@
+package io.github.aparx.jsonic.core.parser.jfr;
+
+import io.github.aparx.jsonic.core.context.JsonProcessContext;
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
+import io.github.aparx.jsonic.core.parser.source.DefaultJsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import jdk.jfr.EventType;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Records top-level parses as flight recorder events, while any of the jsonic events is enabled
+ * in a running recording.
+ * <p>While no recording enables the events, {@link #isRecording()} is the only cost, which reads
+ * the state of the cached event types without allocating events. While recording, the parse is
+ * observed through a listener tracking the nesting depth and large strings, which also forwards
+ * every notification to the listener of the original syntax reader.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 15:45
+ * @see JsonParseEvent
+ * @see JsonParseErrorEvent
+ * @see JsonLargeStringEvent
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonParseRecorder implements JsonParseListener {
+
+  private static final EventType PARSE_EVENT = EventType.getEventType(JsonParseEvent.class);
+  private static final EventType PARSE_ERROR_EVENT =
+      EventType.getEventType(JsonParseErrorEvent.class);
+  private static final EventType LARGE_STRING_EVENT =
+      EventType.getEventType(JsonLargeStringEvent.class);
+
+  private final JsonParseListener delegate;
+  private final Class<?> parser;
+  private int depth, maxDepth;
+
+  private JsonParseRecorder(JsonParseListener delegate, Class<?> parser) {
+    this.delegate = delegate;
+    this.parser = parser;
+  }
+
+  /**
+   * Returns true if any of the jsonic events is enabled in a running recording.
+   *
+   * @return true if parses should be recorded
+   */
+  public static boolean isRecording() {
+    return PARSE_EVENT.isEnabled() || PARSE_ERROR_EVENT.isEnabled()
+        || LARGE_STRING_EVENT.isEnabled();
+  }
+
+  /**
+   * Parses {@code traverser} with {@code parser}, recording the events of the parse.
+   *
+   * @see JsonParser#parse(JsonParser, JsonCharSourceTraverser, JsonSyntaxReader)
+   */
+  public static <@Nullable T> @Nullable T record(JsonParser<T> parser,
+                                                 JsonCharSourceTraverser traverser,
+                                                 JsonSyntaxReader syntaxReader) {
+    JsonParseRecorder recorder = new JsonParseRecorder(syntaxReader.listener(), parser.getClass());
+    JsonSyntaxReader recordingReader = new RecordingSyntaxReader(syntaxReader, recorder);
+    JsonProcessContext context = traverser.context();
+    // The current character has already been read, but is consumed by this parse
+    long offset = context.getOffset() - 1;
+    JsonParseEvent event = new JsonParseEvent();
+    recorder.onParseStart();
+    event.begin();
+    long start = System.nanoTime();
+    try {
+      @Nullable T value = parser.parse(traverser, recordingReader);
+      recorder.complete(event, traverser, offset, start, null);
+      return value;
+    } catch (RuntimeException e) {
+      recorder.complete(event, traverser, offset, start, e);
+      throw e;
+    }
+  }
+
+  @Override
+  public void onParseStart() {
+    this.delegate.onParseStart();
+  }
+
+  @Override
+  public void onParseEnd(long chars, long nanos, @Nullable Throwable error) {
+    this.delegate.onParseEnd(chars, nanos, error);
+  }
+
+  @Override
+  public void onObjectStart() {
+    this.maxDepth = Math.max(this.maxDepth, ++this.depth);
+    this.delegate.onObjectStart();
+  }
+
+  @Override
+  public void onObjectEnd(int size) {
+    --this.depth;
+    this.delegate.onObjectEnd(size);
+  }
+
+  @Override
+  public void onArrayStart() {
+    this.maxDepth = Math.max(this.maxDepth, ++this.depth);
+    this.delegate.onArrayStart();
+  }
+
+  @Override
+  public void onArrayEnd(int size) {
+    --this.depth;
+    this.delegate.onArrayEnd(size);
+  }
+
+  @Override
+  public void onKey() {
+    this.delegate.onKey();
+  }
+
+  @Override
+  public void onString(int length) {
+    JsonLargeStringEvent event = new JsonLargeStringEvent();
+    if (event.isEnabled()) {
+      event.length = length;
+      event.parser = this.parser;
+      if (event.shouldCommit()) event.commit();
+    }
+    this.delegate.onString(length);
+  }
+
+  private void complete(JsonParseEvent event, JsonCharSourceTraverser traverser,
+                        long offset, long start, @Nullable RuntimeException error) {
+    JsonProcessContext context = traverser.context();
+    long chars = context.getOffset() - offset;
+    event.end();
+    if (event.shouldCommit()) {
+      event.parser = this.parser;
+      event.sourceType = sourceType(traverser);
+      event.chars = chars;
+      event.depth = this.maxDepth;
+      event.succeeded = error == null;
+      event.commit();
+    }
+    if (error != null) {
+      JsonParseErrorEvent errorEvent = new JsonParseErrorEvent();
+      if (errorEvent.shouldCommit()) {
+        errorEvent.parser = this.parser;
+        errorEvent.sourceType = sourceType(traverser);
+        errorEvent.error = error.getClass();
+        errorEvent.message = error.getMessage();
+        // Parse errors occur at the current character, premature ends after the last one
+        errorEvent.offset = error instanceof JsonParseError
+            ? Math.max(0, context.getOffset() - 1) : context.getOffset();
+        errorEvent.commit();
+      }
+    }
+    this.onParseEnd(chars, System.nanoTime() - start, error);
+  }
+
+  private static String sourceType(JsonCharSourceTraverser traverser) {
+    Object source = traverser instanceof DefaultJsonCharSourceTraverser defaultTraverser
+        ? defaultTraverser.source() : traverser;
+    return source.getClass().getSimpleName();
+  }
+}
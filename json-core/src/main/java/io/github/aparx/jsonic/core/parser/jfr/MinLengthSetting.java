@@ -0,0 +1,53 @@
+package io.github.aparx.jsonic.core.parser.jfr;
+
+import jdk.jfr.SettingControl;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Set;
+
+/**
+ * Setting of the minimum length of {@code JsonLargeStringEvent}, where the lowest length of all
+ * running recordings applies.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 23:15
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class MinLengthSetting extends SettingControl {
+
+  public static final long DEFAULT_MIN_LENGTH = 1 << 16;
+
+  private volatile long minLength = DEFAULT_MIN_LENGTH;
+
+  @Override
+  public String combine(Set<String> values) {
+    long min = Long.MAX_VALUE;
+    for (String value : values)
+      min = Math.min(min, parse(value));
+    return Long.toString(min == Long.MAX_VALUE ? DEFAULT_MIN_LENGTH : min);
+  }
+
+  @Override
+  public void setValue(String value) {
+    this.minLength = parse(value);
+  }
+
+  @Override
+  public String getValue() {
+    return Long.toString(this.minLength);
+  }
+
+  boolean accepts(long length) {
+    return length >= this.minLength;
+  }
+
+  private static long parse(String value) {
+    try {
+      return Math.max(0, Long.parseLong(value.trim()));
+    } catch (NumberFormatException e) {
+      return DEFAULT_MIN_LENGTH;
+    }
+  }
+}
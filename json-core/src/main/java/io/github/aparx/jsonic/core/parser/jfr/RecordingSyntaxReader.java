@@ -0,0 +1,70 @@
+package io.github.aparx.jsonic.core.parser.jfr;
+
+import io.github.aparx.jsonic.core.JsonSymbol;
+import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.syntax.SyntaxReadPredicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.checkerframework.org.apache.commons.text.CharacterPredicate;
+
+/**
+ * Syntax reader delegating to another syntax reader, but supplying the recorder as listener.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 23:20
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class RecordingSyntaxReader implements JsonSyntaxReader {
+
+  private final JsonSyntaxReader delegate;
+  private final JsonParseListener listener;
+
+  RecordingSyntaxReader(JsonSyntaxReader delegate, JsonParseListener listener) {
+    this.delegate = delegate;
+    this.listener = listener;
+  }
+
+  @Override
+  public ParseErrorFactory errorFactory() {
+    return this.delegate.errorFactory();
+  }
+
+  @Override
+  public JsonParseListener listener() {
+    return this.listener;
+  }
+
+  @Override
+  public void nextAndSkip(JsonCharSourceTraverser traverser, CharacterPredicate skipPredicate) {
+    this.delegate.nextAndSkip(traverser, skipPredicate);
+  }
+
+  @Override
+  public void read(JsonCharSourceTraverser traverser, SyntaxReadPredicate predicate) {
+    this.delegate.read(traverser, predicate);
+  }
+
+  @Override
+  public String accumulate(JsonCharSourceTraverser traverser, SyntaxReadPredicate predicate) {
+    return this.delegate.accumulate(traverser, predicate);
+  }
+
+  @Override
+  public void expectSymbol(JsonCharSourceTraverser traverser, JsonSymbol symbol) {
+    this.delegate.expectSymbol(traverser, symbol);
+  }
+
+  @Override
+  public void expectLiteral(JsonCharSourceTraverser traverser, String literal) {
+    this.delegate.expectLiteral(traverser, literal);
+  }
+
+  @Override
+  public void expectLiteral(JsonCharSourceTraverser traverser, char literal) {
+    this.delegate.expectLiteral(traverser, literal);
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.aparx.jsonic.core.parser.listener;
+
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Listener notified about the progress of parsing, allowing to instrument parsers.
+ * <p>The listener is supplied by {@link JsonSyntaxReader#listener()}, which returns
+ * {@link #NONE} by default. Parsers call the listener unconditionally, thus the cost of a
+ * disabled listener is a call to an empty method, which is commonly inlined. Top-level parses
+ * through the {@code JsonParser} entry points are only timed, if the listener is not
+ * {@link #NONE}.
+ * <p>Listeners may be shared by multiple threads parsing concurrently, thus implementations must
+ * be thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 22:10
+ * @see JsonParseMetrics
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public interface JsonParseListener {
+
+  /** Listener ignoring all notifications */
+  JsonParseListener NONE = new JsonParseListener() {};
+
+  /** Called before a top-level parse begins, on the thread parsing */
+  default void onParseStart() {}
+
+  /**
+   * Called after a top-level parse completed or failed, on the thread parsing.
+   *
+   * @param chars the amount of characters consumed from the source
+   * @param nanos the duration of the parse in nanoseconds
+   * @param error the error that caused the parse to fail, or null if it succeeded
+   */
+  default void onParseEnd(long chars, long nanos, @Nullable Throwable error) {}
+
+  /** Called when an object parser begins an object */
+  default void onObjectStart() {}
+
+  /**
+   * Called when an object parser completed an object.
+   *
+   * @param size the amount of members of the object
+   */
+  default void onObjectEnd(int size) {}
+
+  /** Called when an array parser begins an array */
+  default void onArrayStart() {}
+
+  /**
+   * Called when an array parser completed an array.
+   *
+   * @param size the amount of elements of the array
+   */
+  default void onArrayEnd(int size) {}
+
+  /** Called when an object parser parsed a key, after its key parser completed */
+  default void onKey() {}
+
+  /**
+   * Called when a string parser allocated a string, including strings used as keys.
+   *
+   * @param length the length of the string
+   */
+  default void onString(int length) {}
+
+}
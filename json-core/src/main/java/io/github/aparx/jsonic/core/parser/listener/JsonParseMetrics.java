@@ -0,0 +1,155 @@
+package io.github.aparx.jsonic.core.parser.listener;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe listener accumulating counters of all parses it observes, meant to be read and
+ * exported periodically to a metrics system.
+ * <p>Counters are striped, thus concurrent parses do not contend on them. The nesting depth is
+ * tracked per instance and thread, and reset at the start and the end of each top-level parse,
+ * thus failed parses do not offset the depth of parses following them.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 15:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonParseMetrics implements JsonParseListener {
+
+  private final LongAdder documents = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder chars = new LongAdder();
+  private final LongAdder parseNanos = new LongAdder();
+  private final LongAccumulator maxParseNanos = new LongAccumulator(Math::max, 0);
+  private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+  private final LongAdder objects = new LongAdder();
+  private final LongAdder arrays = new LongAdder();
+  private final LongAdder keys = new LongAdder();
+  private final LongAdder strings = new LongAdder();
+  private final LongAdder stringChars = new LongAdder();
+
+  private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+  @Override
+  public void onParseStart() {
+    this.depth.get()[0] = 0;
+  }
+
+  @Override
+  public void onParseEnd(long chars, long nanos, @Nullable Throwable error) {
+    // Failed parses end without leaving their containers
+    this.depth.get()[0] = 0;
+    this.documents.increment();
+    if (error != null) this.failures.increment();
+    this.chars.add(chars);
+    this.parseNanos.add(nanos);
+    this.maxParseNanos.accumulate(nanos);
+  }
+
+  @Override
+  public void onObjectStart() {
+    this.objects.increment();
+    this.enter();
+  }
+
+  @Override
+  public void onObjectEnd(int size) {
+    --this.depth.get()[0];
+  }
+
+  @Override
+  public void onArrayStart() {
+    this.arrays.increment();
+    this.enter();
+  }
+
+  @Override
+  public void onArrayEnd(int size) {
+    --this.depth.get()[0];
+  }
+
+  @Override
+  public void onKey() {
+    this.keys.increment();
+  }
+
+  @Override
+  public void onString(int length) {
+    this.strings.increment();
+    this.stringChars.add(length);
+  }
+
+  /** Returns the amount of top-level parses, including failed ones */
+  public long documents() {
+    return this.documents.sum();
+  }
+
+  public long failures() {
+    return this.failures.sum();
+  }
+
+  /** Returns the amount of characters consumed by all top-level parses */
+  public long chars() {
+    return this.chars.sum();
+  }
+
+  /** Returns the total duration of all top-level parses in nanoseconds */
+  public long parseNanos() {
+    return this.parseNanos.sum();
+  }
+
+  public long maxParseNanos() {
+    return this.maxParseNanos.get();
+  }
+
+  /** Returns the deepest nesting of objects and arrays observed */
+  public long maxDepth() {
+    return this.maxDepth.get();
+  }
+
+  public long objects() {
+    return this.objects.sum();
+  }
+
+  public long arrays() {
+    return this.arrays.sum();
+  }
+
+  public long keys() {
+    return this.keys.sum();
+  }
+
+  /** Returns the amount of strings allocated, including strings used as keys */
+  public long strings() {
+    return this.strings.sum();
+  }
+
+  public long stringChars() {
+    return this.stringChars.sum();
+  }
+
+  /** Resets all counters, which is not atomic in regard to concurrent parses */
+  public void reset() {
+    this.documents.reset();
+    this.failures.reset();
+    this.chars.reset();
+    this.parseNanos.reset();
+    this.maxParseNanos.reset();
+    this.maxDepth.reset();
+    this.objects.reset();
+    this.arrays.reset();
+    this.keys.reset();
+    this.strings.reset();
+    this.stringChars.reset();
+  }
+
+  private void enter() {
+    int[] depth = this.depth.get();
+    this.maxDepth.accumulate(++depth[0]);
+  }
+}
@@ -0,0 +1,173 @@
+package io.github.aparx.jsonic.core.parser.snapshot;
+
+import io.github.aparx.jsonic.core.parser.source.MappedBuffers;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary snapshot of a parsed JSON value, which is navigated in place without parsing it again.
+ * <p>A snapshot is written once of the result of a parser, such as {@code JsonParsers.value()},
+ * and later memory-mapped with {@link #map(Path)}, which costs the same regardless of its size,
+ * since only the pages of the values navigated to are ever read. Arrays and objects store the
+ * offsets of their children, such that elements are accessed in constant time, and keys of
+ * larger objects are sorted into an index, such that they are looked up by binary search.
+ * <p>Snapshots are limited to 2 GiB, since they are addressed with {@code int} offsets. Values
+ * are written recursively, thus values nested thousands of levels deep cannot be written.
+ * <p>Mapped snapshots must be closed to release their mapping, after which their nodes throw
+ * {@code IllegalStateException}. Closing a snapshot while other threads still navigate it is not
+ * allowed, since their reads of the released memory would crash the virtual machine.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonSnapshot implements Closeable {
+
+  /** Extension of snapshot files */
+  public static final String FILE_EXTENSION = ".jsnap";
+
+  static final int MAGIC = 0x4A534E50;
+  static final byte VERSION = 1;
+
+  /** Size of the header, consisting of the magic number and the version */
+  static final int HEADER_SIZE = 5;
+  /** Size of the trailer, consisting of the offset of the root value */
+  static final int TRAILER_SIZE = 4;
+
+  static final byte TAG_NULL = 0, TAG_FALSE = 1, TAG_TRUE = 2;
+  static final byte TAG_LONG = 3, TAG_DOUBLE = 4, TAG_NUMBER = 5, TAG_STRING = 6;
+  static final byte TAG_ARRAY = 7, TAG_OBJECT = 8;
+
+  /** Minimum amount of keys, from which on objects are written with a sorted key index */
+  static final int SORTED_KEYS_THRESHOLD = 8;
+
+  final ByteBuffer buffer;
+  private final JsonSnapshotNode root;
+
+  /** Mapping owned by this snapshot, which is released on close, or null if wrapped */
+  private final @Nullable MappedByteBuffer mapping;
+
+  private volatile boolean closed;
+
+  private JsonSnapshot(ByteBuffer buffer, @Nullable MappedByteBuffer mapping) {
+    Preconditions.checkArgument(buffer.limit() >= HEADER_SIZE + TRAILER_SIZE
+            && buffer.getInt(0) == MAGIC && buffer.get(4) == VERSION,
+        "Buffer does not contain a snapshot");
+    this.buffer = buffer;
+    this.mapping = mapping;
+    this.root = new JsonSnapshotNode(this, buffer.getInt(buffer.limit() - TRAILER_SIZE));
+  }
+
+  /**
+   * Writes the snapshot of {@code value} into the file at {@code path}, replacing an existing
+   * one.
+   *
+   * @see #write(Object, OutputStream)
+   */
+  public static void write(@Nullable Object value, Path path) throws IOException {
+    try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(path))) {
+      write(value, stream);
+    }
+  }
+
+  /**
+   * Writes the snapshot of {@code value} into {@code stream}.
+   * <p>Supported are the values parsers result in, which are maps with string keys, collections,
+   * strings, booleans, numbers and null. Integral numbers are stored as {@code long} and other
+   * primitive numbers as {@code double}, while {@code JsonNumber}, {@code BigInteger} and
+   * {@code BigDecimal} instances are stored by their literal and read as {@code JsonNumber}.
+   *
+   * @param value  the value to write
+   * @param stream the stream to write to, which is not closed
+   * @throws IllegalArgumentException if {@code value} contains an unsupported value
+   * @throws IOException              if the snapshot exceeds 2 GiB or could not be written
+   */
+  public static void write(@Nullable Object value, OutputStream stream) throws IOException {
+    new JsonSnapshotWriter(stream).write(value);
+  }
+
+  /**
+   * Memory-maps the snapshot file at {@code path}.
+   * <p>The file remains mapped until the snapshot is closed and must not be modified in the
+   * meantime.
+   *
+   * @param path the snapshot file written by {@link #write(Object, Path)}
+   * @return the mapped snapshot, which must be closed
+   * @throws IOException if the file could not be mapped or is not a snapshot
+   */
+  public static JsonSnapshot map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE)
+        throw new IOException("Snapshot exceeds 2 GiB: " + path);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      try {
+        return new JsonSnapshot(buffer, buffer);
+      } catch (IllegalArgumentException e) {
+        MappedBuffers.unmap(buffer);
+        throw new IOException("Not a snapshot: " + path, e);
+      }
+    }
+  }
+
+  /**
+   * Wraps the snapshot contained in {@code buffer}, from index zero up to its limit. Closing the
+   * snapshot does not release {@code buffer}, which remains owned by the caller.
+   *
+   * @throws IllegalArgumentException if {@code buffer} does not contain a snapshot
+   */
+  public static JsonSnapshot wrap(ByteBuffer buffer) {
+    Preconditions.checkNotNull(buffer, "Buffer must not be null");
+    return new JsonSnapshot(buffer.duplicate().order(ByteOrder.BIG_ENDIAN), null);
+  }
+
+  /** Returns the snapshot of the value, which was written */
+  public JsonSnapshotNode root() {
+    this.checkOpen();
+    return this.root;
+  }
+
+  public boolean isClosed() {
+    return this.closed;
+  }
+
+  /**
+   * Closes this snapshot, unmapping the file if it was mapped. Subsequent calls have no effect.
+   */
+  @Override
+  public synchronized void close() {
+    if (this.closed) return;
+    this.closed = true;
+    if (this.mapping != null)
+      MappedBuffers.unmap(this.mapping);
+  }
+
+  void checkOpen() {
+    Preconditions.checkState(!this.closed, "Snapshot is closed");
+  }
+
+  /** Returns the size of this snapshot in bytes */
+  public int byteSize() {
+    return this.buffer.limit();
+  }
+
+  @Override
+  public String toString() {
+    return "JsonSnapshot{byteSize=" + this.byteSize()
+        + (this.closed ? ", closed" : ", root=" + this.root.type()) + '}';
+  }
+}
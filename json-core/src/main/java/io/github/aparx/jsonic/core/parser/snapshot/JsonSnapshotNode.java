@@ -0,0 +1,237 @@
+package io.github.aparx.jsonic.core.parser.snapshot;
+
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.aparx.jsonic.core.parser.snapshot.JsonSnapshot.*;
+
+/**
+ * Value within a {@link JsonSnapshot}, reading its record from the snapshot on access.
+ * <p>Nodes are lightweight views of an offset, which are created while navigating and read
+ * nothing more than what is accessed, thus navigating to a single value of a large snapshot only
+ * touches the records on its path. Nodes are safe to be used by multiple threads, and throw
+ * {@code IllegalStateException} once their snapshot is closed.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonSnapshotNode {
+
+  public enum Type {
+    NULL,
+    BOOLEAN,
+    NUMBER,
+    STRING,
+    ARRAY,
+    OBJECT
+  }
+
+  private static final Type[] TYPES_BY_TAG = {
+      Type.NULL, Type.BOOLEAN, Type.BOOLEAN, Type.NUMBER, Type.NUMBER, Type.NUMBER, Type.STRING,
+      Type.ARRAY, Type.OBJECT
+  };
+
+  /** Offset of the contents of records with a size, following their tag and size */
+  private static final int CONTENT_OFFSET = 1 + Integer.BYTES;
+
+  private final JsonSnapshot snapshot;
+  private final ByteBuffer buffer;
+  private final int offset;
+
+  JsonSnapshotNode(JsonSnapshot snapshot, int offset) {
+    this.snapshot = snapshot;
+    this.buffer = snapshot.buffer;
+    this.offset = offset;
+  }
+
+  public Type type() {
+    return TYPES_BY_TAG[this.tag()];
+  }
+
+  public boolean isNull() {
+    return this.tag() == TAG_NULL;
+  }
+
+  public boolean booleanValue() {
+    this.checkType(Type.BOOLEAN);
+    return this.tag() == TAG_TRUE;
+  }
+
+  /**
+   * Returns the number of this node, which is a {@code Long}, a {@code Double} or, if it was
+   * written of an arbitrary precision number, a {@link JsonNumber}.
+   */
+  public Number numberValue() {
+    return switch (this.tag()) {
+      case TAG_LONG -> this.buffer.getLong(this.offset + 1);
+      case TAG_DOUBLE -> this.buffer.getDouble(this.offset + 1);
+      case TAG_NUMBER -> JsonNumber.of(this.string(this.offset));
+      default -> throw this.typeMismatch(Type.NUMBER);
+    };
+  }
+
+  public long longValue() {
+    return this.tag() == TAG_LONG
+        ? this.buffer.getLong(this.offset + 1)
+        : this.numberValue().longValue();
+  }
+
+  public double doubleValue() {
+    return this.tag() == TAG_DOUBLE
+        ? this.buffer.getDouble(this.offset + 1)
+        : this.numberValue().doubleValue();
+  }
+
+  public String stringValue() {
+    this.checkType(Type.STRING);
+    return this.string(this.offset);
+  }
+
+  /** Returns the number of elements of arrays, or of keys of objects */
+  public int size() {
+    byte tag = this.tag();
+    Preconditions.checkState(tag == TAG_ARRAY || tag == TAG_OBJECT,
+        "Expected a container but node is %s", this.type());
+    return this.buffer.getInt(this.offset + 1);
+  }
+
+  /**
+   * Returns the element at {@code index} of arrays, or the value of the key at {@code index} of
+   * objects, in the order the keys were written in.
+   *
+   * @throws IndexOutOfBoundsException if {@code index} is not within {@link #size()}
+   */
+  public JsonSnapshotNode get(int index) {
+    Preconditions.checkElementIndex(index, this.size());
+    int children = this.offset + CONTENT_OFFSET;
+    return this.node(this.tag() == TAG_ARRAY
+        ? this.buffer.getInt(children + Integer.BYTES * index)
+        : this.buffer.getInt(children + 2 * Integer.BYTES * index + Integer.BYTES));
+  }
+
+  /** Returns the key at {@code index} of objects, in the order the keys were written in */
+  public String key(int index) {
+    this.checkType(Type.OBJECT);
+    Preconditions.checkElementIndex(index, this.size());
+    return this.string(this.keyOffset(index));
+  }
+
+  /**
+   * Returns the value of {@code key} of objects.
+   *
+   * @return the value, or null if this object has no such key
+   */
+  public @Nullable JsonSnapshotNode get(String key) {
+    this.checkType(Type.OBJECT);
+    byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+    int size = this.size();
+    int index = -1;
+    if (size < SORTED_KEYS_THRESHOLD) {
+      for (int i = 0; i < size && index < 0; ++i)
+        if (this.compareKey(this.keyOffset(i), bytes) == 0) index = i;
+    } else {
+      int order = this.offset + CONTENT_OFFSET + 2 * Integer.BYTES * size;
+      for (int low = 0, high = size - 1; low <= high && index < 0; ) {
+        int middle = (low + high) >>> 1;
+        int candidate = this.buffer.getInt(order + Integer.BYTES * middle);
+        int comparison = this.compareKey(this.keyOffset(candidate), bytes);
+        if (comparison < 0) low = middle + 1;
+        else if (comparison > 0) high = middle - 1;
+        else index = candidate;
+      }
+    }
+    return index >= 0 ? this.get(index) : null;
+  }
+
+  /**
+   * Reads this node into the value a parser would result in, reading objects into ordered maps
+   * and arrays into lists.
+   *
+   * @return the value of this node and all nodes within
+   */
+  public @Nullable Object toValue() {
+    return switch (this.type()) {
+      case NULL -> null;
+      case BOOLEAN -> this.booleanValue();
+      case NUMBER -> this.numberValue();
+      case STRING -> this.stringValue();
+      case ARRAY -> this.toList();
+      case OBJECT -> this.toMap();
+    };
+  }
+
+  @Override
+  public String toString() {
+    if (this.snapshot.isClosed())
+      return "JsonSnapshotNode{offset=" + this.offset + ", closed}";
+    return "JsonSnapshotNode{type=" + this.type() + ", offset=" + this.offset + '}';
+  }
+
+  private List<@Nullable Object> toList() {
+    int size = this.size();
+    List<@Nullable Object> list = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i)
+      list.add(this.get(i).toValue());
+    return list;
+  }
+
+  private Map<String, @Nullable Object> toMap() {
+    int size = this.size();
+    Map<String, @Nullable Object> map = new LinkedHashMap<>((int) (size / .75f) + 1);
+    for (int i = 0; i < size; ++i)
+      map.put(this.key(i), this.get(i).toValue());
+    return map;
+  }
+
+  /** Reads the tag of this node, which every access starts with, thus checking the snapshot */
+  private byte tag() {
+    this.snapshot.checkOpen();
+    return this.buffer.get(this.offset);
+  }
+
+  private JsonSnapshotNode node(int offset) {
+    return new JsonSnapshotNode(this.snapshot, offset);
+  }
+
+  private int keyOffset(int index) {
+    return this.buffer.getInt(this.offset + CONTENT_OFFSET + 2 * Integer.BYTES * index);
+  }
+
+  /** Reads the UTF-8 bytes of the string record at {@code offset} */
+  private String string(int offset) {
+    byte[] bytes = new byte[this.buffer.getInt(offset + 1)];
+    this.buffer.get(offset + CONTENT_OFFSET, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** Compares the string record at {@code offset} to {@code key} by their unsigned bytes */
+  private int compareKey(int offset, byte[] key) {
+    int length = this.buffer.getInt(offset + 1);
+    int start = offset + CONTENT_OFFSET;
+    for (int i = 0, n = Math.min(length, key.length); i < n; ++i) {
+      int comparison = Byte.compareUnsigned(this.buffer.get(start + i), key[i]);
+      if (comparison != 0) return comparison;
+    }
+    return Integer.compare(length, key.length);
+  }
+
+  private void checkType(Type type) {
+    if (this.type() != type) throw this.typeMismatch(type);
+  }
+
+  private IllegalStateException typeMismatch(Type expected) {
+    return new IllegalStateException("Expected " + expected + " but node is " + this.type());
+  }
+}
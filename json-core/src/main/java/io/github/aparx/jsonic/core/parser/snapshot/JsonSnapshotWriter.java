@@ -0,0 +1,169 @@
+package io.github.aparx.jsonic.core.parser.snapshot;
+
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static io.github.aparx.jsonic.core.parser.snapshot.JsonSnapshot.*;
+
+/**
+ * Writer of the snapshot of a value, writing its children before their container.
+ * <p>Each value is a record starting with its tag, whose offset is referred to by its container,
+ * which is written once all its children are written. Thus, the snapshot is written in a single
+ * pass, with the offset of the root in the trailer. Keys, null and booleans are written once and
+ * shared by all their occurrences.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 06:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class JsonSnapshotWriter {
+
+  private static final int NONE = -1;
+
+  private final DataOutputStream out;
+  private final Map<String, Integer> keys = new HashMap<>();
+  private long position;
+  private int nullOffset = NONE, falseOffset = NONE, trueOffset = NONE;
+
+  JsonSnapshotWriter(OutputStream stream) {
+    this.out = new DataOutputStream(stream);
+  }
+
+  void write(@Nullable Object value) throws IOException {
+    this.out.writeInt(MAGIC);
+    this.out.writeByte(VERSION);
+    this.position = HEADER_SIZE;
+    int root = this.value(value);
+    this.offset(TRAILER_SIZE);
+    this.out.writeInt(root);
+    this.out.flush();
+  }
+
+  /** Writes {@code value} unless it is shared, returning the offset of its record */
+  private int value(@Nullable Object value) throws IOException {
+    if (value == null) {
+      if (this.nullOffset == NONE) this.nullOffset = this.tag(TAG_NULL, 0);
+      return this.nullOffset;
+    }
+    if (value instanceof Boolean) {
+      if ((Boolean) value) {
+        if (this.trueOffset == NONE) this.trueOffset = this.tag(TAG_TRUE, 0);
+        return this.trueOffset;
+      }
+      if (this.falseOffset == NONE) this.falseOffset = this.tag(TAG_FALSE, 0);
+      return this.falseOffset;
+    }
+    if (value instanceof String) return this.string(TAG_STRING, (String) value);
+    if (value instanceof Number) return this.number((Number) value);
+    if (value instanceof Map) return this.object((Map<?, ?>) value);
+    if (value instanceof Collection) return this.array((Collection<?>) value);
+    throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+  }
+
+  private int number(Number number) throws IOException {
+    if (number instanceof Long || number instanceof Integer
+        || number instanceof Short || number instanceof Byte) {
+      int offset = this.tag(TAG_LONG, Long.BYTES);
+      this.out.writeLong(number.longValue());
+      return offset;
+    }
+    if (number instanceof Double || number instanceof Float) {
+      int offset = this.tag(TAG_DOUBLE, Double.BYTES);
+      this.out.writeDouble(number.doubleValue());
+      return offset;
+    }
+    if (number instanceof JsonNumber || number instanceof BigInteger
+        || number instanceof BigDecimal)
+      return this.string(TAG_NUMBER, number.toString());
+    throw new IllegalArgumentException("Unsupported number type: " + number.getClass().getName());
+  }
+
+  private int string(byte tag, String string) throws IOException {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    int offset = this.tag(tag, Integer.BYTES + bytes.length);
+    this.out.writeInt(bytes.length);
+    this.out.write(bytes);
+    return offset;
+  }
+
+  private int array(Collection<?> collection) throws IOException {
+    int[] elements = new int[collection.size()];
+    int size = 0;
+    for (@Nullable Object element : collection)
+      elements[size++] = this.value(element);
+    int offset = this.tag(TAG_ARRAY, Integer.BYTES * (1 + size));
+    this.out.writeInt(size);
+    for (int element : elements)
+      this.out.writeInt(element);
+    return offset;
+  }
+
+  private int object(Map<?, ?> map) throws IOException {
+    int size = map.size();
+    String[] names = new String[size];
+    int[] values = new int[size];
+    int index = 0;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      if (!(entry.getKey() instanceof String name))
+        throw new IllegalArgumentException("Unsupported key: " + entry.getKey());
+      names[index] = name;
+      values[index++] = this.value(entry.getValue());
+    }
+    int[] keyOffsets = new int[size];
+    for (int i = 0; i < size; ++i) {
+      @Nullable Integer shared = this.keys.get(names[i]);
+      if (shared == null) {
+        shared = this.string(TAG_STRING, names[i]);
+        this.keys.put(names[i], shared);
+      }
+      keyOffsets[i] = shared;
+    }
+    boolean sorted = size >= SORTED_KEYS_THRESHOLD;
+    int offset = this.tag(TAG_OBJECT, Integer.BYTES * (1 + (sorted ? 3 : 2) * size));
+    this.out.writeInt(size);
+    for (int i = 0; i < size; ++i) {
+      this.out.writeInt(keyOffsets[i]);
+      this.out.writeInt(values[i]);
+    }
+    if (sorted) {
+      // Sorted by their UTF-8 bytes, which is the order the keys are compared in when read
+      byte[][] encoded = new byte[size][];
+      for (int i = 0; i < size; ++i)
+        encoded[i] = names[i].getBytes(StandardCharsets.UTF_8);
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; ++i)
+        order[i] = i;
+      Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(encoded[a], encoded[b]));
+      for (int i : order)
+        this.out.writeInt(i);
+    }
+    return offset;
+  }
+
+  /** Writes {@code tag}, followed by a record of {@code length} bytes, returning its offset */
+  private int tag(byte tag, int length) throws IOException {
+    int offset = this.offset(1 + length);
+    this.out.writeByte(tag);
+    return offset;
+  }
+
+  /** Reserves {@code length} bytes at the current position, returning the position */
+  private int offset(long length) throws IOException {
+    long offset = this.position;
+    if (offset + length > Integer.MAX_VALUE)
+      throw new IOException("Snapshot exceeds 2 GiB");
+    this.position = offset + length;
+    return (int) offset;
+  }
+}
@@ -0,0 +1,137 @@
+package io.github.aparx.jsonic.core.parser.source;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * Source decoding UTF-8 bytes in large blocks into a character buffer, which is then iterated.
+ * <p>Subclasses supply the bytes through {@link #read(byte[], int, int)}, writing them directly
+ * into the decode buffer, thus no intermediate buffered stream is needed.
+ * <p>Resources, such as streams or native inflaters, are released once the end of input is
+ * reached. Sources that are not consumed entirely, such as sources failing to parse, must thus be
+ * closed to release them.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 14:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public abstract class DecodingJsonCharSource implements JsonCharSource, Closeable {
+
+  static final int BLOCK_SIZE = 1 << 16;
+
+  private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+  private final ByteBuffer bytes = ByteBuffer.allocate(BLOCK_SIZE).flip();
+  private final char[] chars = new char[BLOCK_SIZE];
+  private final CharBuffer out = CharBuffer.wrap(this.chars);
+
+  private int position, limit;
+  private boolean endOfInput, ended;
+
+  DecodingJsonCharSource() {}
+
+  /**
+   * Reads up to {@code length} bytes into {@code buffer}.
+   *
+   * @return the number of bytes read, which is only zero if {@code length} is, or {@code -1} if
+   * the end of input is reached
+   */
+  protected abstract int read(byte[] buffer, int offset, int length) throws IOException;
+
+  /**
+   * Releases the resources of this source, which is called once the end of input is reached, after
+   * which the characters not yet read may be discarded.
+   *
+   * @throws IOException if the underlying stream could not be closed
+   */
+  @Override
+  public void close() throws IOException {}
+
+  @Override
+  public boolean hasNext() {
+    return this.position < this.limit || this.refill();
+  }
+
+  @Override
+  public char next() {
+    if (!this.hasNext())
+      throw new NoSuchElementException("Source is exhausted");
+    return this.chars[this.position++];
+  }
+
+  private boolean refill() {
+    CharBuffer out = this.out;
+    ByteBuffer bytes = this.bytes;
+    out.clear();
+    try {
+      while (out.position() == 0) {
+        if (this.ended) return false;
+        if (this.endOfInput) {
+          CoderResult result = this.decoder.decode(bytes, out, true);
+          if (!result.isOverflow())
+            result = this.decoder.flush(out);
+          if (result.isError()) result.throwException();
+          if (result.isUnderflow()) {
+            this.ended = true;
+            this.close();
+          }
+          continue;
+        }
+        CoderResult result = this.decoder.decode(bytes, out, false);
+        if (result.isError()) result.throwException();
+        if (result.isUnderflow() && out.position() == 0) {
+          // Retain an incomplete trailing byte sequence and read the next block behind it
+          bytes.compact();
+          int read = this.read(bytes.array(), bytes.position(), bytes.remaining());
+          if (read < 0) this.endOfInput = true;
+          else bytes.position(bytes.position() + read);
+          bytes.flip();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    this.position = 0;
+    this.limit = out.position();
+    return true;
+  }
+
+  /** Source decoding an input stream, which is read in blocks */
+  static final class OfStream extends DecodingJsonCharSource {
+
+    private final InputStream stream;
+    private final boolean closeStream;
+
+    OfStream(InputStream stream, boolean closeStream) {
+      Preconditions.checkNotNull(stream, "Stream must not be null");
+      this.stream = stream;
+      this.closeStream = closeStream;
+    }
+
+    @Override
+    protected int read(byte[] buffer, int offset, int length) throws IOException {
+      int read;
+      do read = this.stream.read(buffer, offset, length);
+      while (read == 0 && length != 0);
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (this.closeStream)
+        this.stream.close();
+    }
+  }
+}
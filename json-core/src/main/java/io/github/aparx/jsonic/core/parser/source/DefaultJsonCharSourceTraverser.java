@@ -36,6 +36,15 @@ public final class DefaultJsonCharSourceTraverser implements JsonCharSourceTrave
     this.context = context;
   }
 
+  /**
+   * Returns the source this traverser reads from.
+   *
+   * @return the underlying source
+   */
+  public JsonCharSource source() {
+    return this.source;
+  }
+
   @Override
   public boolean hasNext() {
     return this.hasPeeked || this.source.hasNext();
@@ -73,6 +82,20 @@ public final class DefaultJsonCharSourceTraverser implements JsonCharSourceTrave
     return (this.peekedChar = this.source.next());
   }
 
+  /**
+   * Returns the index of the current character within the sequence of the source, if the source
+   * is a {@link JsonCharSequenceSource}.
+   *
+   * @return the index of the current character, or {@code -1} if the source is not backed by a
+   * sequence or nothing has been read yet
+   */
+  public int currentIndex() {
+    if (!(this.source instanceof JsonCharSequenceSource sequenceSource) || !this.hasRead())
+      return -1;
+    // The source is one character ahead of the traverser, if the traverser has peeked
+    return sequenceSource.index() - (this.hasPeeked ? 2 : 1);
+  }
+
   public char current() {
     if (this.currentChar == NULL_CHARACTER)
       throw new NoSuchElementException("Context has not been read yet");
@@ -0,0 +1,162 @@
+package io.github.aparx.jsonic.core.parser.source;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Source inflating gzip compressed input, as defined in RFC 1952, directly into the decode
+ * buffer. Compressed input is read in large blocks, and concatenated members are read one after
+ * another, as if they were a single member.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 14:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class GzipJsonCharSource extends DecodingJsonCharSource {
+
+  private static final int FLAG_HEADER_CRC = 2;
+  private static final int FLAG_EXTRA = 4;
+  private static final int FLAG_NAME = 8;
+  private static final int FLAG_COMMENT = 16;
+
+  private final InputStream stream;
+  private final boolean closeStream;
+
+  private final Inflater inflater = new Inflater(true);
+  private final CRC32 crc = new CRC32();
+
+  /** Compressed input, where bytes in between position and limit are not given to the inflater */
+  private final byte[] input = new byte[BLOCK_SIZE];
+  private int inputPosition, inputLimit;
+
+  private boolean inMember, finished;
+  private long memberSize;
+
+  GzipJsonCharSource(InputStream stream, boolean closeStream) {
+    Preconditions.checkNotNull(stream, "Stream must not be null");
+    this.stream = stream;
+    this.closeStream = closeStream;
+  }
+
+  @Override
+  protected int read(byte[] buffer, int offset, int length) throws IOException {
+    Inflater inflater = this.inflater;
+    while (!this.finished) {
+      if (!this.inMember) {
+        if (!this.readHeader()) break;
+        this.inMember = true;
+      }
+      int inflated;
+      try {
+        inflated = inflater.inflate(buffer, offset, length);
+      } catch (DataFormatException e) {
+        throw new ZipException(e.getMessage());
+      }
+      if (inflated > 0) {
+        this.crc.update(buffer, offset, inflated);
+        this.memberSize += inflated;
+        return inflated;
+      }
+      if (inflater.finished()) {
+        this.inputPosition = this.inputLimit - inflater.getRemaining();
+        this.readTrailer();
+        this.inMember = false;
+      } else if (inflater.needsDictionary()) {
+        throw new ZipException("Preset dictionaries are not supported");
+      } else if (inflater.needsInput()) {
+        if (this.inputPosition == this.inputLimit && !this.fillInput())
+          throw new EOFException("Unexpected end of gzip stream");
+        inflater.setInput(this.input, this.inputPosition, this.inputLimit - this.inputPosition);
+        this.inputPosition = this.inputLimit;
+      }
+    }
+    this.finished = true;
+    return -1;
+  }
+
+  @Override
+  public void close() throws IOException {
+    // Ended inflaters must not be used, thus further reads report the end of input
+    this.finished = true;
+    this.inflater.end();
+    if (this.closeStream)
+      this.stream.close();
+  }
+
+  /** Reads the header of the next member, returning false if the input ended before it */
+  private boolean readHeader() throws IOException {
+    int id1 = this.readByte();
+    if (id1 < 0) return false;
+    if (id1 != 0x1f || this.requireByte() != 0x8b)
+      throw new ZipException("Not in GZIP format");
+    if (this.requireByte() != 8)
+      throw new ZipException("Unsupported compression method");
+    int flags = this.requireByte();
+    this.skip(6); // modification time, extra flags and operating system
+    if ((flags & FLAG_EXTRA) != 0)
+      this.skip(this.requireByte() | this.requireByte() << 8);
+    if ((flags & FLAG_NAME) != 0)
+      while (this.requireByte() != 0) ;
+    if ((flags & FLAG_COMMENT) != 0)
+      while (this.requireByte() != 0) ;
+    if ((flags & FLAG_HEADER_CRC) != 0)
+      this.skip(2);
+    this.inflater.reset();
+    this.crc.reset();
+    this.memberSize = 0;
+    return true;
+  }
+
+  private void readTrailer() throws IOException {
+    long crc = this.readInt();
+    long size = this.readInt();
+    if (crc != this.crc.getValue() || size != (this.memberSize & 0xffffffffL))
+      throw new ZipException("Corrupt GZIP trailer");
+  }
+
+  /** Reads a little-endian unsigned integer */
+  private long readInt() throws IOException {
+    long value = 0;
+    for (int i = 0; i < 4; ++i)
+      value |= (long) this.requireByte() << (i << 3);
+    return value;
+  }
+
+  private void skip(int count) throws IOException {
+    for (int i = 0; i < count; ++i)
+      this.requireByte();
+  }
+
+  private int requireByte() throws IOException {
+    int read = this.readByte();
+    if (read < 0)
+      throw new EOFException("Unexpected end of gzip stream");
+    return read;
+  }
+
+  private int readByte() throws IOException {
+    if (this.inputPosition == this.inputLimit && !this.fillInput())
+      return -1;
+    return this.input[this.inputPosition++] & 0xff;
+  }
+
+  private boolean fillInput() throws IOException {
+    int read;
+    do read = this.stream.read(this.input, 0, this.input.length);
+    while (read == 0);
+    if (read < 0) return false;
+    this.inputPosition = 0;
+    this.inputLimit = read;
+    return true;
+  }
+}
@@ -0,0 +1,24 @@
+package io.github.aparx.jsonic.core.parser.source;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Source iterating the characters of a {@code CharSequence}, which exposes the sequence, such that
+ * parsers can refer to ranges of it instead of copying their characters.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 07:05
+ * @see JsonCharSources#of(CharSequence)
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public interface JsonCharSequenceSource extends JsonCharSource {
+
+  /** Returns the sequence this source iterates */
+  CharSequence sequence();
+
+  /** Returns the index within {@link #sequence()} of the character returned by the next read */
+  int index();
+
+}
@@ -1,17 +1,24 @@
 package io.github.aparx.jsonic.core.parser.source;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.com.google.common.base.Preconditions;
 import org.checkerframework.com.google.errorprone.annotations.CheckReturnValue;
 import org.checkerframework.common.value.qual.IntRange;
 import org.checkerframework.framework.qual.DefaultQualifier;
 
 import java.io.*;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.NoSuchElementException;
+import java.util.ServiceLoader;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * @author aparx (Vinzent Z.)
- * @version 2024-11-15 14:37
+ * @version 2026-10-20 15:15
  * @since 1.0
  */
 @DefaultQualifier(NonNull.class)
@@ -42,17 +49,229 @@ public final class JsonCharSources {
     return new SequenceSource(sequence, 0, sequence.length());
   }
 
+  /**
+   * Returns a source of {@code chars}, which are wrapped without copying them.
+   *
+   * @see #of(CharSequence)
+   */
+  @CheckReturnValue
+  public static JsonCharSource of(char[] chars) {
+    return of(CharBuffer.wrap(chars));
+  }
+
+  /**
+   * Returns a source whose characters are the bytes of {@code inputStream}, which is thus only
+   * suitable for ASCII and Latin-1 input.
+   *
+   * @see #utf8(InputStream)
+   */
   @CheckReturnValue
   public static JsonCharSource of(InputStream inputStream) {
     return new InputStreamSource(inputStream);
   }
 
+  /**
+   * Returns a source decoding {@code inputStream} as UTF-8 in large blocks, unlike
+   * {@link #of(InputStream)}, whose characters are the bytes of the stream.
+   *
+   * @param inputStream the stream to decode, which is not closed by the source
+   * @return the source
+   */
+  @CheckReturnValue
+  public static JsonCharSource utf8(InputStream inputStream) {
+    return new DecodingJsonCharSource.OfStream(inputStream, false);
+  }
+
   @CheckReturnValue
   public static JsonCharSource of(File file) throws FileNotFoundException {
     return new InputStreamSource(new FileInputStream(file));
   }
 
-  private static final class SequenceSource implements JsonCharSource {
+  /**
+   * Returns a source decoding the file at {@code path} as UTF-8, starting at the byte
+   * {@code offset}, which is memory-mapped in windows rather than read.
+   * <p>The offset must be the start of a UTF-8 sequence, such as an offset recorded by a
+   * {@link io.github.aparx.jsonic.core.parser.index.JsonStructuralIndex}, which allows parsing
+   * a single value of a huge file without reading the file up to it.
+   *
+   * @param path   the file to read
+   * @param offset the byte offset of the first character
+   * @return the source, which must be closed if not consumed entirely
+   * @throws IOException if the file could not be opened
+   */
+  @CheckReturnValue
+  public static MappedJsonCharSource map(Path path, long offset) throws IOException {
+    return new MappedJsonCharSource(path, offset);
+  }
+
+  /**
+   * Returns a source inflating the gzip compressed {@code inputStream} and decoding it as UTF-8.
+   * Compressed bytes are read in large blocks and inflated directly into the decode buffer, thus
+   * {@code inputStream} should not be buffered. Concatenated gzip members are read as one.
+   * <p>Errors of the stream and corrupt input are thrown as {@code UncheckedIOException}.
+   *
+   * @param inputStream the compressed stream, which is not closed by the source
+   * @return the source, which must be closed if not consumed entirely, to release its inflater
+   */
+  @CheckReturnValue
+  public static DecodingJsonCharSource gzip(InputStream inputStream) {
+    return new GzipJsonCharSource(inputStream, false);
+  }
+
+  /**
+   * Returns a source inflating the gzip compressed file at {@code path}, which is closed once the
+   * source is exhausted or closed.
+   *
+   * @param path the compressed file to read
+   * @return the source, which must be closed if not consumed entirely, such as if parsing fails
+   * @throws IOException if the file could not be opened
+   * @see #gzip(InputStream)
+   */
+  @CheckReturnValue
+  public static DecodingJsonCharSource gzip(Path path) throws IOException {
+    return new GzipJsonCharSource(Files.newInputStream(path), true);
+  }
+
+  /**
+   * Returns a source decompressing {@code inputStream} with the {@code JsonDecompressor} of
+   * {@code format}, decoding the decompressed bytes as UTF-8 in large blocks.
+   *
+   * @param format      the name of the compression format, such as {@code "zstd"}
+   * @param inputStream the compressed stream, which is closed once the source is exhausted or
+   *                    closed
+   * @return the source, which must be closed if not consumed entirely, such as if parsing fails
+   * @throws IllegalStateException if no decompressor of {@code format} is installed
+   * @throws IOException           if the decompressor could not open the stream
+   */
+  @CheckReturnValue
+  public static DecodingJsonCharSource decompress(String format, InputStream inputStream)
+      throws IOException {
+    Preconditions.checkNotNull(format, "Format must not be null");
+    Preconditions.checkNotNull(inputStream, "Stream must not be null");
+    for (JsonDecompressor decompressor : ServiceLoader.load(JsonDecompressor.class))
+      if (decompressor.format().equalsIgnoreCase(format))
+        return new DecodingJsonCharSource.OfStream(decompressor.decompress(inputStream), true);
+    throw new IllegalStateException("No decompressor installed for " + format);
+  }
+
+  @CheckReturnValue
+  public static DecodingJsonCharSource zstd(InputStream inputStream) throws IOException {
+    return decompress("zstd", inputStream);
+  }
+
+  /**
+   * Returns a source decoding {@code inputStream} as UTF-8 on a background thread, reading ahead
+   * of the consumer with two buffers of {@link ReadAheadJsonCharSource#DEFAULT_BUFFER_SIZE}.
+   *
+   * @param inputStream the stream to read from, closed once it is read entirely or the source is
+   *                    closed
+   * @return the source, which must be closed if not consumed entirely
+   * @see #readAhead(Reader, int, ThreadFactory)
+   */
+  @CheckReturnValue
+  public static ReadAheadJsonCharSource readAhead(InputStream inputStream) {
+    return readAhead(inputStream, ReadAheadJsonCharSource.DEFAULT_BUFFER_SIZE, null);
+  }
+
+  @CheckReturnValue
+  public static ReadAheadJsonCharSource readAhead(
+      InputStream inputStream, int bufferSize, @Nullable ThreadFactory threadFactory) {
+    Preconditions.checkNotNull(inputStream, "Stream must not be null");
+    Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    return new ReadAheadJsonCharSource(reader, bufferSize, threadFactory);
+  }
+
+  /**
+   * Returns a source decoding {@code file} as UTF-8 on a background thread, which closes the file
+   * once it is read entirely.
+   *
+   * @param file the file to read
+   * @return the source, which must be closed if not consumed entirely
+   * @throws FileNotFoundException if the file could not be opened
+   * @see #readAhead(InputStream)
+   */
+  @CheckReturnValue
+  public static ReadAheadJsonCharSource readAhead(File file) throws FileNotFoundException {
+    return readAhead(new FileInputStream(file));
+  }
+
+  /**
+   * Returns a source reading {@code reader} on a thread created by {@code threadFactory}, while
+   * the consumer iterates the previously read buffer. Virtual threads may be used by passing
+   * their factory, since the reading thread is blocked most of its time.
+   *
+   * @param reader        the reader to read from, closed once it is read entirely or the source
+   *                      is closed
+   * @param bufferSize    the capacity of each of both buffers
+   * @param threadFactory the factory creating the reading thread, or null to use a daemon thread
+   * @return the source, which must be closed if not consumed entirely
+   */
+  @CheckReturnValue
+  public static ReadAheadJsonCharSource readAhead(
+      Reader reader, int bufferSize, @Nullable ThreadFactory threadFactory) {
+    return new ReadAheadJsonCharSource(reader, bufferSize, threadFactory);
+  }
+
+  /**
+   * Returns a source of {@code length} bytes of {@code bytes} from {@code offset} on, in which
+   * each byte is one character from {@code 0} to {@code 255}, without decoding.
+   * <p>Such sources are read by binary parsers, whose records are made of bytes rather than of
+   * text.
+   *
+   * @param bytes  the bytes to read
+   * @param offset the index of the first byte
+   * @param length the amount of bytes to read
+   * @return the source of the bytes, which are not copied
+   */
+  @CheckReturnValue
+  public static JsonCharSource binary(byte[] bytes, int offset, int length) {
+    Preconditions.checkNotNull(bytes, "Bytes must not be null");
+    Preconditions.checkPositionIndexes(offset, offset + length, bytes.length);
+    return new ByteArraySource(bytes, offset, offset + length);
+  }
+
+  @CheckReturnValue
+  public static JsonCharSource binary(byte[] bytes) {
+    return binary(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Returns a source of the bytes of {@code inputStream}, in which each byte is one character
+   * from {@code 0} to {@code 255}, without decoding.
+   *
+   * @see #binary(byte[], int, int)
+   */
+  @CheckReturnValue
+  public static JsonCharSource binary(InputStream inputStream) {
+    return new InputStreamSource(inputStream);
+  }
+
+  private static final class ByteArraySource implements JsonCharSource {
+
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+
+    ByteArraySource(byte[] bytes, int offset, int limit) {
+      this.bytes = bytes;
+      this.position = offset;
+      this.limit = limit;
+    }
+
+    @Override
+    public char next() {
+      if (this.position >= this.limit)
+        throw new NoSuchElementException("Source is exhausted");
+      return (char) (this.bytes[this.position++] & 0xFF);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.position < this.limit;
+    }
+  }
+
+  private static final class SequenceSource implements JsonCharSequenceSource {
 
     private final CharSequence sequence;
     private final int length;
@@ -76,6 +295,16 @@ public final class JsonCharSources {
     public boolean hasNext() {
       return this.position < this.length - 1;
     }
+
+    @Override
+    public CharSequence sequence() {
+      return this.sequence;
+    }
+
+    @Override
+    public int index() {
+      return this.position + 1;
+    }
   }
 
   private static final class InputStreamSource implements JsonCharSource {
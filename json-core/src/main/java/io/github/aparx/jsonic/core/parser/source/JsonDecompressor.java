@@ -0,0 +1,41 @@
+package io.github.aparx.jsonic.core.parser.source;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ServiceLoader;
+
+/**
+ * Service providing the decompression of a compression format, such as zstd, allowing
+ * compressed sources without the core depending on any compression library.
+ * <p>Implementations are discovered through the {@link ServiceLoader}, thus they must be
+ * registered as a provider of this interface in {@code META-INF/services} and have a public
+ * no-argument constructor.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 20:15
+ * @see JsonCharSources#decompress(String, InputStream)
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public interface JsonDecompressor {
+
+  /**
+   * Returns the name of the compression format, such as {@code "zstd"}, compared ignoring case.
+   *
+   * @return the name of the supported format
+   */
+  String format();
+
+  /**
+   * Returns a stream decompressing {@code stream}.
+   *
+   * @param stream the compressed stream
+   * @return the decompressed stream, closing {@code stream} once closed itself
+   * @throws IOException if the stream could not be opened
+   */
+  InputStream decompress(InputStream stream) throws IOException;
+
+}
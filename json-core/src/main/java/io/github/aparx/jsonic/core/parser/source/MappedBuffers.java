@@ -0,0 +1,68 @@
+package io.github.aparx.jsonic.core.parser.source;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+/**
+ * Releases memory-mapped buffers deterministically, rather than once they are garbage collected.
+ * <p>Mappings are otherwise only released by the garbage collector, thus mapping files
+ * repeatedly may exhaust the mappings a process is allowed to hold, before enough buffers are
+ * collected. Unmapping requires {@code sun.misc.Unsafe} of the {@code jdk.unsupported} module,
+ * without which buffers are left to the garbage collector.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class MappedBuffers {
+
+  /** {@code Unsafe.invokeCleaner(ByteBuffer)} bound to the unsafe instance, if available */
+  private static final @Nullable MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+  private MappedBuffers() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Unmaps {@code buffer}, after which neither it nor any of its duplicates or slices may be
+   * accessed anymore, since accessing unmapped memory crashes the virtual machine.
+   *
+   * @param buffer the buffer mapped by {@code FileChannel.map}, which must not be a duplicate or
+   *               a slice of a mapped buffer
+   * @return true if the buffer was unmapped, false if unmapping is not supported
+   */
+  public static boolean unmap(MappedByteBuffer buffer) {
+    if (INVOKE_CLEANER == null) return false;
+    try {
+      INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+      return true;
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Could not unmap buffer", e);
+    }
+  }
+
+  private static @Nullable MethodHandle findInvokeCleaner() {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field field = unsafeClass.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      return MethodHandles.lookup()
+          .findVirtual(unsafeClass, "invokeCleaner",
+              MethodType.methodType(void.class, ByteBuffer.class))
+          .bindTo(field.get(null));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+}
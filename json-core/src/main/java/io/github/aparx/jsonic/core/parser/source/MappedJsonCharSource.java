@@ -0,0 +1,76 @@
+package io.github.aparx.jsonic.core.parser.source;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Source decoding a file from a byte offset on, which is memory-mapped in windows.
+ * <p>The file is only opened to map the next window, since mappings remain valid once their
+ * channel is closed, thus sources hold no file handle. Windows are mapped lazily, such that
+ * reading a value near the offset maps only a single window, regardless of the size of the file.
+ * <p>Each window is unmapped once the next one is mapped, and the last one once the end of the
+ * file is reached or this source is closed. Sources that are not consumed entirely, such as
+ * sources of a single value, must thus be closed to release their window.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 14:30
+ * @see JsonCharSources#map(Path, long)
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class MappedJsonCharSource extends DecodingJsonCharSource {
+
+  static final long WINDOW_SIZE = 1L << 26;
+
+  private final Path path;
+  private final long size;
+  private long position;
+  private @Nullable MappedByteBuffer window;
+
+  MappedJsonCharSource(Path path, long offset) throws IOException {
+    Preconditions.checkNotNull(path, "Path must not be null");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      this.size = channel.size();
+    }
+    Preconditions.checkArgument(offset >= 0 && offset <= this.size,
+        "Offset %s is out of the bounds of the file", offset);
+    this.path = path;
+    this.position = offset;
+  }
+
+  @Override
+  protected int read(byte[] buffer, int offset, int length) throws IOException {
+    if (length == 0) return 0;
+    @Nullable MappedByteBuffer window = this.window;
+    if (window == null || !window.hasRemaining()) {
+      if (this.position >= this.size) return -1;
+      this.close();
+      long windowSize = Math.min(WINDOW_SIZE, this.size - this.position);
+      try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+        this.window = window = channel.map(
+            FileChannel.MapMode.READ_ONLY, this.position, windowSize);
+      }
+      this.position += windowSize;
+    }
+    int read = Math.min(length, window.remaining());
+    window.get(buffer, offset, read);
+    return read;
+  }
+
+  /** Unmaps the current window, after which the characters of it not yet read are discarded */
+  @Override
+  public void close() {
+    @Nullable MappedByteBuffer window = this.window;
+    if (window == null) return;
+    this.window = null;
+    MappedBuffers.unmap(window);
+  }
+}
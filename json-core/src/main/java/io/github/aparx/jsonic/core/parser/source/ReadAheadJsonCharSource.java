@@ -0,0 +1,185 @@
+package io.github.aparx.jsonic.core.parser.source;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Source reading ahead of the consumer on a background thread, such that reading and decoding
+ * the next buffer overlaps with parsing the current one.
+ * <p>Two buffers are exchanged between the reading thread and the consumer: while the consumer
+ * iterates one buffer, the reading thread fills the other. Errors of the underlying reader are
+ * rethrown to the consumer, once all characters read before the error have been consumed, with
+ * I/O errors wrapped in {@code UncheckedIOException}. Any error thus ends the reading thread
+ * without leaving the consumer waiting for a buffer that is never filled.
+ * <p>The reading thread closes the underlying reader once it reaches its end or fails. This
+ * source must thus only be closed, if it is not consumed entirely, to stop the reading thread and
+ * close the underlying reader.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 15:15
+ * @see JsonCharSources#readAhead(java.io.InputStream)
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class ReadAheadJsonCharSource implements JsonCharSource, Closeable {
+
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  private static final ThreadFactory DEFAULT_THREAD_FACTORY = (runnable) -> {
+    Thread thread = new Thread(runnable, "jsonic-read-ahead");
+    thread.setDaemon(true);
+    return thread;
+  };
+
+  private final Reader reader;
+  private final Thread thread;
+
+  private final BlockingQueue<Buffer> free = new ArrayBlockingQueue<>(2);
+  private final BlockingQueue<Buffer> filled = new ArrayBlockingQueue<>(2);
+
+  private Buffer current = new Buffer(0);
+  private int position;
+
+  private volatile boolean closed;
+
+  ReadAheadJsonCharSource(Reader reader, int bufferSize, @Nullable ThreadFactory threadFactory) {
+    Preconditions.checkNotNull(reader, "Reader must not be null");
+    Preconditions.checkArgument(bufferSize > 0, "Buffer size must be greater than zero");
+    this.reader = reader;
+    this.free.add(new Buffer(bufferSize));
+    this.free.add(new Buffer(bufferSize));
+    this.thread = (threadFactory != null ? threadFactory : DEFAULT_THREAD_FACTORY)
+        .newThread(this::readAhead);
+    this.thread.start();
+  }
+
+  @Override
+  public boolean hasNext() {
+    Buffer current = this.current;
+    while (this.position >= current.length) {
+      if (current.last) {
+        if (current.error != null)
+          throw rethrow(current.error);
+        return false;
+      }
+      current = this.swap();
+    }
+    return true;
+  }
+
+  @Override
+  public char next() {
+    if (!this.hasNext())
+      throw new NoSuchElementException("Source is exhausted");
+    return this.current.chars[this.position++];
+  }
+
+  /**
+   * Stops the reading thread and closes the underlying reader. Characters not yet consumed are
+   * discarded.
+   *
+   * @throws IOException if the reader could not be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (this.closed) return;
+    this.closed = true;
+    this.thread.interrupt();
+    this.reader.close();
+  }
+
+  /** Hands the consumed buffer back to the reading thread and waits for the next one */
+  private Buffer swap() {
+    Preconditions.checkState(!this.closed, "Source is closed");
+    if (this.current.chars.length != 0)
+      this.free.add(this.current);
+    try {
+      this.current = this.filled.take();
+      this.position = 0;
+      return this.current;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedIOException(new InterruptedIOException("Interrupted while reading"));
+    }
+  }
+
+  private void readAhead() {
+    try {
+      Buffer buffer;
+      do {
+        buffer = this.free.take();
+        buffer.length = 0;
+        try {
+          this.fill(buffer);
+        } catch (Throwable e) {
+          // Any error is handed to the consumer, which would otherwise wait for this buffer
+          buffer.error = this.closed ? null : e;
+          buffer.last = true;
+        }
+        if (buffer.last) this.closeReader(buffer);
+        this.filled.put(buffer);
+      } while (!buffer.last && !this.closed);
+    } catch (InterruptedException e) {
+      // closed by the consumer
+    }
+  }
+
+  /** Closes the reader before the last buffer is handed over, thus consumed sources are closed */
+  private void closeReader(Buffer buffer) {
+    try {
+      this.reader.close();
+    } catch (Throwable e) {
+      if (buffer.error != null) buffer.error.addSuppressed(e);
+      else if (!this.closed) buffer.error = e;
+    }
+  }
+
+  /** Returns the exception to throw to the consumer for {@code error}, unless it is an error */
+  private static RuntimeException rethrow(Throwable error) {
+    if (error instanceof Error)
+      throw (Error) error;
+    if (error instanceof RuntimeException)
+      return (RuntimeException) error;
+    if (error instanceof IOException)
+      return new UncheckedIOException((IOException) error);
+    return new IllegalStateException("Could not read ahead", error);
+  }
+
+  /** Fills the buffer entirely, unless the end of the reader is reached */
+  private void fill(Buffer buffer) throws IOException {
+    char[] chars = buffer.chars;
+    while (buffer.length < chars.length) {
+      int read = this.reader.read(chars, buffer.length, chars.length - buffer.length);
+      if (read < 0) {
+        buffer.last = true;
+        return;
+      }
+      buffer.length += read;
+    }
+  }
+
+  /** Buffer exchanged between both threads, whose fields are published through the queues */
+  private static final class Buffer {
+
+    final char[] chars;
+    int length;
+    boolean last;
+    @Nullable Throwable error;
+
+    Buffer(int capacity) {
+      this.chars = new char[capacity];
+    }
+  }
+}
@@ -2,6 +2,7 @@ package io.github.aparx.jsonic.core.parser.syntax;
 
 import io.github.aparx.jsonic.core.JsonSymbol;
 import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.com.google.common.base.Preconditions;
@@ -19,14 +20,25 @@ public class DefaultJsonSyntaxReader implements JsonSyntaxReader {
   public static final JsonSyntaxReader DEFAULT =
       new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT);
 
+  /** Syntax reader creating stackless errors with lazily formatted messages */
+  public static final JsonSyntaxReader STACKLESS =
+      new DefaultJsonSyntaxReader(ParseErrorFactory.STACKLESS);
+
   private static final String EXPECTED_SYMBOL_ERROR = "Expected symbol: %s (%s)";
   private static final String EXPECTED_CHARACTER_ERROR = "Expected character: %s";
 
   private final ParseErrorFactory errorFactory;
+  private final JsonParseListener listener;
 
   public DefaultJsonSyntaxReader(ParseErrorFactory errorFactory) {
+    this(errorFactory, JsonParseListener.NONE);
+  }
+
+  public DefaultJsonSyntaxReader(ParseErrorFactory errorFactory, JsonParseListener listener) {
     Preconditions.checkNotNull(errorFactory, "Error factory must not be null");
+    Preconditions.checkNotNull(listener, "Listener must not be null");
     this.errorFactory = errorFactory;
+    this.listener = listener;
   }
 
   @Override
@@ -34,6 +46,11 @@ public class DefaultJsonSyntaxReader implements JsonSyntaxReader {
     return this.errorFactory;
   }
 
+  @Override
+  public JsonParseListener listener() {
+    return this.listener;
+  }
+
   @Override
   public void nextAndSkip(JsonCharSourceTraverser traverser, CharacterPredicate skipPredicate) {
     //noinspection StatementWithEmptyBody
@@ -55,8 +72,8 @@ public class DefaultJsonSyntaxReader implements JsonSyntaxReader {
   @Override
   public void expectSymbol(JsonCharSourceTraverser traverser, JsonSymbol symbol) {
     if (symbol.matches(traverser.current())) return;
-    String message = String.format(EXPECTED_SYMBOL_ERROR, symbol.name(), symbol.literal());
-    throw this.errorFactory.create(this, traverser, message);
+    throw this.errorFactory.create(this, traverser, EXPECTED_SYMBOL_ERROR,
+        symbol.name(), symbol.literal());
   }
 
   @Override
@@ -70,14 +87,13 @@ public class DefaultJsonSyntaxReader implements JsonSyntaxReader {
     }
     if (cursor == len) return;
     // This error occurred, because we have not matched n length, but is required
-    String message = String.format(EXPECTED_CHARACTER_ERROR, literal.charAt(cursor));
-    throw this.errorFactory.create(this, traverser, message);
+    throw this.errorFactory.create(this, traverser, EXPECTED_CHARACTER_ERROR,
+        literal.charAt(cursor));
   }
 
   @Override
   public void expectLiteral(JsonCharSourceTraverser traverser, char literal) {
     if (traverser.current() == literal) return;
-    String message = String.format(EXPECTED_CHARACTER_ERROR, literal);
-    throw this.errorFactory.create(this, traverser, message);
+    throw this.errorFactory.create(this, traverser, EXPECTED_CHARACTER_ERROR, literal);
   }
 }
\ No newline at end of file
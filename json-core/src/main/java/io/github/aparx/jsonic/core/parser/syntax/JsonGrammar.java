@@ -0,0 +1,88 @@
+package io.github.aparx.jsonic.core.parser.syntax;
+
+/**
+ * Character classes of the JSON grammar, as defined in RFC 8259.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 13:05
+ * @since 1.0
+ */
+public final class JsonGrammar {
+
+  private JsonGrammar() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns true if {@code ch} can be the first character of a JSON number.
+   *
+   * @param ch the character to test, or {@code -1}
+   * @return true if {@code ch} is either a minus sign or a decimal digit
+   */
+  public static boolean isNumberStart(int ch) {
+    return ch == '-' || isDigit(ch);
+  }
+
+  /**
+   * Returns true if {@code ch} can be part of a JSON number, so either a digit, a sign, a
+   * decimal point or an exponent character.
+   *
+   * @param ch the character to test, or {@code -1}
+   * @return true if {@code ch} may occur within a JSON number
+   */
+  public static boolean isNumberPart(int ch) {
+    return isDigit(ch) || ch == '-' || ch == '+' || ch == '.' || ch == 'e' || ch == 'E';
+  }
+
+  /**
+   * Returns true if {@code sequence} entirely matches the number grammar, that is an optional
+   * minus sign, an integer part without leading zeroes, an optional fraction and an optional
+   * exponent.
+   *
+   * @param sequence the sequence to test
+   * @return true if {@code sequence} is a valid JSON number
+   */
+  public static boolean isNumber(CharSequence sequence) {
+    int length = sequence.length(), i = 0, end;
+    if (i < length && sequence.charAt(i) == '-') ++i;
+    if (i < length && sequence.charAt(i) == '0') ++i;
+    else if ((end = skipDigits(sequence, i)) != i) i = end;
+    else return false;
+    if (i < length && sequence.charAt(i) == '.') {
+      if ((end = skipDigits(sequence, ++i)) == i) return false;
+      i = end;
+    }
+    if (i < length && (sequence.charAt(i) == 'e' || sequence.charAt(i) == 'E')) {
+      if (++i < length && (sequence.charAt(i) == '+' || sequence.charAt(i) == '-')) ++i;
+      if ((end = skipDigits(sequence, i)) == i) return false;
+      i = end;
+    }
+    return i == length;
+  }
+
+  /**
+   * Returns true if {@code ch} is insignificant whitespace, which is either a space, horizontal
+   * tab, line feed or carriage return.
+   *
+   * @param ch the character to test, or {@code -1}
+   * @return true if {@code ch} is JSON whitespace
+   */
+  public static boolean isWhitespace(int ch) {
+    return ch == ' ' || ch == '\n' || ch == '\r' || ch == '\t';
+  }
+
+  public static boolean isDigit(int ch) {
+    return ch >= '0' && ch <= '9';
+  }
+
+  public static boolean isHexDigit(int ch) {
+    return isDigit(ch) || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+  }
+
+  private static int skipDigits(CharSequence sequence, int index) {
+    int length = sequence.length();
+    while (index < length && isDigit(sequence.charAt(index))) ++index;
+    return index;
+  }
+
+}
@@ -3,6 +3,7 @@ package io.github.aparx.jsonic.core.parser.syntax;
 import io.github.aparx.jsonic.core.JsonSymbol;
 import io.github.aparx.jsonic.core.parser.error.JsonParseError;
 import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.framework.qual.DefaultQualifier;
@@ -20,6 +21,15 @@ public interface JsonSyntaxReader {
 
   ParseErrorFactory errorFactory();
 
+  /**
+   * Returns the listener notified by parsers using this syntax reader.
+   *
+   * @return the listener, {@link JsonParseListener#NONE} by default
+   */
+  default JsonParseListener listener() {
+    return JsonParseListener.NONE;
+  }
+
   /**
    * Reads the next character and the next consecutive characters until {@code skipPredicate}
    * returns false. It is guaranteed, that {@code traverser} is at least skipped by one character,
@@ -0,0 +1,106 @@
+package io.github.aparx.jsonic.core.parser.tokens;
+
+import io.github.aparx.jsonic.core.JsonSymbol;
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Object parser with string keys, which learns the shape of the objects it parses.
+ * <p>The parser records the sequence of keys of the last parsed object. Each key of the next
+ * object is speculated to equal the key at the same position of that sequence, thus it is
+ * compared against the learned key while reading and the learned key instance is reused, which
+ * also has its hash code cached already. Keys deviating from the shape are parsed as usual and
+ * become part of the learned shape, which is also used to pre-size the resulting maps.
+ * <p>Speculation pays off for sites parsing objects of a stable shape, such as messages of a
+ * single producer. A parser, that parses objects of different shapes in turns, such as nested
+ * objects through a recursive parser, mostly falls back to the usual parsing.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 03:55
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonAdaptiveObjectParser<V> extends JsonObjectParser<String, V> {
+
+  private static final String DUPLICATE_KEY_ERROR = "Key %s is a duplicate";
+
+  private static final String[] EMPTY_SHAPE = new String[0];
+
+  private final IntFunction<Map<@Nullable String, @Nullable V>> mapFactory;
+
+  /** Keys of the last parsed object in order, which is replaced but never mutated */
+  private volatile String[] shape = EMPTY_SHAPE;
+
+  /**
+   * Constructs a new adaptive object parser.
+   *
+   * @param mapFactory  factory of the resulting maps, accepting the expected number of entries
+   * @param valueParser the parser of the values
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public JsonAdaptiveObjectParser(IntFunction<Map<String, V>> mapFactory,
+                                  JsonParser<? extends V> valueParser) {
+    super(() -> mapFactory.apply(0), JsonStringParser.DEFAULT, valueParser);
+    Preconditions.checkNotNull(mapFactory, "Map factory must not be null");
+    this.mapFactory = (IntFunction) mapFactory;
+  }
+
+  @Override
+  public Map<@Nullable String, @Nullable V> parse(
+      JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    String[] shape = this.shape;
+    // Keys of this object, which are only recorded once they deviate from the shape
+    String @Nullable [] observed = null;
+    Map<@Nullable String, @Nullable V> map = this.mapFactory.apply(shape.length);
+    JsonParseListener listener = syntaxReader.listener();
+    syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_OPEN);
+    listener.onObjectStart();
+    int members = 0;
+    while (traverser.hasNext()) {
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      if (JsonSymbol.CURLY_CLOSE.matches(traverser.current())) break;
+      if (members != 0) {
+        syntaxReader.expectSymbol(traverser, JsonSymbol.COMMA);
+        syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      }
+      @Nullable String expected = members < shape.length ? shape[members] : null;
+      String key = JsonStringParser.DEFAULT.parse(traverser, syntaxReader, expected);
+      listener.onKey();
+      if (observed == null && key != expected)
+        observed = Arrays.copyOf(shape, Math.max(shape.length, members + 8));
+      if (observed != null) {
+        if (members == observed.length)
+          observed = Arrays.copyOf(observed, members << 1);
+        observed[members] = key;
+      }
+      ++members;
+      if (this.strict() && map.containsKey(key))
+        throw syntaxReader.errorFactory().create(
+            syntaxReader, traverser, DUPLICATE_KEY_ERROR, key);
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      syntaxReader.expectSymbol(traverser, JsonSymbol.COLON);
+      syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+      map.put(key, this.valueParser(key).parse(traverser, syntaxReader));
+    }
+    syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_CLOSE);
+    listener.onObjectEnd(map.size());
+    if (observed != null || members != shape.length)
+      this.shape = Arrays.copyOf(observed != null ? observed : shape, members);
+    return map;
+  }
+
+  /** Returns a copy of the keys of the last parsed object, in the order they were parsed */
+  public String[] shape() {
+    return this.shape.clone();
+  }
+}
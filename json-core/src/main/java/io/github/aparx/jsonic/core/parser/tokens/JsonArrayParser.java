@@ -3,6 +3,7 @@ package io.github.aparx.jsonic.core.parser.tokens;
 import io.github.aparx.jsonic.core.JsonSymbol;
 import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
 import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
 import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -35,7 +36,9 @@ public class JsonArrayParser<E, T extends Collection<@Nullable E>> implements Co
   @Override
   public T parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
     @Nullable T col = this.collectionFactory.get();
+    JsonParseListener listener = syntaxReader.listener();
     syntaxReader.expectSymbol(traverser, JsonSymbol.SQUARE_OPEN);
+    listener.onArrayStart();
     boolean hasInserted = false;
     while (true) {
       syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
@@ -49,6 +52,7 @@ public class JsonArrayParser<E, T extends Collection<@Nullable E>> implements Co
       hasInserted = true;
     }
     syntaxReader.expectSymbol(traverser, JsonSymbol.SQUARE_CLOSE);
+    listener.onArrayEnd(col.size());
     return col;
   }
 
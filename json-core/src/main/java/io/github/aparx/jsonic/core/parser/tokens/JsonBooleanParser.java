@@ -31,7 +31,7 @@ public class JsonBooleanParser implements ComposableJsonParser<Boolean> {
         yield false;
       }
       default -> throw syntaxReader.errorFactory().create(syntaxReader, traverser,
-          String.format(ERROR_UNEXPECTED_TOKEN, traverser.current()));
+          ERROR_UNEXPECTED_TOKEN, traverser.current());
     };
   }
 
@@ -0,0 +1,143 @@
+package io.github.aparx.jsonic.core.parser.tokens;
+
+import io.github.aparx.jsonic.core.JsonSymbol;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+
+/**
+ * Matcher of string tokens against a known set of keys, which are compiled into a trie.
+ * <p>Instead of parsing a string and looking it up afterward, the characters are matched right
+ * as they are read from the source, thus known keys are matched without allocating or hashing a
+ * string. The result is the slot of the key, which is its index in the set of keys the matcher
+ * was created with, or {@link #UNKNOWN} for any other string.
+ * <p>Strings are read exactly like {@link JsonStringParser} reads them, leaving the traverser at
+ * the closing double quote. Since no string is allocated, the listener is not notified through
+ * {@code onString}, which only counts the strings materialized.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 13:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonKeyMatcher {
+
+  public static final int UNKNOWN = -1;
+
+  private static final String ESCAPED_QUOTE_ERROR = "Last double quote is escaped";
+
+  private final String[] keys;
+
+  /** Index of the first edge of each node, followed by the end of the last node's edges */
+  private final int[] edgeStart;
+  private final char[] edgeLabel;
+  private final int[] edgeTarget;
+  /** Slot of the key ending at each node, or {@link #UNKNOWN} */
+  private final int[] slot;
+
+  private JsonKeyMatcher(String[] keys) {
+    this.keys = keys;
+    Node root = new Node();
+    for (int i = 0; i < keys.length; ++i) {
+      Node node = root;
+      for (int j = 0, n = keys[i].length(); j < n; ++j)
+        node = node.children.computeIfAbsent(keys[i].charAt(j), (__) -> new Node());
+      Preconditions.checkArgument(node.slot == UNKNOWN, "Duplicate key: %s", keys[i]);
+      node.slot = i;
+    }
+    // Flatten the trie breadth-first, such that each node's edges are stored consecutively
+    List<Node> nodes = new ArrayList<>();
+    root.index = 0;
+    nodes.add(root);
+    int edges = 0;
+    for (int i = 0; i < nodes.size(); ++i) {
+      for (Node child : nodes.get(i).children.values()) {
+        child.index = nodes.size();
+        nodes.add(child);
+        ++edges;
+      }
+    }
+    this.edgeStart = new int[nodes.size() + 1];
+    this.edgeLabel = new char[edges];
+    this.edgeTarget = new int[edges];
+    this.slot = new int[nodes.size()];
+    int edge = 0;
+    for (int i = 0; i < nodes.size(); ++i) {
+      Node node = nodes.get(i);
+      this.edgeStart[i] = edge;
+      this.slot[i] = node.slot;
+      for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+        this.edgeLabel[edge] = child.getKey();
+        this.edgeTarget[edge++] = child.getValue().index;
+      }
+    }
+    this.edgeStart[nodes.size()] = edge;
+  }
+
+  public static JsonKeyMatcher of(String... keys) {
+    Preconditions.checkNotNull(keys, "Keys must not be null");
+    return new JsonKeyMatcher(keys.clone());
+  }
+
+  public static JsonKeyMatcher of(Collection<String> keys) {
+    Preconditions.checkNotNull(keys, "Keys must not be null");
+    return new JsonKeyMatcher(keys.toArray(String[]::new));
+  }
+
+  /**
+   * Reads the string at the current character of {@code traverser} and returns the slot of the
+   * equal key.
+   *
+   * @param traverser    the traverser, whose current character is the opening double quote
+   * @param syntaxReader the syntax reader
+   * @return the slot of the key equal to the string, or {@link #UNKNOWN} if there is none
+   */
+  public int match(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    syntaxReader.expectSymbol(traverser, JsonSymbol.DOUBLE_QUOTE);
+    int node = 0;
+    char lastChar = traverser.current();
+    do {
+      char nextChar = traverser.next();
+      if (JsonSymbol.DOUBLE_QUOTE.matches(nextChar)
+          && (lastChar != JsonStringParser.QUOTE_ESCAPE || !traverser.hasNext()))
+        break;
+      lastChar = nextChar;
+      if (nextChar == JsonStringParser.QUOTE_ESCAPE
+          && JsonSymbol.DOUBLE_QUOTE.matches(traverser.peek()))
+        continue; // Omit the escaping character, like the string parser does
+      if (node != UNKNOWN) node = this.step(node, nextChar);
+    } while (traverser.hasNext());
+    if (lastChar == JsonStringParser.QUOTE_ESCAPE)
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser, ESCAPED_QUOTE_ERROR);
+    syntaxReader.expectSymbol(traverser, JsonSymbol.DOUBLE_QUOTE);
+    return node != UNKNOWN ? this.slot[node] : UNKNOWN;
+  }
+
+  /** Returns the key of {@code slot} */
+  public String key(int slot) {
+    Preconditions.checkElementIndex(slot, this.keys.length);
+    return this.keys[slot];
+  }
+
+  public int size() {
+    return this.keys.length;
+  }
+
+  private int step(int node, char ch) {
+    // Nodes have few edges, thus scanning them is faster than searching
+    for (int i = this.edgeStart[node], end = this.edgeStart[node + 1]; i < end; ++i)
+      if (this.edgeLabel[i] == ch) return this.edgeTarget[i];
+    return UNKNOWN;
+  }
+
+  private static final class Node {
+
+    private final SortedMap<Character, Node> children = new TreeMap<>();
+    private int slot = UNKNOWN;
+    private int index;
+  }
+}
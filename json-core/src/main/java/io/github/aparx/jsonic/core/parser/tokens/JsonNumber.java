@@ -0,0 +1,129 @@
+package io.github.aparx.jsonic.core.parser.tokens;
+
+import io.github.aparx.jsonic.core.parser.syntax.JsonGrammar;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.math.BigDecimal;
+
+/**
+ * Number keeping the literal it was parsed from, which is only converted once its value is
+ * accessed.
+ * <p>The literal is converted like {@link JsonNumberParser#valueOf(String)} on the first access
+ * of a primitive value, or into a {@code BigDecimal} on the first access of
+ * {@link #bigDecimalValue()}, and the result is cached. Numbers passing through unaccessed are
+ * thus never converted, and are written with their original digits by
+ * {@link io.github.aparx.jsonic.core.writer.JsonNumberWriter}, preserving their precision.
+ * <p>Json numbers are equal if their literals are equal, thus {@code 1.0} and {@code 1} are not.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 05:10
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonNumber extends Number {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String literal;
+
+  /** Converted value, which is immutable, such that it can be cached racily */
+  private transient @Nullable Number value;
+  private transient @Nullable BigDecimal decimal;
+
+  private JsonNumber(String literal) {
+    this.literal = literal;
+  }
+
+  /**
+   * Returns a number of {@code literal}, which is converted lazily.
+   *
+   * @param literal the number literal
+   * @return the lazily converted number
+   * @throws IllegalArgumentException if {@code literal} does not match the JSON number grammar
+   */
+  public static JsonNumber of(String literal) {
+    Preconditions.checkNotNull(literal, "Literal must not be null");
+    Preconditions.checkArgument(JsonGrammar.isNumber(literal), "Malformed number: %s", literal);
+    return new JsonNumber(literal);
+  }
+
+  /** Returns a number of {@code literal}, which is known to match the JSON number grammar */
+  static JsonNumber ofValid(String literal) {
+    return new JsonNumber(literal);
+  }
+
+  /** Returns the converted value, which is a {@code Long} or {@code Double} */
+  public Number value() {
+    @Nullable Number value = this.value;
+    if (value == null)
+      this.value = value = JsonNumberParser.valueOf(this.literal);
+    return value;
+  }
+
+  /** Returns the exact value of the literal */
+  public BigDecimal bigDecimalValue() {
+    @Nullable BigDecimal decimal = this.decimal;
+    if (decimal == null)
+      this.decimal = decimal = new BigDecimal(this.literal);
+    return decimal;
+  }
+
+  public boolean isIntegral() {
+    return this.value() instanceof Long;
+  }
+
+  @Override
+  public int intValue() {
+    return this.value().intValue();
+  }
+
+  @Override
+  public long longValue() {
+    return this.value().longValue();
+  }
+
+  @Override
+  public float floatValue() {
+    return this.value().floatValue();
+  }
+
+  @Override
+  public double doubleValue() {
+    return this.value().doubleValue();
+  }
+
+  /** Returns the literal this number was parsed from */
+  public String literal() {
+    return this.literal;
+  }
+
+  /** Returns the length of the literal */
+  public int length() {
+    return this.literal.length();
+  }
+
+  /** Copies the characters of the literal into {@code buffer}, starting at {@code offset} */
+  public void getChars(char[] buffer, int offset) {
+    this.literal.getChars(0, this.literal.length(), buffer, offset);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    return this == obj
+        || obj instanceof JsonNumber && this.literal.equals(((JsonNumber) obj).literal);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.literal.hashCode();
+  }
+
+  /** Returns the literal of this number */
+  @Override
+  public String toString() {
+    return this.literal;
+  }
+}
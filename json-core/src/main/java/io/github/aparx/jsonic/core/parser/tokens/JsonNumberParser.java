@@ -0,0 +1,101 @@
+package io.github.aparx.jsonic.core.parser.tokens;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonGrammar;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Parser for JSON numbers, resulting in a {@code Long} for integral numbers that fit into a long,
+ * and a {@code Double} otherwise.
+ * <p>Lazy parsers result in a {@link JsonNumber} instead, which keeps the literal and converts it
+ * only once accessed.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 09:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonNumberParser implements ComposableJsonParser<Number> {
+
+  public static final JsonNumberParser DEFAULT = new JsonNumberParser();
+
+  /** Parser resulting in lazily converted {@link JsonNumber} instances */
+  public static final JsonNumberParser LAZY = new JsonNumberParser(true);
+
+  private static final String ERROR_MALFORMED_NUMBER = "Malformed number: %s";
+
+  /** Digits of the greatest and of the negated least long, which have the same amount */
+  private static final String LONG_MAX_DIGITS = "9223372036854775807";
+  private static final String LONG_MIN_DIGITS = "9223372036854775808";
+
+  private final boolean lazy;
+
+  public JsonNumberParser() {
+    this(false);
+  }
+
+  public JsonNumberParser(boolean lazy) {
+    this.lazy = lazy;
+  }
+
+  @Override
+  public Number parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    String literal = syntaxReader.accumulate(traverser, (__, x) -> JsonGrammar.isNumberPart(x));
+    if (!JsonGrammar.isNumber(literal))
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+          ERROR_MALFORMED_NUMBER, literal);
+    return this.lazy ? JsonNumber.ofValid(literal) : valueOf(literal);
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return JsonGrammar.isNumberStart(currentChar);
+  }
+
+  public boolean lazy() {
+    return this.lazy;
+  }
+
+  /**
+   * Converts the valid JSON number {@code literal} into a {@code Long} if it is integral and fits
+   * into a long, or into a {@code Double} otherwise.
+   *
+   * @param literal the number literal, which must match the JSON number grammar
+   * @return the converted number
+   * @throws NumberFormatException if {@code literal} is not a number
+   */
+  public static Number valueOf(String literal) {
+    if (isIntegral(literal) && fitsLong(literal))
+      return Long.parseLong(literal);
+    return Double.parseDouble(literal);
+  }
+
+  /**
+   * Returns true if the integral {@code literal} is within the range of a long, which is decided
+   * by its amount of digits, since the grammar forbids leading zeros, and only for as many
+   * digits as the bounds of a long have, by comparing its digits to theirs.
+   */
+  private static boolean fitsLong(String literal) {
+    int start = !literal.isEmpty() && literal.charAt(0) == '-' ? 1 : 0;
+    int digits = literal.length() - start;
+    if (digits != LONG_MAX_DIGITS.length())
+      return digits < LONG_MAX_DIGITS.length();
+    String bound = start == 0 ? LONG_MAX_DIGITS : LONG_MIN_DIGITS;
+    for (int i = 0; i < digits; ++i) {
+      char digit = literal.charAt(start + i), boundDigit = bound.charAt(i);
+      if (digit != boundDigit) return digit < boundDigit;
+    }
+    return true;
+  }
+
+  private static boolean isIntegral(String literal) {
+    for (int i = 0, n = literal.length(); i < n; ++i) {
+      char ch = literal.charAt(i);
+      if (ch == '.' || ch == 'e' || ch == 'E') return false;
+    }
+    return true;
+  }
+}
@@ -4,6 +4,7 @@ import io.github.aparx.jsonic.core.JsonSymbol;
 import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
 import io.github.aparx.jsonic.core.parser.JsonParser;
 import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
 import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -48,7 +49,9 @@ public class JsonObjectParser<K, V> implements ComposableJsonParser<Map<@Nullabl
       JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
     Map<@Nullable K, @Nullable V> map = this.mapFactory.get();
     ParseErrorFactory errorHandler = syntaxReader.errorFactory();
+    JsonParseListener listener = syntaxReader.listener();
     syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_OPEN);
+    listener.onObjectStart();
     while (traverser.hasNext()) {
       syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
       if (JsonSymbol.CURLY_CLOSE.matches(traverser.current())) break;
@@ -58,16 +61,16 @@ public class JsonObjectParser<K, V> implements ComposableJsonParser<Map<@Nullabl
         syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
       }
       @Nullable K key = this.keyParser.parse(traverser, syntaxReader);
+      listener.onKey();
       if (this.strict && map.containsKey(key))
-        throw errorHandler.create(syntaxReader, traverser,
-            String.format(DUPLICATE_KEY_ERROR, key));
+        throw errorHandler.create(syntaxReader, traverser, DUPLICATE_KEY_ERROR, key);
       syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
       syntaxReader.expectSymbol(traverser, JsonSymbol.COLON);
       syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
-      map.put(key, this.valueParser.parse(traverser, syntaxReader));
+      map.put(key, this.valueParser(key).parse(traverser, syntaxReader));
     }
-    syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
     syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_CLOSE);
+    listener.onObjectEnd(map.size());
     return map;
   }
 
@@ -76,6 +79,18 @@ public class JsonObjectParser<K, V> implements ComposableJsonParser<Map<@Nullabl
     return currentChar == JsonSymbol.CURLY_OPEN.literal();
   }
 
+  /**
+   * Returns the parser used to parse the value associated with {@code key}.
+   * <p>Subclasses may override this method to select a value parser depending on the key, for
+   * example to parse each property of a known shape with a dedicated parser.
+   *
+   * @param key the key that was parsed right before the value
+   * @return the parser to parse the value of {@code key} with
+   */
+  protected JsonParser<? extends V> valueParser(@Nullable K key) {
+    return this.valueParser;
+  }
+
   @CanIgnoreReturnValue
   public JsonObjectParser<K, V> setStrict(boolean strict) {
     this.strict = strict;
@@ -6,11 +6,12 @@ import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
 import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 
 /**
  * @author aparx (Vinzent Z.)
- * @version 2024-11-15 15:14
+ * @version 2026-10-20 15:00
  * @since 1.0
  */
 @DefaultQualifier(NonNull.class)
@@ -22,9 +23,27 @@ public class JsonStringParser implements ComposableJsonParser<String> {
 
   @Override
   public String parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    return this.parse(traverser, syntaxReader, null);
+  }
+
+  /**
+   * Parses the string at the current character of {@code traverser}, speculating that it equals
+   * {@code expected}.
+   * <p>As long as the speculation holds, characters are only compared against {@code expected},
+   * and {@code expected} itself is returned if the string equals it, thus no string is built and
+   * none is reported to the listener.
+   *
+   * @param traverser    the traverser, whose current character is the opening double quote
+   * @param syntaxReader the syntax reader
+   * @param expected     the string that is likely parsed, or null to not speculate
+   * @return the parsed string, which is {@code expected} itself if equal to it
+   */
+  public String parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                      @Nullable String expected) {
     ParseErrorFactory errorHandler = syntaxReader.errorFactory();
     syntaxReader.expectSymbol(traverser, JsonSymbol.DOUBLE_QUOTE);
-    StringBuilder builder = new StringBuilder();
+    @Nullable StringBuilder builder = expected == null ? new StringBuilder() : null;
+    int length = 0;
     char lastChar = traverser.current();
     do {
       char nextChar = traverser.next();
@@ -34,12 +53,19 @@ public class JsonStringParser implements ComposableJsonParser<String> {
       lastChar = nextChar;
       if (nextChar == QUOTE_ESCAPE && JsonSymbol.DOUBLE_QUOTE.matches(traverser.peek()))
         continue; // Omit the escaping character from plaintext
-      builder.append(nextChar);
+      if (builder != null)
+        builder.append(nextChar);
+      else if (length == expected.length() || expected.charAt(length) != nextChar)
+        // Speculation failed, thus continue with the characters matched so far
+        builder = new StringBuilder(length + 16).append(expected, 0, length).append(nextChar);
+      ++length;
     } while (traverser.hasNext());
     if (lastChar == QUOTE_ESCAPE)
       throw errorHandler.create(syntaxReader, traverser, "Last double quote is escaped");
     syntaxReader.expectSymbol(traverser, JsonSymbol.DOUBLE_QUOTE);
-    return builder.toString();
+    if (builder == null && length == expected.length()) return expected;
+    syntaxReader.listener().onString(length);
+    return builder != null ? builder.toString() : expected.substring(0, length);
   }
 
   @Override
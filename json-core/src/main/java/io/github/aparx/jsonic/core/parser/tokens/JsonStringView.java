@@ -0,0 +1,85 @@
+package io.github.aparx.jsonic.core.parser.tokens;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Characters of a parsed string, which refer to the range of the input containing them instead of
+ * being copied, as parsed by {@link JsonStringViewParser}.
+ * <p>A view is only valid as long as its input is not modified, thus views of mutable inputs,
+ * such as {@code StringBuilder} or {@code char[]} instances, must not outlive the reuse of the
+ * input. Moreover, a view retains its whole input, thus views that are kept beyond the parse of
+ * their input should be materialized by {@link #toString()}.
+ * <p>Views are equal to views of the same characters and hash like strings of them, but are never
+ * equal to strings, thus they are compared to constants with {@link #contentEquals(CharSequence)}
+ * or {@code String.contentEquals(CharSequence)}.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 07:05
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonStringView implements CharSequence {
+
+  private final CharSequence input;
+  private final int start, end;
+
+  /** String materialized by {@link #toString()}, which is cached for subsequent calls */
+  private @Nullable String string;
+
+  JsonStringView(CharSequence input, int start, int end) {
+    this.input = input;
+    this.start = start;
+    this.end = end;
+  }
+
+  @Override
+  public int length() {
+    return this.end - this.start;
+  }
+
+  @Override
+  public char charAt(int index) {
+    Preconditions.checkElementIndex(index, this.length());
+    return this.input.charAt(this.start + index);
+  }
+
+  @Override
+  public JsonStringView subSequence(int start, int end) {
+    Preconditions.checkPositionIndexes(start, end, this.length());
+    return new JsonStringView(this.input, this.start + start, this.start + end);
+  }
+
+  /** Returns true if {@code sequence} consists of the same characters as this view */
+  public boolean contentEquals(CharSequence sequence) {
+    int length = this.length();
+    if (sequence.length() != length) return false;
+    for (int i = 0; i < length; ++i)
+      if (this.input.charAt(this.start + i) != sequence.charAt(i)) return false;
+    return true;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    return this == obj || obj instanceof JsonStringView view && this.contentEquals(view);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int i = this.start; i < this.end; ++i)
+      hash = 31 * hash + this.input.charAt(i);
+    return hash;
+  }
+
+  /** Returns the characters of this view as string, which is copied once and then cached */
+  @Override
+  public String toString() {
+    @Nullable String string = this.string;
+    if (string == null)
+      this.string = string = this.input.subSequence(this.start, this.end).toString();
+    return string;
+  }
+}
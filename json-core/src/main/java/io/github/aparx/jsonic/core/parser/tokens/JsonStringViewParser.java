@@ -0,0 +1,66 @@
+package io.github.aparx.jsonic.core.parser.tokens;
+
+import io.github.aparx.jsonic.core.JsonSymbol;
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.source.DefaultJsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSequenceSource;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Parser of strings, which results in {@link JsonStringView} instances referring to the input
+ * instead of copied strings, if the input is a {@code CharSequence} or {@code char[]}.
+ * <p>Strings containing escaped quotes, and strings of any other input, are parsed into strings
+ * like {@link JsonStringParser} does, since their characters differ from the input. Views are not
+ * reported to the {@code onString} listener callback, since they allocate no string.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 07:10
+ * @see JsonStringView
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonStringViewParser implements ComposableJsonParser<CharSequence> {
+
+  public static final JsonStringViewParser DEFAULT = new JsonStringViewParser();
+
+  private static final String ERROR_ESCAPED_LAST_QUOTE = "Last double quote is escaped";
+
+  @Override
+  public CharSequence parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    if (!(traverser instanceof DefaultJsonCharSourceTraverser sequenceTraverser)
+        || !(sequenceTraverser.source() instanceof JsonCharSequenceSource source))
+      return JsonStringParser.DEFAULT.parse(traverser, syntaxReader);
+    syntaxReader.expectSymbol(traverser, JsonSymbol.DOUBLE_QUOTE);
+    int start = sequenceTraverser.currentIndex() + 1;
+    boolean escaped = false;
+    char lastChar = traverser.current();
+    // Traversed like the string parser does, but only remembering whether quotes are escaped
+    do {
+      char nextChar = traverser.next();
+      if (JsonSymbol.DOUBLE_QUOTE.matches(nextChar)
+          && (lastChar != JsonStringParser.QUOTE_ESCAPE || !traverser.hasNext()))
+        break;
+      lastChar = nextChar;
+      if (nextChar == JsonStringParser.QUOTE_ESCAPE
+          && JsonSymbol.DOUBLE_QUOTE.matches(traverser.peek()))
+        escaped = true;
+    } while (traverser.hasNext());
+    if (lastChar == JsonStringParser.QUOTE_ESCAPE)
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser, ERROR_ESCAPED_LAST_QUOTE);
+    syntaxReader.expectSymbol(traverser, JsonSymbol.DOUBLE_QUOTE);
+    int end = sequenceTraverser.currentIndex();
+    if (!escaped)
+      return new JsonStringView(source.sequence(), start, end);
+    String string = source.sequence().subSequence(start, end).toString().replace("\\\"", "\"");
+    syntaxReader.listener().onString(string.length());
+    return string;
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return currentChar == JsonSymbol.DOUBLE_QUOTE.literal();
+  }
+}
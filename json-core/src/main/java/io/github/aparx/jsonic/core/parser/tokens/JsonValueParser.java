@@ -0,0 +1,173 @@
+package io.github.aparx.jsonic.core.parser.tokens;
+
+import io.github.aparx.jsonic.core.JsonSymbol;
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParseErrorCode;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Parser for any JSON value, resulting in the same maps, lists, strings, numbers, booleans or
+ * null as {@link JsonParsers#value()}, but without recursion.
+ * <p>Instead of descending into a nested parser for each container, the open containers are kept
+ * on an explicit array-backed stack, thus the nesting depth is not bounded by the thread's stack
+ * size, but only by the max depth. Documents nested deeper than the max depth fail with a parse
+ * error, rather than a {@code StackOverflowError}.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 11:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonValueParser implements ComposableJsonParser<@Nullable Object> {
+
+  public static final int DEFAULT_MAX_DEPTH = 512;
+
+  public static final JsonValueParser DEFAULT =
+      new JsonValueParser(HashMap::new, ArrayList::new, DEFAULT_MAX_DEPTH);
+
+  private static final String UNEXPECTED_TOKEN_ERROR = "Unexpected token: %s";
+  private static final String DEPTH_EXCEEDED_ERROR = "Max depth of %s exceeded";
+  private static final String UNEXPECTED_END_ERROR = JsonParseErrorCode.UNEXPECTED_END.message();
+
+  private static final ComposableJsonParser<?>[] SCALARS = {
+      JsonStringParser.DEFAULT,
+      JsonNumberParser.DEFAULT,
+      JsonBooleanParser.DEFAULT,
+      JsonNullParser.DEFAULT
+  };
+
+  private final Supplier<? extends Map<String, @Nullable Object>> mapFactory;
+  private final Supplier<? extends Collection<@Nullable Object>> collectionFactory;
+  private final int maxDepth;
+
+  public JsonValueParser(Supplier<? extends Map<String, @Nullable Object>> mapFactory,
+                         Supplier<? extends Collection<@Nullable Object>> collectionFactory,
+                         int maxDepth) {
+    Preconditions.checkNotNull(mapFactory, "Map factory must not be null");
+    Preconditions.checkNotNull(collectionFactory, "Collection factory must not be null");
+    Preconditions.checkArgument(maxDepth >= 0, "Max depth must not be negative");
+    this.mapFactory = mapFactory;
+    this.collectionFactory = collectionFactory;
+    this.maxDepth = maxDepth;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @Nullable Object parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    JsonParseListener listener = syntaxReader.listener();
+    // Open containers and, for objects, the key of the value currently parsed
+    Object[] containers = new Object[16];
+    @Nullable String[] keys = new String[16];
+    int depth = 0;
+    while (true) {
+      @Nullable Object value;
+      char current = traverser.current();
+      if (current == JsonSymbol.CURLY_OPEN.literal()
+          || current == JsonSymbol.SQUARE_OPEN.literal()) {
+        if (depth == this.maxDepth)
+          throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+              DEPTH_EXCEEDED_ERROR, this.maxDepth);
+        if (depth == containers.length) {
+          containers = Arrays.copyOf(containers, depth << 1);
+          keys = Arrays.copyOf(keys, depth << 1);
+        }
+        boolean isObject = current == JsonSymbol.CURLY_OPEN.literal();
+        if (isObject) listener.onObjectStart();
+        else listener.onArrayStart();
+        containers[depth++] = isObject ? this.mapFactory.get() : this.collectionFactory.get();
+        if (!this.openNext(traverser, syntaxReader, isObject)) {
+          // Descend into the first member or element
+          if (isObject) keys[depth - 1] = readKey(traverser, syntaxReader, listener);
+          continue;
+        }
+        value = close(containers[--depth], listener);
+      } else {
+        value = parseScalar(traverser, syntaxReader);
+      }
+      // Ascend, until a container expects another member or element
+      while (true) {
+        if (depth == 0) return value;
+        Object container = containers[depth - 1];
+        boolean isObject = container instanceof Map;
+        if (isObject) ((Map<String, @Nullable Object>) container).put(keys[depth - 1], value);
+        else ((Collection<@Nullable Object>) container).add(value);
+        if (this.openNext(traverser, syntaxReader, isObject)) {
+          value = close(container, listener);
+          keys[--depth] = null;
+          containers[depth] = null;
+          continue;
+        }
+        syntaxReader.expectSymbol(traverser, JsonSymbol.COMMA);
+        syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+        if (isObject) keys[depth - 1] = readKey(traverser, syntaxReader, listener);
+        break;
+      }
+    }
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    if (currentChar == JsonSymbol.CURLY_OPEN.literal()
+        || currentChar == JsonSymbol.SQUARE_OPEN.literal())
+      return true;
+    for (ComposableJsonParser<?> parser : SCALARS)
+      if (parser.couldParse(currentChar, nextChar)) return true;
+    return false;
+  }
+
+  public int maxDepth() {
+    return this.maxDepth;
+  }
+
+  /**
+   * Skips to the next character within the current container and returns true if it closes the
+   * container. Unlike the recursive parsers, an input ending within a container is an error,
+   * even if the last character read happens to be a closing symbol.
+   */
+  private boolean openNext(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                           boolean isObject) {
+    if (!traverser.hasNext())
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser, UNEXPECTED_END_ERROR);
+    syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+    return (isObject ? JsonSymbol.CURLY_CLOSE : JsonSymbol.SQUARE_CLOSE)
+        .matches(traverser.current());
+  }
+
+  private static @Nullable String readKey(JsonCharSourceTraverser traverser,
+                                          JsonSyntaxReader syntaxReader,
+                                          JsonParseListener listener) {
+    String key = JsonStringParser.DEFAULT.parse(traverser, syntaxReader);
+    listener.onKey();
+    syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+    syntaxReader.expectSymbol(traverser, JsonSymbol.COLON);
+    syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+    return key;
+  }
+
+  private static Object close(Object container, JsonParseListener listener) {
+    if (container instanceof Map<?, ?> map) listener.onObjectEnd(map.size());
+    else listener.onArrayEnd(((Collection<?>) container).size());
+    return container;
+  }
+
+  private static @Nullable Object parseScalar(JsonCharSourceTraverser traverser,
+                                              JsonSyntaxReader syntaxReader) {
+    char current = traverser.current();
+    int next = traverser.peek();
+    for (ComposableJsonParser<?> parser : SCALARS)
+      if (parser.couldParse(current, next))
+        return parser.parse(traverser, syntaxReader);
+    throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+        UNEXPECTED_TOKEN_ERROR, current);
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.aparx.jsonic.core.schema;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.List;
+
+/**
+ * Parser delegating to another parser and checking the result against a set of constraints,
+ * right when the value has been parsed.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 15:10
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class ConstrainedJsonParser<T> implements ComposableJsonParser<T> {
+
+  private final JsonParser<T> delegate;
+  private final JsonSchemaConstraint[] constraints;
+
+  ConstrainedJsonParser(JsonParser<T> delegate, List<JsonSchemaConstraint> constraints) {
+    Preconditions.checkNotNull(delegate, "Delegate must not be null");
+    this.delegate = delegate;
+    this.constraints = constraints.toArray(JsonSchemaConstraint[]::new);
+  }
+
+  @Override
+  public @Nullable T parse(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    @Nullable T value = this.delegate.parse(traverser, syntaxReader);
+    for (JsonSchemaConstraint constraint : this.constraints) {
+      @Nullable String violation = constraint.check(value);
+      if (violation != null)
+        throw syntaxReader.errorFactory().create(syntaxReader, traverser, violation);
+    }
+    return value;
+  }
+
+  @Override
+  public boolean couldParse(char currentChar, int nextChar) {
+    return !(this.delegate instanceof ComposableJsonParser<?> composable)
+        || composable.couldParse(currentChar, nextChar);
+  }
+}
@@ -0,0 +1,109 @@
+package io.github.aparx.jsonic.core.schema;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A JSON Schema compiled into a tree of parsers, which validate the document while parsing it,
+ * instead of walking the parsed result a second time.
+ * <p>Each object, array and token of the document is parsed by a parser derived from the
+ * corresponding schema, built upon {@code JsonObjectParser}, {@code JsonArrayParser} and the
+ * token parsers. A violation is reported as {@code JsonParseError} at the position of the
+ * violating value.
+ * <p>Compiled schemas are immutable and thus thread-safe. The {@value #CACHE_CAPACITY} schemas
+ * most recently compiled from their textual form are cached by their text, thus callers
+ * compiling many or generated schemas should keep the compiled schemas themselves.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 09:30
+ * @see JsonSchemaCompiler
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonSchema {
+
+  /** Maximum amount of schemas cached, from which on the least recently used is evicted */
+  static final int CACHE_CAPACITY = 64;
+
+  /** Schemas by their text in access order, which is guarded by itself */
+  private static final Map<String, JsonSchema> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+  private final JsonParser<?> parser;
+
+  private JsonSchema(JsonParser<?> parser) {
+    this.parser = parser;
+  }
+
+  /**
+   * Compiles the JSON Schema document {@code schema}, or returns the cached schema if the same
+   * document has been compiled recently.
+   *
+   * @param schema the textual JSON Schema document
+   * @return the compiled schema
+   * @throws JsonParseError           if {@code schema} is not valid JSON
+   * @throws IllegalArgumentException if {@code schema} uses a supported keyword incorrectly
+   */
+  public static JsonSchema compile(String schema) {
+    Preconditions.checkNotNull(schema, "Schema must not be null");
+    synchronized (CACHE) {
+      @Nullable JsonSchema cached = CACHE.get(schema);
+      if (cached != null) return cached;
+    }
+    // Compiled outside the lock, such that compiling does not block other schemas
+    if (!(JsonParser.parse(JsonParsers.value(), schema) instanceof Map<?, ?> document))
+      throw new IllegalArgumentException("Schema must be an object");
+    JsonSchema compiled = compile(document);
+    synchronized (CACHE) {
+      @Nullable JsonSchema cached = CACHE.putIfAbsent(schema, compiled);
+      if (cached != null) return cached;
+      if (CACHE.size() > CACHE_CAPACITY) {
+        Iterator<JsonSchema> eldest = CACHE.values().iterator();
+        eldest.next();
+        eldest.remove();
+      }
+    }
+    return compiled;
+  }
+
+  /**
+   * Compiles the already parsed JSON Schema {@code schema}, without caching it.
+   *
+   * @param schema the parsed JSON Schema document
+   * @return the compiled schema
+   * @throws IllegalArgumentException if {@code schema} uses a supported keyword incorrectly
+   */
+  public static JsonSchema compile(Map<?, ?> schema) {
+    Preconditions.checkNotNull(schema, "Schema must not be null");
+    return new JsonSchema(JsonSchemaCompiler.compile(schema));
+  }
+
+  /**
+   * Returns the validating parser of this schema, which can be used everywhere a parser is used.
+   *
+   * @return the parser, that parses and validates documents against this schema
+   */
+  public JsonParser<?> parser() {
+    return this.parser;
+  }
+
+  /**
+   * Parses and validates {@code document} in a single pass.
+   *
+   * @param document the document to parse
+   * @return the parsed document
+   * @throws JsonParseError if {@code document} is malformed or violates this schema
+   */
+  public @Nullable Object parse(CharSequence document) {
+    return JsonParser.parse(this.parser, document);
+  }
+
+}
@@ -0,0 +1,160 @@
+package io.github.aparx.jsonic.core.schema;
+
+import io.github.aparx.jsonic.core.parser.ComposableJsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.tokens.*;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+
+/**
+ * Compiler turning a parsed JSON Schema document into a tree of validating parsers.
+ * <p>Supported keywords are {@code type}, {@code properties}, {@code required}, {@code items},
+ * {@code enum}, {@code minimum}, {@code maximum} and {@code maxLength}. Other keywords are
+ * ignored.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 09:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class JsonSchemaCompiler {
+
+  private static final String INVALID_SCHEMA_ERROR = "Invalid schema keyword %s: %s";
+
+  private JsonSchemaCompiler() {
+    throw new AssertionError();
+  }
+
+  static JsonParser<?> compile(Map<?, ?> schema) {
+    List<String> types = types(schema);
+    List<JsonSchemaConstraint> constraints = constraints(schema, types);
+    if (types.isEmpty()) {
+      if (schema.containsKey("properties") || schema.containsKey("required"))
+        types = List.of("object");
+      else if (schema.containsKey("items"))
+        types = List.of("array");
+      else if (constraints.isEmpty())
+        return JsonParsers.value();
+      else
+        return new ConstrainedJsonParser<>(JsonParsers.value(), constraints);
+    }
+    List<ComposableJsonParser<?>> parsers = new ArrayList<>(types.size());
+    for (String type : types)
+      parsers.add(new ConstrainedJsonParser<>(typeParser(type, schema), constraints));
+    if (parsers.size() == 1)
+      return parsers.get(0);
+    return ComposableJsonParser.compose(parsers.toArray(ComposableJsonParser[]::new));
+  }
+
+  private static JsonParser<?> typeParser(String type, Map<?, ?> schema) {
+    return switch (type) {
+      case "object" -> objectParser(schema);
+      case "array" -> {
+        @Nullable Object items = schema.get("items");
+        yield JsonParsers.array(items != null ? compile(map("items", items)) : JsonParsers.value());
+      }
+      case "string" -> JsonStringParser.DEFAULT;
+      case "number", "integer" -> JsonNumberParser.DEFAULT;
+      case "boolean" -> JsonBooleanParser.DEFAULT;
+      case "null" -> JsonNullParser.DEFAULT;
+      default -> throw invalid("type", type);
+    };
+  }
+
+  private static JsonParser<?> objectParser(Map<?, ?> schema) {
+    Map<String, JsonParser<?>> properties = new HashMap<>();
+    @Nullable Object declared = schema.get("properties");
+    if (declared != null)
+      map("properties", declared).forEach((key, value) ->
+          properties.put(String.valueOf(key), compile(map("properties", value))));
+    List<String> required = new ArrayList<>();
+    @Nullable Object requiredList = schema.get("required");
+    if (requiredList != null)
+      for (Object property : list("required", requiredList))
+        required.add(String.valueOf(property));
+    return new JsonSchemaObjectParser(properties, required, JsonParsers.value());
+  }
+
+  private static List<String> types(Map<?, ?> schema) {
+    @Nullable Object type = schema.get("type");
+    if (type == null) return List.of();
+    if (type instanceof String string) return List.of(string);
+    List<String> types = new ArrayList<>();
+    for (Object element : list("type", type))
+      types.add(String.valueOf(element));
+    return types;
+  }
+
+  private static List<JsonSchemaConstraint> constraints(Map<?, ?> schema, List<String> types) {
+    List<JsonSchemaConstraint> constraints = new ArrayList<>(4);
+    // Numbers are constrained to integers, unless the types allow any number as well
+    if (types.contains("integer") && !types.contains("number"))
+      constraints.add((value) -> !(value instanceof Number number) || isIntegral(number)
+          ? null : "Expected integer: " + value);
+    @Nullable Object minimum = schema.get("minimum");
+    if (minimum != null) {
+      double bound = number("minimum", minimum);
+      constraints.add((value) -> !(value instanceof Number number)
+          || number.doubleValue() >= bound ? null : value + " is less than minimum " + minimum);
+    }
+    @Nullable Object maximum = schema.get("maximum");
+    if (maximum != null) {
+      double bound = number("maximum", maximum);
+      constraints.add((value) -> !(value instanceof Number number)
+          || number.doubleValue() <= bound ? null : value + " is greater than maximum " + maximum);
+    }
+    @Nullable Object maxLength = schema.get("maxLength");
+    if (maxLength != null) {
+      int bound = (int) number("maxLength", maxLength);
+      constraints.add((value) -> !(value instanceof String string)
+          || string.codePointCount(0, string.length()) <= bound
+          ? null : "String is longer than maxLength " + bound);
+    }
+    @Nullable Object enumeration = schema.get("enum");
+    if (enumeration != null) {
+      List<?> allowed = List.copyOf(list("enum", enumeration));
+      constraints.add((value) -> {
+        for (Object element : allowed)
+          if (valueEquals(element, value)) return null;
+        return value + " is not one of " + allowed;
+      });
+    }
+    return constraints;
+  }
+
+  private static boolean valueEquals(@Nullable Object a, @Nullable Object b) {
+    if (a instanceof Number x && b instanceof Number y)
+      return Double.compare(x.doubleValue(), y.doubleValue()) == 0;
+    return Objects.equals(a, b);
+  }
+
+  private static boolean isIntegral(Number number) {
+    if (number instanceof Long) return true;
+    double value = number.doubleValue();
+    return Double.isFinite(value) && value == Math.rint(value);
+  }
+
+  private static Map<?, ?> map(String keyword, Object value) {
+    if (value instanceof Map<?, ?> map) return map;
+    throw invalid(keyword, value);
+  }
+
+  private static List<?> list(String keyword, Object value) {
+    if (value instanceof List<?> list) return list;
+    throw invalid(keyword, value);
+  }
+
+  private static double number(String keyword, Object value) {
+    if (value instanceof Number number) return number.doubleValue();
+    throw invalid(keyword, value);
+  }
+
+  private static IllegalArgumentException invalid(String keyword, @Nullable Object value) {
+    return new IllegalArgumentException(String.format(INVALID_SCHEMA_ERROR, keyword, value));
+  }
+
+}
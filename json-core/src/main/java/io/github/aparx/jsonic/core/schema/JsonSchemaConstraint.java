@@ -0,0 +1,27 @@
+package io.github.aparx.jsonic.core.schema;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Constraint of a compiled schema, checked against a value right after it has been parsed.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 15:08
+ * @since 1.0
+ */
+@FunctionalInterface
+@DefaultQualifier(NonNull.class)
+public interface JsonSchemaConstraint {
+
+  /**
+   * Checks {@code value} and returns a message describing the violation, or null if the value
+   * satisfies this constraint.
+   *
+   * @param value the parsed value to check
+   * @return the violation message, or null if {@code value} is valid
+   */
+  @Nullable String check(@Nullable Object value);
+
+}
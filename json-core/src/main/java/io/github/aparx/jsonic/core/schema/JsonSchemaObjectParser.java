@@ -0,0 +1,56 @@
+package io.github.aparx.jsonic.core.schema;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.tokens.JsonObjectParser;
+import io.github.aparx.jsonic.core.parser.tokens.JsonStringParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Object parser of a compiled schema, that parses each declared property with its own parser and
+ * checks the required properties once the object has been parsed.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 15:14
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class JsonSchemaObjectParser extends JsonObjectParser<String, Object> {
+
+  private static final String MISSING_PROPERTY_ERROR = "Missing required property: %s";
+
+  private final Map<String, JsonParser<?>> properties;
+  private final String[] required;
+
+  JsonSchemaObjectParser(Map<String, JsonParser<?>> properties,
+                         List<String> required,
+                         JsonParser<?> additionalParser) {
+    super(HashMap::new, JsonStringParser.DEFAULT, additionalParser);
+    this.properties = Map.copyOf(properties);
+    this.required = required.toArray(String[]::new);
+  }
+
+  @Override
+  public Map<@Nullable String, @Nullable Object> parse(
+      JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    Map<@Nullable String, @Nullable Object> map = super.parse(traverser, syntaxReader);
+    for (String property : this.required)
+      if (!map.containsKey(property))
+        throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+            MISSING_PROPERTY_ERROR, property);
+    return map;
+  }
+
+  @Override
+  protected JsonParser<?> valueParser(@Nullable String key) {
+    @Nullable JsonParser<?> parser = key != null ? this.properties.get(key) : null;
+    return parser != null ? parser : super.valueParser(key);
+  }
+}
@@ -0,0 +1,28 @@
+package io.github.aparx.jsonic.core.validator;
+
+/**
+ * The reason a document was rejected by a {@code JsonValidator}.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 14:02
+ * @see JsonValidator
+ * @since 1.0
+ */
+public enum JsonValidationError {
+
+  /** The source ended before the document was complete */
+  UNEXPECTED_END,
+  /** A character was encountered, that is not allowed at its position */
+  UNEXPECTED_CHARACTER,
+  /** A string contains an unescaped control character below {@code U+0020} */
+  CONTROL_CHARACTER,
+  /** A string contains an unknown escape sequence or malformed unicode escape */
+  INVALID_ESCAPE,
+  /** A number does not conform to the number grammar (e.g. leading zeroes or missing digits) */
+  INVALID_NUMBER,
+  /** The nesting of objects and arrays exceeds the validator's maximum depth */
+  DEPTH_EXCEEDED,
+  /** Non-whitespace characters follow the end of the document */
+  TRAILING_CHARACTERS
+
+}
@@ -0,0 +1,64 @@
+package io.github.aparx.jsonic.core.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Immutable result of a validation. Valid results are shared, thus a successful validation does
+ * not allocate a result.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 14:04
+ * @see JsonValidator
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonValidationResult {
+
+  public static final JsonValidationResult VALID = new JsonValidationResult(null, -1);
+
+  private final @Nullable JsonValidationError error;
+  private final long errorOffset;
+
+  private JsonValidationResult(@Nullable JsonValidationError error, long errorOffset) {
+    this.error = error;
+    this.errorOffset = errorOffset;
+  }
+
+  public static JsonValidationResult invalid(JsonValidationError error, long errorOffset) {
+    Preconditions.checkNotNull(error, "Error must not be null");
+    Preconditions.checkArgument(errorOffset >= 0, "Offset must not be negative");
+    return new JsonValidationResult(error, errorOffset);
+  }
+
+  public boolean isValid() {
+    return this.error == null;
+  }
+
+  /**
+   * Returns the error that caused the document to be rejected, or null if it is valid.
+   *
+   * @return the error, or null if this result is valid
+   */
+  public @Nullable JsonValidationError error() {
+    return this.error;
+  }
+
+  /**
+   * Returns the zero-based offset of the character that caused the document to be rejected,
+   * which is equal to the amount of characters in the source if it ended unexpectedly.
+   *
+   * @return the error offset, or {@code -1} if this result is valid
+   */
+  public long errorOffset() {
+    return this.errorOffset;
+  }
+
+  @Override
+  public String toString() {
+    if (this.error == null) return "JsonValidationResult{valid}";
+    return "JsonValidationResult{error=" + this.error + ", offset=" + this.errorOffset + '}';
+  }
+}
@@ -0,0 +1,270 @@
+package io.github.aparx.jsonic.core.validator;
+
+import io.github.aparx.jsonic.core.JsonSymbol;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSource;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import io.github.aparx.jsonic.core.parser.syntax.JsonGrammar;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Validator checking the well-formedness of a complete JSON document, as defined in RFC 8259,
+ * without materializing any of its values.
+ * <p>The validator reads directly from the source, keeping only the current character and a bit
+ * stack of the enclosing containers, thus neither strings, maps nor lists are built. Errors are
+ * not thrown, but returned as a {@code JsonValidationResult} containing the error's offset.
+ * <p>Instances are <b>not</b> thread-safe, since the nesting stack is reused between
+ * validations. The static {@link #validate(JsonCharSource)} uses a validator per thread.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 14:10
+ * @see JsonValidationResult
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonValidator {
+
+  public static final int DEFAULT_MAX_DEPTH = 512;
+
+  private static final ThreadLocal<JsonValidator> DEFAULT =
+      ThreadLocal.withInitial(() -> new JsonValidator(DEFAULT_MAX_DEPTH));
+
+  private static final int END = -1;
+
+  private final int maxDepth;
+
+  /** Bit stack, where a set bit at a depth marks an object and a cleared bit marks an array */
+  private final long[] stack;
+
+  private @Nullable JsonCharSource source;
+  private int ch;
+  private long position;
+  private @Nullable JsonValidationError error;
+
+  public JsonValidator(int maxDepth) {
+    Preconditions.checkArgument(maxDepth >= 1, "Max depth must be greater than zero");
+    this.maxDepth = maxDepth;
+    this.stack = new long[(maxDepth + 63) >>> 6];
+  }
+
+  /**
+   * Validates the document of {@code source}, using a validator local to the current thread with
+   * a max depth of {@link #DEFAULT_MAX_DEPTH}.
+   *
+   * @param source the source supplying the document
+   * @return the result of the validation
+   * @see #check(JsonCharSource)
+   */
+  public static JsonValidationResult validate(JsonCharSource source) {
+    return DEFAULT.get().check(source);
+  }
+
+  public static JsonValidationResult validate(CharSequence sequence) {
+    if (sequence.isEmpty())
+      return JsonValidationResult.invalid(JsonValidationError.UNEXPECTED_END, 0);
+    return validate(JsonCharSources.of(sequence));
+  }
+
+  /**
+   * Validates that {@code source} contains exactly one JSON value, optionally surrounded by
+   * whitespace, and that its nesting does not exceed this validator's max depth.
+   *
+   * @param source the source supplying the document, which is consumed entirely if valid
+   * @return the result of the validation, where valid results are not allocated
+   */
+  public JsonValidationResult check(JsonCharSource source) {
+    Preconditions.checkNotNull(source, "Source must not be null");
+    this.source = source;
+    this.position = 0;
+    this.error = null;
+    try {
+      this.advance();
+      if (this.document())
+        return JsonValidationResult.VALID;
+      // The erroneous character is the last read character, or the end of the source
+      long errorOffset = this.ch == END ? this.position : this.position - 1;
+      //noinspection DataFlowIssue
+      return JsonValidationResult.invalid(this.error, errorOffset);
+    } finally {
+      this.source = null;
+    }
+  }
+
+  public int maxDepth() {
+    return this.maxDepth;
+  }
+
+  private boolean document() {
+    this.skipWhitespace();
+    long[] stack = this.stack;
+    int depth = 0;
+    value:
+    while (true) {
+      int ch = this.ch;
+      if (JsonSymbol.CURLY_OPEN.matches(ch) || JsonSymbol.SQUARE_OPEN.matches(ch)) {
+        boolean isObject = JsonSymbol.CURLY_OPEN.matches(ch);
+        if (depth == this.maxDepth)
+          return this.fail(JsonValidationError.DEPTH_EXCEEDED);
+        if (isObject) stack[depth >>> 6] |= 1L << depth;
+        else stack[depth >>> 6] &= ~(1L << depth);
+        ++depth;
+        this.advance();
+        this.skipWhitespace();
+        if (this.ch != (isObject ? JsonSymbol.CURLY_CLOSE : JsonSymbol.SQUARE_CLOSE).literal()) {
+          if (isObject && !this.member()) return false;
+          continue;
+        }
+        this.advance();
+        --depth;
+      } else if (!this.scalar()) {
+        return false;
+      }
+      // Handle the end of a value, so either continue or close the enclosing containers
+      while (depth != 0) {
+        this.skipWhitespace();
+        boolean isObject = (stack[(depth - 1) >>> 6] & 1L << (depth - 1)) != 0;
+        if (JsonSymbol.COMMA.matches(this.ch)) {
+          this.advance();
+          this.skipWhitespace();
+          if (isObject && !this.member()) return false;
+          continue value;
+        }
+        if (this.ch != (isObject ? JsonSymbol.CURLY_CLOSE : JsonSymbol.SQUARE_CLOSE).literal())
+          return this.failUnexpected();
+        this.advance();
+        --depth;
+      }
+      this.skipWhitespace();
+      return this.ch == END || this.fail(JsonValidationError.TRAILING_CHARACTERS);
+    }
+  }
+
+  /** Validates a key and the following colon, leaving the current character at the value */
+  private boolean member() {
+    if (!JsonSymbol.DOUBLE_QUOTE.matches(this.ch))
+      return this.failUnexpected();
+    if (!this.string()) return false;
+    this.skipWhitespace();
+    if (!JsonSymbol.COLON.matches(this.ch))
+      return this.failUnexpected();
+    this.advance();
+    this.skipWhitespace();
+    return true;
+  }
+
+  private boolean scalar() {
+    return switch (this.ch) {
+      case '"' -> this.string();
+      case 't' -> this.literal("true");
+      case 'f' -> this.literal("false");
+      case 'n' -> this.literal("null");
+      default -> JsonGrammar.isNumberStart(this.ch) ? this.number() : this.failUnexpected();
+    };
+  }
+
+  private boolean string() {
+    this.advance(); // skip opening quote
+    while (true) {
+      int ch = this.ch;
+      if (JsonSymbol.DOUBLE_QUOTE.matches(ch)) {
+        this.advance();
+        return true;
+      }
+      if (ch == END) return this.fail(JsonValidationError.UNEXPECTED_END);
+      if (ch < 0x20) return this.fail(JsonValidationError.CONTROL_CHARACTER);
+      if (ch == '\\') {
+        this.advance();
+        switch (this.ch) {
+          case '"', '\\', '/', 'b', 'f', 'n', 'r', 't' -> {}
+          case 'u' -> {
+            for (int i = 0; i < 4; ++i) {
+              this.advance();
+              if (!JsonGrammar.isHexDigit(this.ch))
+                return this.fail(this.ch == END
+                    ? JsonValidationError.UNEXPECTED_END
+                    : JsonValidationError.INVALID_ESCAPE);
+            }
+          }
+          case END -> {
+            return this.fail(JsonValidationError.UNEXPECTED_END);
+          }
+          default -> {
+            return this.fail(JsonValidationError.INVALID_ESCAPE);
+          }
+        }
+      }
+      this.advance();
+    }
+  }
+
+  private boolean number() {
+    if (this.ch == '-') this.advance();
+    if (this.ch == '0') {
+      this.advance();
+      if (JsonGrammar.isDigit(this.ch))
+        return this.fail(JsonValidationError.INVALID_NUMBER);
+    } else if (!this.digits()) {
+      return false;
+    }
+    if (this.ch == '.') {
+      this.advance();
+      if (!this.digits()) return false;
+    }
+    if (this.ch == 'e' || this.ch == 'E') {
+      this.advance();
+      if (this.ch == '+' || this.ch == '-') this.advance();
+      return this.digits();
+    }
+    return true;
+  }
+
+  /** Validates one or more consecutive digits */
+  private boolean digits() {
+    if (!JsonGrammar.isDigit(this.ch))
+      return this.fail(this.ch == END
+          ? JsonValidationError.UNEXPECTED_END
+          : JsonValidationError.INVALID_NUMBER);
+    do this.advance();
+    while (JsonGrammar.isDigit(this.ch));
+    return true;
+  }
+
+  private boolean literal(String literal) {
+    for (int i = 0, n = literal.length(); i < n; ++i) {
+      if (this.ch != literal.charAt(i))
+        return this.failUnexpected();
+      this.advance();
+    }
+    return true;
+  }
+
+  private void skipWhitespace() {
+    while (JsonGrammar.isWhitespace(this.ch))
+      this.advance();
+  }
+
+  @SuppressWarnings("DataFlowIssue")
+  private void advance() {
+    JsonCharSource source = this.source;
+    if (source.hasNext()) {
+      this.ch = source.next();
+      ++this.position;
+    } else {
+      this.ch = END;
+    }
+  }
+
+  private boolean failUnexpected() {
+    return this.fail(this.ch == END
+        ? JsonValidationError.UNEXPECTED_END
+        : JsonValidationError.UNEXPECTED_CHARACTER);
+  }
+
+  private boolean fail(JsonValidationError error) {
+    this.error = error;
+    return false;
+  }
+
+}
@@ -0,0 +1,479 @@
+package io.github.aparx.jsonic.core.writer;
+
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.math.BigInteger;
+
+/**
+ * Allocation-free formatter, writing numbers directly into a character buffer.
+ * <p>Floating point numbers are written using the Schubfach algorithm (R. Giulietti, "The
+ * Schubfach way to render doubles", 2020), which always yields the shortest decimal that rounds
+ * back to the exact same binary value. The output notation is equal to the one of
+ * {@code Double.toString} and {@code Float.toString} (plain notation for magnitudes in
+ * {@code [10^-3, 10^7)}, computerized scientific notation otherwise), which is valid JSON.
+ * <p>Each write method returns the exclusive end index of the written characters within the
+ * buffer, so consecutive writes can be chained. Callers must ensure, that the buffer has at least
+ * {@link #MAX_DOUBLE_LENGTH}, {@link #MAX_FLOAT_LENGTH} or {@link #MAX_LONG_LENGTH} characters
+ * remaining, starting at the given offset.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 12:10
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class JsonNumberWriter {
+
+  /** Maximum amount of characters written by {@code writeLong}, e.g. "-9223372036854775808" */
+  public static final int MAX_LONG_LENGTH = 20;
+
+  /** Maximum amount of characters written by {@code writeDouble}, e.g. "-2.2250738585072014E-308" */
+  public static final int MAX_DOUBLE_LENGTH = 24;
+
+  /** Maximum amount of characters written by {@code writeFloat}, e.g. "-1.17549435E-38" */
+  public static final int MAX_FLOAT_LENGTH = 15;
+
+  private static final char[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).toCharArray();
+
+  private static final char[] DIGIT_PAIRS = new char[200];
+
+  private static final long[] POW10 = new long[18];
+
+  // Double specific constants (binary64)
+  private static final int D_P = 53;
+  private static final int D_Q_MIN = -1074;
+  private static final long D_C_TINY = 3;
+  private static final int D_H = 17;
+  private static final long D_C_MIN = 1L << (D_P - 1);
+  private static final int D_BQ_MASK = (1 << 11) - 1;
+  private static final long D_T_MASK = (1L << (D_P - 1)) - 1;
+
+  // Float specific constants (binary32)
+  private static final int F_P = 24;
+  private static final int F_Q_MIN = -149;
+  private static final int F_C_TINY = 8;
+  private static final int F_H = 9;
+  private static final int F_C_MIN = 1 << (F_P - 1);
+  private static final int F_BQ_MASK = (1 << 8) - 1;
+  private static final int F_T_MASK = (1 << (F_P - 1)) - 1;
+
+  private static final long MASK_63 = (1L << 63) - 1;
+  private static final long MASK_32 = (1L << 32) - 1;
+  private static final int MASK_28 = (1 << 28) - 1;
+
+  /** Smallest and greatest decimal exponent {@code k} for which {@code G} holds values */
+  private static final int K_MIN = -324, K_MAX = 292;
+
+  /**
+   * Table of the 126-bit approximations {@code g = floor(10^-k * 2^-r) + 1}, where {@code r} is
+   * chosen, such that {@code 2^125 <= g < 2^126}. Each {@code g} is split into its upper 63 bits
+   * at even indices and its lower 63 bits at odd indices.
+   */
+  private static final long[] G = new long[(K_MAX - K_MIN + 1) << 1];
+
+  static {
+    for (int i = 0; i < 100; ++i) {
+      DIGIT_PAIRS[i << 1] = (char) ('0' + i / 10);
+      DIGIT_PAIRS[(i << 1) | 1] = (char) ('0' + i % 10);
+    }
+    POW10[0] = 1;
+    for (int i = 1; i < POW10.length; ++i)
+      POW10[i] = 10 * POW10[i - 1];
+    BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+    for (int k = K_MIN; k <= K_MAX; ++k) {
+      BigInteger numerator = k <= 0 ? BigInteger.TEN.pow(-k) : BigInteger.ONE;
+      BigInteger denominator = k <= 0 ? BigInteger.ONE : BigInteger.TEN.pow(k);
+      int r = flog2pow10(-k) - 125;
+      if (r < 0) numerator = numerator.shiftLeft(-r);
+      else denominator = denominator.shiftLeft(r);
+      BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+      G[(k - K_MIN) << 1] = g.shiftRight(63).longValue();
+      G[(k - K_MIN) << 1 | 1] = g.and(mask63).longValue();
+    }
+  }
+
+  private JsonNumberWriter() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns the maximum amount of characters written by {@link #writeNumber} for {@code value}.
+   *
+   * @param value the value to write
+   * @return the amount of characters the buffer must have left to write {@code value}
+   */
+  public static int maxLength(Number value) {
+    if (value instanceof JsonNumber) return ((JsonNumber) value).length();
+    if (value instanceof Float) return MAX_FLOAT_LENGTH;
+    if (isIntegral(value)) return MAX_LONG_LENGTH;
+    return MAX_DOUBLE_LENGTH;
+  }
+
+  /**
+   * Writes {@code value} into {@code buffer}, depending on its type.
+   * <p>The original literal of a {@link JsonNumber} is copied unchanged, preserving its digits
+   * without converting it. Integral types up to {@code Long} are written like
+   * {@link #writeLong}, {@code Float} like {@link #writeFloat} and all other numbers like
+   * {@link #writeDouble}, through their double value.
+   *
+   * @param value  the value to write
+   * @param buffer the target buffer, having at least {@link #maxLength(Number)} characters left
+   * @param offset the index at which the first character is written
+   * @return the exclusive end index of the written characters
+   * @throws IllegalArgumentException if {@code value} is either infinite or NaN
+   */
+  public static int writeNumber(Number value, char[] buffer, int offset) {
+    if (value instanceof JsonNumber) {
+      JsonNumber number = (JsonNumber) value;
+      Preconditions.checkPositionIndexes(offset, offset + number.length(), buffer.length);
+      number.getChars(buffer, offset);
+      return offset + number.length();
+    }
+    if (value instanceof Float) return writeFloat(value.floatValue(), buffer, offset);
+    if (isIntegral(value)) return writeLong(value.longValue(), buffer, offset);
+    return writeDouble(value.doubleValue(), buffer, offset);
+  }
+
+  /**
+   * Writes the decimal representation of {@code value} into {@code buffer}.
+   *
+   * @param value  the value to write
+   * @param buffer the target buffer, having at least {@link #MAX_LONG_LENGTH} characters left
+   * @param offset the index at which the first character is written
+   * @return the exclusive end index of the written characters
+   */
+  public static int writeLong(long value, char[] buffer, int offset) {
+    Preconditions.checkPositionIndex(offset, buffer.length);
+    if (value == Long.MIN_VALUE) {
+      System.arraycopy(LONG_MIN_VALUE, 0, buffer, offset, LONG_MIN_VALUE.length);
+      return offset + LONG_MIN_VALUE.length;
+    }
+    if (value < 0) {
+      buffer[offset++] = '-';
+      value = -value;
+    }
+    int end = offset + digitCount(value);
+    int position = end;
+    while (value >= 100) {
+      long quotient = value / 100;
+      int pair = (int) (value - 100 * quotient) << 1;
+      value = quotient;
+      buffer[--position] = DIGIT_PAIRS[pair | 1];
+      buffer[--position] = DIGIT_PAIRS[pair];
+    }
+    if (value >= 10) {
+      int pair = (int) value << 1;
+      buffer[--position] = DIGIT_PAIRS[pair | 1];
+      buffer[--position] = DIGIT_PAIRS[pair];
+    } else {
+      buffer[--position] = (char) ('0' + value);
+    }
+    return end;
+  }
+
+  /**
+   * Writes the shortest decimal representation of {@code value} into {@code buffer}, that
+   * rounds back to {@code value} when parsed.
+   *
+   * @param value  the finite value to write
+   * @param buffer the target buffer, having at least {@link #MAX_DOUBLE_LENGTH} characters left
+   * @param offset the index at which the first character is written
+   * @return the exclusive end index of the written characters
+   * @throws IllegalArgumentException if {@code value} is either infinite or NaN, since those
+   *                                  values are not representable in JSON
+   */
+  public static int writeDouble(double value, char[] buffer, int offset) {
+    Preconditions.checkArgument(Double.isFinite(value), "Value must be finite");
+    Preconditions.checkPositionIndex(offset, buffer.length);
+    long bits = Double.doubleToRawLongBits(value);
+    long t = bits & D_T_MASK;
+    int bq = (int) (bits >>> (D_P - 1)) & D_BQ_MASK;
+    if (bits < 0) buffer[offset++] = '-';
+    if (bq != 0) {
+      // Normal value, where mq = -q
+      int mq = -D_Q_MIN + 1 - bq;
+      long c = D_C_MIN | t;
+      if (0 < mq & mq < D_P) {
+        // Fast path for integral values
+        long f = c >> mq;
+        if (f << mq == c)
+          return writeDecimal(f, 0, D_H, buffer, offset);
+      }
+      return writeDouble(-mq, c, 0, buffer, offset);
+    }
+    if (t != 0) {
+      // Subnormal value
+      return t < D_C_TINY
+          ? writeDouble(D_Q_MIN, 10 * t, -1, buffer, offset)
+          : writeDouble(D_Q_MIN, t, 0, buffer, offset);
+    }
+    return writeZero(buffer, offset);
+  }
+
+  /**
+   * Writes the shortest decimal representation of {@code value} into {@code buffer}, that
+   * rounds back to {@code value} when parsed.
+   *
+   * @param value  the finite value to write
+   * @param buffer the target buffer, having at least {@link #MAX_FLOAT_LENGTH} characters left
+   * @param offset the index at which the first character is written
+   * @return the exclusive end index of the written characters
+   * @throws IllegalArgumentException if {@code value} is either infinite or NaN, since those
+   *                                  values are not representable in JSON
+   */
+  public static int writeFloat(float value, char[] buffer, int offset) {
+    Preconditions.checkArgument(Float.isFinite(value), "Value must be finite");
+    Preconditions.checkPositionIndex(offset, buffer.length);
+    int bits = Float.floatToRawIntBits(value);
+    int t = bits & F_T_MASK;
+    int bq = (bits >>> (F_P - 1)) & F_BQ_MASK;
+    if (bits < 0) buffer[offset++] = '-';
+    if (bq != 0) {
+      // Normal value, where mq = -q
+      int mq = -F_Q_MIN + 1 - bq;
+      int c = F_C_MIN | t;
+      if (0 < mq & mq < F_P) {
+        // Fast path for integral values
+        int f = c >> mq;
+        if (f << mq == c)
+          return writeDecimal(f, 0, F_H, buffer, offset);
+      }
+      return writeFloat(-mq, c, 0, buffer, offset);
+    }
+    if (t != 0) {
+      // Subnormal value
+      return t < F_C_TINY
+          ? writeFloat(F_Q_MIN, 10 * t, -1, buffer, offset)
+          : writeFloat(F_Q_MIN, t, 0, buffer, offset);
+    }
+    return writeZero(buffer, offset);
+  }
+
+  private static boolean isIntegral(Number value) {
+    return value instanceof Long || value instanceof Integer
+        || value instanceof Short || value instanceof Byte;
+  }
+
+  private static int writeDouble(int q, long c, int dk, char[] buffer, int offset) {
+    int out = (int) c & 0x1;
+    long cb = c << 2;
+    long cbr = cb + 2;
+    long cbl;
+    int k;
+    if (c != D_C_MIN | q == D_Q_MIN) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    } else {
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+    int h = q + flog2pow10(-k) + 2;
+    long g1 = G[(k - K_MIN) << 1];
+    long g0 = G[(k - K_MIN) << 1 | 1];
+    long vb = roundOdd(g1, g0, cb << h);
+    long vbl = roundOdd(g1, g0, cbl << h);
+    long vbr = roundOdd(g1, g0, cbr << h);
+    long s = vb >> 2;
+    if (s >= 100) {
+      // Try to find a shorter decimal, having one digit less than the ones around
+      long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+      long tp10 = sp10 + 10;
+      boolean upin = vbl + out <= sp10 << 2;
+      boolean wpin = (tp10 << 2) + out <= vbr;
+      if (upin != wpin)
+        return writeDecimal(upin ? sp10 : tp10, k, D_H, buffer, offset);
+    }
+    long t = s + 1;
+    boolean uin = vbl + out <= s << 2;
+    boolean win = (t << 2) + out <= vbr;
+    if (uin != win)
+      return writeDecimal(uin ? s : t, k + dk, D_H, buffer, offset);
+    long cmp = vb - (s + t << 1);
+    return writeDecimal(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, D_H,
+        buffer, offset);
+  }
+
+  private static int writeFloat(int q, int c, int dk, char[] buffer, int offset) {
+    int out = c & 0x1;
+    long cb = (long) c << 2;
+    long cbr = cb + 2;
+    long cbl;
+    int k;
+    if (c != F_C_MIN | q == F_Q_MIN) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    } else {
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+    int h = q + flog2pow10(-k) + 33;
+    long g = G[(k - K_MIN) << 1] + 1;
+    int vb = roundOdd(g, cb << h);
+    int vbl = roundOdd(g, cbl << h);
+    int vbr = roundOdd(g, cbr << h);
+    int s = vb >> 2;
+    if (s >= 100) {
+      // Try to find a shorter decimal, having one digit less than the ones around
+      int sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+      int tp10 = sp10 + 10;
+      boolean upin = vbl + out <= sp10 << 2;
+      boolean wpin = (tp10 << 2) + out <= vbr;
+      if (upin != wpin)
+        return writeDecimal(upin ? sp10 : tp10, k, F_H, buffer, offset);
+    }
+    int t = s + 1;
+    boolean uin = vbl + out <= s << 2;
+    boolean win = (t << 2) + out <= vbr;
+    if (uin != win)
+      return writeDecimal(uin ? s : t, k + dk, F_H, buffer, offset);
+    int cmp = vb - (s + t << 1);
+    return writeDecimal(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, F_H,
+        buffer, offset);
+  }
+
+  /** Writes the decimal {@code f * 10^e} with a precision of {@code precision} digits */
+  private static int writeDecimal(long f, int e, int precision, char[] buffer, int offset) {
+    int length = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+    if (f >= POW10[length]) ++length;
+    // Normalize f, such that 10^(precision-1) <= f < 10^precision
+    f *= POW10[precision - length];
+    e += length;
+    // Split f into its most significant digit (h), and the next two blocks of 8 digits (m and l)
+    int h, m, l;
+    if (precision == D_H) {
+      long hm = Math.multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+      l = (int) (f - 100_000_000 * hm);
+      h = (int) (hm * 1_441_151_881L >>> 57);
+      m = (int) (hm - 100_000_000 * h);
+    } else {
+      h = (int) (f * 1_441_151_881L >>> 57);
+      m = (int) (f - 100_000_000 * h);
+      l = 0;
+    }
+    if (0 < e && e <= 7)
+      return writePlain(h, m, l, e, buffer, offset);
+    if (-3 < e && e <= 0)
+      return writeLeadingZeroes(h, m, l, e, buffer, offset);
+    return writeScientific(h, m, l, e, buffer, offset);
+  }
+
+  private static int writePlain(int h, int m, int l, int e, char[] buffer, int offset) {
+    buffer[offset++] = (char) ('0' + h);
+    int y = fixedPoint8(m);
+    int i = 1;
+    for (; i < e; ++i) {
+      int t = 10 * y;
+      buffer[offset++] = (char) ('0' + (t >>> 28));
+      y = t & MASK_28;
+    }
+    buffer[offset++] = '.';
+    for (; i <= 8; ++i) {
+      int t = 10 * y;
+      buffer[offset++] = (char) ('0' + (t >>> 28));
+      y = t & MASK_28;
+    }
+    return writeLowDigits(l, buffer, offset);
+  }
+
+  private static int writeLeadingZeroes(int h, int m, int l, int e, char[] buffer, int offset) {
+    buffer[offset++] = '0';
+    buffer[offset++] = '.';
+    for (; e < 0; ++e)
+      buffer[offset++] = '0';
+    buffer[offset++] = (char) ('0' + h);
+    offset = write8Digits(m, buffer, offset);
+    return writeLowDigits(l, buffer, offset);
+  }
+
+  private static int writeScientific(int h, int m, int l, int e, char[] buffer, int offset) {
+    buffer[offset++] = (char) ('0' + h);
+    buffer[offset++] = '.';
+    offset = write8Digits(m, buffer, offset);
+    offset = writeLowDigits(l, buffer, offset);
+    buffer[offset++] = 'E';
+    int exponent = e - 1;
+    if (exponent < 0) {
+      buffer[offset++] = '-';
+      exponent = -exponent;
+    }
+    if (exponent >= 100) {
+      int d = exponent * 1_311 >>> 17;
+      buffer[offset++] = (char) ('0' + d);
+      exponent -= 100 * d;
+    } else if (exponent < 10) {
+      buffer[offset++] = (char) ('0' + exponent);
+      return offset;
+    }
+    buffer[offset++] = DIGIT_PAIRS[exponent << 1];
+    buffer[offset++] = DIGIT_PAIRS[(exponent << 1) | 1];
+    return offset;
+  }
+
+  private static int writeLowDigits(int l, char[] buffer, int offset) {
+    if (l != 0) offset = write8Digits(l, buffer, offset);
+    // Remove trailing zeroes, but keep the one directly following the decimal point
+    int last = offset - 1;
+    while (buffer[last] == '0') --last;
+    if (buffer[last] == '.') ++last;
+    return 1 + last;
+  }
+
+  private static int write8Digits(int value, char[] buffer, int offset) {
+    int y = fixedPoint8(value);
+    for (int i = 0; i < 8; ++i) {
+      int t = 10 * y;
+      buffer[offset++] = (char) ('0' + (t >>> 28));
+      y = t & MASK_28;
+    }
+    return offset;
+  }
+
+  private static int writeZero(char[] buffer, int offset) {
+    buffer[offset++] = '0';
+    buffer[offset++] = '.';
+    buffer[offset++] = '0';
+    return offset;
+  }
+
+  /** Returns {@code value / 10^8} as fixed point number with 28 fractional bits */
+  private static int fixedPoint8(int value) {
+    return (int) (Math.multiplyHigh((long) (value + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+  }
+
+  private static long roundOdd(long g1, long g0, long cp) {
+    long x1 = Math.multiplyHigh(g0, cp);
+    long y0 = g1 * cp;
+    long y1 = Math.multiplyHigh(g1, cp);
+    long z = (y0 >>> 1) + x1;
+    long vbp = y1 + (z >>> 63);
+    return vbp | (z & MASK_63) + MASK_63 >>> 63;
+  }
+
+  private static int roundOdd(long g, long cp) {
+    long x1 = Math.multiplyHigh(g, cp);
+    long vbp = x1 >>> 31;
+    return (int) (vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+  }
+
+  private static int digitCount(long value) {
+    long limit = 10;
+    for (int i = 1; i < 19; ++i, limit *= 10)
+      if (value < limit) return i;
+    return 19;
+  }
+
+  private static int flog10pow2(int e) {
+    return (int) (e * 661_971_961_083L >> 41);
+  }
+
+  private static int flog10threeQuartersPow2(int e) {
+    return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+  }
+
+  private static int flog2pow10(int e) {
+    return (int) (e * 913_124_641_741L >> 38);
+  }
+
+}
@@ -0,0 +1,300 @@
+package io.github.aparx.jsonic.core.writer;
+
+import io.github.aparx.jsonic.core.JsonSymbol;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSource;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraversers;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.syntax.JsonGrammar;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.syntax.SyntaxReadPredicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.com.google.common.base.Preconditions;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Streaming transformer, that reads a JSON document from a source and writes the same document
+ * either compacted or pretty-printed into a sink, in one single pass.
+ * <p>No tree is built: strings and numbers are copied verbatim from the traverser into a fixed
+ * size output buffer, thus the memory used is constant, except for the nesting stack, which grows
+ * with the depth of the document. Numbers are validated against the number grammar, and
+ * documents of a whole source must not be followed by anything but whitespace.
+ * <p>Example, using an indent of two:
+ * <pre><code>
+ *   JsonTransformer.pretty(2).transform("{\"a\":[1,2]}") ::= "{\n  \"a\": [\n    1,\n ..."
+ *   JsonTransformer.MINIFY.transform("{ \"a\" : [1, 2] }") ::= "{\"a\":[1,2]}"
+ * </code></pre>
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 10:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class JsonTransformer {
+
+  /** Transformer that removes all insignificant whitespace */
+  public static final JsonTransformer MINIFY = new JsonTransformer(0);
+
+  private static final int OUTPUT_BUFFER_SIZE = 8192;
+  private static final int INITIAL_STACK_SIZE = 16;
+
+  private static final String UNEXPECTED_TOKEN_ERROR = "Unexpected token: %s";
+  private static final String UNEXPECTED_END_ERROR = "Unexpected end of input";
+  private static final String UNTERMINATED_STRING_ERROR = "Unterminated string";
+  private static final String MALFORMED_NUMBER_ERROR = "Malformed number: %s";
+  private static final String TRAILING_CHARACTER_ERROR = "Unexpected trailing character: %s";
+
+  /** The amount of spaces used per indentation level, or zero if compacting */
+  private final int indent;
+
+  public JsonTransformer(int indent) {
+    Preconditions.checkArgument(indent >= 0, "Indent must not be negative");
+    this.indent = indent;
+  }
+
+  public static JsonTransformer pretty(int indent) {
+    Preconditions.checkArgument(indent > 0, "Indent must be greater than zero");
+    return new JsonTransformer(indent);
+  }
+
+  public String transform(CharSequence sequence) {
+    StringWriter writer = new StringWriter(sequence.length());
+    try {
+      this.transform(JsonCharSources.of(sequence), writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Transforms the document of {@code source}, which must contain nothing but the document and
+   * whitespace, into {@code writer}.
+   *
+   * @param source the source supplying the document, which is consumed entirely
+   * @param writer the writer to write the transformed document to
+   * @throws IOException if writing to {@code writer} fails
+   */
+  public void transform(JsonCharSource source, Writer writer) throws IOException {
+    JsonCharSourceTraverser traverser = JsonCharSourceTraversers.read(source);
+    JsonSyntaxReader syntaxReader = DefaultJsonSyntaxReader.DEFAULT;
+    this.transform(traverser, syntaxReader, writer);
+    while (traverser.hasNext()) {
+      char ch = traverser.next();
+      if (!JsonGrammar.isWhitespace(ch))
+        throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+            TRAILING_CHARACTER_ERROR, ch);
+    }
+  }
+
+  /**
+   * Transforms the document of {@code source} and writes it UTF-8 encoded into {@code stream}.
+   * <p>The stream is flushed, but not closed after invocation.
+   *
+   * @param source the source supplying the document
+   * @param stream the stream to write the transformed document into
+   * @throws IOException if writing to {@code stream} fails
+   */
+  public void transform(JsonCharSource source, OutputStream stream) throws IOException {
+    Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+    this.transform(source, writer);
+    writer.flush();
+  }
+
+  /**
+   * Transforms the UTF-8 encoded document of {@code input} and writes it UTF-8 encoded into
+   * {@code output}, such that characters beyond ASCII are written as they were read.
+   * <p>Neither stream is closed, but {@code output} is flushed after invocation.
+   *
+   * @param input  the stream supplying the UTF-8 encoded document
+   * @param output the stream to write the transformed document into
+   * @throws IOException if writing to {@code output} fails
+   * @see JsonCharSources#utf8(InputStream)
+   */
+  public void transform(InputStream input, OutputStream output) throws IOException {
+    this.transform(JsonCharSources.utf8(input), output);
+  }
+
+  /**
+   * Transforms exactly one document, beginning at the current character of {@code traverser}.
+   * <p>Like {@code JsonParser#parse}, the traverser's current character is the last character of
+   * the document after invocation.
+   *
+   * @param traverser    the traverser supplying the document
+   * @param syntaxReader the syntax reader used to read and validate the document's syntax
+   * @param writer       the writer to write the transformed document to
+   * @throws IOException if writing to {@code writer} fails
+   */
+  public void transform(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                        Writer writer) throws IOException {
+    Preconditions.checkState(traverser.hasRead(), "Traverser has not been read");
+    Output out = new Output(writer);
+    // Whether the container at a depth is an object (true) or an array (false)
+    boolean[] objects = new boolean[INITIAL_STACK_SIZE];
+    int depth = 0;
+    while (true) {
+      char ch = traverser.current();
+      if (JsonSymbol.CURLY_OPEN.matches(ch) || JsonSymbol.SQUARE_OPEN.matches(ch)) {
+        boolean isObject = JsonSymbol.CURLY_OPEN.matches(ch);
+        out.write(ch);
+        this.skipToNext(traverser, syntaxReader);
+        JsonSymbol close = isObject ? JsonSymbol.CURLY_CLOSE : JsonSymbol.SQUARE_CLOSE;
+        if (!close.matches(traverser.current())) {
+          if (depth == objects.length)
+            objects = Arrays.copyOf(objects, depth << 1);
+          objects[depth++] = isObject;
+          this.writeNewline(out, depth);
+          if (isObject) this.transformKey(traverser, syntaxReader, out);
+          continue;
+        }
+        out.write(close.literal());
+      } else {
+        this.transformScalar(traverser, syntaxReader, out);
+      }
+      // Handle the end of a value, so either continue or close the enclosing containers
+      while (depth != 0) {
+        this.skipToNext(traverser, syntaxReader);
+        boolean isObject = objects[depth - 1];
+        if (JsonSymbol.COMMA.matches(traverser.current())) {
+          out.write(JsonSymbol.COMMA.literal());
+          this.skipToNext(traverser, syntaxReader);
+          this.writeNewline(out, depth);
+          if (isObject) this.transformKey(traverser, syntaxReader, out);
+          break;
+        }
+        JsonSymbol close = isObject ? JsonSymbol.CURLY_CLOSE : JsonSymbol.SQUARE_CLOSE;
+        syntaxReader.expectSymbol(traverser, close);
+        this.writeNewline(out, --depth);
+        out.write(close.literal());
+      }
+      if (depth == 0) break;
+    }
+    out.flush();
+  }
+
+  public int indent() {
+    return indent;
+  }
+
+  private void transformKey(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                            Output out) throws IOException {
+    syntaxReader.expectSymbol(traverser, JsonSymbol.DOUBLE_QUOTE);
+    this.copyString(traverser, syntaxReader, out);
+    this.skipToNext(traverser, syntaxReader);
+    syntaxReader.expectSymbol(traverser, JsonSymbol.COLON);
+    out.write(JsonSymbol.COLON.literal());
+    if (this.indent != 0) out.write(' ');
+    this.skipToNext(traverser, syntaxReader);
+  }
+
+  private void transformScalar(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                               Output out) throws IOException {
+    char ch = traverser.current();
+    switch (ch) {
+      case '"' -> this.copyString(traverser, syntaxReader, out);
+      case 't' -> this.copyLiteral(traverser, syntaxReader, out, "true");
+      case 'f' -> this.copyLiteral(traverser, syntaxReader, out, "false");
+      case 'n' -> this.copyLiteral(traverser, syntaxReader, out, "null");
+      default -> {
+        if (!JsonGrammar.isNumberStart(ch))
+          throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+              UNEXPECTED_TOKEN_ERROR, ch);
+        this.copyNumber(traverser, syntaxReader, out);
+      }
+    }
+  }
+
+  private void copyString(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                          Output out) throws IOException {
+    out.write(JsonSymbol.DOUBLE_QUOTE.literal());
+    while (traverser.hasNext()) {
+      char ch = traverser.next();
+      out.write(ch);
+      if (JsonSymbol.DOUBLE_QUOTE.matches(ch)) return;
+      if (ch == '\\' && traverser.hasNext())
+        out.write(traverser.next()); // copy escaped character verbatim
+    }
+    throw syntaxReader.errorFactory().create(syntaxReader, traverser, UNTERMINATED_STRING_ERROR);
+  }
+
+  /** Copies the number, which is validated against the grammar before it is written */
+  private void copyNumber(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                          Output out) throws IOException {
+    StringBuilder number = out.number;
+    number.setLength(0);
+    syntaxReader.read(traverser, out.numberAppender);
+    if (!JsonGrammar.isNumber(number))
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser,
+          MALFORMED_NUMBER_ERROR, number);
+    for (int i = 0, n = number.length(); i < n; ++i)
+      out.write(number.charAt(i));
+  }
+
+  private void copyLiteral(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader,
+                           Output out, String literal) throws IOException {
+    syntaxReader.expectLiteral(traverser, literal);
+    out.write(literal);
+  }
+
+  private void skipToNext(JsonCharSourceTraverser traverser, JsonSyntaxReader syntaxReader) {
+    if (!traverser.hasNext())
+      throw syntaxReader.errorFactory().create(syntaxReader, traverser, UNEXPECTED_END_ERROR);
+    syntaxReader.nextAndSkip(traverser, Character::isWhitespace);
+  }
+
+  private void writeNewline(Output out, int depth) throws IOException {
+    if (this.indent == 0) return;
+    out.write('\n');
+    for (int i = depth * this.indent; i > 0; --i)
+      out.write(' ');
+  }
+
+  /** Fixed size buffer in front of a writer, avoiding a virtual call per written character */
+  private static final class Output {
+
+    private final Writer writer;
+    private final char[] buffer = new char[OUTPUT_BUFFER_SIZE];
+    private int length;
+
+    /** Characters of the number being copied, which is reused for every number */
+    final StringBuilder number = new StringBuilder();
+
+    /** Predicate appending each number character to {@link #number} while reading */
+    final SyntaxReadPredicate numberAppender = (__, nextChar) -> {
+      if (!JsonGrammar.isNumberPart(nextChar)) return false;
+      this.number.append(nextChar);
+      return true;
+    };
+
+    Output(Writer writer) {
+      Preconditions.checkNotNull(writer, "Writer must not be null");
+      this.writer = writer;
+    }
+
+    void write(char ch) throws IOException {
+      if (this.length == this.buffer.length) this.drain();
+      this.buffer[this.length++] = ch;
+    }
+
+    void write(String string) throws IOException {
+      for (int i = 0, n = string.length(); i < n; ++i)
+        this.write(string.charAt(i));
+    }
+
+    void flush() throws IOException {
+      this.drain();
+      this.writer.flush();
+    }
+
+    private void drain() throws IOException {
+      this.writer.write(this.buffer, 0, this.length);
+      this.length = 0;
+    }
+  }
+
+}
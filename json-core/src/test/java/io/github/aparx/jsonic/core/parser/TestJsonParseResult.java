@@ -0,0 +1,89 @@
+package io.github.aparx.jsonic.core.parser;
+
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraversers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 11:00
+ * @since 1.0
+ */
+public class TestJsonParseResult {
+
+  private final JsonParser<?> parser = JsonParsers.value();
+
+  @Test
+  public void testTryParse_SuccessHoldsValue() {
+    JsonParseResult<?> result = JsonParser.tryParse(parser, "[1, \"a\"]");
+    Assert.assertTrue(result.isSuccess());
+    Assert.assertEquals(List.of(1L, "a"), result.value());
+    Assert.assertEquals(-1, result.errorOffset());
+    Assert.assertNull(result.error());
+  }
+
+  @Test
+  public void testTryParse_FailureHoldsStacklessErrorAndOffset() {
+    JsonParseResult<?> result = JsonParser.tryParse(parser, "[1, tru]");
+    Assert.assertFalse(result.isSuccess());
+    Assert.assertNull(result.value());
+    Assert.assertEquals(7, result.errorOffset());
+    JsonParseError error = result.error();
+    Assert.assertNotNull(error);
+    Assert.assertEquals(0, error.getStackTrace().length);
+    Assert.assertNotNull(error.getMessage());
+    Assert.assertTrue(error.getMessage().contains("Expected character: e"));
+    Assert.assertThrows(JsonParseError.class, result::orElseThrow);
+  }
+
+  @Test
+  public void testTryParse_PrematureEndIsFailure() {
+    Assert.assertEquals(0, JsonParser.tryParse(parser, "").errorOffset());
+    Assert.assertEquals(3, JsonParser.tryParse(JsonParsers.string(), "\"abc").errorOffset());
+    JsonParseResult<?> result = JsonParser.tryParse(JsonParsers.string(), "\"");
+    Assert.assertFalse(result.isSuccess());
+    Assert.assertEquals(1, result.errorOffset());
+  }
+
+  @Test
+  public void testTryParse_FailureHoldsErrorCode() {
+    Assert.assertNull(JsonParser.tryParse(parser, "1").errorCode());
+    Assert.assertEquals(JsonParseErrorCode.EMPTY_INPUT,
+        JsonParser.tryParse(parser, "").errorCode());
+    Assert.assertEquals(JsonParseErrorCode.UNEXPECTED_END,
+        JsonParser.tryParse(parser, "[1,").errorCode());
+    Assert.assertEquals(JsonParseErrorCode.UNEXPECTED_END,
+        JsonParser.tryParse(JsonParsers.iterativeValue(), "[1").errorCode());
+    Assert.assertEquals(JsonParseErrorCode.UNEXPECTED_END,
+        JsonParser.tryParse(JsonParsers.string(), "\"abc").errorCode());
+    Assert.assertEquals(JsonParseErrorCode.INVALID_SYNTAX,
+        JsonParser.tryParse(parser, "[1, tru, 2]").errorCode());
+    Assert.assertEquals(JsonParseErrorCode.INVALID_SYNTAX,
+        JsonParser.tryParse(parser, "[1x]").errorCode());
+  }
+
+  @Test
+  public void testTryParse_MessageIsCapturedAtFailure() {
+    JsonCharSourceTraverser traverser = JsonCharSourceTraversers.read("[1, tru]\n\n  ");
+    JsonParseResult<?> result = JsonParser.tryParse(parser, traverser);
+    JsonParseError error = result.error();
+    Assert.assertNotNull(error);
+    // Processing the traverser further must not change the message created afterward
+    while (traverser.hasNext()) traverser.next();
+    Assert.assertNotNull(error.getMessage());
+    Assert.assertTrue(error.getMessage(), error.getMessage().startsWith("Error at line 1:8"));
+    Assert.assertEquals("Expected character: e", error.getDetails());
+  }
+
+  @Test
+  public void testParse_DefaultErrorsKeepStackTrace() {
+    JsonParseError error = Assert.assertThrows(JsonParseError.class,
+        () -> JsonParser.parse(parser, "[1, tru]"));
+    Assert.assertNotEquals(0, error.getStackTrace().length);
+  }
+
+}
@@ -0,0 +1,121 @@
+package io.github.aparx.jsonic.core.parser.binary;
+
+import io.github.aparx.jsonic.core.parser.JsonParseResult;
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseMetrics;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraversers;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class TestJsonBinaryParsers {
+
+  private static final String DOCUMENT = """
+      {"id": 123456789, "neg": -42, "ratio": 0.125, "name": "J\u00e4ger \u20ac", "ok": true,
+       "off": false, "none": null, "tags": ["a", "", [1, -2.5e-3]], "empty": {}, "list": []}
+      """;
+
+  @Test
+  public void testParse_RoundTripsTextualDocument() {
+    Object value = JsonParser.parse(JsonParsers.value(), DOCUMENT);
+    byte[] bytes = JsonBinaryWriter.toBytes(value);
+    Assert.assertTrue(bytes.length < DOCUMENT.getBytes(StandardCharsets.UTF_8).length);
+    Assert.assertEquals(value, JsonBinaryParsers.parse(JsonBinaryParsers.value(), bytes));
+    Assert.assertEquals(value, JsonBinaryParsers.parse(JsonBinaryParsers.value(),
+        new ByteArrayInputStream(bytes)));
+    Assert.assertEquals(Long.MIN_VALUE, JsonBinaryParsers.parse(JsonBinaryParsers.number(),
+        JsonBinaryWriter.toBytes(Long.MIN_VALUE)));
+    Assert.assertEquals(Double.NaN, JsonBinaryParsers.parse(JsonBinaryParsers.number(),
+        JsonBinaryWriter.toBytes(Double.NaN)));
+  }
+
+  @Test
+  public void testParse_ComposesLikeTextualParsers() {
+    byte[] bytes = JsonBinaryWriter.toBytes(
+        Map.of("users", List.of("ann", "bob"), "admins", List.of()));
+    Map<String, List<String>> users = JsonBinaryParsers.parse(JsonBinaryParsers.object(
+        JsonBinaryParsers.string(), JsonBinaryParsers.array(JsonBinaryParsers.string())), bytes);
+    Assert.assertEquals(Map.of("users", List.of("ann", "bob"), "admins", List.of()), users);
+
+    JsonParseMetrics metrics = new JsonParseMetrics();
+    JsonParser.parse(JsonBinaryParsers.value(),
+        JsonCharSourceTraversers.read(JsonCharSources.binary(bytes)),
+        new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, metrics));
+    Assert.assertEquals(1, metrics.objects());
+    Assert.assertEquals(2, metrics.arrays());
+    Assert.assertEquals(4, metrics.strings());
+  }
+
+  @Test
+  public void testParse_KeepsDecimalLiterals() {
+    byte[] bytes = JsonBinaryWriter.toBytes(Arrays.asList(
+        JsonNumber.of("1.10"), new BigInteger("123456789012345678901234567890")));
+    Assert.assertEquals(List.of(JsonNumber.of("1.10"),
+            JsonNumber.of("123456789012345678901234567890")),
+        JsonBinaryParsers.parse(JsonBinaryParsers.lazyValue(), bytes));
+    Assert.assertEquals(List.of(1.1, 1.2345678901234568E29),
+        JsonBinaryParsers.parse(JsonBinaryParsers.value(), bytes));
+  }
+
+  @Test
+  public void testParse_FailsOnMalformedInput() {
+    byte[] string = JsonBinaryWriter.toBytes("text");
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonBinaryParsers.parse(JsonBinaryParsers.number(), string));
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonBinaryParsers.parse(JsonBinaryParsers.value(), new byte[]{0x7F}));
+    JsonParseResult<?> truncated = JsonParser.tryParse(JsonBinaryParsers.value(),
+        JsonCharSourceTraversers.read(JsonCharSources.binary(string, 0, 3)));
+    Assert.assertFalse(truncated.isSuccess());
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> JsonBinaryWriter.toBytes(new Object()));
+  }
+
+  @Test
+  public void testParse_FailsOnTruncatedFrames() {
+    byte[] bytes = JsonBinaryWriter.toBytes(JsonParser.parse(JsonParsers.value(), DOCUMENT));
+    // Every proper prefix of the document ends within one of its records
+    for (int length = 1; length < bytes.length; ++length) {
+      byte[] truncated = Arrays.copyOf(bytes, length);
+      Assert.assertThrows("Prefix of " + length + " bytes", JsonParseError.class,
+          () -> JsonBinaryParsers.parse(JsonBinaryParsers.value(), truncated));
+    }
+    for (Object value : List.of(Long.MAX_VALUE, 0.5, JsonNumber.of("1.5"), "text")) {
+      byte[] record = JsonBinaryWriter.toBytes(value);
+      byte[] truncated = Arrays.copyOf(record, record.length - 1);
+      Assert.assertThrows(JsonParseError.class,
+          () -> JsonBinaryParsers.parse(JsonBinaryParsers.value(), truncated));
+    }
+  }
+
+  @Test
+  public void testParse_DoesNotAllocateForgedLengths() {
+    // String record declaring Integer.MAX_VALUE bytes, followed by only two of them
+    byte[] forged = {0x06, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a', 'b'};
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonBinaryParsers.parse(JsonBinaryParsers.string(), forged));
+    byte[] array = {0x07, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0x00};
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonBinaryParsers.parse(JsonBinaryParsers.value(), array));
+  }
+}
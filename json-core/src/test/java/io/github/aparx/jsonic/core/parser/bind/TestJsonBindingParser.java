@@ -0,0 +1,201 @@
+package io.github.aparx.jsonic.core.parser.bind;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseMetrics;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 16:00
+ * @since 1.0
+ */
+public class TestJsonBindingParser {
+
+  public enum Kind {LIBRARY, TOOL}
+
+  public record Point(int x, int y) {}
+
+  public record Project(String name, Kind kind, long stars, double score, boolean stable,
+                        List<Point> points, Set<String> tags, Map<String, Integer> versions,
+                        Object extra, Project parent) {}
+
+  public record Range(int from, int to) {
+    public Range {
+      if (from > to) throw new IllegalArgumentException("from > to");
+    }
+  }
+
+  public static class Bean {
+    private String name;
+    private int count;
+    private List<Bean> children;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public Bean setCount(int count) {
+      this.count = count;
+      return this;
+    }
+
+    public void setChildren(List<Bean> children) {
+      this.children = children;
+    }
+  }
+
+  public static class Settings {
+    private int limit;
+    private Runnable handler;
+
+    public void setLimit(int limit) {
+      if (limit < 0) throw new IllegalArgumentException("limit < 0");
+      this.limit = limit;
+    }
+
+    public void setHandler(Runnable handler) {
+      this.handler = handler;
+    }
+  }
+
+  public static class Overloads {
+    private Object value;
+    private Object count;
+
+    public void setValue(List<String> value) {
+      this.value = value;
+    }
+
+    public void setValue(String value) {
+      this.value = value;
+    }
+
+    public void setValue(int value) {
+      this.value = value;
+    }
+
+    public void setCount(Object count) {
+      this.count = count;
+    }
+
+    public void setCount(Long count) {
+      this.count = count;
+    }
+  }
+
+  public static class Ambiguous {
+    public void setAmount(int amount) {}
+
+    public void setAmount(long amount) {}
+  }
+
+  @Test
+  public void testParse_BindsRecords() {
+    Project project = JsonParser.parse(JsonParsers.bind(Project.class), """
+        {"name": "jsonic", "kind": "LIBRARY", "stars": 4711, "score": 1.5, "stable": true,
+         "points": [{"x": 1, "y": 2}, {"y": 3}, null], "tags": ["a", "b", "a"],
+         "versions": {"core": 1, "next": null}, "extra": {"k": [1]}, "unknown": [{"x": {}}],
+         "parent": {"name": "root", "stars": null}}""");
+    Assert.assertNotNull(project);
+    Assert.assertEquals("jsonic", project.name());
+    Assert.assertEquals(Kind.LIBRARY, project.kind());
+    Assert.assertEquals(4711, project.stars());
+    Assert.assertEquals(1.5, project.score(), 0);
+    Assert.assertTrue(project.stable());
+    Assert.assertEquals(java.util.Arrays.asList(new Point(1, 2), new Point(0, 3), null),
+        project.points());
+    Assert.assertEquals(Set.of("a", "b"), project.tags());
+    Assert.assertEquals(1, (int) project.versions().get("core"));
+    Assert.assertNull(project.versions().get("next"));
+    Assert.assertEquals(Map.of("k", List.of(1L)), project.extra());
+    Assert.assertEquals(new Project("root", null, 0, 0, false, null, null, null, null, null),
+        project.parent());
+  }
+
+  @Test
+  public void testParse_BindsBeans() {
+    Bean bean = JsonParser.parse(JsonParsers.bind(Bean.class),
+        "{\"name\": \"a\", \"count\": 2, \"children\": [{\"name\": \"b\", \"count\": null}]}");
+    Assert.assertNotNull(bean);
+    Assert.assertEquals("a", bean.name);
+    Assert.assertEquals(2, bean.count);
+    Assert.assertEquals(1, bean.children.size());
+    Assert.assertEquals("b", bean.children.get(0).name);
+    Assert.assertEquals(0, bean.children.get(0).count);
+    Assert.assertNull(bean.children.get(0).children);
+  }
+
+  @Test
+  public void testParse_MatchedKeysAreNoStrings() {
+    JsonParseMetrics metrics = new JsonParseMetrics();
+    Bean bean = JsonParser.parse(JsonParsers.bind(Bean.class), "{\"name\": \"abc\", \"count\": 2}",
+        new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, metrics));
+    Assert.assertNotNull(bean);
+    Assert.assertEquals(2, metrics.keys());
+    // Only the value is allocated, whereas the keys are matched without materializing them
+    Assert.assertEquals(1, metrics.strings());
+    Assert.assertEquals(3, metrics.stringChars());
+  }
+
+  @Test
+  public void testParse_SkipsUnsupportedSetters() {
+    Settings settings = JsonParser.parse(JsonParsers.bind(Settings.class),
+        "{\"limit\": 3, \"handler\": {\"run\": true}}");
+    Assert.assertNotNull(settings);
+    Assert.assertEquals(3, settings.limit);
+    Assert.assertNull(settings.handler);
+  }
+
+  @Test
+  public void testParse_SetterExceptionsThrowErrors() {
+    JsonParseError error = Assert.assertThrows(JsonParseError.class,
+        () -> JsonParser.parse(JsonParsers.bind(Settings.class), "{\"limit\": -1}"));
+    Assert.assertNotNull(error.getMessage());
+    Assert.assertTrue(error.getMessage(), error.getMessage().contains("limit < 0"));
+    Assert.assertTrue(error.getCause() instanceof IllegalArgumentException);
+    DefaultJsonSyntaxReader stackless = new DefaultJsonSyntaxReader(ParseErrorFactory.STACKLESS);
+    error = Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(
+        JsonParsers.bind(Range.class), "{\"from\": 2, \"to\": 1}", stackless));
+    Assert.assertTrue(error.getCause() instanceof IllegalArgumentException);
+  }
+
+  @Test
+  public void testBind_PrefersStringAndPrimitiveOverloads() {
+    Overloads overloads = JsonParser.parse(JsonParsers.bind(Overloads.class),
+        "{\"value\": \"a\", \"count\": 2}");
+    Assert.assertNotNull(overloads);
+    Assert.assertEquals("a", overloads.value);
+    Assert.assertEquals(2L, overloads.count);
+    Assert.assertThrows(IllegalArgumentException.class, () -> JsonParsers.bind(Ambiguous.class));
+  }
+
+  @Test
+  public void testParse_WrongValuesThrowErrors() {
+    JsonParser<Project> parser = JsonParsers.bind(Project.class);
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "{\"kind\": \"X\"}"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "{\"stars\": 1.5}"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "{\"name\": 1}"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "{\"name\" \"a\"}"));
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonParser.parse(JsonParsers.bind(Point.class), "{\"x\": 2147483648}"));
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonParser.parse(JsonParsers.bind(Range.class), "{\"from\": 2, \"to\": 1}"));
+  }
+
+  @Test
+  public void testBind_IsCachedAndRejectsUnbindableTypes() {
+    Assert.assertSame(JsonParsers.bind(Point.class), JsonParsers.bind(Point.class));
+    Assert.assertThrows(IllegalArgumentException.class, () -> JsonParsers.bind(List.class));
+    Assert.assertThrows(IllegalArgumentException.class, () -> JsonParsers.bind(Integer.class));
+  }
+
+}
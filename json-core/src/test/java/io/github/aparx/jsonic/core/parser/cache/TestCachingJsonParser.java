@@ -0,0 +1,104 @@
+package io.github.aparx.jsonic.core.parser.cache;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 14:45
+ * @since 1.0
+ */
+public class TestCachingJsonParser {
+
+  @Test
+  public void testHash_MatchesXxh64OfUtf16() {
+    Assert.assertEquals(0xEF46DB3751D8E999L, ContentHash.hash(""));
+    Assert.assertEquals(0xE513E02C99167F96L, ContentHash.hash("a"));
+    Assert.assertEquals(0xAFF0F2A2F8B32731L, ContentHash.hash("abc"));
+    Assert.assertEquals(0x9EE5276154259B68L, ContentHash.hash("{\"a\":1}"));
+    Assert.assertEquals(0xD4585B40117324D2L,
+        ContentHash.hash("The quick brown fox jumps over the lazy dog \u00e4"));
+  }
+
+  @Test
+  public void testParse_HitReturnsSameInstance() {
+    CachingJsonParser<Object> parser = new CachingJsonParser<>(value(), 64, 1 << 20);
+    Object first = parser.parse("{\"a\": [1, 2], \"b\": null}");
+    Object second = parser.parse(new StringBuilder("{\"a\": [1, 2], \"b\": null}"));
+    Assert.assertSame(first, second);
+    Assert.assertNotSame(first, parser.parse("{\"a\": [1, 2], \"b\": true}"));
+    Assert.assertNull(parser.parse("null"));
+    Assert.assertNull(parser.parse("null"));
+    Assert.assertEquals(2, parser.hits());
+    Assert.assertEquals(3, parser.misses());
+    Assert.assertEquals(3, parser.size());
+    parser.invalidateAll();
+    Assert.assertEquals(0, parser.size());
+    Assert.assertEquals(0, parser.weight());
+    Assert.assertNotSame(first, parser.parse("{\"a\": [1, 2], \"b\": null}"));
+  }
+
+  @Test
+  public void testParse_ResultIsImmutable() {
+    CachingJsonParser<Object> parser = new CachingJsonParser<>(value(), 64, 1 << 20);
+    Map<?, ?> map = (Map<?, ?>) parser.parse("{\"a\": [1, {\"b\": 2}]}");
+    Assert.assertNotNull(map);
+    Assert.assertThrows(UnsupportedOperationException.class, map::clear);
+    List<?> list = (List<?>) map.get("a");
+    Assert.assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    Assert.assertThrows(UnsupportedOperationException.class, ((Map<?, ?>) list.get(1))::clear);
+  }
+
+  @Test
+  public void testParse_EvictsByCount() {
+    CachingJsonParser<Object> parser = new CachingJsonParser<>(value(), 32, 1 << 20);
+    for (int i = 0; i < 1000; ++i)
+      parser.parse("[" + i + "]");
+    Assert.assertTrue(parser.size() <= 32);
+    Assert.assertTrue(parser.size() > 0);
+  }
+
+  @Test
+  public void testParse_HonorsSmallMaxEntries() {
+    for (int maxEntries = 1; maxEntries <= 20; ++maxEntries) {
+      CachingJsonParser<Object> parser = new CachingJsonParser<>(value(), maxEntries, 1 << 20);
+      for (int i = 0; i < 200; ++i)
+        parser.parse("[" + i + "]");
+      Assert.assertTrue(parser.size() <= maxEntries);
+      Assert.assertTrue(parser.size() > 0);
+    }
+    CachingJsonParser<Object> single = new CachingJsonParser<>(value(), 1, 1 << 20);
+    Object first = single.parse("[1]");
+    Assert.assertSame(first, single.parse("[1]"));
+    single.parse("[2]");
+    Assert.assertEquals(1, single.size());
+    Assert.assertNotSame(first, single.parse("[1]"));
+  }
+
+  @Test
+  public void testParse_EvictsByWeight() {
+    // Each segment holds a weight of 40, thus at most two entries of ten characters
+    CachingJsonParser<Object> parser = new CachingJsonParser<>(value(), 1024, 16 * 40);
+    for (int i = 0; i < 1000; ++i)
+      parser.parse(String.format("[1%07d]", i));
+    Assert.assertTrue(parser.weight() <= 16 * 40);
+    Assert.assertTrue(parser.size() <= 32);
+    // An entry outweighing its segment is not cached, which would exceed the max weight
+    String large = "\"" + "x".repeat(1000) + "\"";
+    long misses = parser.misses();
+    Assert.assertEquals(parser.parse(large), parser.parse(large));
+    Assert.assertEquals(misses + 2, parser.misses());
+    Assert.assertTrue(parser.weight() <= 16 * 40);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static JsonParser<Object> value() {
+    return (JsonParser<Object>) JsonParsers.value();
+  }
+
+}
@@ -0,0 +1,92 @@
+package io.github.aparx.jsonic.core.parser.column;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 04:50
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class TestJsonColumnarParser {
+
+  private static final String ROWS = """
+      [{"ts": 1, "v": 0.5, "host": "a", "up": true},
+       {"ts": 2, "v": 1, "host": "b", "up": false},
+       {"ts": 3, "host": "a", "v": null, "extra": "x"},
+       {"ts": 4, "v": 2.5, "host": "a", "up": null}]""";
+
+  @Test
+  public void testParse_StoresValuesInColumns() {
+    JsonColumnBatch batch = Objects.requireNonNull(JsonParser.parse(JsonParsers.columnar(), ROWS));
+    Assert.assertEquals(4, batch.rowCount());
+    Assert.assertEquals(List.of("ts", "v", "host", "up", "extra"),
+        batch.columns().stream().map(JsonColumn::name).toList());
+
+    JsonColumn ts = Objects.requireNonNull(batch.column("ts"));
+    Assert.assertEquals(JsonColumn.Type.LONG, ts.type());
+    Assert.assertArrayEquals(new long[]{1, 2, 3, 4}, ts.longs());
+
+    JsonColumn v = Objects.requireNonNull(batch.column("v"));
+    Assert.assertEquals(JsonColumn.Type.DOUBLE, v.type());
+    Assert.assertArrayEquals(new double[]{0.5, 1, 0, 2.5}, v.doubles(), 0);
+    Assert.assertTrue(v.isNull(2));
+
+    JsonColumn host = Objects.requireNonNull(batch.column("host"));
+    Assert.assertEquals(List.of("a", "b"), host.dictionary());
+    Assert.assertArrayEquals(new int[]{0, 1, 0, 0}, host.codes());
+
+    JsonColumn up = Objects.requireNonNull(batch.column("up"));
+    Assert.assertArrayEquals(new boolean[]{true, false, false, false}, up.booleans());
+    BitSet nulls = new BitSet();
+    nulls.set(2, 4);
+    Assert.assertEquals(nulls, up.nulls());
+
+    JsonColumn extra = Objects.requireNonNull(batch.column("extra"));
+    Assert.assertArrayEquals(new int[]{-1, -1, 0, -1}, extra.codes());
+    Assert.assertNull(extra.get(3));
+    Assert.assertEquals("x", extra.get(2));
+
+    Assert.assertEquals(Map.of("ts", 3L, "host", "a", "extra", "x"), batch.row(2));
+    Assert.assertNull(batch.column("missing"));
+    Assert.assertThrows(IllegalStateException.class, ts::doubles);
+  }
+
+  @Test
+  public void testParse_EmptyAndNullColumns() {
+    JsonColumnBatch batch = Objects.requireNonNull(
+        JsonParser.parse(JsonParsers.columnar(), "[ {}, {\"a\": null} ]"));
+    Assert.assertEquals(2, batch.rowCount());
+    JsonColumn a = Objects.requireNonNull(batch.column("a"));
+    Assert.assertEquals(JsonColumn.Type.NULL, a.type());
+    Assert.assertEquals(2, a.size());
+    Assert.assertNull(a.get(0));
+    Assert.assertEquals(0, Objects.requireNonNull(
+        JsonParser.parse(JsonParsers.columnar(), "[]")).rowCount());
+  }
+
+  @Test
+  public void testParse_RejectsIrregularValues() {
+    JsonColumnarParser parser = JsonParsers.columnar();
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "[1]"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "[{\"a\": [1]}]"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "[{\"a\": {}}]"));
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonParser.parse(parser, "[{\"a\": 1}, {\"a\": \"1\"}]"));
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonParser.parse(parser, "[{\"a\": 1, \"a\": 2}]"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "[{\"a\": 1}"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "[{\"a\": 1},]"));
+  }
+}
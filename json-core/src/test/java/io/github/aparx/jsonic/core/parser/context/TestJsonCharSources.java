@@ -1,13 +1,27 @@
 package io.github.aparx.jsonic.core.parser.context;
 
+import io.github.aparx.jsonic.core.parser.source.DecodingJsonCharSource;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSource;
 import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import io.github.aparx.jsonic.core.parser.source.JsonDecompressor;
+import io.github.aparx.jsonic.core.parser.source.ReadAheadJsonCharSource;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
 /**
  * @author aparx (Vinzent Z.)
- * @version 2024-11-18 00:00
+ * @version 2026-10-20 15:15
  * @since 1.0
  */
 public class TestJsonCharSources {
@@ -28,6 +42,168 @@ public class TestJsonCharSources {
     Assert.assertThrows(Throwable.class, () -> JsonCharSources.of((CharSequence) null));
   }
 
+  @Test
+  public void testReadAheadEnsureCorrectRead() {
+    String json = "[\"J\u00e4ger\", 1, 2, 3]".repeat(100);
+    InputStream stream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    Assert.assertEquals(json, accumulate(JsonCharSources.readAhead(stream, 7, null)));
+    Assert.assertEquals(json,
+        accumulate(JsonCharSources.readAhead(new StringReader(json), 1, null)));
+    Assert.assertEquals("", accumulate(JsonCharSources.readAhead(new StringReader(""), 4, null)));
+  }
+
+  @Test
+  public void testReadAheadEnsureErrorPropagation() {
+    Reader failing = new Reader() {
+      int calls;
+
+      @Override
+      public int read(char[] buffer, int offset, int length) throws IOException {
+        if (calls++ != 0) throw new IOException("failure");
+        buffer[offset] = 'a';
+        return 1;
+      }
+
+      @Override
+      public void close() {}
+    };
+    ReadAheadJsonCharSource source = JsonCharSources.readAhead(failing, 1, null);
+    Assert.assertEquals('a', source.next());
+    Assert.assertThrows(UncheckedIOException.class, source::hasNext);
+  }
+
+  @Test(timeout = 10_000)
+  public void testReadAheadEnsureRuntimeErrorPropagation() {
+    Reader failing = new Reader() {
+      int calls;
+
+      @Override
+      public int read(char[] buffer, int offset, int length) {
+        if (calls++ != 0) throw new IllegalStateException("failure");
+        buffer[offset] = 'a';
+        return 1;
+      }
+
+      @Override
+      public void close() {}
+    };
+    ReadAheadJsonCharSource source = JsonCharSources.readAhead(failing, 1, null);
+    Assert.assertEquals('a', source.next());
+    Assert.assertThrows(IllegalStateException.class, source::hasNext);
+    Assert.assertThrows(IllegalStateException.class, source::next);
+  }
+
+  @Test(timeout = 10_000)
+  public void testReadAheadEnsureReaderClosedAtEnd() {
+    boolean[] closed = new boolean[1];
+    Reader reader = new StringReader("[1, 2, 3]") {
+      @Override
+      public void close() {
+        closed[0] = true;
+      }
+    };
+    Assert.assertEquals("[1, 2, 3]", accumulate(JsonCharSources.readAhead(reader, 4, null)));
+    Assert.assertTrue(closed[0]);
+  }
+
+  @Test
+  public void testReadAheadEnsureCloseStopsReading() throws IOException {
+    boolean[] closed = new boolean[1];
+    Reader endless = new Reader() {
+      @Override
+      public int read(char[] buffer, int offset, int length) {
+        buffer[offset] = ' ';
+        return 1;
+      }
+
+      @Override
+      public void close() {
+        closed[0] = true;
+      }
+    };
+    Thread[] thread = new Thread[1];
+    ReadAheadJsonCharSource source = JsonCharSources.readAhead(endless, 4, (runnable) -> {
+      thread[0] = new Thread(runnable);
+      return thread[0];
+    });
+    Assert.assertEquals(' ', source.next());
+    source.close();
+    Assert.assertTrue(closed[0]);
+    try {
+      thread[0].join(5000);
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+    Assert.assertFalse(thread[0].isAlive());
+    Assert.assertThrows(IllegalStateException.class, () -> {
+      while (source.hasNext()) source.next();
+    });
+  }
+
+  @Test
+  public void testGzipEnsureCorrectRead() throws IOException {
+    String json = "{\"J\u00e4ger\": [1, 2.5, true, null]}".repeat(10000);
+    Assert.assertEquals(json, accumulate(JsonCharSources.gzip(
+        new ByteArrayInputStream(gzip(json.getBytes(StandardCharsets.UTF_8))))));
+  }
+
+  @Test
+  public void testGzipEnsureConcatenatedMembers() throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    stream.write(gzip("[1, ".getBytes(StandardCharsets.UTF_8)));
+    stream.write(gzip(new byte[0]));
+    stream.write(gzip("2]".getBytes(StandardCharsets.UTF_8)));
+    Assert.assertEquals("[1, 2]", accumulate(JsonCharSources.gzip(
+        new ByteArrayInputStream(stream.toByteArray()))));
+  }
+
+  @Test
+  public void testGzipEnsureErrorsForCorruptInput() throws IOException {
+    byte[] bytes = gzip("[1, 2, 3]".getBytes(StandardCharsets.UTF_8));
+    bytes[bytes.length - 8] ^= 1; // flip a bit of the checksum
+    Assert.assertThrows(UncheckedIOException.class,
+        () -> accumulate(JsonCharSources.gzip(new ByteArrayInputStream(bytes))));
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length - 4);
+    Assert.assertThrows(UncheckedIOException.class,
+        () -> accumulate(JsonCharSources.gzip(new ByteArrayInputStream(truncated))));
+    Assert.assertThrows(UncheckedIOException.class, () -> accumulate(
+        JsonCharSources.gzip(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)))));
+  }
+
+  @Test
+  public void testDecompressEnsureServiceLookup() throws IOException {
+    InputStream stream = new ByteArrayInputStream("[true]".getBytes(StandardCharsets.UTF_8));
+    Assert.assertEquals("[true]", accumulate(JsonCharSources.decompress("IDENTITY", stream)));
+    Assert.assertThrows(IllegalStateException.class, () -> JsonCharSources.zstd(stream));
+  }
+
+  @Test
+  public void testDecompressEnsureCloseReleasesStream() throws IOException {
+    boolean[] closed = new boolean[1];
+    InputStream stream = new ByteArrayInputStream("[1, 2]".getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public void close() {
+        closed[0] = true;
+      }
+    };
+    try (DecodingJsonCharSource source = JsonCharSources.decompress("identity", stream)) {
+      Assert.assertEquals('[', source.next());
+    }
+    Assert.assertTrue(closed[0]);
+    try (DecodingJsonCharSource source = JsonCharSources.gzip(
+        new ByteArrayInputStream(gzip("[1, 2]".getBytes(StandardCharsets.UTF_8))))) {
+      Assert.assertEquals('[', source.next());
+    }
+  }
+
+  private static byte[] gzip(byte[] bytes) throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(stream)) {
+      gzip.write(bytes);
+    }
+    return stream.toByteArray();
+  }
+
   private String accumulate(JsonCharSource source) {
     StringBuilder builder = new StringBuilder();
     while (source.hasNext()) {
@@ -36,5 +212,18 @@ public class TestJsonCharSources {
     return builder.toString();
   }
 
-}
+  /** Decompressor registered for tests, which returns the stream as is */
+  public static final class IdentityDecompressor implements JsonDecompressor {
 
+    @Override
+    public String format() {
+      return "identity";
+    }
+
+    @Override
+    public InputStream decompress(InputStream stream) {
+      return stream;
+    }
+  }
+
+}
@@ -0,0 +1,64 @@
+package io.github.aparx.jsonic.core.parser.context.tokens;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.tokens.JsonAdaptiveObjectParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 04:05
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class TestJsonAdaptiveObjectParser {
+
+  @Test
+  public void testParse_LearnsShapeAndReusesKeys() {
+    JsonAdaptiveObjectParser<?> parser = JsonParsers.adaptiveOrderedObject(JsonParsers.value());
+    Map<?, ?> first = JsonParser.parse(parser, "{\"id\": 1, \"name\": \"a\", \"tags\": []}");
+    Assert.assertArrayEquals(new String[]{"id", "name", "tags"}, parser.shape());
+    Map<?, ?> second = JsonParser.parse(parser, "{ \"id\" : 2 , \"name\":\"b\",\"tags\":[1]}");
+    Assert.assertEquals(Map.of("id", 2L, "name", "b", "tags", List.of(1L)), second);
+    Iterator<?> firstKeys = first.keySet().iterator();
+    for (Object key : second.keySet())
+      Assert.assertSame(firstKeys.next(), key);
+  }
+
+  @Test
+  public void testParse_FallsBackOnDeviatingShape() {
+    JsonAdaptiveObjectParser<?> parser = JsonParsers.adaptiveObject(JsonParsers.value());
+    JsonParser.parse(parser, "{\"id\": 1, \"name\": \"a\"}");
+    Assert.assertEquals(Map.of("id", 2L, "nick", "b", "extra", true),
+        JsonParser.parse(parser, "{\"id\": 2, \"nick\": \"b\", \"extra\": true}"));
+    Assert.assertArrayEquals(new String[]{"id", "nick", "extra"}, parser.shape());
+    Assert.assertEquals(Map.of("i", 3L), JsonParser.parse(parser, "{\"i\": 3}"));
+    Assert.assertArrayEquals(new String[]{"i"}, parser.shape());
+    Assert.assertEquals(Map.of(), JsonParser.parse(parser, "{}"));
+    Assert.assertArrayEquals(new String[0], parser.shape());
+    Map<String, Object> large = new HashMap<>();
+    StringJoiner joiner = new StringJoiner(",", "{", "}");
+    for (int i = 0; i < 20; ++i) {
+      large.put("k" + i, (long) i);
+      joiner.add("\"k" + i + "\":" + i);
+    }
+    Assert.assertEquals(large, JsonParser.parse(parser, joiner.toString()));
+    Assert.assertEquals(20, parser.shape().length);
+  }
+
+  @Test
+  public void testParse_WrongSyntaxThrowsErrors() {
+    JsonAdaptiveObjectParser<?> parser = JsonParsers.adaptiveObject(JsonParsers.value());
+    JsonParser.parse(parser, "{\"id\": 1}");
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "{\"id\" 1}"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "{\"id\": 1,}x"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(
+        parser.setStrict(true), "{\"id\": 1, \"id\": 2}"));
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.aparx.jsonic.core.parser.context.tokens;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.tokens.JsonKeyMatcher;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 03:40
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class TestJsonKeyMatcher {
+
+  private final JsonKeyMatcher matcher =
+      JsonKeyMatcher.of("name", "nick", "n", "", "stars", "\"quoted\"", "b\u00e4r");
+
+  @Test
+  public void testMatch_KnownKeysReturnTheirSlot() {
+    Assert.assertEquals(0, this.match("\"name\""));
+    Assert.assertEquals(1, this.match("\"nick\""));
+    Assert.assertEquals(2, this.match("\"n\""));
+    Assert.assertEquals(3, this.match("\"\""));
+    Assert.assertEquals(4, this.match("\"stars\""));
+    Assert.assertEquals(5, this.match("\"\\\"quoted\\\"\""));
+    Assert.assertEquals(6, this.match("\"b\u00e4r\""));
+  }
+
+  @Test
+  public void testMatch_OtherKeysAreUnknown() {
+    Assert.assertEquals(JsonKeyMatcher.UNKNOWN, this.match("\"na\""));
+    Assert.assertEquals(JsonKeyMatcher.UNKNOWN, this.match("\"names\""));
+    Assert.assertEquals(JsonKeyMatcher.UNKNOWN, this.match("\"Name\""));
+    Assert.assertEquals(JsonKeyMatcher.UNKNOWN, this.match("\"nickname\""));
+    Assert.assertEquals(JsonKeyMatcher.UNKNOWN, this.match("\"\\\"quoted\""));
+    Assert.assertEquals(JsonKeyMatcher.UNKNOWN, JsonParser.parse(
+        JsonKeyMatcher.of()::match, "\"name\"").intValue());
+  }
+
+  @Test
+  public void testMatch_StopsAtClosingQuote() {
+    Assert.assertEquals(0, this.match("\"name\": 1"));
+    Assert.assertEquals(JsonKeyMatcher.UNKNOWN, this.match("\"other\"name\""));
+  }
+
+  @Test
+  public void testMatch_WrongSyntaxThrowsErrors() {
+    Assert.assertThrows(JsonParseError.class, () -> this.match("name"));
+    Assert.assertThrows(JsonParseError.class, () -> this.match("\"name"));
+    Assert.assertThrows(JsonParseError.class, () -> this.match("\"name\\\""));
+  }
+
+  @Test
+  public void testOf_KeysAndSlots() {
+    JsonKeyMatcher matcher = JsonKeyMatcher.of(List.of("a", "b"));
+    Assert.assertEquals(2, matcher.size());
+    Assert.assertEquals("b", matcher.key(1));
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> matcher.key(2));
+    Assert.assertThrows(IllegalArgumentException.class, () -> JsonKeyMatcher.of("a", "b", "a"));
+  }
+
+  private int match(String json) {
+    return JsonParser.parse(this.matcher::match, json);
+  }
+}
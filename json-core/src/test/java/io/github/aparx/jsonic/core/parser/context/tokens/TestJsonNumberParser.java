@@ -0,0 +1,82 @@
+package io.github.aparx.jsonic.core.parser.context.tokens;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumber;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumberParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 09:30
+ * @since 1.0
+ */
+public class TestJsonNumberParser {
+
+  private final JsonNumberParser parser = JsonNumberParser.DEFAULT;
+
+  @Test
+  public void testParse_WrongSyntaxThrowsError() {
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "-"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "01"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "1."));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, ".5"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "1e"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "1-2"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "+1"));
+  }
+
+  @Test
+  public void testParse_RightSyntaxReturnsRightResults() {
+    Assert.assertEquals(0L, JsonParser.parse(parser, "0"));
+    Assert.assertEquals(-42L, JsonParser.parse(parser, "-42"));
+    Assert.assertEquals(Long.MAX_VALUE, JsonParser.parse(parser, "9223372036854775807"));
+    Assert.assertEquals(9223372036854775808d, JsonParser.parse(parser, "9223372036854775808"));
+    Assert.assertEquals(Long.MIN_VALUE, JsonParser.parse(parser, "-9223372036854775808"));
+    Assert.assertEquals(-9223372036854775809d, JsonParser.parse(parser, "-9223372036854775809"));
+    Assert.assertEquals(1e19, JsonParser.parse(parser, "10000000000000000000"));
+    Assert.assertEquals(999999999999999999L, JsonParser.parse(parser, "999999999999999999"));
+    Assert.assertEquals(8999999999999999999L, JsonParser.parse(parser, "8999999999999999999"));
+    Assert.assertThrows(NumberFormatException.class, () -> JsonNumberParser.valueOf("-"));
+    Assert.assertEquals(1.5, JsonParser.parse(parser, "1.5"));
+    Assert.assertEquals(-2.5e-3, JsonParser.parse(parser, "-2.5E-3"));
+    Assert.assertEquals(1e10, JsonParser.parse(parser, "1e+10"));
+  }
+
+  @Test
+  public void testParse_EnsureEarlyReturn() {
+    Assert.assertEquals(12L, JsonParser.parse(parser, "12,"));
+    Assert.assertEquals(12L, JsonParser.parse(parser, "12]"));
+    Assert.assertEquals(1.5, JsonParser.parse(parser, "1.5 "));
+  }
+
+  @Test
+  public void testParse_LazyKeepsLiteral() {
+    JsonNumberParser lazy = JsonNumberParser.LAZY;
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(lazy, "01"));
+    JsonNumber number = (JsonNumber) JsonParser.parse(lazy, "-2.50E-3,");
+    Assert.assertNotNull(number);
+    Assert.assertEquals("-2.50E-3", number.toString());
+    Assert.assertEquals(-2.5e-3, number.doubleValue(), 0);
+    Assert.assertSame(number.value(), number.value());
+    Assert.assertFalse(number.isIntegral());
+    Assert.assertEquals(new BigDecimal("-0.00250"), number.bigDecimalValue());
+    JsonNumber big = (JsonNumber) JsonParser.parse(lazy, "12345678901234567890123");
+    Assert.assertNotNull(big);
+    Assert.assertEquals(new BigDecimal("12345678901234567890123"), big.bigDecimalValue());
+    Assert.assertEquals(1.2345678901234568e22, big.doubleValue(), 0);
+    Assert.assertEquals(42, JsonNumber.of("42").intValue());
+    Assert.assertEquals(JsonNumber.of("1.0"), JsonParser.parse(lazy, "1.0"));
+    Assert.assertNotEquals(JsonNumber.of("1.0"), JsonNumber.of("1"));
+    Assert.assertThrows(IllegalArgumentException.class, () -> JsonNumber.of("1."));
+    Assert.assertEquals(List.of(JsonNumber.of("1.50"), Map.of("a", JsonNumber.of("-0"))),
+        JsonParser.parse(JsonParsers.lazyValue(), "[1.50, {\"a\": -0}]"));
+  }
+
+}
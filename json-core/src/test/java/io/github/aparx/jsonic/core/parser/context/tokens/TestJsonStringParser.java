@@ -2,6 +2,10 @@ package io.github.aparx.jsonic.core.parser.context.tokens;
 
 import io.github.aparx.jsonic.core.parser.JsonParser;
 import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseMetrics;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
 import io.github.aparx.jsonic.core.parser.tokens.JsonStringParser;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.framework.qual.DefaultQualifier;
@@ -12,7 +16,7 @@ import java.util.NoSuchElementException;
 
 /**
  * @author aparx (Vinzent Z.)
- * @version 2024-11-16 11:27
+ * @version 2026-10-20 15:00
  * @since 1.0
  */
 @DefaultQualifier(NonNull.class)
@@ -53,6 +57,30 @@ public class TestJsonStringParser {
         JsonParser.parse(parser, "\"this is some \\\"cool\\\" \"shizz\""));
   }
 
+  @Test
+  public void testParse_SpeculationReturnsExpectedInstance() {
+    String expected = new String("name");
+    Assert.assertSame(expected, this.speculate("\"name\"", expected));
+    Assert.assertEquals("nam", this.speculate("\"nam\"", expected));
+    Assert.assertEquals("names", this.speculate("\"names\"", expected));
+    Assert.assertEquals("nick", this.speculate("\"nick\"", expected));
+    Assert.assertEquals("", this.speculate("\"\"", expected));
+    Assert.assertEquals("a\"b", this.speculate("\"a\\\"b\"", "a\"c"));
+    Assert.assertThrows(JsonParseError.class, () -> this.speculate("\"name\\\"", expected));
+  }
+
+  @Test
+  public void testParse_SpeculationReportsAllocatedStringsOnly() {
+    JsonParseMetrics metrics = new JsonParseMetrics();
+    JsonSyntaxReader syntaxReader = new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, metrics);
+    String expected = "name";
+    for (String json : new String[]{"\"name\"", "\"nam\"", "\"nick\""})
+      JsonParser.parse((traverser, reader) -> parser.parse(traverser, reader, expected), json,
+          syntaxReader);
+    Assert.assertEquals(2, metrics.strings());
+    Assert.assertEquals(7, metrics.stringChars());
+  }
+
   @Test
   @SuppressWarnings("DataFlowIssue")
   public void testParse_EmptyThrowsError() {
@@ -61,5 +89,8 @@ public class TestJsonStringParser {
     Assert.assertThrows(RuntimeException.class, () -> JsonParser.parse(parser, (String) null));
   }
 
-
+  private String speculate(String json, String expected) {
+    return JsonParser.parse((traverser, syntaxReader) ->
+        parser.parse(traverser, syntaxReader, expected), json);
+  }
 }
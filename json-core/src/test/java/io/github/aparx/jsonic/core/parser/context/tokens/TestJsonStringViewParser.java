@@ -0,0 +1,89 @@
+package io.github.aparx.jsonic.core.parser.context.tokens;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseMetrics;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraversers;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.tokens.JsonStringView;
+import io.github.aparx.jsonic.core.parser.tokens.JsonStringViewParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 07:15
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class TestJsonStringViewParser {
+
+  private final JsonStringViewParser parser = JsonParsers.stringView();
+
+  @Test
+  public void testParse_ReturnsViewOfInput() {
+    CharSequence view = JsonParser.parse(this.parser, "\"Hello world\"");
+    Assert.assertTrue(view instanceof JsonStringView);
+    Assert.assertTrue("Hello world".contentEquals(view));
+    Assert.assertEquals("world", view.subSequence(6, 11).toString());
+    Assert.assertSame(view.toString(), view.toString());
+    Assert.assertEquals("Hello world".hashCode(), view.hashCode());
+    Assert.assertEquals(view, JsonParser.parse(this.parser, "\"Hello world\""));
+    Assert.assertNotEquals("Hello world", view);
+    Assert.assertEquals(0, JsonParser.parse(this.parser, "\"\"").length());
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> view.charAt(11));
+  }
+
+  @Test
+  public void testParse_ComposesIntoContainers() {
+    String request = "{\"method\": \"GET\", \"path\": \"/users\", \"tags\": [\"a\", \"b\"]}";
+    Map<CharSequence, Object> map = JsonParser.parse(JsonParsers.orderedObject(this.parser,
+        JsonParsers.value()), request);
+    JsonStringView method = (JsonStringView) map.keySet().iterator().next();
+    Assert.assertTrue(method.contentEquals("method"));
+    Assert.assertEquals("/users", map.get(JsonParser.parse(this.parser, "\"path\"")));
+
+    List<CharSequence> tags = JsonParser.parse(JsonParsers.array(this.parser), "[\"a\", \"b\"]");
+    Assert.assertTrue("b".contentEquals(tags.get(1)));
+  }
+
+  @Test
+  public void testParse_CopiesEscapedAndUnbackedStrings() {
+    JsonParseMetrics metrics = new JsonParseMetrics();
+    DefaultJsonSyntaxReader syntaxReader = new DefaultJsonSyntaxReader(
+        ParseErrorFactory.DEFAULT, metrics);
+    CharSequence escaped = JsonParser.parse(this.parser, "\"say \\\"hi\\\"\"", syntaxReader);
+    Assert.assertEquals("say \"hi\"", escaped);
+    JsonParser.parse(this.parser, "\"plain\"", syntaxReader);
+    Assert.assertEquals(1, metrics.strings());
+
+    CharSequence streamed = JsonParser.parse(this.parser, new ByteArrayInputStream(
+        "\"streamed\"".getBytes(StandardCharsets.UTF_8)));
+    Assert.assertEquals("streamed", streamed);
+
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(this.parser, "\"Hello"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(this.parser, "\"Hello\\\""));
+  }
+
+  @Test
+  public void testParse_ViewsOfCharArraysFollowTheirInput() {
+    char[] chars = "[\"abc\", \"def\"]".toCharArray();
+    List<CharSequence> list = JsonParser.parse(JsonParsers.array(this.parser),
+        JsonCharSourceTraversers.read(JsonCharSources.of(chars)));
+    String materialized = list.get(0).toString();
+    chars[2] = 'x';
+    Assert.assertEquals("abc", materialized);
+    Assert.assertTrue("def".contentEquals(list.get(1)));
+    Assert.assertEquals('x', list.get(0).charAt(0));
+  }
+}
@@ -0,0 +1,86 @@
+package io.github.aparx.jsonic.core.parser.context.tokens;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseMetrics;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.tokens.JsonValueParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 01:05
+ * @since 1.0
+ */
+public class TestJsonValueParser {
+
+  private static final List<String> DOCUMENTS = List.of(
+      "null", "true", "-12.5e3", "\"a\\u00e4\"", "[]", "{}", "[[]]", "[ 1 , [ 2 , [ ] ] , 3 ]",
+      "{\"a\": {\"b\": [true, false, null]}, \"c\": \"d\", \"e\": {}}",
+      "[{\"a\": [{}, [{}]]}, {\"a\": 1}, \"x\"]");
+
+  @Test
+  public void testParse_EqualsRecursiveParser() {
+    for (String document : DOCUMENTS) {
+      Assert.assertEquals(document, JsonParser.parse(JsonParsers.value(), document),
+          JsonParser.parse(JsonParsers.iterativeValue(), document));
+    }
+  }
+
+  @Test
+  public void testParse_NotifiesListenerLikeRecursiveParser() {
+    for (String document : DOCUMENTS) {
+      JsonParseMetrics recursive = new JsonParseMetrics();
+      JsonParseMetrics iterative = new JsonParseMetrics();
+      JsonParser.parse(JsonParsers.value(), document,
+          new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, recursive));
+      JsonParser.parse(JsonParsers.iterativeValue(), document,
+          new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, iterative));
+      Assert.assertEquals(document, recursive.objects(), iterative.objects());
+      Assert.assertEquals(document, recursive.arrays(), iterative.arrays());
+      Assert.assertEquals(document, recursive.keys(), iterative.keys());
+      Assert.assertEquals(document, recursive.maxDepth(), iterative.maxDepth());
+    }
+  }
+
+  @Test
+  public void testParse_WrongSyntaxThrowsErrors() {
+    JsonParser<?> parser = JsonParsers.iterativeValue();
+    for (String document : List.of("[", "{", "[1", "[1,]", "[1 2]", "{\"a\"}", "{\"a\":}",
+        "{\"a\":1,}", "{1:2}", "[}", "{]", "[x]", "[[[]]")) {
+      Assert.assertThrows(document, JsonParseError.class, () -> JsonParser.parse(parser, document));
+    }
+  }
+
+  @Test
+  public void testParse_EnforcesMaxDepth() {
+    JsonValueParser parser = JsonParsers.iterativeValue(3);
+    Assert.assertEquals(List.of(List.of(List.of())), JsonParser.parse(parser, "[[[]]]"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "[[[[]]]]"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(parser, "[{\"a\":[{}]}]"));
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonParser.parse(JsonParsers.iterativeValue(), "[".repeat(100_000)));
+  }
+
+  @Test
+  public void testParse_DeepNestingOnSmallStack() throws InterruptedException {
+    int depth = 100_000;
+    String document = "[".repeat(depth) + "]".repeat(depth);
+    AtomicReference<Object> result = new AtomicReference<>();
+    Thread thread = new Thread(null, () -> result.set(JsonParser.parse(
+        JsonParsers.iterativeValue(Integer.MAX_VALUE), document)), "small-stack", 64 << 10);
+    thread.start();
+    thread.join();
+    int actualDepth = 0;
+    for (Object value = result.get(); value instanceof List<?> list; ++actualDepth)
+      value = list.isEmpty() ? null : list.get(0);
+    Assert.assertEquals(depth, actualDepth);
+  }
+
+}
@@ -0,0 +1,165 @@
+package io.github.aparx.jsonic.core.parser.feed;
+
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 12:30
+ * @since 1.0
+ */
+public class TestJsonFeedParser {
+
+  private static final String DOCUMENT =
+      "{\"name\": \"J\u00e4ger \\u00e4\\n\", \"values\": [1, -2.5e3, true, false, null],"
+          + " \"nested\": {\"empty\": [], \"object\": {}}, \"emoji\": \"\ud83d\ude00\"}";
+
+  @Test
+  public void testNextEvent_EmitsEventsInOrder() {
+    JsonFeedParser parser = new JsonFeedParser();
+    parser.feed(utf8("[\"a\", {\"b\": 12}, true]"));
+    Assert.assertEquals(JsonFeedEvent.START_ARRAY, parser.nextEvent());
+    Assert.assertEquals(JsonFeedEvent.STRING, parser.nextEvent());
+    Assert.assertEquals("a", parser.stringValue());
+    Assert.assertEquals(JsonFeedEvent.START_OBJECT, parser.nextEvent());
+    Assert.assertEquals(JsonFeedEvent.KEY, parser.nextEvent());
+    Assert.assertEquals("b", parser.stringValue());
+    Assert.assertEquals(JsonFeedEvent.NUMBER, parser.nextEvent());
+    Assert.assertEquals(12L, parser.numberValue());
+    Assert.assertEquals(2, parser.depth());
+    Assert.assertEquals(JsonFeedEvent.END_OBJECT, parser.nextEvent());
+    Assert.assertEquals(JsonFeedEvent.TRUE, parser.nextEvent());
+    Assert.assertEquals(JsonFeedEvent.END_ARRAY, parser.nextEvent());
+    Assert.assertEquals(JsonFeedEvent.NEED_MORE_INPUT, parser.nextEvent());
+    parser.endOfInput();
+    Assert.assertEquals(JsonFeedEvent.END_OF_INPUT, parser.nextEvent());
+  }
+
+  @Test
+  public void testFeed_ResumesAtEverySplitPoint() {
+    Object expected = readAll(utf8(DOCUMENT).array(), Integer.MAX_VALUE).get(0);
+    byte[] bytes = utf8(DOCUMENT).array();
+    // Splits within multibyte characters, escapes, literals and numbers
+    for (int chunkSize = 1; chunkSize <= 7; ++chunkSize) {
+      List<Object> values = readAll(bytes, chunkSize);
+      Assert.assertEquals(1, values.size());
+      Assert.assertEquals(expected, values.get(0));
+    }
+    Map<?, ?> object = (Map<?, ?>) expected;
+    Assert.assertEquals("J\u00e4ger \u00e4\n", object.get("name"));
+    Assert.assertEquals("\ud83d\ude00", object.get("emoji"));
+    Assert.assertEquals(List.of(1L, -2500d, true, false),
+        ((List<?>) object.get("values")).subList(0, 4));
+  }
+
+  @Test
+  public void testFeed_ReadsNewlineDelimitedValues() {
+    byte[] bytes = utf8("{\"a\": 1}\n[2]\n\"three\"\n4").array();
+    for (int chunkSize = 1; chunkSize <= 3; ++chunkSize) {
+      List<Object> values = readAll(bytes, chunkSize);
+      Assert.assertEquals(List.of(Map.of("a", 1L), List.of(2L), "three", 4L), values);
+    }
+  }
+
+  @Test
+  public void testNextEvent_NumberCompletesOnlyAfterDelimiter() {
+    JsonFeedParser parser = new JsonFeedParser();
+    parser.feed(utf8("12"));
+    Assert.assertEquals(JsonFeedEvent.NEED_MORE_INPUT, parser.nextEvent());
+    parser.feed(utf8("34"));
+    Assert.assertEquals(JsonFeedEvent.NEED_MORE_INPUT, parser.nextEvent());
+    parser.endOfInput();
+    Assert.assertEquals(JsonFeedEvent.NUMBER, parser.nextEvent());
+    Assert.assertEquals(1234L, parser.numberValue());
+  }
+
+  @Test
+  public void testNextEvent_WrongSyntaxThrowsErrors() {
+    assertError("[1,]");
+    assertError("[1 2]");
+    assertError("{\"a\" 1}");
+    assertError("{\"a\": 1,}");
+    assertError("{1: 1}");
+    assertError("[nul]");
+    assertError("[01]");
+    assertError("[\"\\x\"]");
+    assertError("[\"a\nb\"]");
+    assertError("[\"a");
+    assertError("[");
+    assertError("tru");
+  }
+
+  @Test
+  public void testNextEvent_AdjacentRootValuesThrowErrors() {
+    assertError("12true");
+    assertError("{}{}");
+    assertError("[1][2]");
+    assertError("\"a\"\"b\"");
+    assertError("null1");
+    Assert.assertEquals(List.of(12L, true, Map.of(), Map.of()),
+        readAll(utf8("12 true\t{}\r\n{}").array(), 1));
+  }
+
+  @Test
+  public void testNextEvent_ErrorsReportOffendingCharacter() {
+    assertErrorAt("{1: 1}", "Error at line 1:1\n");
+    assertErrorAt("{\"a\": 1, 2}", "Error at line 1:9\n");
+    assertErrorAt("[\"a\\x\"]", "Error at line 1:4\n");
+    assertErrorAt("{}\n{}{}", "Error at line 2:2\n");
+  }
+
+  @Test
+  public void testNextEvent_MaxDepthExceededThrowsError() {
+    JsonFeedParser parser = new JsonFeedParser(2);
+    parser.feed(utf8("[[[]]]"));
+    Assert.assertEquals(JsonFeedEvent.START_ARRAY, parser.nextEvent());
+    Assert.assertEquals(JsonFeedEvent.START_ARRAY, parser.nextEvent());
+    Assert.assertThrows(JsonParseError.class, parser::nextEvent);
+  }
+
+  @Test
+  public void testFeed_MalformedUtf8ThrowsError() {
+    Assert.assertThrows(JsonParseError.class,
+        () -> new JsonFeedParser().feed(ByteBuffer.wrap(new byte[]{'"', (byte) 0xff})));
+    JsonFeedParser parser = new JsonFeedParser();
+    parser.feed(ByteBuffer.wrap(new byte[]{'"', (byte) 0xc3}));
+    Assert.assertThrows(JsonParseError.class, parser::endOfInput);
+  }
+
+  private static void assertError(String json) {
+    Assert.assertThrows(json, JsonParseError.class, () -> readAll(utf8(json).array(), 1));
+  }
+
+  private static void assertErrorAt(String json, String position) {
+    JsonParseError error = Assert.assertThrows(json, JsonParseError.class,
+        () -> readAll(utf8(json).array(), Integer.MAX_VALUE));
+    Assert.assertNotNull(error.getMessage());
+    Assert.assertTrue(error.getMessage(), error.getMessage().startsWith(position));
+  }
+
+  private static List<Object> readAll(byte[] bytes, int chunkSize) {
+    JsonFeedParser parser = new JsonFeedParser();
+    JsonFeedValueReader reader = new JsonFeedValueReader(parser);
+    List<Object> values = new ArrayList<>();
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      parser.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+      while (reader.advance()) values.add(reader.value());
+    }
+    parser.endOfInput();
+    while (reader.advance()) values.add(reader.value());
+    Assert.assertTrue(reader.isEnded());
+    return values;
+  }
+
+  private static ByteBuffer utf8(String string) {
+    return ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
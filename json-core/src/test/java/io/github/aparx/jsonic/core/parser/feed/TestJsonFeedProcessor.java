@@ -0,0 +1,156 @@
+package io.github.aparx.jsonic.core.parser.feed;
+
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 18:55
+ * @since 1.0
+ */
+public class TestJsonFeedProcessor {
+
+  @Test
+  public void testArray_PublishesElements() {
+    JsonFeedProcessor<Object> processor = JsonFeedProcessor.array(JsonParsers.value());
+    ChunkPublisher publisher = new ChunkPublisher("[1, \"two\" ,{\"three\": [3]}, [], 5.5]", 3);
+    CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    Assert.assertEquals(List.of(1L, "two", Map.of("three", List.of(3L)), List.of(), 5.5),
+        subscriber.items);
+    Assert.assertTrue(subscriber.completed);
+    Assert.assertNull(subscriber.error);
+  }
+
+  @Test
+  public void testLines_PublishesTopLevelValues() {
+    JsonFeedProcessor<Object> processor = JsonFeedProcessor.lines(JsonParsers.value());
+    ChunkPublisher publisher = new ChunkPublisher("{\"a\": 1}\n\"b\"\n2\n", 2);
+    CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    Assert.assertEquals(List.of(Map.of("a", 1L), "b", 2L), subscriber.items);
+    Assert.assertTrue(subscriber.completed);
+  }
+
+  @Test
+  public void testRequest_RespectsDemand() {
+    JsonFeedProcessor<Object> processor = JsonFeedProcessor.array(JsonParsers.value());
+    ChunkPublisher publisher = new ChunkPublisher("[1, 2, 3, 4]", 1);
+    CollectingSubscriber subscriber = new CollectingSubscriber(0);
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    Assert.assertEquals(0, publisher.requested);
+    subscriber.subscription.request(2);
+    Assert.assertEquals(List.of(1L, 2L), subscriber.items);
+    int requested = publisher.requested;
+    Assert.assertTrue(requested < 12);
+    subscriber.subscription.request(1);
+    Assert.assertEquals(List.of(1L, 2L, 3L), subscriber.items);
+    subscriber.subscription.cancel();
+    Assert.assertTrue(publisher.cancelled);
+    Assert.assertFalse(subscriber.completed);
+  }
+
+  @Test
+  public void testArray_SignalsParseErrors() {
+    assertFailure(JsonFeedProcessor.array(JsonParsers.value()), "[1, 2");
+    assertFailure(JsonFeedProcessor.array(JsonParsers.value()), "[1 2]");
+    assertFailure(JsonFeedProcessor.array(JsonParsers.value()), "{\"a\": 1}");
+    assertFailure(JsonFeedProcessor.array(JsonParsers.value()), "[1] [2]");
+    assertFailure(JsonFeedProcessor.array(JsonParsers.string()), "[\"a\", 1]");
+  }
+
+  private static void assertFailure(JsonFeedProcessor<?> processor, String json) {
+    ChunkPublisher publisher = new ChunkPublisher(json, 2);
+    CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    Assert.assertTrue(json, subscriber.error instanceof JsonParseError);
+    Assert.assertFalse(subscriber.completed);
+  }
+
+  /** Synchronous publisher emitting the UTF-8 bytes of a string in fixed size chunks */
+  private static final class ChunkPublisher implements Flow.Publisher<ByteBuffer> {
+
+    final byte[] bytes;
+    final int chunkSize;
+    int position, requested;
+    boolean cancelled;
+
+    ChunkPublisher(String string, int chunkSize) {
+      this.bytes = string.getBytes(StandardCharsets.UTF_8);
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+          for (long i = 0; i < n && !cancelled; ++i) {
+            ++requested;
+            if (position >= bytes.length) {
+              subscriber.onComplete();
+              return;
+            }
+            int length = Math.min(chunkSize, bytes.length - position);
+            ByteBuffer chunk = ByteBuffer.wrap(bytes, position, length);
+            position += length;
+            subscriber.onNext(chunk);
+          }
+        }
+
+        @Override
+        public void cancel() {
+          cancelled = true;
+        }
+      });
+    }
+  }
+
+  private static final class CollectingSubscriber implements Flow.Subscriber<Object> {
+
+    final List<Object> items = new ArrayList<>();
+    final long initialDemand;
+    Flow.Subscription subscription;
+    Throwable error;
+    boolean completed;
+
+    CollectingSubscriber(long initialDemand) {
+      this.initialDemand = initialDemand;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (initialDemand != 0) subscription.request(initialDemand);
+    }
+
+    @Override
+    public void onNext(Object item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+
+}
@@ -0,0 +1,139 @@
+package io.github.aparx.jsonic.core.parser.index;
+
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 09:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class TestJsonStructuralIndex {
+
+  private static final String ARRAY = """
+       [{"id": 1, "name": "\u00e4\u00f6\u00fc [{\\"x\\"}]", "tags": ["a", "b"]},
+        2.5e3 , "\u20ac, ]",
+        {"id": 4, "nested": {"deep": [1, [2]]}}, [], null]
+      """;
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testBuild_IndexesRootArray() throws IOException {
+    Path source = this.write(ARRAY);
+    JsonStructuralIndex index = JsonStructuralIndex.build(source);
+    Assert.assertEquals(6, index.size());
+    Assert.assertEquals(1, index.offset());
+    Assert.assertEquals(2500.0, index.parse(JsonParsers.value(), source, 1));
+    Assert.assertEquals("\u20ac, ]", index.parse(JsonParsers.value(), source, 2));
+    Assert.assertEquals(Map.of("id", 4L, "nested", Map.of("deep", List.of(1L, List.of(2L)))),
+        index.parse(JsonParsers.value(), source, 3));
+    Assert.assertEquals(List.of(), index.parse(JsonParsers.value(), source, 4));
+    Assert.assertNull(index.parse(JsonParsers.value(), source, 5));
+    Assert.assertEquals(JsonStructuralIndex.NOT_FOUND, index.offset(6));
+    Assert.assertEquals(JsonStructuralIndex.NOT_FOUND, index.offset(0, "id"));
+    Assert.assertEquals(-1, index.size(0));
+    Assert.assertThrows(NoSuchElementException.class,
+        () -> index.parse(JsonParsers.value(), source, "id"));
+  }
+
+  @Test
+  public void testBuild_IndexesKeysAtDepth() throws IOException {
+    Path source = this.write(ARRAY);
+    JsonStructuralIndex index = JsonStructuralIndex.build(source, 2);
+    Assert.assertEquals(3, index.size(0));
+    Assert.assertEquals("\u00e4\u00f6\u00fc [{\"x\"}]",
+        index.parse(JsonParsers.value(), source, 0, "name"));
+    Assert.assertEquals(List.of("a", "b"), index.parse(JsonParsers.value(), source, 0, "tags"));
+    Assert.assertEquals(4L, index.parse(JsonParsers.value(), source, 3, "id"));
+    Assert.assertEquals(Map.of("deep", List.of(1L, List.of(2L))),
+        index.parse(JsonParsers.value(), source, 3, "nested"));
+    Assert.assertEquals(JsonStructuralIndex.NOT_FOUND, index.offset(3, "nested", "deep"));
+    Assert.assertEquals(0, index.size(4));
+
+    StringBuilder keys = new StringBuilder("{");
+    for (int i = 0; i < 20; ++i)
+      keys.append(i == 0 ? "" : ",").append("\"k").append(i).append("\": ").append(i);
+    Path object = this.write(keys.append(", \"k3\": \"last\"}").toString());
+    JsonStructuralIndex objectIndex = JsonStructuralIndex.build(object);
+    Assert.assertEquals(17L, objectIndex.parse(JsonParsers.value(), object, "k17"));
+    Assert.assertEquals("last", objectIndex.parse(JsonParsers.value(), object, "k3"));
+    Assert.assertEquals(21, objectIndex.size());
+    Assert.assertEquals(JsonStructuralIndex.NOT_FOUND, objectIndex.offset("k20"));
+    Path file = this.folder.newFile("object" + JsonStructuralIndex.FILE_EXTENSION).toPath();
+    objectIndex.write(file);
+    JsonStructuralIndex read = JsonStructuralIndex.read(file);
+    for (int i = 0; i < 20; ++i)
+      Assert.assertEquals(objectIndex.offset("k" + i), read.offset("k" + i));
+  }
+
+  @Test
+  public void testOffset_AcceptsLongIndicesAndRejectsOtherSegments() throws IOException {
+    Path source = this.write(ARRAY);
+    JsonStructuralIndex index = JsonStructuralIndex.build(source, 2);
+    Assert.assertEquals(index.offset(3), index.offset(3L));
+    Assert.assertEquals(index.offset(3, "id"), index.offset(3L, "id"));
+    Assert.assertEquals(JsonStructuralIndex.NOT_FOUND, index.offset(Long.MAX_VALUE));
+    Assert.assertEquals(JsonStructuralIndex.NOT_FOUND, index.offset(-1L));
+    Assert.assertThrows(IllegalArgumentException.class, () -> index.offset(1.0));
+    Assert.assertThrows(IllegalArgumentException.class, () -> index.size(0, 'c'));
+  }
+
+  @Test
+  public void testBuild_SkipsByteOrderMark() throws IOException {
+    Path source = this.write("\uFEFF" + ARRAY);
+    JsonStructuralIndex index = JsonStructuralIndex.build(source);
+    Assert.assertEquals(4, index.offset());
+    Assert.assertEquals(List.of(), index.parse(JsonParsers.value(), source, 4));
+    Path scalar = this.write("\uFEFF42");
+    Assert.assertEquals(3, JsonStructuralIndex.build(scalar).offset());
+    Assert.assertEquals(-1, JsonStructuralIndex.build(scalar).size());
+  }
+
+  @Test
+  public void testParse_ReleasesMappings() throws IOException {
+    Path source = this.write(ARRAY);
+    JsonStructuralIndex index = JsonStructuralIndex.build(source);
+    // Exceeds the default limit of mappings per process, if mappings were not released
+    for (int i = 0; i < 100_000; ++i)
+      Assert.assertNull(index.parse(JsonParsers.value(), source, 5));
+  }
+
+  @Test
+  public void testWrite_RoundTripsAndDetectsChangedSource() throws IOException {
+    Path source = this.write(ARRAY);
+    Path file = this.folder.newFile("index" + JsonStructuralIndex.FILE_EXTENSION).toPath();
+    JsonStructuralIndex.build(source, 3).write(file);
+    JsonStructuralIndex index = JsonStructuralIndex.read(file);
+    Assert.assertEquals(3, index.depth());
+    Assert.assertEquals(Files.size(source), index.sourceSize());
+    Assert.assertEquals(List.of(1L, List.of(2L)),
+        index.parse(JsonParsers.value(), source, 3, "nested", "deep"));
+    Assert.assertEquals(JsonStructuralIndex.NOT_FOUND, index.offset(3, "nested", "deep", 1));
+    Files.writeString(source, ARRAY + " ");
+    Assert.assertThrows(IllegalStateException.class,
+        () -> index.parse(JsonParsers.value(), source, 0));
+    Assert.assertThrows(IOException.class, () -> JsonStructuralIndex.read(source));
+  }
+
+  private Path write(String content) throws IOException {
+    Path path = this.folder.newFile().toPath();
+    Files.writeString(path, content, StandardCharsets.UTF_8);
+    return path;
+  }
+}
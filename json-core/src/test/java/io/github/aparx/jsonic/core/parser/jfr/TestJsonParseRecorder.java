@@ -0,0 +1,85 @@
+package io.github.aparx.jsonic.core.parser.jfr;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.listener.JsonParseMetrics;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 23:45
+ * @since 1.0
+ */
+public class TestJsonParseRecorder {
+
+  @Test
+  public void testRecord_CommitsEvents() throws IOException {
+    JsonParseMetrics metrics = new JsonParseMetrics();
+    DefaultJsonSyntaxReader syntaxReader =
+        new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, metrics);
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(JsonParseEvent.NAME).withThreshold(Duration.ZERO);
+      recording.enable(JsonParseErrorEvent.NAME);
+      recording.enable(JsonLargeStringEvent.NAME).with("minLength", "4");
+      recording.start();
+      Assert.assertTrue(JsonParseRecorder.isRecording());
+      Assert.assertEquals(Map.of("key", List.of("abc", "abcd")), JsonParser.parse(
+          JsonParsers.value(), "{\"key\": [\"abc\", \"abcd\"]}", syntaxReader));
+      Assert.assertThrows(JsonParseError.class,
+          () -> JsonParser.parse(JsonParsers.value(), "[1, 2 3]"));
+      recording.stop();
+      Path file = Files.createTempFile("jsonic", ".jfr");
+      try {
+        recording.dump(file);
+        events = RecordingFile.readAllEvents(file);
+      } finally {
+        Files.delete(file);
+      }
+    }
+    List<RecordedEvent> parses = named(events, JsonParseEvent.NAME);
+    Assert.assertEquals(2, parses.size());
+    Assert.assertEquals("SequenceSource", parses.get(0).getString("sourceType"));
+    Assert.assertEquals(24, parses.get(0).getLong("chars"));
+    Assert.assertEquals(2, parses.get(0).getInt("depth"));
+    Assert.assertTrue(parses.get(0).getBoolean("succeeded"));
+    Assert.assertFalse(parses.get(1).getBoolean("succeeded"));
+
+    List<RecordedEvent> errors = named(events, JsonParseErrorEvent.NAME);
+    Assert.assertEquals(1, errors.size());
+    Assert.assertEquals(6, errors.get(0).getLong("offset"));
+
+    List<RecordedEvent> strings = named(events, JsonLargeStringEvent.NAME);
+    Assert.assertEquals(1, strings.size());
+    Assert.assertEquals(4, strings.get(0).getInt("length"));
+
+    // The listener of the syntax reader is still notified while recording
+    Assert.assertEquals(1, metrics.documents());
+    Assert.assertEquals(2, metrics.maxDepth());
+  }
+
+  @Test
+  public void testIsRecording_FalseWithoutRecording() {
+    Assert.assertFalse(JsonParseRecorder.isRecording());
+  }
+
+  private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+    return events.stream().filter((event) -> event.getEventType().getName().equals(name))
+        .toList();
+  }
+
+}
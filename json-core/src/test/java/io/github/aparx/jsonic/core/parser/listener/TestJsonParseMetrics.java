@@ -0,0 +1,75 @@
+package io.github.aparx.jsonic.core.parser.listener;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.error.ParseErrorFactory;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraversers;
+import io.github.aparx.jsonic.core.parser.syntax.DefaultJsonSyntaxReader;
+import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 15:30
+ * @since 1.0
+ */
+public class TestJsonParseMetrics {
+
+  @Test
+  public void testParse_RecordsCounters() {
+    JsonParseMetrics metrics = new JsonParseMetrics();
+    JsonSyntaxReader syntaxReader = new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, metrics);
+    String json = "{\"a\": [1, [\"x\", []]], \"b\": {\"c\": \"yz\"}}";
+    Assert.assertNotNull(JsonParser.parse(JsonParsers.value(), json, syntaxReader));
+    Assert.assertEquals(1, metrics.documents());
+    Assert.assertEquals(0, metrics.failures());
+    Assert.assertEquals(json.length(), metrics.chars());
+    Assert.assertTrue(metrics.parseNanos() > 0);
+    Assert.assertEquals(metrics.parseNanos(), metrics.maxParseNanos());
+    Assert.assertEquals(2, metrics.objects());
+    Assert.assertEquals(3, metrics.arrays());
+    Assert.assertEquals(3, metrics.keys());
+    Assert.assertEquals(5, metrics.strings());
+    Assert.assertEquals(6, metrics.stringChars());
+    Assert.assertEquals(4, metrics.maxDepth());
+  }
+
+  @Test
+  public void testParse_RecordsFailuresAndResetsDepth() {
+    JsonParseMetrics metrics = new JsonParseMetrics();
+    JsonSyntaxReader syntaxReader = new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, metrics);
+    Assert.assertThrows(JsonParseError.class,
+        () -> JsonParser.parse(JsonParsers.value(), "[[[[1 2]]]]", syntaxReader));
+    Assert.assertTrue(JsonParser.tryParse(JsonParsers.value(), "[[]]", syntaxReader).isSuccess());
+    Assert.assertEquals(2, metrics.documents());
+    Assert.assertEquals(1, metrics.failures());
+    Assert.assertEquals(4, metrics.maxDepth());
+    metrics.reset();
+    Assert.assertTrue(JsonParser.tryParse(JsonParsers.value(), "[[]]", syntaxReader).isSuccess());
+    Assert.assertEquals(1, metrics.documents());
+    Assert.assertEquals(2, metrics.maxDepth());
+  }
+
+  @Test
+  public void testParse_TracksDepthPerInstance() {
+    JsonParseMetrics failed = new JsonParseMetrics();
+    JsonParseMetrics direct = new JsonParseMetrics();
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(JsonParsers.value(),
+        "[[[[1 2]]]]", new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, failed)));
+    // Direct parses are no top-level parses, thus only the depth left by others would offset them
+    for (JsonParseMetrics metrics : new JsonParseMetrics[]{failed, direct}) {
+      JsonParsers.value().parse(JsonCharSourceTraversers.read("[[]]"),
+          new DefaultJsonSyntaxReader(ParseErrorFactory.DEFAULT, metrics));
+    }
+    Assert.assertEquals(4, failed.maxDepth());
+    Assert.assertEquals(2, direct.maxDepth());
+  }
+
+  @Test
+  public void testListener_DisabledByDefault() {
+    Assert.assertSame(JsonParseListener.NONE, DefaultJsonSyntaxReader.DEFAULT.listener());
+  }
+
+}
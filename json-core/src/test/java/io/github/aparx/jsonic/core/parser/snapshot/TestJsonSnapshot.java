@@ -0,0 +1,143 @@
+package io.github.aparx.jsonic.core.parser.snapshot;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.JsonParsers;
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 08:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class TestJsonSnapshot {
+
+  private static final String DOCUMENT = """
+      {"id": 7, "ratio": 0.25, "name": "\u00e4\u20ac", "ok": true, "none": null,
+       "tags": ["a", "b", false, [1, 2.5]], "nested": {"deep": {"x": -3}}, "empty": {}}
+      """;
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testMap_NavigatesWithoutParsing() throws IOException {
+    Object value = JsonParser.parse(JsonParsers.value(), DOCUMENT);
+    Path path = this.folder.newFile("document" + JsonSnapshot.FILE_EXTENSION).toPath();
+    JsonSnapshot.write(value, path);
+    try (JsonSnapshot snapshot = JsonSnapshot.map(path)) {
+      Assert.assertEquals(Files.size(path), snapshot.byteSize());
+      this.assertNavigates(value, snapshot.root());
+    }
+    Assert.assertThrows(IOException.class, () -> JsonSnapshot.map(this.folder.newFile().toPath()));
+  }
+
+  @Test
+  public void testClose_ReleasesMappings() throws IOException {
+    Path path = this.folder.newFile("document" + JsonSnapshot.FILE_EXTENSION).toPath();
+    JsonSnapshot.write(JsonParser.parse(JsonParsers.value(), DOCUMENT), path);
+    // Exceeds the default limit of mappings per process, if mappings were not released
+    for (int i = 0; i < 100_000; ++i) {
+      JsonSnapshot snapshot = JsonSnapshot.map(path);
+      Assert.assertEquals(7L, snapshot.root().get("id").longValue());
+      snapshot.close();
+    }
+    JsonSnapshot snapshot = JsonSnapshot.map(path);
+    JsonSnapshotNode tags = snapshot.root().get("tags");
+    snapshot.close();
+    snapshot.close();
+    Assert.assertTrue(snapshot.isClosed());
+    Assert.assertThrows(IllegalStateException.class, snapshot::root);
+    Assert.assertThrows(IllegalStateException.class, () -> tags.get(0));
+    Assert.assertThrows(IllegalStateException.class, tags::type);
+  }
+
+  @Test
+  public void testGet_LooksUpSortedKeys() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    for (int i = 40; i >= 0; --i)
+      map.put("k" + i, i);
+    map.put("\u00fc", "umlaut");
+    map.put("", "empty");
+    JsonSnapshotNode root = this.snapshot(map).root();
+    Assert.assertEquals("k40", root.key(0));
+    for (int i = 0; i <= 40; ++i)
+      Assert.assertEquals(i, root.get("k" + i).longValue());
+    Assert.assertEquals("umlaut", root.get("\u00fc").stringValue());
+    Assert.assertEquals("empty", root.get("").stringValue());
+    Assert.assertNull(root.get("k41"));
+    Assert.assertNull(root.get("k"));
+  }
+
+  @Test
+  public void testWrite_SharesKeysAndKeepsLiterals() {
+    List<Object> rows = new ArrayList<>();
+    for (int i = 0; i < 100; ++i)
+      rows.add(Map.of("someLongKeyName", (long) i));
+    String shared = new String(this.bytes(rows), StandardCharsets.ISO_8859_1);
+    Assert.assertEquals(shared.indexOf("someLongKeyName"), shared.lastIndexOf("someLongKeyName"));
+    Assert.assertEquals(rows, this.snapshot(rows).root().toValue());
+
+    JsonSnapshotNode root = this.snapshot(Arrays.asList(
+        JsonNumber.of("1.10"), new BigDecimal("12345678901234567890.5"), null)).root();
+    Assert.assertEquals(JsonNumber.of("1.10"), root.get(0).numberValue());
+    Assert.assertEquals(new BigDecimal("12345678901234567890.5"),
+        ((JsonNumber) root.get(1).numberValue()).bigDecimalValue());
+    Assert.assertTrue(root.get(2).isNull());
+    Assert.assertThrows(IllegalArgumentException.class, () -> this.bytes(new Object()));
+    Assert.assertThrows(IllegalArgumentException.class, () -> this.bytes(Map.of(1, 2)));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> JsonSnapshot.wrap(ByteBuffer.wrap(new byte[16])));
+  }
+
+  private void assertNavigates(Object value, JsonSnapshotNode root) {
+    Assert.assertEquals(JsonSnapshotNode.Type.OBJECT, root.type());
+    Assert.assertEquals(8, root.size());
+    Assert.assertEquals(7L, root.get("id").longValue());
+    Assert.assertEquals(0.25, root.get("ratio").doubleValue(), 0);
+    Assert.assertEquals("\u00e4\u20ac", root.get("name").stringValue());
+    Assert.assertTrue(root.get("ok").booleanValue());
+    Assert.assertTrue(root.get("none").isNull());
+    Assert.assertNull(root.get("missing"));
+    Assert.assertEquals(-3L, root.get("nested").get("deep").get("x").numberValue());
+    JsonSnapshotNode tags = root.get("tags");
+    Assert.assertEquals(4, tags.size());
+    Assert.assertEquals("b", tags.get(1).stringValue());
+    Assert.assertEquals(2.5, tags.get(3).get(1).numberValue());
+    Assert.assertEquals(0, root.get("empty").size());
+    Assert.assertEquals(value, root.toValue());
+
+    Assert.assertThrows(IllegalStateException.class, () -> tags.get(0).longValue());
+    Assert.assertThrows(IllegalStateException.class, () -> tags.get("a"));
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> tags.get(4));
+  }
+
+  private JsonSnapshot snapshot(Object value) {
+    return JsonSnapshot.wrap(ByteBuffer.wrap(this.bytes(value)));
+  }
+
+  private byte[] bytes(Object value) {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try {
+      JsonSnapshot.write(value, stream);
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+    return stream.toByteArray();
+  }
+}
@@ -0,0 +1,91 @@
+package io.github.aparx.jsonic.core.schema;
+
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 09:30
+ * @since 1.0
+ */
+public class TestJsonSchema {
+
+  private static final String USER_SCHEMA = """
+      {
+        "type": "object",
+        "required": ["name", "age"],
+        "properties": {
+          "name": {"type": "string", "maxLength": 5},
+          "age": {"type": "integer", "minimum": 0, "maximum": 150},
+          "role": {"enum": ["admin", "user"]},
+          "tags": {"type": "array", "items": {"type": "string"}},
+          "nickname": {"type": ["string", "null"]}
+        }
+      }""";
+
+  private final JsonSchema schema = JsonSchema.compile(USER_SCHEMA);
+
+  @Test
+  public void testParse_ValidDocumentsAreParsed() {
+    Assert.assertEquals(Map.of("name", "joe", "age", 42L),
+        schema.parse("{\"name\": \"joe\", \"age\": 42}"));
+    Assert.assertEquals(Map.of("name", "ann", "age", 0L, "role", "admin",
+            "tags", List.of("a", "b"), "extra", Map.of("x", List.of(1L, 2.5))),
+        schema.parse("{\"name\":\"ann\",\"age\":0,\"role\":\"admin\",\"tags\":[\"a\",\"b\"],"
+            + "\"extra\":{\"x\":[1,2.5]}}"));
+    Assert.assertNull(((Map<?, ?>) schema.parse(
+        "{\"name\": \"joe\", \"age\": 1, \"nickname\": null}")).get("nickname"));
+  }
+
+  @Test
+  public void testParse_ViolationsThrowErrors() {
+    assertViolation("[]");
+    assertViolation("{\"name\": \"joe\"}");
+    assertViolation("{\"name\": \"joseph\", \"age\": 1}");
+    assertViolation("{\"name\": 1, \"age\": 1}");
+    assertViolation("{\"name\": \"joe\", \"age\": -1}");
+    assertViolation("{\"name\": \"joe\", \"age\": 151}");
+    assertViolation("{\"name\": \"joe\", \"age\": 1.5}");
+    assertViolation("{\"name\": \"joe\", \"age\": 1, \"role\": \"root\"}");
+    assertViolation("{\"name\": \"joe\", \"age\": 1, \"tags\": [\"a\", 1]}");
+    assertViolation("{\"name\": \"joe\", \"age\": 1, \"nickname\": true}");
+  }
+
+  @Test
+  public void testParse_IntegerAmongTypesIsConstrained() {
+    JsonSchema nullable = JsonSchema.compile("{\"type\": [\"integer\", \"null\"]}");
+    Assert.assertEquals(1L, nullable.parse("1"));
+    Assert.assertNull(nullable.parse("null"));
+    Assert.assertThrows(JsonParseError.class, () -> nullable.parse("1.5"));
+    JsonSchema number = JsonSchema.compile("{\"type\": [\"integer\", \"number\"]}");
+    Assert.assertEquals(1.5, number.parse("1.5"));
+  }
+
+  @Test
+  public void testCompile_SchemasAreCached() {
+    Assert.assertSame(schema, JsonSchema.compile(USER_SCHEMA));
+    String first = "{\"maxLength\": 0}";
+    JsonSchema compiled = JsonSchema.compile(first);
+    for (int i = 1; i <= JsonSchema.CACHE_CAPACITY; ++i)
+      JsonSchema.compile("{\"maxLength\": " + i + "}");
+    Assert.assertNotSame(compiled, JsonSchema.compile(first));
+  }
+
+  @Test
+  public void testCompile_InvalidSchemaThrowsError() {
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> JsonSchema.compile("{\"type\": \"unknown\"}"));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> JsonSchema.compile("{\"type\": \"string\", \"maxLength\": \"5\"}"));
+    Assert.assertThrows(IllegalArgumentException.class, () -> JsonSchema.compile("[]"));
+  }
+
+  private void assertViolation(String document) {
+    Assert.assertThrows(document, JsonParseError.class, () -> schema.parse(document));
+  }
+
+}
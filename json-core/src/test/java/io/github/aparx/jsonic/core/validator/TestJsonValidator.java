@@ -0,0 +1,79 @@
+package io.github.aparx.jsonic.core.validator;
+
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 14:38
+ * @since 1.0
+ */
+public class TestJsonValidator {
+
+  @Test
+  public void testValidate_ValidDocuments() {
+    assertValid("{}");
+    assertValid("[]");
+    assertValid(" \t\r\n[ ] \n");
+    assertValid("\"\"");
+    assertValid("0");
+    assertValid("-0.5e+10");
+    assertValid("1E-3");
+    assertValid("true");
+    assertValid("null");
+    assertValid("\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00aF\"");
+    assertValid("{\"a\": [1, 2.5, {\"b\": null}], \"c\": {\"d\": [[], {}]}, \"e\": false}");
+  }
+
+  @Test
+  public void testValidate_InvalidDocumentsReportErrorAndOffset() {
+    assertInvalid("", JsonValidationError.UNEXPECTED_END, 0);
+    assertInvalid("[", JsonValidationError.UNEXPECTED_END, 1);
+    assertInvalid("[1,]", JsonValidationError.UNEXPECTED_CHARACTER, 3);
+    assertInvalid("[1 2]", JsonValidationError.UNEXPECTED_CHARACTER, 3);
+    assertInvalid("{\"a\" 1}", JsonValidationError.UNEXPECTED_CHARACTER, 5);
+    assertInvalid("{1: 1}", JsonValidationError.UNEXPECTED_CHARACTER, 1);
+    assertInvalid("{\"a\": 1,}", JsonValidationError.UNEXPECTED_CHARACTER, 8);
+    assertInvalid("\"a\nb\"", JsonValidationError.CONTROL_CHARACTER, 2);
+    assertInvalid("\"\\x\"", JsonValidationError.INVALID_ESCAPE, 2);
+    assertInvalid("\"\\u12g4\"", JsonValidationError.INVALID_ESCAPE, 5);
+    assertInvalid("01", JsonValidationError.INVALID_NUMBER, 1);
+    assertInvalid("1.", JsonValidationError.UNEXPECTED_END, 2);
+    assertInvalid("-a", JsonValidationError.INVALID_NUMBER, 1);
+    assertInvalid("1e+", JsonValidationError.UNEXPECTED_END, 3);
+    assertInvalid("tru", JsonValidationError.UNEXPECTED_END, 3);
+    assertInvalid("nil", JsonValidationError.UNEXPECTED_CHARACTER, 1);
+    assertInvalid("{} {}", JsonValidationError.TRAILING_CHARACTERS, 3);
+  }
+
+  @Test
+  public void testValidate_EnforcesMaxDepth() {
+    JsonValidator validator = new JsonValidator(100);
+    String valid = "[".repeat(100) + "]".repeat(100);
+    Assert.assertTrue(validator.check(JsonCharSources.of(valid)).isValid());
+    JsonValidationResult result = validator.check(JsonCharSources.of("[" + valid + "]"));
+    Assert.assertEquals(JsonValidationError.DEPTH_EXCEEDED, result.error());
+    Assert.assertEquals(100, result.errorOffset());
+  }
+
+  @Test
+  public void testValidate_DeepMixedNestingKeepsContainerTypes() {
+    String open = "{\"a\":[".repeat(70);
+    String close = "]}".repeat(70);
+    assertValid(open + close);
+    assertInvalid(open + close.substring(1) + "]", JsonValidationError.UNEXPECTED_CHARACTER, 420);
+  }
+
+  private void assertValid(String document) {
+    JsonValidationResult result = JsonValidator.validate(document);
+    Assert.assertTrue(document + " -> " + result, result.isValid());
+  }
+
+  private void assertInvalid(String document, JsonValidationError error, long offset) {
+    JsonValidationResult result = JsonValidator.validate(document);
+    Assert.assertEquals(document, error, result.error());
+    Assert.assertEquals(document, offset, result.errorOffset());
+  }
+
+}
@@ -0,0 +1,122 @@
+package io.github.aparx.jsonic.core.writer;
+
+import io.github.aparx.jsonic.core.parser.tokens.JsonNumber;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-19 12:48
+ * @since 1.0
+ */
+public class TestJsonNumberWriter {
+
+  private static final Random GEN_RANDOM = new Random(90125771L);
+
+  private final char[] buffer = new char[64];
+
+  @Test
+  public void testWriteLong_EnsureCorrectDigits() {
+    Assert.assertEquals("0", writeLong(0));
+    Assert.assertEquals("7", writeLong(7));
+    Assert.assertEquals("-7", writeLong(-7));
+    Assert.assertEquals("10", writeLong(10));
+    Assert.assertEquals("100", writeLong(100));
+    Assert.assertEquals("-12345", writeLong(-12345));
+    Assert.assertEquals("9223372036854775807", writeLong(Long.MAX_VALUE));
+    Assert.assertEquals("-9223372036854775808", writeLong(Long.MIN_VALUE));
+    for (int i = 0; i < 10_000; ++i) {
+      long value = GEN_RANDOM.nextLong() >> GEN_RANDOM.nextInt(64);
+      Assert.assertEquals(Long.toString(value), writeLong(value));
+    }
+  }
+
+  @Test
+  public void testWriteDouble_EnsureShortestRepresentation() {
+    Assert.assertEquals("0.0", writeDouble(0d));
+    Assert.assertEquals("-0.0", writeDouble(-0d));
+    Assert.assertEquals("1.0", writeDouble(1d));
+    Assert.assertEquals("0.1", writeDouble(0.1));
+    Assert.assertEquals("0.002", writeDouble(2e-3));
+    Assert.assertEquals("123.456", writeDouble(123.456));
+    Assert.assertEquals("1.0E7", writeDouble(1e7));
+    Assert.assertEquals("1.0E23", writeDouble(1e23));
+    Assert.assertEquals("1.0E-5", writeDouble(1e-5));
+    Assert.assertEquals("4.9E-324", writeDouble(Double.MIN_VALUE));
+    Assert.assertEquals("1.7976931348623157E308", writeDouble(Double.MAX_VALUE));
+    Assert.assertEquals("-2.2250738585072014E-308", writeDouble(-Double.MIN_NORMAL));
+  }
+
+  @Test
+  public void testWriteDouble_EnsureRoundTrip() {
+    for (int i = 0; i < 200_000; ++i) {
+      double value = Double.longBitsToDouble(GEN_RANDOM.nextLong());
+      if (!Double.isFinite(value)) continue;
+      String written = writeDouble(value);
+      Assert.assertEquals(value, Double.parseDouble(written), 0d);
+      Assert.assertTrue(written.length() <= Double.toString(value).length());
+    }
+  }
+
+  @Test
+  public void testWriteFloat_EnsureShortestRepresentation() {
+    Assert.assertEquals("0.0", writeFloat(0f));
+    Assert.assertEquals("1.0", writeFloat(1f));
+    Assert.assertEquals("0.1", writeFloat(0.1f));
+    Assert.assertEquals("1.4E-45", writeFloat(Float.MIN_VALUE));
+    Assert.assertEquals("3.4028235E38", writeFloat(Float.MAX_VALUE));
+  }
+
+  @Test
+  public void testWriteFloat_EnsureRoundTrip() {
+    for (int i = 0; i < 200_000; ++i) {
+      float value = Float.intBitsToFloat(GEN_RANDOM.nextInt());
+      if (!Float.isFinite(value)) continue;
+      String written = writeFloat(value);
+      Assert.assertEquals(value, Float.parseFloat(written), 0f);
+      Assert.assertTrue(written.length() <= Float.toString(value).length());
+    }
+  }
+
+  @Test
+  public void testWriteDouble_NonFiniteThrowsError() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> writeDouble(Double.NaN));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> writeDouble(Double.POSITIVE_INFINITY));
+    Assert.assertThrows(IllegalArgumentException.class, () -> writeFloat(Float.NaN));
+  }
+
+  @Test
+  public void testWriteNumber_WritesLiteralsVerbatim() {
+    Assert.assertEquals("1.50e+2", writeNumber(JsonNumber.of("1.50e+2")));
+    String digits = "123456789012345678901234567890.000000000000000000001";
+    Assert.assertEquals(digits, writeNumber(JsonNumber.of(digits)));
+    Assert.assertEquals(digits.length(), JsonNumberWriter.maxLength(JsonNumber.of(digits)));
+    Assert.assertEquals("-42", writeNumber(-42));
+    Assert.assertEquals("42", writeNumber((byte) 42));
+    Assert.assertEquals("0.1", writeNumber(0.1f));
+    Assert.assertEquals("0.1", writeNumber(0.1));
+    Assert.assertEquals("1.0E20", writeNumber(new BigInteger("100000000000000000000")));
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> JsonNumberWriter.writeNumber(
+        JsonNumber.of("12345"), new char[4], 0));
+  }
+
+  private String writeLong(long value) {
+    return new String(buffer, 0, JsonNumberWriter.writeLong(value, buffer, 0));
+  }
+
+  private String writeDouble(double value) {
+    return new String(buffer, 0, JsonNumberWriter.writeDouble(value, buffer, 0));
+  }
+
+  private String writeFloat(float value) {
+    return new String(buffer, 0, JsonNumberWriter.writeFloat(value, buffer, 0));
+  }
+
+  private String writeNumber(Number value) {
+    return new String(buffer, 0, JsonNumberWriter.writeNumber(value, buffer, 0));
+  }
+}
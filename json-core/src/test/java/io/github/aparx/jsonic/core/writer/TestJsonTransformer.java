@@ -0,0 +1,84 @@
+package io.github.aparx.jsonic.core.writer;
+
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import io.github.aparx.jsonic.core.parser.source.JsonCharSources;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 10:00
+ * @since 1.0
+ */
+public class TestJsonTransformer {
+
+  @Test
+  public void testMinify_RemovesWhitespace() {
+    Assert.assertEquals("{}", JsonTransformer.MINIFY.transform("{ }"));
+    Assert.assertEquals("[]", JsonTransformer.MINIFY.transform("[\n]"));
+    Assert.assertEquals("\"a b\"", JsonTransformer.MINIFY.transform("\"a b\""));
+    Assert.assertEquals("-1.5e+10", JsonTransformer.MINIFY.transform("-1.5e+10"));
+    Assert.assertEquals("{\"a\":[1,true,null,\"x \\\" y\"],\"b\":{\"c\":false}}",
+        JsonTransformer.MINIFY.transform(
+            "{ \"a\" : [ 1 , true,null, \"x \\\" y\" ],\n\t\"b\": { \"c\" : false } }"));
+  }
+
+  @Test
+  public void testPretty_IndentsNestedContainers() {
+    Assert.assertEquals("{\n  \"a\": [\n    1,\n    2\n  ],\n  \"b\": {}\n}",
+        JsonTransformer.pretty(2).transform("{\"a\":[1,2],\"b\":{}}"));
+    Assert.assertEquals("[\n    \"x\"\n]", JsonTransformer.pretty(4).transform("[\"x\"]"));
+  }
+
+  @Test
+  public void testTransform_WritesToOutputStream() throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    JsonTransformer.MINIFY.transform(JsonCharSources.of("[ \"\u00e4\" ]"), stream);
+    Assert.assertEquals("[\"\u00e4\"]", stream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testTransform_DecodesUtf8InputStream() throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    byte[] input = "{ \"\u00e4\" : \"\u20ac\" }".getBytes(StandardCharsets.UTF_8);
+    JsonTransformer.MINIFY.transform(new ByteArrayInputStream(input), stream);
+    Assert.assertEquals("{\"\u00e4\":\"\u20ac\"}", stream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testTransform_MalformedNumbersThrowErrors() {
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("[1-2]"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("1.2.3"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("01"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("-"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("[1.]"));
+    Assert.assertEquals("[0,-0.5,1E-2]", JsonTransformer.MINIFY.transform("[0, -0.5, 1E-2]"));
+  }
+
+  @Test
+  public void testTransform_TrailingCharactersThrowErrors() {
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("{} x"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("1 2"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("[]]"));
+    Assert.assertEquals("[]", JsonTransformer.MINIFY.transform("[] \n"));
+  }
+
+  @Test
+  public void testTransform_WrongSyntaxThrowsErrors() {
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("["));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("{"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("[1"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("[1 2]"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("{\"a\" 1}"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("{1:1}"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("[\"a]"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("[1,]"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonTransformer.MINIFY.transform("[nul]"));
+  }
+
+}
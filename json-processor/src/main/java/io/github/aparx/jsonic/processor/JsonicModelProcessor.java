@@ -0,0 +1,61 @@
+package io.github.aparx.jsonic.processor;
+
+import io.github.aparx.jsonic.core.parser.bind.JsonicModel;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * Annotation processor generating a dedicated parser for each {@link JsonicModel} type.
+ * <p>Unsupported models or properties are reported as compile errors on the offending element.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 02:40
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+@SupportedAnnotationTypes(JsonicModelProcessor.ANNOTATION)
+public final class JsonicModelProcessor extends AbstractProcessor {
+
+  static final String ANNOTATION = "io.github.aparx.jsonic.core.parser.bind.JsonicModel";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(JsonicModel.class)) {
+      try {
+        ParserSourceWriter writer = new ParserSourceWriter(this.processingEnv, element);
+        this.writeSource(writer.parserName(), writer.write(), element);
+      } catch (ParserSourceWriter.ModelException e) {
+        this.processingEnv.getMessager().printMessage(
+            Diagnostic.Kind.ERROR, e.getMessage(), e.element());
+      } catch (IOException e) {
+        this.processingEnv.getMessager().printMessage(
+            Diagnostic.Kind.ERROR, "Could not write parser: " + e.getMessage(), element);
+      }
+    }
+    return true;
+  }
+
+  private void writeSource(String name, String source, Element element) throws IOException {
+    JavaFileObject file = this.processingEnv.getFiler().createSourceFile(name, element);
+    try (Writer writer = file.openWriter()) {
+      writer.write(source);
+    }
+  }
+}
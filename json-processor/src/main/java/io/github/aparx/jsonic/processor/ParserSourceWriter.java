@@ -0,0 +1,476 @@
+package io.github.aparx.jsonic.processor;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import java.util.*;
+
+/**
+ * Writes the source of the parser of a single {@code JsonicModel} type.
+ * <p>The generated parser reads the members of an object like {@code JsonBindingParser}, but
+ * dispatches each key by a switch on its length and on its most distinctive characters, before
+ * comparing it once, and parses the value by calling the token parsers directly.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 16:00
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class ParserSourceWriter {
+
+  private static final String ARGUMENTS = "(traverser, syntaxReader)";
+  private static final String SUFFIX = "JsonParser";
+
+  private final ProcessingEnvironment environment;
+  private final TypeElement model;
+  private final Map<String, Property> properties = new LinkedHashMap<>();
+
+  /** Static fields of the parsers of collections and maps */
+  private final List<String> parserFields = new ArrayList<>();
+
+  ParserSourceWriter(ProcessingEnvironment environment, Element element) throws ModelException {
+    this.environment = environment;
+    if (!(element instanceof TypeElement model)
+        || (element.getKind() != ElementKind.RECORD && element.getKind() != ElementKind.CLASS))
+      throw new ModelException("Only records and classes can be models", element);
+    this.model = model;
+    if (model.getModifiers().contains(Modifier.ABSTRACT))
+      throw new ModelException("Models must not be abstract", model);
+    if (!model.getTypeParameters().isEmpty())
+      throw new ModelException("Models must not be generic", model);
+    for (Element enclosing = model; enclosing instanceof TypeElement;
+         enclosing = enclosing.getEnclosingElement())
+      if (enclosing.getModifiers().contains(Modifier.PRIVATE))
+        throw new ModelException("Models must not be private", enclosing);
+    if (model.getKind() == ElementKind.CLASS && model.getEnclosingElement() instanceof TypeElement
+        && !model.getModifiers().contains(Modifier.STATIC))
+      throw new ModelException("Nested models must be static", model);
+    if (model.getKind() == ElementKind.RECORD) {
+      for (RecordComponentElement component : model.getRecordComponents())
+        this.addProperty(component.getSimpleName().toString(), component.asType(), null,
+            component);
+    } else {
+      this.findSetters();
+    }
+  }
+
+  /** Returns the qualified name of the generated parser */
+  String parserName() {
+    PackageElement packageElement = this.environment.getElementUtils().getPackageOf(this.model);
+    String simpleName = simpleParserName(this.model);
+    return packageElement.isUnnamed() ? simpleName
+        : packageElement.getQualifiedName() + "." + simpleName;
+  }
+
+  String write() throws ModelException {
+    String modelName = this.model.getQualifiedName().toString();
+    boolean isRecord = this.model.getKind() == ElementKind.RECORD;
+    // Resolve the statements first, since these collect the parser fields
+    Map<String, String> statements = new LinkedHashMap<>();
+    for (Property property : this.properties.values())
+      statements.put(property.name, this.statement(property, isRecord));
+    Source source = new Source();
+    PackageElement packageElement = this.environment.getElementUtils().getPackageOf(this.model);
+    if (!packageElement.isUnnamed())
+      source.line(0, "package " + packageElement.getQualifiedName() + ";").line(0, "");
+    source.line(0, "import io.github.aparx.jsonic.core.JsonSymbol;")
+        .line(0, "import io.github.aparx.jsonic.core.parser.ComposableJsonParser;")
+        .line(0, "import io.github.aparx.jsonic.core.parser.JsonParser;")
+        .line(0, "import io.github.aparx.jsonic.core.parser.JsonParsers;")
+        .line(0, "import io.github.aparx.jsonic.core.parser.bind.JsonBindings;")
+        .line(0, "import io.github.aparx.jsonic.core.parser.listener.JsonParseListener;")
+        .line(0, "import io.github.aparx.jsonic.core.parser.source.JsonCharSourceTraverser;")
+        .line(0, "import io.github.aparx.jsonic.core.parser.syntax.JsonSyntaxReader;")
+        .line(0, "import io.github.aparx.jsonic.core.parser.tokens.*;")
+        .line(0, "")
+        .line(0, "/** Parser of {@link " + modelName + "}, generated from its properties */")
+        .line(0, "@javax.annotation.processing.Generated(\""
+            + JsonicModelProcessor.class.getName() + "\")")
+        .line(0, (this.model.getModifiers().contains(Modifier.PUBLIC) ? "public " : "")
+            + "final class " + simpleParserName(this.model)
+            + " implements ComposableJsonParser<" + modelName + "> {")
+        .line(0, "")
+        .line(1, "public static final " + simpleParserName(this.model) + " DEFAULT = new "
+            + simpleParserName(this.model) + "();")
+        .line(0, "");
+    for (int i = 0; i < this.parserFields.size(); ++i)
+      source.line(1, "private static final JsonParser<?> PARSER_" + i + " =")
+          .line(3, this.parserFields.get(i) + ";");
+    if (!this.parserFields.isEmpty()) source.line(0, "");
+    source.line(1, "@Override")
+        .line(1, "@SuppressWarnings(\"unchecked\")")
+        .line(1, "public " + modelName + " parse(JsonCharSourceTraverser traverser, "
+            + "JsonSyntaxReader syntaxReader) {");
+    if (isRecord) {
+      int index = 0;
+      for (Property property : this.properties.values())
+        source.line(2, typeName(property.type) + " p" + index++ + " = "
+            + defaultValue(property.type) + ";");
+    } else {
+      source.line(2, modelName + " target = new " + modelName + "();");
+    }
+    source.line(2, "JsonParseListener listener = syntaxReader.listener();")
+        .line(2, "syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_OPEN);")
+        .line(2, "listener.onObjectStart();")
+        .line(2, "int members = 0;")
+        .line(2, "while (traverser.hasNext()) {")
+        .line(3, "syntaxReader.nextAndSkip(traverser, Character::isWhitespace);")
+        .line(3, "if (JsonSymbol.CURLY_CLOSE.matches(traverser.current())) break;")
+        .line(3, "if (members != 0) {")
+        .line(4, "syntaxReader.expectSymbol(traverser, JsonSymbol.COMMA);")
+        .line(4, "syntaxReader.nextAndSkip(traverser, Character::isWhitespace);")
+        .line(3, "}")
+        .line(3, "String key = JsonStringParser.DEFAULT.parse" + ARGUMENTS + ";")
+        .line(3, "listener.onKey();")
+        .line(3, "syntaxReader.nextAndSkip(traverser, Character::isWhitespace);")
+        .line(3, "syntaxReader.expectSymbol(traverser, JsonSymbol.COLON);")
+        .line(3, "syntaxReader.nextAndSkip(traverser, Character::isWhitespace);")
+        .line(3, "++members;");
+    if (!statements.isEmpty()) writeLengthDispatch(source, statements, 3);
+    source.line(3, "JsonBindings.skipValue" + ARGUMENTS + ";")
+        .line(2, "}")
+        .line(2, "syntaxReader.expectSymbol(traverser, JsonSymbol.CURLY_CLOSE);")
+        .line(2, "listener.onObjectEnd(members);");
+    if (isRecord) {
+      StringJoiner arguments = new StringJoiner(", ");
+      for (int i = 0; i < this.properties.size(); ++i) arguments.add("p" + i);
+      source.line(2, "try {")
+          .line(3, "return new " + modelName + "(" + arguments + ");")
+          .line(2, "} catch (RuntimeException e) {")
+          .line(3, "throw JsonBindings.bindingError(traverser, syntaxReader, "
+              + modelName + ".class, e);")
+          .line(2, "}");
+    } else {
+      source.line(2, "return target;");
+    }
+    return source.line(1, "}")
+        .line(0, "")
+        .line(1, "@Override")
+        .line(1, "public boolean couldParse(char currentChar, int nextChar) {")
+        .line(2, "return currentChar == JsonSymbol.CURLY_OPEN.literal();")
+        .line(1, "}")
+        .line(0, "}")
+        .toString();
+  }
+
+  /**
+   * Finds the setters of the properties, preferring overloads accepting a string, then a primitive
+   * or its box, like {@code JsonBindingParser}, whereas overloads of equal preference are
+   * ambiguous.
+   */
+  private void findSetters() throws ModelException {
+    boolean hasConstructor = false;
+    for (ExecutableElement constructor
+        : ElementFilter.constructorsIn(this.model.getEnclosedElements()))
+      if (constructor.getParameters().isEmpty()
+          && !constructor.getModifiers().contains(Modifier.PRIVATE))
+        hasConstructor = true;
+    if (!hasConstructor)
+      throw new ModelException("Models must have a non-private no-arg constructor", this.model);
+    Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+    // Properties, whose most preferred setters are overloads of equal preference
+    Set<String> ambiguous = new TreeSet<>();
+    for (ExecutableElement method : ElementFilter.methodsIn(
+        this.environment.getElementUtils().getAllMembers(this.model))) {
+      String name = method.getSimpleName().toString();
+      if (name.length() <= 3 || !name.startsWith("set") || method.getParameters().size() != 1
+          || method.getModifiers().contains(Modifier.STATIC)
+          || method.getModifiers().contains(Modifier.PRIVATE))
+        continue;
+      String propertyName = Character.toLowerCase(name.charAt(3)) + name.substring(4);
+      @Nullable ExecutableElement other = setters.get(propertyName);
+      int order = other == null ? -1
+          : Integer.compare(this.setterRank(method), this.setterRank(other));
+      if (order == 0) ambiguous.add(propertyName);
+      if (order >= 0) continue;
+      setters.put(propertyName, method);
+      ambiguous.remove(propertyName);
+    }
+    if (!ambiguous.isEmpty())
+      throw new ModelException("Setters of " + ambiguous + " are ambiguous", this.model);
+    for (Map.Entry<String, ExecutableElement> entry : setters.entrySet()) {
+      ExecutableElement method = entry.getValue();
+      this.addProperty(entry.getKey(), method.getParameters().get(0).asType(),
+          method.getSimpleName().toString(), method);
+    }
+  }
+
+  /** Returns the preference of {@code setter} by its parameter, where lower ones are preferred */
+  private int setterRank(ExecutableElement setter) {
+    TypeMirror type = setter.getParameters().get(0).asType();
+    if (typeName(type).equals("java.lang.String")) return 0;
+    return type.getKind().isPrimitive() || this.unbox(type) != null ? 1 : 2;
+  }
+
+  private void addProperty(String name, TypeMirror type, @Nullable String setter,
+                           Element element) {
+    this.properties.put(name, new Property(name, type, setter, element));
+  }
+
+  /** Returns the statement assigning the parsed value of {@code property} */
+  private String statement(Property property, boolean isRecord) throws ModelException {
+    String value = this.valueExpression(property.type, property.element);
+    String parseNull = "JsonBindings.parseNull" + ARGUMENTS;
+    String target = isRecord
+        ? "p" + new ArrayList<>(this.properties.keySet()).indexOf(property.name) : null;
+    if (property.type.getKind().isPrimitive()) {
+      // Null literals of primitive properties keep their default value
+      return "if (!" + parseNull + ") "
+          + (target != null ? target + " = " + value : "target." + property.setter
+          + "(" + value + ")") + ";";
+    }
+    String nullable = parseNull + " ? null : " + value;
+    return (target != null ? target + " = " + nullable
+        : "target." + property.setter + "(" + nullable + ")") + ";";
+  }
+
+  /** Returns the expression parsing a non-null value of {@code type} */
+  private String valueExpression(TypeMirror type, Element element) throws ModelException {
+    switch (type.getKind()) {
+      case BOOLEAN:
+        return "JsonBooleanParser.DEFAULT.parse" + ARGUMENTS;
+      case LONG:
+        return "JsonBindings.parseLong" + ARGUMENTS;
+      case INT:
+        return "JsonBindings.parseInt" + ARGUMENTS;
+      case SHORT:
+        return "JsonBindings.parseShort" + ARGUMENTS;
+      case BYTE:
+        return "JsonBindings.parseByte" + ARGUMENTS;
+      case DOUBLE:
+        return "JsonBindings.parseDouble" + ARGUMENTS;
+      case FLOAT:
+        return "JsonBindings.parseFloat" + ARGUMENTS;
+      case DECLARED:
+        break;
+      default:
+        throw new ModelException("Type cannot be bound: " + type, element);
+    }
+    DeclaredType declaredType = (DeclaredType) type;
+    TypeElement typeElement = (TypeElement) declaredType.asElement();
+    switch (typeElement.getQualifiedName().toString()) {
+      case "java.lang.String":
+      case "java.lang.CharSequence":
+        return "JsonStringParser.DEFAULT.parse" + ARGUMENTS;
+      case "java.lang.Number":
+        return "JsonNumberParser.DEFAULT.parse" + ARGUMENTS;
+      case "java.lang.Object":
+        return "JsonParsers.value().parse" + ARGUMENTS;
+      case "java.util.List":
+      case "java.util.Collection":
+      case "java.lang.Iterable":
+      case "java.util.Set":
+      case "java.util.Map":
+        this.parserFields.add(this.containerParser(declaredType, element));
+        return "((" + typeName(type) + ") PARSER_" + (this.parserFields.size() - 1)
+            + ".parse" + ARGUMENTS + ")";
+      default:
+        break;
+    }
+    TypeMirror unboxed = this.unbox(type);
+    if (unboxed != null) return this.valueExpression(unboxed, element);
+    if (typeElement.getKind() == ElementKind.ENUM)
+      return "JsonBindings.parseEnum(" + typeElement.getQualifiedName() + ".class, "
+          + "traverser, syntaxReader)";
+    if (typeElement.getAnnotationMirrors().stream().anyMatch((annotation) ->
+        annotation.getAnnotationType().toString().equals(JsonicModelProcessor.ANNOTATION)))
+      return qualifiedParserName(typeElement) + ".DEFAULT.parse" + ARGUMENTS;
+    throw new ModelException("Type cannot be bound, unless annotated as model: " + type,
+        element);
+  }
+
+  /** Returns the expression creating the parser of a collection or map */
+  private String containerParser(DeclaredType type, Element element) throws ModelException {
+    String name = ((TypeElement) type.asElement()).getQualifiedName().toString();
+    List<? extends TypeMirror> arguments = type.getTypeArguments();
+    if (name.equals("java.util.Map")) {
+      if (!arguments.isEmpty() && !typeName(arguments.get(0)).equals("java.lang.String"))
+        throw new ModelException("Map keys must be strings: " + type, element);
+      return "JsonParsers.orderedObject(JsonStringParser.DEFAULT, JsonBindings.nullable("
+          + this.elementParser(arguments.isEmpty() ? null : arguments.get(1), element) + "))";
+    }
+    String elementParser = "JsonBindings.nullable("
+        + this.elementParser(arguments.isEmpty() ? null : arguments.get(0), element) + ")";
+    if (name.equals("java.util.Set"))
+      return "JsonParsers.array(java.util.LinkedHashSet::new, " + elementParser + ")";
+    return "JsonParsers.array(" + elementParser + ")";
+  }
+
+  private String elementParser(@Nullable TypeMirror type, Element element)
+      throws ModelException {
+    // Raw collections and maps contain any values
+    if (type == null) return "JsonParsers.value()";
+    if (type instanceof WildcardType wildcard)
+      type = wildcard.getExtendsBound() != null ? wildcard.getExtendsBound()
+          : this.environment.getElementUtils().getTypeElement("java.lang.Object").asType();
+    if (type instanceof DeclaredType declaredType) {
+      String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+      if (name.equals("java.util.List") || name.equals("java.util.Collection")
+          || name.equals("java.lang.Iterable") || name.equals("java.util.Set")
+          || name.equals("java.util.Map"))
+        return this.containerParser(declaredType, element);
+    }
+    // Lambdas resolve model parsers lazily, since models may contain themselves
+    return "(traverser, syntaxReader) -> " + this.valueExpression(type, element);
+  }
+
+  private @Nullable TypeMirror unbox(TypeMirror type) {
+    try {
+      return this.environment.getTypeUtils().unboxedType(type);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the source name of {@code type}, without its type-use annotations, which cannot be
+   * placed in front of qualified names.
+   */
+  private static String typeName(TypeMirror type) {
+    if (type.getKind().isPrimitive()) return type.getKind().name().toLowerCase(Locale.ROOT);
+    if (type instanceof ArrayType arrayType)
+      return typeName(arrayType.getComponentType()) + "[]";
+    if (type instanceof WildcardType wildcard) {
+      if (wildcard.getExtendsBound() != null)
+        return "? extends " + typeName(wildcard.getExtendsBound());
+      if (wildcard.getSuperBound() != null)
+        return "? super " + typeName(wildcard.getSuperBound());
+      return "?";
+    }
+    if (!(type instanceof DeclaredType declaredType)) return type.toString();
+    String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+    if (declaredType.getTypeArguments().isEmpty()) return name;
+    StringJoiner arguments = new StringJoiner(", ", name + "<", ">");
+    for (TypeMirror argument : declaredType.getTypeArguments())
+      arguments.add(typeName(argument));
+    return arguments.toString();
+  }
+
+  private static String defaultValue(TypeMirror type) {
+    return switch (type.getKind()) {
+      case BOOLEAN -> "false";
+      case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> "0";
+      default -> "null";
+    };
+  }
+
+  private static String simpleParserName(TypeElement type) {
+    StringBuilder name = new StringBuilder(type.getSimpleName());
+    for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement;
+         enclosing = enclosing.getEnclosingElement())
+      name.insert(0, enclosing.getSimpleName() + "_");
+    return name.append(SUFFIX).toString();
+  }
+
+  private String qualifiedParserName(TypeElement type) {
+    PackageElement packageElement = this.environment.getElementUtils().getPackageOf(type);
+    return packageElement.isUnnamed() ? simpleParserName(type)
+        : packageElement.getQualifiedName() + "." + simpleParserName(type);
+  }
+
+  /** Writes a switch on the length of the key, with a case for each length of the properties */
+  private static void writeLengthDispatch(Source source, Map<String, String> statements,
+                                          int indent) {
+    Map<Integer, List<String>> byLength = new TreeMap<>();
+    for (String key : statements.keySet())
+      byLength.computeIfAbsent(key.length(), (__) -> new ArrayList<>()).add(key);
+    source.line(indent, "switch (key.length()) {");
+    for (Map.Entry<Integer, List<String>> entry : byLength.entrySet()) {
+      source.line(indent + 1, "case " + entry.getKey() + ":");
+      writeCharDispatch(source, statements, entry.getValue(), indent + 2);
+      source.line(indent + 2, "break;");
+    }
+    source.line(indent, "}");
+  }
+
+  /**
+   * Writes a switch on the character, at which the keys of equal length differ the most, or, for
+   * a single key, the comparison of the key and the statement of its property.
+   */
+  private static void writeCharDispatch(Source source, Map<String, String> statements,
+                                        List<String> keys, int indent) {
+    if (keys.size() == 1) {
+      String key = keys.get(0);
+      source.line(indent, "if (key.equals(" + literal(key, '"') + ")) {")
+          .line(indent + 1, statements.get(key))
+          .line(indent + 1, "continue;")
+          .line(indent, "}");
+      return;
+    }
+    int position = 0, distinct = 0;
+    for (int i = 0, n = keys.get(0).length(); i < n; ++i) {
+      Set<Character> chars = new HashSet<>();
+      for (String key : keys) chars.add(key.charAt(i));
+      if (chars.size() > distinct) {
+        position = i;
+        distinct = chars.size();
+      }
+    }
+    Map<Character, List<String>> byChar = new TreeMap<>();
+    for (String key : keys)
+      byChar.computeIfAbsent(key.charAt(position), (__) -> new ArrayList<>()).add(key);
+    source.line(indent, "switch (key.charAt(" + position + ")) {");
+    for (Map.Entry<Character, List<String>> entry : byChar.entrySet()) {
+      source.line(indent + 1, "case " + literal(String.valueOf(entry.getKey()), '\'') + ":");
+      writeCharDispatch(source, statements, entry.getValue(), indent + 2);
+      source.line(indent + 2, "break;");
+    }
+    source.line(indent, "}");
+  }
+
+  /** Returns the Java literal of {@code value}, escaping anything but printable ASCII */
+  private static String literal(String value, char quote) {
+    StringBuilder builder = new StringBuilder().append(quote);
+    for (int i = 0, n = value.length(); i < n; ++i) {
+      char ch = value.charAt(i);
+      // Unicode escapes of quotes and backslashes would be translated before the literal ends
+      if (ch == '\\' || ch == quote) builder.append('\\').append(ch);
+      else if (ch >= 0x20 && ch < 0x7f) builder.append(ch);
+      else builder.append(String.format("\\u%04x", (int) ch));
+    }
+    return builder.append(quote).toString();
+  }
+
+  private record Property(String name, TypeMirror type, @Nullable String setter,
+                          Element element) {}
+
+  /** Source code builder indenting lines by two spaces per level */
+  private static final class Source {
+
+    private final StringBuilder builder = new StringBuilder();
+
+    Source line(int indent, String line) {
+      if (!line.isEmpty()) this.builder.append("  ".repeat(indent)).append(line);
+      this.builder.append('\n');
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return this.builder.toString();
+    }
+  }
+
+  /** Error of an unsupported model, reported on the offending element */
+  static final class ModelException extends Exception {
+
+    private final Element element;
+
+    ModelException(String message, Element element) {
+      super(message);
+      this.element = element;
+    }
+
+    Element element() {
+      return this.element;
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package io.github.aparx.jsonic.processor;
+
+import io.github.aparx.jsonic.core.parser.JsonParser;
+import io.github.aparx.jsonic.core.parser.error.JsonParseError;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-20 16:00
+ * @since 1.0
+ */
+public class TestJsonicModelProcessor {
+
+  private static final String MODELS = """
+      package models;
+
+      import io.github.aparx.jsonic.core.parser.bind.JsonicModel;
+      import java.util.*;
+
+      public class Models {
+        public enum Kind {LIBRARY, TOOL}
+
+        @JsonicModel
+        public record Point(int x, int y) {}
+
+        @JsonicModel
+        public record Project(String name, String nick, Kind kind, long stars, Double score,
+                              boolean stable, List<Point> points, Set<String> tags,
+                              Map<String, List<Integer>> versions, Object extra,
+                              Project parent) {}
+
+        @JsonicModel
+        public static class Bean {
+          String name;
+          int count;
+          List<Bean> children;
+
+          public void setName(String name) { this.name = name; }
+          public Bean setCount(int count) { this.count = count; return this; }
+          public void setChildren(List<Bean> children) { this.children = children; }
+          public void setName(List<String> names) { this.name = String.join("+", names); }
+          public void setCount(Object count) { this.count = -1; }
+          @Override public String toString() { return name + ":" + count + ":" + children; }
+        }
+      }
+      """;
+
+  private static final Pattern TYPE_NAME = Pattern.compile("(?:class|record|interface) (\\w+)");
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testProcess_GeneratesRecordParser() throws Exception {
+    ClassLoader loader = this.compile(MODELS);
+    Object project = JsonParser.parse(parser(loader, "models.Models_ProjectJsonParser"), """
+        {"name": "jsonic", "nick": null, "kind": "TOOL", "stars": 4711, "score": 1.5,
+         "stable": true, "points": [{"y": 2, "x": 1}, null], "tags": ["a", "b", "a"],
+         "versions": {"core": [1, 2], "next": null}, "extra": [true], "unknown": {"a": [1]},
+         "parent": {"name": "root", "stars": null, "stable": null}}""");
+    Assert.assertEquals("Project[name=jsonic, nick=null, kind=TOOL, stars=4711, score=1.5, "
+        + "stable=true, points=[Point[x=1, y=2], null], tags=[a, b], "
+        + "versions={core=[1, 2], next=null}, extra=[true], parent=Project[name=root, nick=null, "
+        + "kind=null, stars=0, score=null, stable=false, points=null, tags=null, "
+        + "versions=null, extra=null, parent=null]]", String.valueOf(project));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(
+        parser(loader, "models.Models_PointJsonParser"), "{\"x\": 1.5}"));
+    Assert.assertThrows(JsonParseError.class, () -> JsonParser.parse(
+        parser(loader, "models.Models_ProjectJsonParser"), "{\"kind\": \"X\"}"));
+  }
+
+  @Test
+  public void testProcess_GeneratesBeanParser() throws Exception {
+    ClassLoader loader = this.compile(MODELS);
+    Object bean = JsonParser.parse(parser(loader, "models.Models_BeanJsonParser"),
+        "{\"count\": 2, \"name\": \"a\", \"children\": [{\"name\": \"b\", \"count\": null}]}");
+    Assert.assertEquals("a:2:[b:0:null]", String.valueOf(bean));
+  }
+
+  @Test
+  public void testProcess_DispatchesKeysOfEqualLength() throws Exception {
+    ClassLoader loader = this.compile("""
+        @io.github.aparx.jsonic.core.parser.bind.JsonicModel
+        public record Keys(int abc, int abd, int xbc, int b\\u00e4c) {}
+        """);
+    Object keys = JsonParser.parse(parser(loader, "KeysJsonParser"),
+        "{\"abc\": 1, \"abd\": 2, \"xbc\": 3, \"b\u00e4c\": 4, \"abe\": 5, \"ab\": 6}");
+    Assert.assertEquals("Keys[abc=1, abd=2, xbc=3, b\u00e4c=4]", String.valueOf(keys));
+  }
+
+  @Test
+  public void testProcess_IgnoresTypeUseAnnotations() throws Exception {
+    ClassLoader loader = this.compile("""
+        import org.checkerframework.checker.nullness.qual.Nullable;
+        import java.util.*;
+
+        @io.github.aparx.jsonic.core.parser.bind.JsonicModel
+        public record Person(@Nullable String name, List<@Nullable String> tags,
+                             Map<@Nullable String, ? extends @Nullable Integer> scores) {}
+        """);
+    Object person = JsonParser.parse(parser(loader, "PersonJsonParser"),
+        "{\"name\": \"a\", \"tags\": [\"b\", null], \"scores\": {\"c\": 1}}");
+    Assert.assertEquals("Person[name=a, tags=[b, null], scores={c=1}]", String.valueOf(person));
+  }
+
+  @Test
+  public void testProcess_ReportsUnsupportedModels() throws IOException {
+    Assert.assertEquals(List.of("Type cannot be bound, unless annotated as model: Other"),
+        this.errors("""
+            @io.github.aparx.jsonic.core.parser.bind.JsonicModel
+            record Invalid(Other other) {}
+            record Other(int a) {}
+            """));
+    Assert.assertEquals(List.of("Map keys must be strings: java.util.Map<java.lang.Integer,"
+        + "java.lang.String>"), this.errors("""
+            @io.github.aparx.jsonic.core.parser.bind.JsonicModel
+            record Invalid(java.util.Map<Integer, String> map) {}
+            """));
+    Assert.assertEquals(List.of("Setters of [amount] are ambiguous"), this.errors("""
+        @io.github.aparx.jsonic.core.parser.bind.JsonicModel
+        class Invalid {
+          public void setAmount(int amount) {}
+          public void setAmount(long amount) {}
+        }
+        """));
+    Assert.assertEquals(List.of("Only records and classes can be models"), this.errors("""
+        @io.github.aparx.jsonic.core.parser.bind.JsonicModel
+        interface Invalid {}
+        """));
+  }
+
+  private static JsonParser<?> parser(ClassLoader loader, String name) throws Exception {
+    return (JsonParser<?>) loader.loadClass(name).getField("DEFAULT").get(null);
+  }
+
+  private ClassLoader compile(String source) throws IOException {
+    Path output = this.folder.newFolder().toPath();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    Assert.assertTrue(String.valueOf(diagnostics.getDiagnostics()),
+        this.compile(source, output, diagnostics));
+    return new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+  }
+
+  private List<String> errors(String source) throws IOException {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    Assert.assertFalse(this.compile(source, this.folder.newFolder().toPath(), diagnostics));
+    List<String> errors = new ArrayList<>();
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR)
+        errors.add(diagnostic.getMessage(Locale.ROOT));
+    return errors;
+  }
+
+  private boolean compile(String source, Path output,
+                          DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    Matcher matcher = TYPE_NAME.matcher(source);
+    Assert.assertTrue(matcher.find());
+    String name = source.contains("package models;") ? "models/" + matcher.group(1)
+        : matcher.group(1);
+    JavaFileObject file = new SimpleJavaFileObject(
+        URI.create("string:///" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return source;
+      }
+    };
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(
+        diagnostics, Locale.ROOT, null)) {
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+          List.of("-classpath", System.getProperty("java.class.path"),
+              "-d", output.toString(), "-s", output.toString()),
+          null, List.of(file));
+      task.setProcessors(List.of(new JsonicModelProcessor()));
+      return task.call();
+    }
+  }
+
+}